@@ -3,10 +3,13 @@ package kinoko.database;
 import kinoko.world.user.Account;
 
 import java.util.Optional;
+import java.util.concurrent.CompletionStage;
 
 public interface AccountAccessor {
     Optional<Account> getAccountById(int accountId);
 
+    CompletionStage<Optional<Account>> getAccountByIdAsync(int accountId);
+
     Optional<Account> getAccountByUsername(String username);
 
     boolean checkPassword(Account account, String password, boolean secondary);
@@ -16,4 +19,14 @@ public interface AccountAccessor {
     boolean newAccount(String username, String password);
 
     boolean saveAccount(Account account);
+
+    /**
+     * The account is serialized before returning, so it may be modified while the returned stage is pending.
+     */
+    CompletionStage<Boolean> saveAccountAsync(Account account);
+
+    /**
+     * Only writes the sections of the account that were modified since it was last loaded or saved.
+     */
+    CompletionStage<Boolean> saveAccountChangesAsync(Account account);
 }
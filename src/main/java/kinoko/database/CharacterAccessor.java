@@ -1,18 +1,21 @@
 package kinoko.database;
 
-import kinoko.server.rank.CharacterRank;
+import kinoko.server.rank.RankEntry;
 import kinoko.world.user.AvatarData;
 import kinoko.world.user.CharacterData;
 
 import java.util.List;
-import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Consumer;
 
 public interface CharacterAccessor {
     boolean checkCharacterNameAvailable(String name);
 
     Optional<CharacterData> getCharacterById(int characterId);
 
+    CompletionStage<Optional<CharacterData>> getCharacterByIdAsync(int characterId);
+
     Optional<CharacterData> getCharacterByName(String name);
 
     Optional<CharacterInfo> getCharacterInfoByName(String name);
@@ -25,7 +28,20 @@ public interface CharacterAccessor {
 
     boolean saveCharacter(CharacterData characterData);
 
+    /**
+     * The character data is serialized before returning, so it may be modified while the returned stage is pending.
+     */
+    CompletionStage<Boolean> saveCharacterAsync(CharacterData characterData);
+
+    /**
+     * Only writes the sections of the character data that were modified since it was last loaded or saved.
+     */
+    CompletionStage<Boolean> saveCharacterChangesAsync(CharacterData characterData);
+
     boolean deleteCharacter(int accountId, int characterId);
 
-    Map<Integer, CharacterRank> getCharacterRanks();
+    /**
+     * Reads the rank data of every character in pages, without holding the whole table in memory.
+     */
+    void forEachCharacterRank(Consumer<RankEntry> consumer);
 }
@@ -1,9 +1,8 @@
 package kinoko.database.cassandra;
 
 import com.datastax.oss.driver.api.core.CqlSession;
-import com.datastax.oss.driver.api.core.cql.ResultSet;
-import com.datastax.oss.driver.api.core.cql.Row;
-import com.datastax.oss.driver.api.core.type.codec.registry.CodecRegistry;
+import com.datastax.oss.driver.api.core.cql.*;
+import com.datastax.oss.driver.api.querybuilder.update.Assignment;
 import kinoko.database.AccountAccessor;
 import kinoko.database.DatabaseManager;
 import kinoko.database.cassandra.table.AccountTable;
@@ -15,15 +14,111 @@ import kinoko.world.user.Account;
 import kinoko.world.user.Locker;
 import org.mindrot.jbcrypt.BCrypt;
 
+import java.util.BitSet;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
 
 import static com.datastax.oss.driver.api.querybuilder.QueryBuilder.*;
 
 public final class CassandraAccountAccessor extends CassandraAccessor implements AccountAccessor {
+    private static final List<String> UPDATE_COLUMNS = List.of(
+            AccountTable.CHARACTER_SLOTS,
+            AccountTable.NX_CREDIT,
+            AccountTable.NX_PREPAID,
+            AccountTable.MAPLE_POINT,
+            AccountTable.TRUNK_ITEMS,
+            AccountTable.TRUNK_SIZE,
+            AccountTable.TRUNK_MONEY,
+            AccountTable.LOCKER_ITEMS,
+            AccountTable.WISHLIST
+    );
+    private final SavedColumns<Account> savedColumns = new SavedColumns<>(UPDATE_COLUMNS);
+    private final VerifiedPasswords verifiedPasswords = new VerifiedPasswords();
+    private final PreparedStatement selectByIdStatement;
+    private final PreparedStatement selectByUsernameStatement;
+    private final PreparedStatement selectPasswordStatement;
+    private final PreparedStatement selectSecondaryPasswordStatement;
+    private final PreparedStatement updatePasswordStatement;
+    private final PreparedStatement updateSecondaryPasswordStatement;
+    private final PreparedStatement insertStatement;
+    private final PreparedStatement updateStatement;
+
     public CassandraAccountAccessor(CqlSession session, String keyspace) {
         super(session, keyspace);
+        this.selectByIdStatement = session.prepare(
+                selectFrom(keyspace, AccountTable.getTableName()).all()
+                        .whereColumn(AccountTable.ACCOUNT_ID).isEqualTo(bindMarker())
+                        .build()
+        );
+        this.selectByUsernameStatement = session.prepare(
+                selectFrom(keyspace, AccountTable.getTableName()).all()
+                        .whereColumn(AccountTable.USERNAME).isEqualTo(bindMarker())
+                        .build()
+        );
+        this.selectPasswordStatement = prepareSelectPassword(AccountTable.PASSWORD);
+        this.selectSecondaryPasswordStatement = prepareSelectPassword(AccountTable.SECONDARY_PASSWORD);
+        this.updatePasswordStatement = prepareUpdatePassword(AccountTable.PASSWORD);
+        this.updateSecondaryPasswordStatement = prepareUpdatePassword(AccountTable.SECONDARY_PASSWORD);
+        this.insertStatement = session.prepare(
+                insertInto(keyspace, AccountTable.getTableName())
+                        .value(AccountTable.ACCOUNT_ID, bindMarker())
+                        .value(AccountTable.USERNAME, bindMarker())
+                        .value(AccountTable.PASSWORD, bindMarker())
+                        .value(AccountTable.CHARACTER_SLOTS, bindMarker())
+                        .value(AccountTable.NX_CREDIT, literal(0))
+                        .value(AccountTable.NX_PREPAID, literal(0))
+                        .value(AccountTable.MAPLE_POINT, literal(0))
+                        .value(AccountTable.TRUNK_ITEMS, literal(List.of()))
+                        .value(AccountTable.TRUNK_SIZE, bindMarker())
+                        .value(AccountTable.TRUNK_MONEY, literal(0))
+                        .value(AccountTable.LOCKER_ITEMS, literal(List.of()))
+                        .value(AccountTable.WISHLIST, literal(List.of()))
+                        .ifNotExists()
+                        .build()
+        );
+        this.updateStatement = session.prepare(
+                update(keyspace, AccountTable.getTableName())
+                        .set(UPDATE_COLUMNS.stream().map((column) -> Assignment.setColumn(column, bindMarker())).toList())
+                        .whereColumn(AccountTable.ACCOUNT_ID).isEqualTo(bindMarker())
+                        .build()
+        );
+    }
+
+    private PreparedStatement prepareSelectPassword(String columnName) {
+        return getSession().prepare(
+                selectFrom(getKeyspace(), AccountTable.getTableName())
+                        .column(columnName)
+                        .whereColumn(AccountTable.ACCOUNT_ID).isEqualTo(bindMarker())
+                        .build()
+                        .setExecutionProfileName(DatabaseManager.PROFILE_ONE)
+        );
+    }
+
+    private PreparedStatement prepareUpdatePassword(String columnName) {
+        return getSession().prepare(
+                update(getKeyspace(), AccountTable.getTableName())
+                        .setColumn(columnName, bindMarker())
+                        .whereColumn(AccountTable.ACCOUNT_ID).isEqualTo(bindMarker())
+                        .build()
+        );
+    }
+
+    private BoundStatement bindUpdate(Account account) {
+        return updateStatement.bind(
+                account.getSlotCount(),
+                account.getNxCredit(),
+                account.getNxPrepaid(),
+                account.getMaplePoint(),
+                account.getTrunk().getItems(),
+                account.getTrunk().getSize(),
+                account.getTrunk().getMoney(),
+                account.getLocker().getCashItems(),
+                account.getWishlist(),
+                account.getId()
+        );
     }
 
     private Account loadAccount(Row row) {
@@ -60,6 +155,7 @@ public final class CassandraAccountAccessor extends CassandraAccessor implements
         final List<Integer> wishlist = row.getList(AccountTable.WISHLIST, Integer.class);
         account.setWishlist(Collections.unmodifiableList(wishlist != null ? wishlist : Collections.nCopies(10, 0)));
 
+        savedColumns.load(account, row);
         return account;
     }
 
@@ -77,24 +173,24 @@ public final class CassandraAccountAccessor extends CassandraAccessor implements
 
     @Override
     public Optional<Account> getAccountById(int accountId) {
-        final ResultSet selectResult = getSession().execute(
-                selectFrom(getKeyspace(), AccountTable.getTableName()).all()
-                        .whereColumn(AccountTable.ACCOUNT_ID).isEqualTo(literal(accountId))
-                        .build()
-        );
+        final ResultSet selectResult = getSession().execute(selectByIdStatement.bind(accountId));
         for (Row row : selectResult) {
             return Optional.of(loadAccount(row));
         }
         return Optional.empty();
     }
 
+    @Override
+    public CompletionStage<Optional<Account>> getAccountByIdAsync(int accountId) {
+        return getSession().executeAsync(selectByIdStatement.bind(accountId)).thenApply((selectResult) -> {
+            final Row row = selectResult.one();
+            return row != null ? Optional.of(loadAccount(row)) : Optional.empty();
+        });
+    }
+
     @Override
     public Optional<Account> getAccountByUsername(String username) {
-        final ResultSet selectResult = getSession().execute(
-                selectFrom(getKeyspace(), AccountTable.getTableName()).all()
-                        .whereColumn(AccountTable.USERNAME).isEqualTo(literal(lowerUsername(username)))
-                        .build()
-        );
+        final ResultSet selectResult = getSession().execute(selectByUsernameStatement.bind(lowerUsername(username)));
         for (Row row : selectResult) {
             return Optional.of(loadAccount(row));
         }
@@ -104,19 +200,18 @@ public final class CassandraAccountAccessor extends CassandraAccessor implements
     @Override
     public boolean checkPassword(Account account, String password, boolean secondary) {
         final String columnName = secondary ? AccountTable.SECONDARY_PASSWORD : AccountTable.PASSWORD;
-        final ResultSet selectResult = getSession().execute(
-                selectFrom(getKeyspace(), AccountTable.getTableName()).all()
-                        .column(columnName)
-                        .whereColumn(AccountTable.ACCOUNT_ID).isEqualTo(literal(account.getId()))
-                        .build()
-                        .setExecutionProfileName(DatabaseManager.PROFILE_ONE)
-        );
+        final PreparedStatement selectStatement = secondary ? selectSecondaryPasswordStatement : selectPasswordStatement;
+        final ResultSet selectResult = getSession().execute(selectStatement.bind(account.getId()));
         for (Row row : selectResult) {
             final String hashedPassword = row.getString(columnName);
             if (hashedPassword == null) {
                 continue;
             }
+            if (verifiedPasswords.isVerified(account.getId(), secondary, password, hashedPassword)) {
+                return true;
+            }
             if (checkHashedPassword(password, hashedPassword)) {
+                verifiedPasswords.add(account.getId(), secondary, password, hashedPassword);
                 return true;
             }
         }
@@ -126,21 +221,13 @@ public final class CassandraAccountAccessor extends CassandraAccessor implements
     @Override
     public boolean savePassword(Account account, String oldPassword, String newPassword, boolean secondary) {
         final String columnName = secondary ? AccountTable.SECONDARY_PASSWORD : AccountTable.PASSWORD;
-        final ResultSet selectResult = getSession().execute(
-                selectFrom(getKeyspace(), AccountTable.getTableName()).all()
-                        .column(columnName)
-                        .whereColumn(AccountTable.ACCOUNT_ID).isEqualTo(literal(account.getId()))
-                        .build()
-        );
+        final PreparedStatement selectStatement = secondary ? selectSecondaryPasswordStatement : selectPasswordStatement;
+        final ResultSet selectResult = getSession().execute(selectStatement.bind(account.getId()).setExecutionProfileName(null));
         for (Row row : selectResult) {
             final String hashedOldPassword = row.getString(columnName);
             if (hashedOldPassword == null || checkHashedPassword(oldPassword, hashedOldPassword)) {
-                final ResultSet updateResult = getSession().execute(
-                        update(getKeyspace(), AccountTable.getTableName())
-                                .setColumn(columnName, literal(hashPassword(newPassword)))
-                                .whereColumn(AccountTable.ACCOUNT_ID).isEqualTo(literal(account.getId()))
-                                .build()
-                );
+                final PreparedStatement updatePasswordStatement = secondary ? this.updateSecondaryPasswordStatement : this.updatePasswordStatement;
+                final ResultSet updateResult = getSession().execute(updatePasswordStatement.bind(hashPassword(newPassword), account.getId()));
                 return updateResult.wasApplied();
             }
         }
@@ -156,43 +243,56 @@ public final class CassandraAccountAccessor extends CassandraAccessor implements
         if (getAccountByUsername(username).isPresent()) {
             return false;
         }
-        final ResultSet insertResult = getSession().execute(
-                insertInto(getKeyspace(), AccountTable.getTableName())
-                        .value(AccountTable.ACCOUNT_ID, literal(accountId.get()))
-                        .value(AccountTable.USERNAME, literal(lowerUsername(username)))
-                        .value(AccountTable.PASSWORD, literal(hashPassword(password)))
-                        .value(AccountTable.CHARACTER_SLOTS, literal(ServerConfig.CHARACTER_BASE_SLOTS))
-                        .value(AccountTable.NX_CREDIT, literal(0))
-                        .value(AccountTable.NX_PREPAID, literal(0))
-                        .value(AccountTable.MAPLE_POINT, literal(0))
-                        .value(AccountTable.TRUNK_ITEMS, literal(List.of()))
-                        .value(AccountTable.TRUNK_SIZE, literal(ServerConfig.TRUNK_BASE_SLOTS))
-                        .value(AccountTable.TRUNK_MONEY, literal(0))
-                        .value(AccountTable.LOCKER_ITEMS, literal(List.of()))
-                        .value(AccountTable.WISHLIST, literal(List.of()))
-                        .ifNotExists()
-                        .build()
-        );
+        final ResultSet insertResult = getSession().execute(insertStatement.bind(
+                accountId.get(),
+                lowerUsername(username),
+                hashPassword(password),
+                ServerConfig.CHARACTER_BASE_SLOTS,
+                ServerConfig.TRUNK_BASE_SLOTS
+        ));
         return insertResult.wasApplied();
     }
 
     @Override
     public boolean saveAccount(Account account) {
-        final CodecRegistry registry = getSession().getContext().getCodecRegistry();
-        final ResultSet updateResult = getSession().execute(
-                update(getKeyspace(), AccountTable.getTableName())
-                        .setColumn(AccountTable.CHARACTER_SLOTS, literal(account.getSlotCount()))
-                        .setColumn(AccountTable.NX_CREDIT, literal(account.getNxCredit()))
-                        .setColumn(AccountTable.NX_PREPAID, literal(account.getNxPrepaid()))
-                        .setColumn(AccountTable.MAPLE_POINT, literal(account.getMaplePoint()))
-                        .setColumn(AccountTable.TRUNK_ITEMS, literal(account.getTrunk().getItems(), registry))
-                        .setColumn(AccountTable.TRUNK_SIZE, literal(account.getTrunk().getSize()))
-                        .setColumn(AccountTable.TRUNK_MONEY, literal(account.getTrunk().getMoney()))
-                        .setColumn(AccountTable.LOCKER_ITEMS, literal(account.getLocker().getCashItems(), registry))
-                        .setColumn(AccountTable.WISHLIST, literal(account.getWishlist()))
-                        .whereColumn(AccountTable.ACCOUNT_ID).isEqualTo(literal(account.getId()))
-                        .build()
-        );
+        final BoundStatement updateStatement = bindUpdate(account);
+        final SavedColumns.Snapshot snapshot = savedColumns.hash(updateStatement);
+        final ResultSet updateResult;
+        try {
+            updateResult = getSession().execute(updateStatement);
+        } catch (RuntimeException e) {
+            savedColumns.fail(account, snapshot, snapshot.getBound());
+            throw e;
+        }
+        savedColumns.update(account, snapshot, snapshot.getBound());
         return updateResult.wasApplied();
     }
+
+    @Override
+    public CompletionStage<Boolean> saveAccountAsync(Account account) {
+        final BoundStatement updateStatement = bindUpdate(account);
+        final SavedColumns.Snapshot snapshot = savedColumns.hash(updateStatement);
+        return executeUpdate(account, updateStatement, snapshot, snapshot.getBound());
+    }
+
+    @Override
+    public CompletionStage<Boolean> saveAccountChangesAsync(Account account) {
+        final BoundStatement updateStatement = bindUpdate(account);
+        final SavedColumns.Snapshot snapshot = savedColumns.hash(updateStatement);
+        final BitSet changed = savedColumns.getChanged(account, snapshot);
+        if (changed.isEmpty()) {
+            return CompletableFuture.completedFuture(true);
+        }
+        return executeUpdate(account, savedColumns.unsetExcept(updateStatement, changed), snapshot, changed);
+    }
+
+    private CompletionStage<Boolean> executeUpdate(Account account, BoundStatement statement, SavedColumns.Snapshot snapshot, BitSet written) {
+        return getSession().executeAsync(statement).whenComplete((updateResult, e) -> {
+            if (e == null) {
+                savedColumns.update(account, snapshot, written);
+            } else {
+                savedColumns.fail(account, snapshot, written);
+            }
+        }).thenApply(AsyncResultSet::wasApplied);
+    }
 }
@@ -1,17 +1,16 @@
 package kinoko.database.cassandra;
 
 import com.datastax.oss.driver.api.core.CqlSession;
-import com.datastax.oss.driver.api.core.cql.ResultSet;
-import com.datastax.oss.driver.api.core.cql.Row;
-import com.datastax.oss.driver.api.core.type.codec.registry.CodecRegistry;
+import com.datastax.oss.driver.api.core.cql.*;
+import com.datastax.oss.driver.api.querybuilder.update.Assignment;
 import kinoko.database.CharacterAccessor;
 import kinoko.database.CharacterInfo;
 import kinoko.database.DatabaseManager;
 import kinoko.database.cassandra.table.CharacterTable;
-import kinoko.server.rank.CharacterRank;
+import kinoko.server.ServerConfig;
+import kinoko.server.rank.RankEntry;
 import kinoko.world.item.Inventory;
 import kinoko.world.item.InventoryManager;
-import kinoko.world.job.JobConstants;
 import kinoko.world.quest.QuestManager;
 import kinoko.world.quest.QuestRecord;
 import kinoko.world.skill.SkillManager;
@@ -23,14 +22,125 @@ import kinoko.world.user.stat.CharacterStat;
 
 import java.time.Instant;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
 
 import static com.datastax.oss.driver.api.querybuilder.QueryBuilder.*;
 
 public final class CassandraCharacterAccessor extends CassandraAccessor implements CharacterAccessor {
+    private static final List<String> UPDATE_COLUMNS = List.of(
+            CharacterTable.ACCOUNT_ID,
+            CharacterTable.CHARACTER_NAME,
+            CharacterTable.CHARACTER_NAME_INDEX,
+            CharacterTable.CHARACTER_STAT,
+            CharacterTable.CHARACTER_EQUIPPED,
+            CharacterTable.EQUIP_INVENTORY,
+            CharacterTable.CONSUME_INVENTORY,
+            CharacterTable.INSTALL_INVENTORY,
+            CharacterTable.ETC_INVENTORY,
+            CharacterTable.CASH_INVENTORY,
+            CharacterTable.MONEY,
+            CharacterTable.EXT_SLOT_EXPIRE,
+            CharacterTable.SKILL_COOLTIMES,
+            CharacterTable.SKILL_RECORDS,
+            CharacterTable.QUEST_RECORDS,
+            CharacterTable.CONFIG,
+            CharacterTable.MINIGAME_RECORD,
+            CharacterTable.MAP_TRANSFER_INFO,
+            CharacterTable.WILD_HUNTER_INFO,
+            CharacterTable.ITEM_SN_COUNTER,
+            CharacterTable.FRIEND_MAX,
+            CharacterTable.PARTY_ID,
+            CharacterTable.GUILD_ID,
+            CharacterTable.CREATION_TIME,
+            CharacterTable.MAX_LEVEL_TIME
+    );
+    private static final int CHARACTER_EQUIPPED_INDEX = UPDATE_COLUMNS.indexOf(CharacterTable.CHARACTER_EQUIPPED);
+    private static final int EQUIP_INVENTORY_INDEX = UPDATE_COLUMNS.indexOf(CharacterTable.EQUIP_INVENTORY);
+    private static final int CONSUME_INVENTORY_INDEX = UPDATE_COLUMNS.indexOf(CharacterTable.CONSUME_INVENTORY);
+    private static final int INSTALL_INVENTORY_INDEX = UPDATE_COLUMNS.indexOf(CharacterTable.INSTALL_INVENTORY);
+    private static final int ETC_INVENTORY_INDEX = UPDATE_COLUMNS.indexOf(CharacterTable.ETC_INVENTORY);
+    private static final int CASH_INVENTORY_INDEX = UPDATE_COLUMNS.indexOf(CharacterTable.CASH_INVENTORY);
+    private static final int SKILL_RECORDS_INDEX = UPDATE_COLUMNS.indexOf(CharacterTable.SKILL_RECORDS);
+    private static final int QUEST_RECORDS_INDEX = UPDATE_COLUMNS.indexOf(CharacterTable.QUEST_RECORDS);
+    private final SavedColumns<CharacterData> savedColumns = new SavedColumns<>(UPDATE_COLUMNS);
+    private final PreparedStatement selectByIdStatement;
+    private final PreparedStatement selectByNameStatement;
+    private final PreparedStatement selectInfoByNameStatement;
+    private final PreparedStatement selectAccountIdStatement;
+    private final PreparedStatement selectAvatarDataStatement;
+    private final PreparedStatement updateStatement;
+    private final PreparedStatement deleteStatement;
+    private final PreparedStatement selectRankDataStatement;
 
     public CassandraCharacterAccessor(CqlSession session, String keyspace) {
         super(session, keyspace);
+        this.selectByIdStatement = session.prepare(
+                selectFrom(keyspace, CharacterTable.getTableName()).all()
+                        .whereColumn(CharacterTable.CHARACTER_ID).isEqualTo(bindMarker())
+                        .build()
+        );
+        this.selectByNameStatement = session.prepare(
+                selectFrom(keyspace, CharacterTable.getTableName()).all()
+                        .whereColumn(CharacterTable.CHARACTER_NAME_INDEX).isEqualTo(bindMarker())
+                        .build()
+        );
+        this.selectInfoByNameStatement = session.prepare(
+                selectFrom(keyspace, CharacterTable.getTableName())
+                        .columns(
+                                CharacterTable.ACCOUNT_ID,
+                                CharacterTable.CHARACTER_ID,
+                                CharacterTable.CHARACTER_NAME
+                        )
+                        .whereColumn(CharacterTable.CHARACTER_NAME_INDEX).isEqualTo(bindMarker())
+                        .build()
+                        .setExecutionProfileName(DatabaseManager.PROFILE_ONE)
+        );
+        this.selectAccountIdStatement = session.prepare(
+                selectFrom(keyspace, CharacterTable.getTableName())
+                        .columns(
+                                CharacterTable.ACCOUNT_ID
+                        )
+                        .whereColumn(CharacterTable.CHARACTER_ID).isEqualTo(bindMarker())
+                        .build()
+                        .setExecutionProfileName(DatabaseManager.PROFILE_ONE)
+        );
+        this.selectAvatarDataStatement = session.prepare(
+                selectFrom(keyspace, CharacterTable.getTableName())
+                        .columns(
+                                CharacterTable.CHARACTER_ID,
+                                CharacterTable.CHARACTER_NAME,
+                                CharacterTable.CHARACTER_STAT,
+                                CharacterTable.CHARACTER_EQUIPPED
+                        )
+                        .whereColumn(CharacterTable.ACCOUNT_ID).isEqualTo(bindMarker())
+                        .build()
+        );
+        this.updateStatement = session.prepare(
+                update(keyspace, CharacterTable.getTableName())
+                        .set(UPDATE_COLUMNS.stream().map((column) -> Assignment.setColumn(column, bindMarker())).toList())
+                        .whereColumn(CharacterTable.CHARACTER_ID).isEqualTo(bindMarker())
+                        .build()
+        );
+        this.deleteStatement = session.prepare(
+                deleteFrom(keyspace, CharacterTable.getTableName())
+                        .whereColumn(CharacterTable.CHARACTER_ID).isEqualTo(bindMarker())
+                        .ifColumn(CharacterTable.ACCOUNT_ID).isEqualTo(bindMarker())
+                        .build()
+        );
+        this.selectRankDataStatement = session.prepare(
+                selectFrom(keyspace, CharacterTable.getTableName())
+                        .columns(
+                                CharacterTable.CHARACTER_ID,
+                                CharacterTable.CHARACTER_STAT,
+                                CharacterTable.MAX_LEVEL_TIME
+                        )
+                        .build()
+                        .setExecutionProfileName(DatabaseManager.PROFILE_ONE)
+        );
     }
 
     private CharacterData loadCharacterData(Row row) {
@@ -97,16 +207,76 @@ public final class CassandraCharacterAccessor extends CassandraAccessor implemen
         cd.setGuildId(row.getInt(CharacterTable.GUILD_ID));
         cd.setCreationTime(row.getInstant(CharacterTable.CREATION_TIME));
         cd.setMaxLevelTime(row.getInstant(CharacterTable.MAX_LEVEL_TIME));
+        clearDirty(cd);
+        savedColumns.load(cd, row);
         return cd;
     }
 
+    /**
+     * Binds the update statement for the character. If only the changes are saved, the inventories, skill records and
+     * quest records are only serialized if their dirty flag is set or their last write failed, the skipped columns are
+     * bound to null and added to the skipped columns.
+     */
+    private BoundStatement bindUpdate(CharacterData characterData, boolean changesOnly, BitSet skipped) {
+        final InventoryManager im = characterData.getInventoryManager();
+        final SkillManager sm = characterData.getSkillManager();
+        final QuestManager qm = characterData.getQuestManager();
+        final BoundStatement statement = updateStatement.bind(
+                characterData.getAccountId(),
+                characterData.getCharacterName(),
+                lowerName(characterData.getCharacterName()),
+                characterData.getCharacterStat(),
+                bindIfDirty(characterData, CHARACTER_EQUIPPED_INDEX, im.getEquipped().isDirty(), im::getEquipped, changesOnly, skipped),
+                bindIfDirty(characterData, EQUIP_INVENTORY_INDEX, im.getEquipInventory().isDirty(), im::getEquipInventory, changesOnly, skipped),
+                bindIfDirty(characterData, CONSUME_INVENTORY_INDEX, im.getConsumeInventory().isDirty(), im::getConsumeInventory, changesOnly, skipped),
+                bindIfDirty(characterData, INSTALL_INVENTORY_INDEX, im.getInstallInventory().isDirty(), im::getInstallInventory, changesOnly, skipped),
+                bindIfDirty(characterData, ETC_INVENTORY_INDEX, im.getEtcInventory().isDirty(), im::getEtcInventory, changesOnly, skipped),
+                bindIfDirty(characterData, CASH_INVENTORY_INDEX, im.getCashInventory().isDirty(), im::getCashInventory, changesOnly, skipped),
+                im.getMoney(),
+                im.getExtSlotExpire(),
+                sm.getSkillCooltimes(),
+                bindIfDirty(characterData, SKILL_RECORDS_INDEX, sm.isDirty(), sm::getSkillRecords, changesOnly, skipped),
+                bindIfDirty(characterData, QUEST_RECORDS_INDEX, qm.isDirty(), qm::getQuestRecords, changesOnly, skipped),
+                characterData.getConfigManager(),
+                characterData.getMiniGameRecord(),
+                characterData.getMapTransferInfo(),
+                characterData.getWildHunterInfo(),
+                characterData.getItemSnCounter().get(),
+                characterData.getFriendMax(),
+                characterData.getPartyId(),
+                characterData.getGuildId(),
+                characterData.getCreationTime(),
+                characterData.getMaxLevelTime(),
+                characterData.getCharacterId()
+        );
+        // The bound values are serialized, skipped collections are not dirty
+        clearDirty(characterData);
+        return statement;
+    }
+
+    private <V> V bindIfDirty(CharacterData characterData, int index, boolean dirty, Supplier<V> value, boolean changesOnly, BitSet skipped) {
+        if (changesOnly && !dirty && !savedColumns.isPending(characterData, index)) {
+            skipped.set(index);
+            return null;
+        }
+        return value.get();
+    }
+
+    private static void clearDirty(CharacterData characterData) {
+        final InventoryManager im = characterData.getInventoryManager();
+        im.getEquipped().clearDirty();
+        im.getEquipInventory().clearDirty();
+        im.getConsumeInventory().clearDirty();
+        im.getInstallInventory().clearDirty();
+        im.getEtcInventory().clearDirty();
+        im.getCashInventory().clearDirty();
+        characterData.getSkillManager().clearDirty();
+        characterData.getQuestManager().clearDirty();
+    }
+
     @Override
     public boolean checkCharacterNameAvailable(String name) {
-        final ResultSet selectResult = getSession().execute(
-                selectFrom(getKeyspace(), CharacterTable.getTableName()).all()
-                        .whereColumn(CharacterTable.CHARACTER_NAME_INDEX).isEqualTo(literal(lowerName(name)))
-                        .build()
-        );
+        final ResultSet selectResult = getSession().execute(selectByNameStatement.bind(lowerName(name)));
         for (Row row : selectResult) {
             final String existingName = row.getString(CharacterTable.CHARACTER_NAME);
             if (existingName != null && existingName.equalsIgnoreCase(name)) {
@@ -118,24 +288,24 @@ public final class CassandraCharacterAccessor extends CassandraAccessor implemen
 
     @Override
     public Optional<CharacterData> getCharacterById(int characterId) {
-        final ResultSet selectResult = getSession().execute(
-                selectFrom(getKeyspace(), CharacterTable.getTableName()).all()
-                        .whereColumn(CharacterTable.CHARACTER_ID).isEqualTo(literal(characterId))
-                        .build()
-        );
+        final ResultSet selectResult = getSession().execute(selectByIdStatement.bind(characterId));
         for (Row row : selectResult) {
             return Optional.of(loadCharacterData(row));
         }
         return Optional.empty();
     }
 
+    @Override
+    public CompletionStage<Optional<CharacterData>> getCharacterByIdAsync(int characterId) {
+        return getSession().executeAsync(selectByIdStatement.bind(characterId)).thenApply((selectResult) -> {
+            final Row row = selectResult.one();
+            return row != null ? Optional.of(loadCharacterData(row)) : Optional.empty();
+        });
+    }
+
     @Override
     public Optional<CharacterData> getCharacterByName(String name) {
-        final ResultSet selectResult = getSession().execute(
-                selectFrom(getKeyspace(), CharacterTable.getTableName()).all()
-                        .whereColumn(CharacterTable.CHARACTER_NAME_INDEX).isEqualTo(literal(lowerName(name)))
-                        .build()
-        );
+        final ResultSet selectResult = getSession().execute(selectByNameStatement.bind(lowerName(name)));
         for (Row row : selectResult) {
             return Optional.of(loadCharacterData(row));
         }
@@ -144,17 +314,7 @@ public final class CassandraCharacterAccessor extends CassandraAccessor implemen
 
     @Override
     public Optional<CharacterInfo> getCharacterInfoByName(String name) {
-        final ResultSet selectResult = getSession().execute(
-                selectFrom(getKeyspace(), CharacterTable.getTableName())
-                        .columns(
-                                CharacterTable.ACCOUNT_ID,
-                                CharacterTable.CHARACTER_ID,
-                                CharacterTable.CHARACTER_NAME
-                        )
-                        .whereColumn(CharacterTable.CHARACTER_NAME_INDEX).isEqualTo(literal(lowerName(name)))
-                        .build()
-                        .setExecutionProfileName(DatabaseManager.PROFILE_ONE)
-        );
+        final ResultSet selectResult = getSession().execute(selectInfoByNameStatement.bind(lowerName(name)));
         for (Row row : selectResult) {
             return Optional.of(new CharacterInfo(
                     row.getInt(CharacterTable.ACCOUNT_ID),
@@ -167,15 +327,7 @@ public final class CassandraCharacterAccessor extends CassandraAccessor implemen
 
     @Override
     public Optional<Integer> getAccountIdByCharacterId(int characterId) {
-        final ResultSet selectResult = getSession().execute(
-                selectFrom(getKeyspace(), CharacterTable.getTableName())
-                        .columns(
-                                CharacterTable.ACCOUNT_ID
-                        )
-                        .whereColumn(CharacterTable.CHARACTER_ID).isEqualTo(literal(characterId))
-                        .build()
-                        .setExecutionProfileName(DatabaseManager.PROFILE_ONE)
-        );
+        final ResultSet selectResult = getSession().execute(selectAccountIdStatement.bind(characterId));
         for (Row row : selectResult) {
             return Optional.of(row.getInt(CharacterTable.ACCOUNT_ID));
         }
@@ -185,17 +337,7 @@ public final class CassandraCharacterAccessor extends CassandraAccessor implemen
     @Override
     public List<AvatarData> getAvatarDataByAccountId(int accountId) {
         final List<AvatarData> avatarDataList = new ArrayList<>();
-        final ResultSet selectResult = getSession().execute(
-                selectFrom(getKeyspace(), CharacterTable.getTableName())
-                        .columns(
-                                CharacterTable.CHARACTER_ID,
-                                CharacterTable.CHARACTER_NAME,
-                                CharacterTable.CHARACTER_STAT,
-                                CharacterTable.CHARACTER_EQUIPPED
-                        )
-                        .whereColumn(CharacterTable.ACCOUNT_ID).isEqualTo(literal(accountId))
-                        .build()
-        );
+        final ResultSet selectResult = getSession().execute(selectAvatarDataStatement.bind(accountId));
         for (Row row : selectResult) {
             final CharacterStat characterStat = row.get(CharacterTable.CHARACTER_STAT, CharacterStat.class);
             characterStat.setId(row.getInt(CharacterTable.CHARACTER_ID));
@@ -216,121 +358,64 @@ public final class CassandraCharacterAccessor extends CassandraAccessor implemen
 
     @Override
     public boolean saveCharacter(CharacterData characterData) {
-        final CodecRegistry registry = getSession().getContext().getCodecRegistry();
-        final ResultSet updateResult = getSession().execute(
-                update(getKeyspace(), CharacterTable.getTableName())
-                        .setColumn(CharacterTable.ACCOUNT_ID, literal(characterData.getAccountId()))
-                        .setColumn(CharacterTable.CHARACTER_NAME, literal(characterData.getCharacterName()))
-                        .setColumn(CharacterTable.CHARACTER_NAME_INDEX, literal(lowerName(characterData.getCharacterName())))
-                        .setColumn(CharacterTable.CHARACTER_STAT, literal(characterData.getCharacterStat(), registry))
-                        .setColumn(CharacterTable.CHARACTER_EQUIPPED, literal(characterData.getInventoryManager().getEquipped(), registry))
-                        .setColumn(CharacterTable.EQUIP_INVENTORY, literal(characterData.getInventoryManager().getEquipInventory(), registry))
-                        .setColumn(CharacterTable.CONSUME_INVENTORY, literal(characterData.getInventoryManager().getConsumeInventory(), registry))
-                        .setColumn(CharacterTable.INSTALL_INVENTORY, literal(characterData.getInventoryManager().getInstallInventory(), registry))
-                        .setColumn(CharacterTable.ETC_INVENTORY, literal(characterData.getInventoryManager().getEtcInventory(), registry))
-                        .setColumn(CharacterTable.CASH_INVENTORY, literal(characterData.getInventoryManager().getCashInventory(), registry))
-                        .setColumn(CharacterTable.MONEY, literal(characterData.getInventoryManager().getMoney()))
-                        .setColumn(CharacterTable.EXT_SLOT_EXPIRE, literal(characterData.getInventoryManager().getExtSlotExpire()))
-                        .setColumn(CharacterTable.SKILL_COOLTIMES, literal(characterData.getSkillManager().getSkillCooltimes()))
-                        .setColumn(CharacterTable.SKILL_RECORDS, literal(characterData.getSkillManager().getSkillRecords(), registry))
-                        .setColumn(CharacterTable.QUEST_RECORDS, literal(characterData.getQuestManager().getQuestRecords(), registry))
-                        .setColumn(CharacterTable.CONFIG, literal(characterData.getConfigManager(), registry))
-                        .setColumn(CharacterTable.MINIGAME_RECORD, literal(characterData.getMiniGameRecord(), registry))
-                        .setColumn(CharacterTable.MAP_TRANSFER_INFO, literal(characterData.getMapTransferInfo(), registry))
-                        .setColumn(CharacterTable.WILD_HUNTER_INFO, literal(characterData.getWildHunterInfo(), registry))
-                        .setColumn(CharacterTable.ITEM_SN_COUNTER, literal(characterData.getItemSnCounter().get()))
-                        .setColumn(CharacterTable.FRIEND_MAX, literal(characterData.getFriendMax()))
-                        .setColumn(CharacterTable.PARTY_ID, literal(characterData.getPartyId()))
-                        .setColumn(CharacterTable.GUILD_ID, literal(characterData.getGuildId()))
-                        .setColumn(CharacterTable.CREATION_TIME, literal(characterData.getCreationTime()))
-                        .setColumn(CharacterTable.MAX_LEVEL_TIME, literal(characterData.getMaxLevelTime()))
-                        .whereColumn(CharacterTable.CHARACTER_ID).isEqualTo(literal(characterData.getCharacterId()))
-                        .build()
-        );
+        final BoundStatement updateStatement = bindUpdate(characterData, false, new BitSet());
+        final SavedColumns.Snapshot snapshot = savedColumns.hash(updateStatement);
+        final ResultSet updateResult;
+        try {
+            updateResult = getSession().execute(updateStatement);
+        } catch (RuntimeException e) {
+            savedColumns.fail(characterData, snapshot, snapshot.getBound());
+            throw e;
+        }
+        savedColumns.update(characterData, snapshot, snapshot.getBound());
         return updateResult.wasApplied();
     }
 
     @Override
-    public boolean deleteCharacter(int accountId, int characterId) {
-        final ResultSet updateResult = getSession().execute(
-                deleteFrom(getKeyspace(), CharacterTable.getTableName())
-                        .whereColumn(CharacterTable.CHARACTER_ID).isEqualTo(literal(characterId))
-                        .ifColumn(CharacterTable.ACCOUNT_ID).isEqualTo(literal(accountId))
-                        .build()
-        );
-        return updateResult.wasApplied();
+    public CompletionStage<Boolean> saveCharacterAsync(CharacterData characterData) {
+        final BoundStatement updateStatement = bindUpdate(characterData, false, new BitSet());
+        final SavedColumns.Snapshot snapshot = savedColumns.hash(updateStatement);
+        return executeUpdate(characterData, updateStatement, snapshot, snapshot.getBound());
     }
 
     @Override
-    public Map<Integer, CharacterRank> getCharacterRanks() {
-        final ResultSet selectResult = getSession().execute(
-                selectFrom(getKeyspace(), CharacterTable.getTableName())
-                        .columns(
-                                CharacterTable.CHARACTER_ID,
-                                CharacterTable.CHARACTER_STAT,
-                                CharacterTable.MAX_LEVEL_TIME
-                        )
-                        .build()
-                        .setExecutionProfileName(DatabaseManager.PROFILE_ONE)
-        );
-        final List<CharacterRankData> rankDataList = new ArrayList<>();
-        for (Row row : selectResult) {
-            final int characterId = row.getInt(CharacterTable.CHARACTER_ID);
-            final CharacterStat characterStat = row.get(CharacterTable.CHARACTER_STAT, CharacterStat.class);
-            final Instant maxLevelTime = row.getInstant(CharacterTable.MAX_LEVEL_TIME);
-            rankDataList.add(new CharacterRankData(
-                    characterId,
-                    JobConstants.getJobCategory(characterStat.getJob()),
-                    characterStat.getCumulativeExp(),
-                    maxLevelTime
-            ));
+    public CompletionStage<Boolean> saveCharacterChangesAsync(CharacterData characterData) {
+        final BitSet skipped = new BitSet(UPDATE_COLUMNS.size());
+        final BoundStatement updateStatement = bindUpdate(characterData, true, skipped);
+        final SavedColumns.Snapshot snapshot = savedColumns.hash(updateStatement, skipped);
+        final BitSet changed = savedColumns.getChanged(characterData, snapshot);
+        if (changed.isEmpty()) {
+            return CompletableFuture.completedFuture(true);
         }
-        // Sort and process rank data
-        rankDataList.sort(Comparator.comparing(CharacterRankData::getCumulativeExp).reversed().thenComparing(CharacterRankData::getMaxLevelTime));
-        final Map<Integer, Integer> jobRanks = new HashMap<>(); // job rank counter
-        final Map<Integer, CharacterRank> characterRanks = new HashMap<>(); // character id -> character rank
-        for (CharacterRankData rankData : rankDataList) {
-            final int characterId = rankData.getCharacterId();
-            final int jobCategory = rankData.getJobCategory();
-            final int worldRank = characterRanks.size() + 1;
-            final int jobRank = jobRanks.getOrDefault(jobCategory, 0) + 1;
-            jobRanks.put(jobCategory, jobRank);
-            characterRanks.put(characterId, new CharacterRank(
-                    characterId,
-                    worldRank,
-                    jobRank
-            ));
-        }
-        return characterRanks;
+        return executeUpdate(characterData, savedColumns.unsetExcept(updateStatement, changed), snapshot, changed);
     }
 
-    private static class CharacterRankData {
-        private final int characterId;
-        private final int jobCategory;
-        private final long cumulativeExp;
-        private final Instant maxLevelTime;
-
-        private CharacterRankData(int characterId, int jobCategory, long cumulativeExp, Instant maxLevelTime) {
-            this.characterId = characterId;
-            this.jobCategory = jobCategory;
-            this.cumulativeExp = cumulativeExp;
-            this.maxLevelTime = maxLevelTime;
-        }
-
-        public int getCharacterId() {
-            return characterId;
-        }
-
-        public int getJobCategory() {
-            return jobCategory;
-        }
+    private CompletionStage<Boolean> executeUpdate(CharacterData characterData, BoundStatement statement, SavedColumns.Snapshot snapshot, BitSet written) {
+        return getSession().executeAsync(statement).whenComplete((updateResult, e) -> {
+            if (e == null) {
+                savedColumns.update(characterData, snapshot, written);
+            } else {
+                savedColumns.fail(characterData, snapshot, written);
+            }
+        }).thenApply(AsyncResultSet::wasApplied);
+    }
 
-        public long getCumulativeExp() {
-            return cumulativeExp;
-        }
+    @Override
+    public boolean deleteCharacter(int accountId, int characterId) {
+        final ResultSet updateResult = getSession().execute(deleteStatement.bind(characterId, accountId));
+        return updateResult.wasApplied();
+    }
 
-        public Instant getMaxLevelTime() {
-            return maxLevelTime != null ? maxLevelTime : Instant.MAX;
+    @Override
+    public void forEachCharacterRank(Consumer<RankEntry> consumer) {
+        final ResultSet selectResult = getSession().execute(selectRankDataStatement.bind().setPageSize(ServerConfig.RANK_LOAD_PAGE_SIZE));
+        for (Row row : selectResult) {
+            // Further pages are fetched synchronously as the iteration reaches the end of the current page
+            consumer.accept(RankEntry.from(
+                    row.getInt(CharacterTable.CHARACTER_ID),
+                    row.get(CharacterTable.CHARACTER_STAT, CharacterStat.class),
+                    row.getInstant(CharacterTable.MAX_LEVEL_TIME)
+            ));
         }
     }
 }
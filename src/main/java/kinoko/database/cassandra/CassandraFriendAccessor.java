@@ -1,9 +1,10 @@
 package kinoko.database.cassandra;
 
 import com.datastax.oss.driver.api.core.CqlSession;
+import com.datastax.oss.driver.api.core.cql.PreparedStatement;
 import com.datastax.oss.driver.api.core.cql.ResultSet;
 import com.datastax.oss.driver.api.core.cql.Row;
-import com.datastax.oss.driver.api.querybuilder.insert.Insert;
+import com.datastax.oss.driver.api.querybuilder.insert.RegularInsert;
 import kinoko.database.FriendAccessor;
 import kinoko.database.cassandra.table.FriendTable;
 import kinoko.world.user.friend.Friend;
@@ -15,8 +16,38 @@ import java.util.List;
 import static com.datastax.oss.driver.api.querybuilder.QueryBuilder.*;
 
 public final class CassandraFriendAccessor extends CassandraAccessor implements FriendAccessor {
+    private final PreparedStatement selectByCharacterIdStatement;
+    private final PreparedStatement selectByFriendIdStatement;
+    private final PreparedStatement insertStatement;
+    private final PreparedStatement insertIfNotExistsStatement;
+    private final PreparedStatement deleteStatement;
+
     public CassandraFriendAccessor(CqlSession session, String keyspace) {
         super(session, keyspace);
+        this.selectByCharacterIdStatement = session.prepare(
+                selectFrom(keyspace, FriendTable.getTableName()).all()
+                        .whereColumn(FriendTable.CHARACTER_ID).isEqualTo(bindMarker())
+                        .build()
+        );
+        this.selectByFriendIdStatement = session.prepare(
+                selectFrom(keyspace, FriendTable.getTableName()).all()
+                        .whereColumn(FriendTable.FRIEND_ID).isEqualTo(bindMarker())
+                        .build()
+        );
+        final RegularInsert insert = insertInto(keyspace, FriendTable.getTableName())
+                .value(FriendTable.CHARACTER_ID, bindMarker())
+                .value(FriendTable.FRIEND_ID, bindMarker())
+                .value(FriendTable.FRIEND_NAME, bindMarker())
+                .value(FriendTable.FRIEND_GROUP, bindMarker())
+                .value(FriendTable.FRIEND_STATUS, bindMarker());
+        this.insertStatement = session.prepare(insert.build());
+        this.insertIfNotExistsStatement = session.prepare(insert.ifNotExists().build());
+        this.deleteStatement = session.prepare(
+                deleteFrom(keyspace, FriendTable.getTableName())
+                        .whereColumn(FriendTable.CHARACTER_ID).isEqualTo(bindMarker())
+                        .whereColumn(FriendTable.FRIEND_ID).isEqualTo(bindMarker())
+                        .build()
+        );
     }
 
     private Friend loadFriend(Row row) {
@@ -31,11 +62,7 @@ public final class CassandraFriendAccessor extends CassandraAccessor implements
     @Override
     public List<Friend> getFriendsByCharacterId(int characterId) {
         final List<Friend> friends = new ArrayList<>();
-        final ResultSet selectResult = getSession().execute(
-                selectFrom(getKeyspace(), FriendTable.getTableName()).all()
-                        .whereColumn(FriendTable.CHARACTER_ID).isEqualTo(literal(characterId))
-                        .build()
-        );
+        final ResultSet selectResult = getSession().execute(selectByCharacterIdStatement.bind(characterId));
         for (Row row : selectResult) {
             friends.add(loadFriend(row));
         }
@@ -45,11 +72,7 @@ public final class CassandraFriendAccessor extends CassandraAccessor implements
     @Override
     public List<Friend> getFriendsByFriendId(int friendId) {
         final List<Friend> friends = new ArrayList<>();
-        final ResultSet selectResult = getSession().execute(
-                selectFrom(getKeyspace(), FriendTable.getTableName()).all()
-                        .whereColumn(FriendTable.FRIEND_ID).isEqualTo(literal(friendId))
-                        .build()
-        );
+        final ResultSet selectResult = getSession().execute(selectByFriendIdStatement.bind(friendId));
         for (Row row : selectResult) {
             friends.add(loadFriend(row));
         }
@@ -58,27 +81,20 @@ public final class CassandraFriendAccessor extends CassandraAccessor implements
 
     @Override
     public boolean saveFriend(Friend friend, boolean force) {
-        Insert insert = insertInto(getKeyspace(), FriendTable.getTableName())
-                .value(FriendTable.CHARACTER_ID, literal(friend.getCharacterId()))
-                .value(FriendTable.FRIEND_ID, literal(friend.getFriendId()))
-                .value(FriendTable.FRIEND_NAME, literal(friend.getFriendName()))
-                .value(FriendTable.FRIEND_GROUP, literal(friend.getFriendGroup()))
-                .value(FriendTable.FRIEND_STATUS, literal(friend.getStatus().getValue()));
-        if (!force) {
-            insert = insert.ifNotExists();
-        }
-        final ResultSet insertResult = getSession().execute(insert.build());
+        final PreparedStatement statement = force ? insertStatement : insertIfNotExistsStatement;
+        final ResultSet insertResult = getSession().execute(statement.bind(
+                friend.getCharacterId(),
+                friend.getFriendId(),
+                friend.getFriendName(),
+                friend.getFriendGroup(),
+                friend.getStatus().getValue()
+        ));
         return insertResult.wasApplied();
     }
 
     @Override
     public boolean deleteFriend(int characterId, int friendId) {
-        final ResultSet deleteResult = getSession().execute(
-                deleteFrom(getKeyspace(), FriendTable.getTableName())
-                        .whereColumn(FriendTable.CHARACTER_ID).isEqualTo(literal(characterId))
-                        .whereColumn(FriendTable.FRIEND_ID).isEqualTo(literal(friendId))
-                        .build()
-        );
+        final ResultSet deleteResult = getSession().execute(deleteStatement.bind(characterId, friendId));
         return deleteResult.wasApplied();
     }
 }
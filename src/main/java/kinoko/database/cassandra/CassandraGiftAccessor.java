@@ -1,6 +1,7 @@
 package kinoko.database.cassandra;
 
 import com.datastax.oss.driver.api.core.CqlSession;
+import com.datastax.oss.driver.api.core.cql.PreparedStatement;
 import com.datastax.oss.driver.api.core.cql.ResultSet;
 import com.datastax.oss.driver.api.core.cql.Row;
 import kinoko.database.GiftAccessor;
@@ -14,8 +15,40 @@ import java.util.Optional;
 import static com.datastax.oss.driver.api.querybuilder.QueryBuilder.*;
 
 public final class CassandraGiftAccessor extends CassandraAccessor implements GiftAccessor {
+    private final PreparedStatement selectByReceiverIdStatement;
+    private final PreparedStatement selectByGiftSnStatement;
+    private final PreparedStatement insertStatement;
+    private final PreparedStatement deleteStatement;
+
     public CassandraGiftAccessor(CqlSession session, String keyspace) {
         super(session, keyspace);
+        this.selectByReceiverIdStatement = session.prepare(
+                selectFrom(keyspace, GiftTable.getTableName()).all()
+                        .whereColumn(GiftTable.RECEIVER_ID).isEqualTo(bindMarker())
+                        .build()
+        );
+        this.selectByGiftSnStatement = session.prepare(
+                selectFrom(keyspace, GiftTable.getTableName()).all()
+                        .whereColumn(GiftTable.GIFT_SN).isEqualTo(bindMarker())
+                        .build()
+        );
+        this.insertStatement = session.prepare(
+                insertInto(keyspace, GiftTable.getTableName())
+                        .value(GiftTable.GIFT_SN, bindMarker())
+                        .value(GiftTable.RECEIVER_ID, bindMarker())
+                        .value(GiftTable.ITEM_ID, bindMarker())
+                        .value(GiftTable.COMMODITY_ID, bindMarker())
+                        .value(GiftTable.SENDER_NAME, bindMarker())
+                        .value(GiftTable.SENDER_MESSAGE, bindMarker())
+                        .value(GiftTable.PAIR_ITEM_SN, bindMarker())
+                        .ifNotExists()
+                        .build()
+        );
+        this.deleteStatement = session.prepare(
+                deleteFrom(keyspace, GiftTable.getTableName())
+                        .whereColumn(GiftTable.GIFT_SN).isEqualTo(bindMarker())
+                        .build()
+        );
     }
 
     private Gift loadGift(Row row) {
@@ -33,11 +66,7 @@ public final class CassandraGiftAccessor extends CassandraAccessor implements Gi
     @Override
     public List<Gift> getGiftsByCharacterId(int characterId) {
         final List<Gift> gifts = new ArrayList<>();
-        final ResultSet selectResult = getSession().execute(
-                selectFrom(getKeyspace(), GiftTable.getTableName()).all()
-                        .whereColumn(GiftTable.RECEIVER_ID).isEqualTo(literal(characterId))
-                        .build()
-        );
+        final ResultSet selectResult = getSession().execute(selectByReceiverIdStatement.bind(characterId));
         for (Row row : selectResult) {
             gifts.add(loadGift(row));
         }
@@ -46,11 +75,7 @@ public final class CassandraGiftAccessor extends CassandraAccessor implements Gi
 
     @Override
     public Optional<Gift> getGiftByItemSn(long itemSn) {
-        final ResultSet selectResult = getSession().execute(
-                selectFrom(getKeyspace(), GiftTable.getTableName()).all()
-                        .whereColumn(GiftTable.GIFT_SN).isEqualTo(literal(itemSn))
-                        .build()
-        );
+        final ResultSet selectResult = getSession().execute(selectByGiftSnStatement.bind(itemSn));
         for (Row row : selectResult) {
             return Optional.of(loadGift(row));
         }
@@ -59,28 +84,21 @@ public final class CassandraGiftAccessor extends CassandraAccessor implements Gi
 
     @Override
     public boolean newGift(Gift gift, int receiverId) {
-        final ResultSet insertResult = getSession().execute(
-                insertInto(getKeyspace(), GiftTable.getTableName())
-                        .value(GiftTable.GIFT_SN, literal(gift.getGiftSn()))
-                        .value(GiftTable.RECEIVER_ID, literal(receiverId))
-                        .value(GiftTable.ITEM_ID, literal(gift.getItemId()))
-                        .value(GiftTable.COMMODITY_ID, literal(gift.getCommodityId()))
-                        .value(GiftTable.SENDER_NAME, literal(gift.getSenderName()))
-                        .value(GiftTable.SENDER_MESSAGE, literal(gift.getSenderMessage()))
-                        .value(GiftTable.PAIR_ITEM_SN, literal(gift.getPairItemSn()))
-                        .ifNotExists()
-                        .build()
-        );
+        final ResultSet insertResult = getSession().execute(insertStatement.bind(
+                gift.getGiftSn(),
+                receiverId,
+                gift.getItemId(),
+                gift.getCommodityId(),
+                gift.getSenderName(),
+                gift.getSenderMessage(),
+                gift.getPairItemSn()
+        ));
         return insertResult.wasApplied();
     }
 
     @Override
     public boolean deleteGift(Gift gift) {
-        final ResultSet updateResult = getSession().execute(
-                deleteFrom(getKeyspace(), GiftTable.getTableName())
-                        .whereColumn(GiftTable.GIFT_SN).isEqualTo(literal(gift.getGiftSn()))
-                        .build()
-        );
+        final ResultSet updateResult = getSession().execute(deleteStatement.bind(gift.getGiftSn()));
         return updateResult.wasApplied();
     }
 }
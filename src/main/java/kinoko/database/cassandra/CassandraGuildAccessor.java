@@ -1,9 +1,9 @@
 package kinoko.database.cassandra;
 
 import com.datastax.oss.driver.api.core.CqlSession;
+import com.datastax.oss.driver.api.core.cql.PreparedStatement;
 import com.datastax.oss.driver.api.core.cql.ResultSet;
 import com.datastax.oss.driver.api.core.cql.Row;
-import com.datastax.oss.driver.api.core.type.codec.registry.CodecRegistry;
 import kinoko.database.DatabaseManager;
 import kinoko.database.GuildAccessor;
 import kinoko.database.cassandra.table.GuildTable;
@@ -21,8 +21,62 @@ import java.util.concurrent.atomic.AtomicInteger;
 import static com.datastax.oss.driver.api.querybuilder.QueryBuilder.*;
 
 public final class CassandraGuildAccessor extends CassandraAccessor implements GuildAccessor {
+    private final PreparedStatement selectByIdStatement;
+    private final PreparedStatement selectByNameStatement;
+    private final PreparedStatement updateStatement;
+    private final PreparedStatement deleteStatement;
+    private final PreparedStatement selectRankingsStatement;
+
     public CassandraGuildAccessor(CqlSession session, String keyspace) {
         super(session, keyspace);
+        this.selectByIdStatement = session.prepare(
+                selectFrom(keyspace, GuildTable.getTableName()).all()
+                        .whereColumn(GuildTable.GUILD_ID).isEqualTo(bindMarker())
+                        .build()
+        );
+        this.selectByNameStatement = session.prepare(
+                selectFrom(keyspace, GuildTable.getTableName()).all()
+                        .whereColumn(GuildTable.GUILD_NAME_INDEX).isEqualTo(bindMarker())
+                        .build()
+        );
+        this.updateStatement = session.prepare(
+                update(keyspace, GuildTable.getTableName())
+                        .setColumn(GuildTable.GUILD_NAME, bindMarker())
+                        .setColumn(GuildTable.GUILD_NAME_INDEX, bindMarker())
+                        .setColumn(GuildTable.GRADE_NAMES, bindMarker())
+                        .setColumn(GuildTable.MEMBERS, bindMarker())
+                        .setColumn(GuildTable.MEMBER_MAX, bindMarker())
+                        .setColumn(GuildTable.MARK_BG, bindMarker())
+                        .setColumn(GuildTable.MARK_BG_COLOR, bindMarker())
+                        .setColumn(GuildTable.MARK, bindMarker())
+                        .setColumn(GuildTable.MARK_COLOR, bindMarker())
+                        .setColumn(GuildTable.NOTICE, bindMarker())
+                        .setColumn(GuildTable.POINTS, bindMarker())
+                        .setColumn(GuildTable.LEVEL, bindMarker())
+                        .setColumn(GuildTable.BOARD_ENTRY_LIST, bindMarker())
+                        .setColumn(GuildTable.BOARD_ENTRY_NOTICE, bindMarker())
+                        .setColumn(GuildTable.BOARD_ENTRY_COUNTER, bindMarker())
+                        .whereColumn(GuildTable.GUILD_ID).isEqualTo(bindMarker())
+                        .build()
+        );
+        this.deleteStatement = session.prepare(
+                deleteFrom(keyspace, GuildTable.getTableName())
+                        .whereColumn(GuildTable.GUILD_ID).isEqualTo(bindMarker())
+                        .build()
+        );
+        this.selectRankingsStatement = session.prepare(
+                selectFrom(keyspace, GuildTable.getTableName())
+                        .columns(
+                                GuildTable.GUILD_NAME,
+                                GuildTable.POINTS,
+                                GuildTable.MARK,
+                                GuildTable.MARK_COLOR,
+                                GuildTable.MARK_BG,
+                                GuildTable.MARK_BG_COLOR
+                        )
+                        .build()
+                        .setExecutionProfileName(DatabaseManager.PROFILE_ONE)
+        );
     }
 
     private Guild loadGuild(Row row) {
@@ -58,11 +112,7 @@ public final class CassandraGuildAccessor extends CassandraAccessor implements G
 
     @Override
     public Optional<Guild> getGuildById(int guildId) {
-        final ResultSet selectResult = getSession().execute(
-                selectFrom(getKeyspace(), GuildTable.getTableName()).all()
-                        .whereColumn(GuildTable.GUILD_ID).isEqualTo(literal(guildId))
-                        .build()
-        );
+        final ResultSet selectResult = getSession().execute(selectByIdStatement.bind(guildId));
         for (Row row : selectResult) {
             return Optional.of(loadGuild(row));
         }
@@ -71,11 +121,7 @@ public final class CassandraGuildAccessor extends CassandraAccessor implements G
 
     @Override
     public boolean checkGuildNameAvailable(String name) {
-        final ResultSet selectResult = getSession().execute(
-                selectFrom(getKeyspace(), GuildTable.getTableName()).all()
-                        .whereColumn(GuildTable.GUILD_NAME_INDEX).isEqualTo(literal(lowerName(name)))
-                        .build()
-        );
+        final ResultSet selectResult = getSession().execute(selectByNameStatement.bind(lowerName(name)));
         for (Row row : selectResult) {
             final String existingName = row.getString(GuildTable.GUILD_NAME_INDEX);
             if (existingName != null && existingName.equalsIgnoreCase(name)) {
@@ -95,55 +141,36 @@ public final class CassandraGuildAccessor extends CassandraAccessor implements G
 
     @Override
     public boolean saveGuild(Guild guild) {
-        final CodecRegistry registry = getSession().getContext().getCodecRegistry();
-        final ResultSet updateResult = getSession().execute(
-                update(getKeyspace(), GuildTable.getTableName())
-                        .setColumn(GuildTable.GUILD_NAME, literal(guild.getGuildName()))
-                        .setColumn(GuildTable.GUILD_NAME_INDEX, literal(lowerName(guild.getGuildName())))
-                        .setColumn(GuildTable.GRADE_NAMES, literal(guild.getGradeNames()))
-                        .setColumn(GuildTable.MEMBERS, literal(guild.getGuildMembers(), registry))
-                        .setColumn(GuildTable.MEMBER_MAX, literal(guild.getMemberMax()))
-                        .setColumn(GuildTable.MARK_BG, literal(guild.getMarkBg()))
-                        .setColumn(GuildTable.MARK_BG_COLOR, literal(guild.getMarkBgColor()))
-                        .setColumn(GuildTable.MARK, literal(guild.getMark()))
-                        .setColumn(GuildTable.MARK_COLOR, literal(guild.getMarkColor()))
-                        .setColumn(GuildTable.NOTICE, literal(guild.getNotice()))
-                        .setColumn(GuildTable.POINTS, literal(guild.getPoints()))
-                        .setColumn(GuildTable.LEVEL, literal(guild.getLevel()))
-                        .setColumn(GuildTable.BOARD_ENTRY_LIST, literal(guild.getBoardEntries(), registry))
-                        .setColumn(GuildTable.BOARD_ENTRY_NOTICE, literal(guild.getBoardNoticeEntry(), registry))
-                        .setColumn(GuildTable.BOARD_ENTRY_COUNTER, literal(guild.getBoardEntryCounter().get()))
-                        .whereColumn(GuildTable.GUILD_ID).isEqualTo(literal(guild.getGuildId()))
-                        .build()
-        );
+        final ResultSet updateResult = getSession().execute(updateStatement.bind(
+                guild.getGuildName(),
+                lowerName(guild.getGuildName()),
+                guild.getGradeNames(),
+                guild.getGuildMembers(),
+                guild.getMemberMax(),
+                guild.getMarkBg(),
+                guild.getMarkBgColor(),
+                guild.getMark(),
+                guild.getMarkColor(),
+                guild.getNotice(),
+                guild.getPoints(),
+                guild.getLevel(),
+                guild.getBoardEntries(),
+                guild.getBoardNoticeEntry(),
+                guild.getBoardEntryCounter().get(),
+                guild.getGuildId()
+        ));
         return updateResult.wasApplied();
     }
 
     @Override
     public boolean deleteGuild(int guildId) {
-        final ResultSet updateResult = getSession().execute(
-                deleteFrom(getKeyspace(), GuildTable.getTableName())
-                        .whereColumn(GuildTable.GUILD_ID).isEqualTo(literal(guildId))
-                        .build()
-        );
+        final ResultSet updateResult = getSession().execute(deleteStatement.bind(guildId));
         return updateResult.wasApplied();
     }
 
     @Override
     public List<GuildRanking> getGuildRankings() {
-        final ResultSet selectResult = getSession().execute(
-                selectFrom(getKeyspace(), GuildTable.getTableName())
-                        .columns(
-                                GuildTable.GUILD_NAME,
-                                GuildTable.POINTS,
-                                GuildTable.MARK,
-                                GuildTable.MARK_COLOR,
-                                GuildTable.MARK_BG,
-                                GuildTable.MARK_BG_COLOR
-                        )
-                        .build()
-                        .setExecutionProfileName(DatabaseManager.PROFILE_ONE)
-        );
+        final ResultSet selectResult = getSession().execute(selectRankingsStatement.bind());
         final List<GuildRanking> guildRankings = new ArrayList<>();
         for (Row row : selectResult) {
             guildRankings.add(new GuildRanking(
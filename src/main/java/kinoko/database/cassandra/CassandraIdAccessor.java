@@ -1,6 +1,7 @@
 package kinoko.database.cassandra;
 
 import com.datastax.oss.driver.api.core.CqlSession;
+import com.datastax.oss.driver.api.core.cql.PreparedStatement;
 import com.datastax.oss.driver.api.core.cql.ResultSet;
 import com.datastax.oss.driver.api.core.cql.Row;
 import kinoko.database.IdAccessor;
@@ -11,25 +12,30 @@ import java.util.Optional;
 import static com.datastax.oss.driver.api.querybuilder.QueryBuilder.*;
 
 public final class CassandraIdAccessor extends CassandraAccessor implements IdAccessor {
+    private final PreparedStatement selectStatement;
+    private final PreparedStatement updateStatement;
+
     public CassandraIdAccessor(CqlSession session, String keyspace) {
         super(session, keyspace);
+        this.selectStatement = session.prepare(
+                selectFrom(keyspace, IdTable.getTableName()).all()
+                        .whereColumn(IdTable.ID_TYPE).isEqualTo(bindMarker())
+                        .build()
+        );
+        this.updateStatement = session.prepare(
+                update(keyspace, IdTable.getTableName())
+                        .setColumn(IdTable.NEXT_ID, bindMarker()) // increment ID
+                        .whereColumn(IdTable.ID_TYPE).isEqualTo(bindMarker())
+                        .ifColumn(IdTable.NEXT_ID).isEqualTo(bindMarker()) // if not already updated
+                        .build()
+        );
     }
 
     private Optional<Integer> getNextId(String type) {
-        final ResultSet selectResult = getSession().execute(
-                selectFrom(getKeyspace(), IdTable.getTableName()).all()
-                        .whereColumn(IdTable.ID_TYPE).isEqualTo(literal(type))
-                        .build()
-        );
+        final ResultSet selectResult = getSession().execute(selectStatement.bind(type));
         for (Row selectRow : selectResult) {
             final int nextId = selectRow.getInt(IdTable.NEXT_ID);
-            final ResultSet updateResult = getSession().execute(
-                    update(getKeyspace(), IdTable.getTableName())
-                            .setColumn(IdTable.NEXT_ID, literal(nextId + 1)) // increment ID
-                            .whereColumn(IdTable.ID_TYPE).isEqualTo(literal(type))
-                            .ifColumn(IdTable.NEXT_ID).isEqualTo(literal(nextId)) // if not already updated
-                            .build()
-            );
+            final ResultSet updateResult = getSession().execute(updateStatement.bind(nextId + 1, type, nextId));
             if (updateResult.wasApplied()) {
                 return Optional.of(nextId);
             } else {
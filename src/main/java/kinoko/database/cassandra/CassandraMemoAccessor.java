@@ -1,6 +1,7 @@
 package kinoko.database.cassandra;
 
 import com.datastax.oss.driver.api.core.CqlSession;
+import com.datastax.oss.driver.api.core.cql.PreparedStatement;
 import com.datastax.oss.driver.api.core.cql.ResultSet;
 import com.datastax.oss.driver.api.core.cql.Row;
 import kinoko.database.MemoAccessor;
@@ -14,15 +15,15 @@ import java.util.List;
 import static com.datastax.oss.driver.api.querybuilder.QueryBuilder.*;
 
 public final class CassandraMemoAccessor extends CassandraAccessor implements MemoAccessor {
+    private final PreparedStatement selectByReceiverIdStatement;
+    private final PreparedStatement selectReceiverIdStatement;
+    private final PreparedStatement insertStatement;
+    private final PreparedStatement deleteStatement;
+
     public CassandraMemoAccessor(CqlSession session, String keyspace) {
         super(session, keyspace);
-    }
-
-    @Override
-    public List<Memo> getMemosByCharacterId(int characterId) {
-        final List<Memo> memos = new ArrayList<>();
-        final ResultSet selectResult = getSession().execute(
-                selectFrom(getKeyspace(), MemoTable.getTableName())
+        this.selectByReceiverIdStatement = session.prepare(
+                selectFrom(keyspace, MemoTable.getTableName())
                         .columns(
                                 MemoTable.MEMO_ID,
                                 MemoTable.MEMO_TYPE,
@@ -30,9 +31,39 @@ public final class CassandraMemoAccessor extends CassandraAccessor implements Me
                                 MemoTable.SENDER_NAME,
                                 MemoTable.DATE_SENT
                         )
-                        .whereColumn(MemoTable.RECEIVER_ID).isEqualTo(literal(characterId))
+                        .whereColumn(MemoTable.RECEIVER_ID).isEqualTo(bindMarker())
+                        .build()
+        );
+        this.selectReceiverIdStatement = session.prepare(
+                selectFrom(keyspace, MemoTable.getTableName())
+                        .columns(
+                                MemoTable.RECEIVER_ID
+                        )
+                        .whereColumn(MemoTable.RECEIVER_ID).isEqualTo(bindMarker())
+                        .build()
+        );
+        this.insertStatement = session.prepare(
+                insertInto(keyspace, MemoTable.getTableName())
+                        .value(MemoTable.MEMO_ID, bindMarker())
+                        .value(MemoTable.RECEIVER_ID, bindMarker())
+                        .value(MemoTable.MEMO_TYPE, bindMarker())
+                        .value(MemoTable.MEMO_CONTENT, bindMarker())
+                        .value(MemoTable.SENDER_NAME, bindMarker())
+                        .value(MemoTable.DATE_SENT, bindMarker())
+                        .ifNotExists()
+                        .build()
+        );
+        this.deleteStatement = session.prepare(
+                deleteFrom(keyspace, MemoTable.getTableName())
+                        .whereColumn(MemoTable.MEMO_ID).isEqualTo(bindMarker())
                         .build()
         );
+    }
+
+    @Override
+    public List<Memo> getMemosByCharacterId(int characterId) {
+        final List<Memo> memos = new ArrayList<>();
+        final ResultSet selectResult = getSession().execute(selectByReceiverIdStatement.bind(characterId));
         for (Row row : selectResult) {
             final MemoType type = MemoType.getByValue(row.getInt(MemoTable.MEMO_TYPE));
             final Memo memo = new Memo(
@@ -49,14 +80,7 @@ public final class CassandraMemoAccessor extends CassandraAccessor implements Me
 
     @Override
     public boolean hasMemo(int characterId) {
-        final ResultSet selectResult = getSession().execute(
-                selectFrom(getKeyspace(), MemoTable.getTableName())
-                        .columns(
-                                MemoTable.RECEIVER_ID
-                        )
-                        .whereColumn(MemoTable.RECEIVER_ID).isEqualTo(literal(characterId))
-                        .build()
-        );
+        final ResultSet selectResult = getSession().execute(selectReceiverIdStatement.bind(characterId));
         for (Row row : selectResult) {
             final int receiverId = row.getInt(MemoTable.RECEIVER_ID);
             if (receiverId == characterId) {
@@ -68,27 +92,20 @@ public final class CassandraMemoAccessor extends CassandraAccessor implements Me
 
     @Override
     public boolean newMemo(Memo memo, int receiverId) {
-        final ResultSet updateResult = getSession().execute(
-                insertInto(getKeyspace(), MemoTable.getTableName())
-                        .value(MemoTable.MEMO_ID, literal(memo.getMemoId()))
-                        .value(MemoTable.RECEIVER_ID, literal(receiverId))
-                        .value(MemoTable.MEMO_TYPE, literal(memo.getType().getValue()))
-                        .value(MemoTable.MEMO_CONTENT, literal(memo.getContent()))
-                        .value(MemoTable.SENDER_NAME, literal(memo.getSender()))
-                        .value(MemoTable.DATE_SENT, literal(memo.getDateSent()))
-                        .ifNotExists()
-                        .build()
-        );
+        final ResultSet updateResult = getSession().execute(insertStatement.bind(
+                memo.getMemoId(),
+                receiverId,
+                memo.getType().getValue(),
+                memo.getContent(),
+                memo.getSender(),
+                memo.getDateSent()
+        ));
         return updateResult.wasApplied();
     }
 
     @Override
     public boolean deleteMemo(int memoId, int receiverId) {
-        final ResultSet updateResult = getSession().execute(
-                deleteFrom(getKeyspace(), MemoTable.getTableName())
-                        .whereColumn(MemoTable.MEMO_ID).isEqualTo(literal(memoId))
-                        .build()
-        );
+        final ResultSet updateResult = getSession().execute(deleteStatement.bind(memoId));
         return updateResult.wasApplied();
     }
 }
@@ -0,0 +1,189 @@
+package kinoko.database.cassandra;
+
+import com.datastax.oss.driver.api.core.cql.BoundStatement;
+import com.datastax.oss.driver.api.core.cql.BoundStatementBuilder;
+import com.datastax.oss.driver.api.core.cql.Row;
+
+import java.nio.ByteBuffer;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.IntFunction;
+import java.util.zip.CRC32C;
+
+/**
+ * Tracks the hashes of the column values last persisted for each loaded object, so that only the modified columns are
+ * written. Large collections are only serialized when their dirty flag is set, the caller skips binding the other
+ * collections. Small columns are always bound and compared by hash, which is cheaper than flagging every mutation of
+ * the object. Objects are tracked by identity and released once they are garbage collected.
+ */
+final class SavedColumns<T> {
+    private static final AtomicLong sequenceCounter = new AtomicLong();
+    private final Map<T, SavedState> savedStates = Collections.synchronizedMap(new WeakHashMap<>());
+    private final List<String> columns;
+
+    /**
+     * @param columns data columns in bind order, any key columns must be bound after them.
+     */
+    SavedColumns(List<String> columns) {
+        this.columns = columns;
+    }
+
+    /**
+     * Records the column values of a loaded row.
+     */
+    void load(T object, Row row) {
+        load(object, (index) -> row.getBytesUnsafe(columns.get(index)));
+    }
+
+    void load(T object, IntFunction<ByteBuffer> values) {
+        final SavedState savedState = new SavedState(columns.size());
+        final long sequence = sequenceCounter.incrementAndGet();
+        for (int i = 0; i < columns.size(); i++) {
+            savedState.hashes[i] = hash(values.apply(i));
+            savedState.sequences[i] = sequence;
+        }
+        savedStates.put(object, savedState);
+    }
+
+    /**
+     * Returns whether the column has to be bound even if its dirty flag is not set, as the column has not been saved yet
+     * or its last write failed.
+     */
+    boolean isPending(T object, int index) {
+        synchronized (savedStates) {
+            final SavedState savedState = savedStates.get(object);
+            return savedState == null || savedState.failed.get(index);
+        }
+    }
+
+    /**
+     * Computes the column hashes of a bound statement, the result should be passed to {@link #update} or {@link #fail}
+     * once the statement has been executed.
+     */
+    Snapshot hash(BoundStatement statement) {
+        return hash(statement::getBytesUnsafe, new BitSet());
+    }
+
+    /**
+     * @param skipped columns that were not bound, the recorded hashes of these columns are kept.
+     */
+    Snapshot hash(BoundStatement statement, BitSet skipped) {
+        return hash(statement::getBytesUnsafe, skipped);
+    }
+
+    Snapshot hash(IntFunction<ByteBuffer> values, BitSet skipped) {
+        final long[] hashes = new long[columns.size()];
+        final BitSet bound = new BitSet(columns.size());
+        for (int i = 0; i < hashes.length; i++) {
+            if (skipped.get(i)) {
+                continue;
+            }
+            hashes[i] = hash(values.apply(i));
+            bound.set(i);
+        }
+        return new Snapshot(sequenceCounter.incrementAndGet(), hashes, bound);
+    }
+
+    /**
+     * Returns the bound columns of the snapshot whose value differs from the last saved value. Columns whose last write
+     * failed are always included, as the failed write may still have been applied.
+     */
+    BitSet getChanged(T object, Snapshot snapshot) {
+        synchronized (savedStates) {
+            final SavedState savedState = savedStates.get(object);
+            if (savedState == null) {
+                return (BitSet) snapshot.bound.clone();
+            }
+            final BitSet changed = new BitSet(columns.size());
+            for (int i = snapshot.bound.nextSetBit(0); i >= 0; i = snapshot.bound.nextSetBit(i + 1)) {
+                if (snapshot.hashes[i] != savedState.hashes[i] || savedState.failed.get(i)) {
+                    changed.set(i);
+                }
+            }
+            return changed;
+        }
+    }
+
+    /**
+     * Unsets the columns of the bound statement that are not written, unset columns are left unchanged in the database.
+     */
+    BoundStatement unsetExcept(BoundStatement statement, BitSet written) {
+        final BoundStatementBuilder builder = new BoundStatementBuilder(statement);
+        for (int i = 0; i < columns.size(); i++) {
+            if (!written.get(i)) {
+                builder.unset(i);
+            }
+        }
+        return builder.build();
+    }
+
+    /**
+     * Records the hashes of the written columns once the statement has been executed. Statements may complete out of
+     * order, so the hash of a column is only recorded if it was computed after the currently recorded hash.
+     */
+    void update(T object, Snapshot snapshot, BitSet written) {
+        synchronized (savedStates) {
+            final SavedState savedState = savedStates.computeIfAbsent(object, (key) -> new SavedState(columns.size()));
+            for (int i = written.nextSetBit(0); i >= 0; i = written.nextSetBit(i + 1)) {
+                if (snapshot.sequence > savedState.sequences[i]) {
+                    savedState.hashes[i] = snapshot.hashes[i];
+                    savedState.sequences[i] = snapshot.sequence;
+                    savedState.failed.clear(i);
+                }
+            }
+        }
+    }
+
+    /**
+     * Marks the written columns of a failed statement as pending, unless they have since been written successfully.
+     */
+    void fail(T object, Snapshot snapshot, BitSet written) {
+        synchronized (savedStates) {
+            final SavedState savedState = savedStates.get(object);
+            if (savedState == null) {
+                return;
+            }
+            for (int i = written.nextSetBit(0); i >= 0; i = written.nextSetBit(i + 1)) {
+                if (snapshot.sequence > savedState.sequences[i]) {
+                    savedState.failed.set(i);
+                }
+            }
+        }
+    }
+
+    private static long hash(ByteBuffer buffer) {
+        if (buffer == null) {
+            return 0;
+        }
+        final CRC32C crc = new CRC32C();
+        crc.update(buffer.duplicate());
+        return (crc.getValue() << 32) | (buffer.hashCode() & 0xFFFFFFFFL);
+    }
+
+    private static final class SavedState {
+        private final long[] hashes;
+        private final long[] sequences;
+        private final BitSet failed = new BitSet();
+
+        private SavedState(int columnCount) {
+            this.hashes = new long[columnCount];
+            this.sequences = new long[columnCount];
+        }
+    }
+
+    static final class Snapshot {
+        private final long sequence;
+        private final long[] hashes;
+        private final BitSet bound;
+
+        private Snapshot(long sequence, long[] hashes, BitSet bound) {
+            this.sequence = sequence;
+            this.hashes = hashes;
+            this.bound = bound;
+        }
+
+        BitSet getBound() {
+            return bound;
+        }
+    }
+}
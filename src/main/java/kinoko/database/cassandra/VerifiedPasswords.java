@@ -0,0 +1,67 @@
+package kinoko.database.cassandra;
+
+import kinoko.server.ServerConfig;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.util.Base64;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Short-lived cache of successful password verifications, so that clients logging in again shortly after a
+ * disconnect skip BCrypt. Entries are keyed by a salted SHA-256 of the credentials and only match the stored hash they
+ * were verified against, so changing the password invalidates them.
+ */
+final class VerifiedPasswords {
+    private static final int SWEEP_THRESHOLD = 1000;
+    private final ConcurrentHashMap<String, Entry> entries = new ConcurrentHashMap<>(); // account id + credential hash -> entry
+    private final byte[] salt = new byte[16];
+    private final long ttl = TimeUnit.SECONDS.toNanos(ServerConfig.LOGIN_CACHE_TTL);
+
+    VerifiedPasswords() {
+        new SecureRandom().nextBytes(salt);
+    }
+
+    boolean isVerified(int accountId, boolean secondary, String password, String hashedPassword) {
+        if (ttl <= 0) {
+            return false;
+        }
+        final Entry entry = entries.get(getKey(accountId, secondary, password));
+        return entry != null && System.nanoTime() - entry.verifiedTime < ttl && entry.hashedPassword.equals(hashedPassword);
+    }
+
+    void add(int accountId, boolean secondary, String password, String hashedPassword) {
+        if (ttl <= 0) {
+            return;
+        }
+        final long now = System.nanoTime();
+        if (entries.size() > SWEEP_THRESHOLD) {
+            entries.values().removeIf((entry) -> now - entry.verifiedTime >= ttl);
+        }
+        entries.put(getKey(accountId, secondary, password), new Entry(hashedPassword, now));
+    }
+
+    private String getKey(int accountId, boolean secondary, String password) {
+        try {
+            final MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(salt);
+            digest.update(password.getBytes(StandardCharsets.UTF_8));
+            return accountId + (secondary ? ":2:" : ":1:") + Base64.getEncoder().encodeToString(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static final class Entry {
+        private final String hashedPassword;
+        private final long verifiedTime;
+
+        private Entry(String hashedPassword, long verifiedTime) {
+            this.hashedPassword = hashedPassword;
+            this.verifiedTime = verifiedTime;
+        }
+    }
+}
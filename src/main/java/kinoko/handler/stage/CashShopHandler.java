@@ -396,12 +396,10 @@ public final class CashShopHandler {
                         final InventoryManager im = user.getInventoryManager();
                         final Inventory inventory = im.getInventoryByType(inventoryType);
                         Item removed = null;
-                        final var iter = inventory.getItems().values().iterator();
-                        while (iter.hasNext()) {
-                            final Item item = iter.next();
-                            if (item.getItemSn() == itemSn) {
-                                removed = item;
-                                iter.remove();
+                        for (var entry : inventory.getItems().entrySet()) {
+                            if (entry.getValue().getItemSn() == itemSn) {
+                                removed = entry.getValue();
+                                inventory.removeItem(entry.getKey());
                                 break;
                             }
                         }
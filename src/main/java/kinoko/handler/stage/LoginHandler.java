@@ -16,7 +16,9 @@ import kinoko.server.migration.TransferInfo;
 import kinoko.server.node.ChannelInfo;
 import kinoko.server.node.Client;
 import kinoko.server.node.LoginServerNode;
+import kinoko.server.node.ServerExecutor;
 import kinoko.server.packet.InPacket;
+import kinoko.server.rank.RankManager;
 import kinoko.world.GameConstants;
 import kinoko.world.item.*;
 import kinoko.world.job.Job;
@@ -54,24 +56,25 @@ public final class LoginHandler {
         final byte channelId = inPacket.decodeByte();
         final byte[] partnerCode = inPacket.decodeArray(4);
 
-        // Resolve account
-        final Optional<Account> accountResult = DatabaseManager.accountAccessor().getAccountByUsername(username);
-        if (accountResult.isEmpty()) {
-            if (ServerConfig.AUTO_CREATE_ACCOUNT) {
-                DatabaseManager.accountAccessor().newAccount(username, password);
-            }
-            c.write(LoginPacket.checkPasswordResultFail(LoginResultType.NotRegistered));
+        // Limit login attempts per address
+        final LoginServerNode loginServerNode = (LoginServerNode) c.getServerNode();
+        if (!loginServerNode.tryLoginAttempt(c.getRemoteAddress())) {
+            c.write(LoginPacket.checkPasswordResultFail(LoginResultType.Timeout));
             return;
         }
-        final Account account = accountResult.get();
 
-        // Check if logged in
-        final LoginServerNode loginServerNode = (LoginServerNode) c.getServerNode();
-        loginServerNode.submitOnlineRequest(account, (online) -> {
-            if (online || loginServerNode.isConnected(account)) {
-                c.write(LoginPacket.checkPasswordResultFail(LoginResultType.AlreadyConnected));
+        // Queue password check
+        final int position = ServerExecutor.submitAuth(() -> {
+            // Resolve account
+            final Optional<Account> accountResult = DatabaseManager.accountAccessor().getAccountByUsername(username);
+            if (accountResult.isEmpty()) {
+                if (ServerConfig.AUTO_CREATE_ACCOUNT) {
+                    DatabaseManager.accountAccessor().newAccount(username, password);
+                }
+                c.write(LoginPacket.checkPasswordResultFail(LoginResultType.NotRegistered));
                 return;
             }
+            final Account account = accountResult.get();
 
             // Check password
             if (!DatabaseManager.accountAccessor().checkPassword(account, password, false)) {
@@ -79,11 +82,23 @@ public final class LoginHandler {
                 return;
             }
 
-            c.setAccount(account);
-            c.setMachineId(machineId);
-            c.getServerNode().addClient(c);
-            c.write(LoginPacket.checkPasswordResultSuccess(account, c.getClientKey()));
+            // Check if logged in
+            loginServerNode.submitOnlineRequest(account, (online) -> {
+                if (online || loginServerNode.isConnected(account)) {
+                    c.write(LoginPacket.checkPasswordResultFail(LoginResultType.AlreadyConnected));
+                    return;
+                }
+                c.setAccount(account);
+                c.setMachineId(machineId);
+                c.getServerNode().addClient(c);
+                c.write(LoginPacket.checkPasswordResultSuccess(account, c.getClientKey()));
+            });
         });
+        if (position < 0) {
+            c.write(LoginPacket.checkPasswordResultFail(LoginResultType.WorldTooBusy));
+        } else if (position > 0) {
+            log.debug("Queued login for {} at position {}", username, position);
+        }
     }
 
     @Handler({ InHeader.WorldInfoRequest, InHeader.WorldRequest })
@@ -325,6 +340,7 @@ public final class LoginHandler {
 
         // Save character
         if (DatabaseManager.characterAccessor().newCharacter(characterData)) {
+            RankManager.updateCharacter(characterData);
             loadCharacterList(c);
             c.write(LoginPacket.createNewCharacterResultSuccess(characterData));
         } else {
@@ -357,17 +373,23 @@ public final class LoginHandler {
             c.write(LoginPacket.deleteCharacterResult(LoginResultType.Unknown, characterId));
             return;
         }
-        if (!DatabaseManager.accountAccessor().checkPassword(account, secondaryPassword, true)) {
-            c.write(LoginPacket.deleteCharacterResult(LoginResultType.IncorrectSPW, characterId));
-            return;
-        }
-        if (!DatabaseManager.characterAccessor().deleteCharacter(account.getId(), characterId)) {
-            c.write(LoginPacket.deleteCharacterResult(LoginResultType.DBFail, characterId));
-            return;
-        }
+        final int position = ServerExecutor.submitAuth(() -> {
+            if (!DatabaseManager.accountAccessor().checkPassword(account, secondaryPassword, true)) {
+                c.write(LoginPacket.deleteCharacterResult(LoginResultType.IncorrectSPW, characterId));
+                return;
+            }
+            if (!DatabaseManager.characterAccessor().deleteCharacter(account.getId(), characterId)) {
+                c.write(LoginPacket.deleteCharacterResult(LoginResultType.DBFail, characterId));
+                return;
+            }
+            RankManager.removeCharacter(characterId);
 
-        loadCharacterList(c);
-        c.write(LoginPacket.deleteCharacterResult(LoginResultType.Success, characterId));
+            loadCharacterList(c);
+            c.write(LoginPacket.deleteCharacterResult(LoginResultType.Success, characterId));
+        });
+        if (position < 0) {
+            c.write(LoginPacket.deleteCharacterResult(LoginResultType.WorldTooBusy, characterId));
+        }
     }
 
     @Handler(InHeader.EnableSPWRequest)
@@ -380,11 +402,20 @@ public final class LoginHandler {
 
         final Account account = c.getAccount();
         if (account == null || !account.canSelectCharacter(characterId) || !c.getServerNode().isConnected(account) ||
-                account.hasSecondaryPassword() || !DatabaseManager.accountAccessor().savePassword(account, "", secondaryPassword, true)) {
+                account.hasSecondaryPassword()) {
             c.write(LoginPacket.selectCharacterResultFail(LoginResultType.Unknown));
             return;
         }
-        handleMigration(c, account, characterId);
+        final int position = ServerExecutor.submitAuth(() -> {
+            if (!DatabaseManager.accountAccessor().savePassword(account, "", secondaryPassword, true)) {
+                c.write(LoginPacket.selectCharacterResultFail(LoginResultType.Unknown));
+                return;
+            }
+            handleMigration(c, account, characterId);
+        });
+        if (position < 0) {
+            c.write(LoginPacket.selectCharacterResultFail(LoginResultType.WorldTooBusy));
+        }
     }
 
     @Handler(InHeader.CheckSPWRequest)
@@ -400,11 +431,16 @@ public final class LoginHandler {
             c.write(LoginPacket.selectCharacterResultFail(LoginResultType.Unknown));
             return;
         }
-        if (!DatabaseManager.accountAccessor().checkPassword(account, secondaryPassword, true)) {
-            c.write(LoginPacket.checkSecondaryPasswordResult());
-            return;
+        final int position = ServerExecutor.submitAuth(() -> {
+            if (!DatabaseManager.accountAccessor().checkPassword(account, secondaryPassword, true)) {
+                c.write(LoginPacket.checkSecondaryPasswordResult());
+                return;
+            }
+            handleMigration(c, account, characterId);
+        });
+        if (position < 0) {
+            c.write(LoginPacket.selectCharacterResultFail(LoginResultType.WorldTooBusy));
         }
-        handleMigration(c, account, characterId);
     }
 
     private static void loadCharacterList(Client c) {
@@ -19,12 +19,15 @@ import kinoko.server.guild.GuildRequest;
 import kinoko.server.header.InHeader;
 import kinoko.server.memo.Memo;
 import kinoko.server.messenger.MessengerRequest;
+import kinoko.server.migration.MigrationCache;
 import kinoko.server.migration.MigrationInfo;
 import kinoko.server.migration.TransferInfo;
 import kinoko.server.node.ChannelServerNode;
 import kinoko.server.node.Client;
+import kinoko.server.node.ServerExecutor;
 import kinoko.server.packet.InPacket;
 import kinoko.server.party.PartyRequest;
+import kinoko.util.Tuple;
 import kinoko.world.GameConstants;
 import kinoko.world.field.Field;
 import kinoko.world.item.*;
@@ -44,6 +47,8 @@ import java.time.Instant;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
 
 public final class MigrationHandler {
     private static final Logger log = LogManager.getLogger(MigrationHandler.class);
@@ -76,161 +81,182 @@ public final class MigrationHandler {
                 c.close();
                 return;
             }
-            // Load account
+            // Take over account and character data released by the source channel
             final MigrationInfo migrationInfo = migrationResult.get();
-            final Optional<Account> accountResult = DatabaseManager.accountAccessor().getAccountById(migrationInfo.getAccountId());
-            if (accountResult.isEmpty()) {
-                log.error("Could not retrieve account with ID : {}", migrationInfo.getAccountId());
-                c.close();
-                return;
-            }
-            final Account account = accountResult.get();
-            if (channelServerNode.isConnected(account)) {
-                log.error("Tried to connect to channel server while already connected");
-                c.close();
+            final Optional<Tuple<Account, CharacterData>> cacheResult = MigrationCache.take(migrationInfo);
+            if (cacheResult.isPresent()) {
+                final Tuple<Account, CharacterData> cached = cacheResult.get();
+                ServerExecutor.submitService(() -> handleMigrateInLoaded(c, migrationInfo, characterId, Optional.of(cached.getLeft()), Optional.of(cached.getRight())));
                 return;
             }
-            account.setChannelId(channelServerNode.getChannelId());
-            c.setAccount(account);
+            // Load account and character data
+            final CompletableFuture<Optional<Account>> accountFuture = DatabaseManager.accountAccessor().getAccountByIdAsync(migrationInfo.getAccountId()).toCompletableFuture();
+            final CompletableFuture<Optional<CharacterData>> characterFuture = DatabaseManager.characterAccessor().getCharacterByIdAsync(characterId).toCompletableFuture();
+            CompletableFuture.allOf(accountFuture, characterFuture).whenComplete((result, e) -> ServerExecutor.submitService(() -> {
+                if (e != null) {
+                    log.error("Failed to load character ID : {}", characterId, e);
+                    c.close();
+                    return;
+                }
+                handleMigrateInLoaded(c, migrationInfo, characterId, accountFuture.join(), characterFuture.join());
+            }));
+        });
+    }
 
-            // Load character data
-            final Optional<CharacterData> characterResult = DatabaseManager.characterAccessor().getCharacterById(characterId);
-            if (characterResult.isEmpty()) {
-                log.error("Could not retrieve character with ID : {}", characterId);
-                c.close();
-                return;
-            }
-            final CharacterData characterData = characterResult.get();
-            if (characterData.getAccountId() != migrationInfo.getAccountId()) {
-                log.error("Mismatching account IDs {}, {}", characterData.getAccountId(), migrationInfo.getAccountId());
-                c.close();
-                return;
-            }
+    private static void handleMigrateInLoaded(Client c, MigrationInfo migrationInfo, int characterId, Optional<Account> accountResult, Optional<CharacterData> characterResult) {
+        final ChannelServerNode channelServerNode = ((ChannelServerNode) c.getServerNode());
 
-            // Initialize User
-            final User user = new User(c, characterData);
-            user.setMessengerId(migrationInfo.getMessengerId()); // this is required before user connect
-            if (channelServerNode.isConnected(user)) {
-                log.error("Tried to connect to channel server while already connected");
-                c.close();
-                return;
-            }
-            c.setUser(user);
-            channelServerNode.addClient(c);
-            channelServerNode.notifyUserConnect(user);
+        // Resolve account
+        if (accountResult.isEmpty()) {
+            log.error("Could not retrieve account with ID : {}", migrationInfo.getAccountId());
+            c.close();
+            return;
+        }
+        final Account account = accountResult.get();
+        if (channelServerNode.isConnected(account)) {
+            log.error("Tried to connect to channel server while already connected");
+            c.close();
+            return;
+        }
+        account.setChannelId(channelServerNode.getChannelId());
+        c.setAccount(account);
 
-            try (var locked = user.acquire()) {
-                // Initialize pets
-                final CharacterStat cs = user.getCharacterStat();
-                final long[] pets = new long[]{
-                        cs.getPetSn1(), cs.getPetSn2(), cs.getPetSn3()
-                };
-                cs.setPetSn1(0);
-                cs.setPetSn2(0);
-                cs.setPetSn3(0);
-                // Resolve pets
-                final Inventory cashInventory = user.getInventoryManager().getCashInventory();
-                for (long petSn : pets) {
-                    final Optional<Map.Entry<Integer, Item>> itemEntryResult = cashInventory.getItems().entrySet().stream()
-                            .filter((entry) -> entry.getValue().getItemSn() == petSn)
-                            .findFirst();
-                    if (itemEntryResult.isEmpty()) {
-                        // Item not found
-                        continue;
-                    }
-                    final Item item = itemEntryResult.get().getValue();
-                    if (item.getItemType() != ItemType.PET || item.getDateExpire().isBefore(Instant.now())) {
-                        // Invalid pet or expired
-                        continue;
-                    }
-                    // Create pet and assign to user
-                    final Pet pet = Pet.from(user, item);
-                    user.addPet(pet, true);
-                }
+        // Resolve character data
+        if (characterResult.isEmpty()) {
+            log.error("Could not retrieve character with ID : {}", characterId);
+            c.close();
+            return;
+        }
+        final CharacterData characterData = characterResult.get();
+        if (characterData.getAccountId() != migrationInfo.getAccountId()) {
+            log.error("Mismatching account IDs {}, {}", characterData.getAccountId(), migrationInfo.getAccountId());
+            c.close();
+            return;
+        }
 
-                // Initialize dragon
-                if (JobConstants.isDragonJob(user.getJob())) {
-                    user.setDragon(new Dragon(user.getJob()));
-                }
+        // Initialize User
+        final User user = new User(c, characterData);
+        user.setMessengerId(migrationInfo.getMessengerId()); // this is required before user connect
+        if (channelServerNode.isConnected(user)) {
+            log.error("Tried to connect to channel server while already connected");
+            c.close();
+            return;
+        }
+        c.setUser(user);
+        channelServerNode.addClient(c);
+        channelServerNode.notifyUserConnect(user);
 
-                // Initialize user data from MigrationInfo
-                user.getSecondaryStat().getTemporaryStats().putAll(migrationInfo.getTemporaryStats());
-                user.getSkillManager().getSkillSchedules().putAll(migrationInfo.getSchedules());
-                user.getSummoned().putAll(migrationInfo.getSummoned());
-                user.setEffectItemId(migrationInfo.getEffectItemId());
-                user.setAdBoard(migrationInfo.getAdBoard());
-                user.updatePassiveSkillData();
-                user.validateStat();
-                user.write(WvsContext.setGender(user.getGender()));
-                user.write(WvsContext.resetTownPortal());
-
-                // Add user to field
-                final int fieldId = user.getCharacterStat().getPosMap();
-                final byte portalId = user.getCharacterStat().getPortal();
-                final Field targetField;
-                final Optional<Field> fieldResult = channelServerNode.getFieldById(fieldId);
-                if (fieldResult.isPresent()) {
-                    targetField = fieldResult.get();
-                } else {
-                    log.error("Could not retrieve field ID : {} for character ID : {}, moving to {}", fieldId, user.getCharacterId(), 100000000);
-                    targetField = channelServerNode.getFieldById(100000000).orElseThrow(() -> new IllegalStateException("Could not resolve Field from ChannelServer"));
+        try (var locked = user.acquire()) {
+            // Initialize pets
+            final CharacterStat cs = user.getCharacterStat();
+            final long[] pets = new long[]{
+                    cs.getPetSn1(), cs.getPetSn2(), cs.getPetSn3()
+            };
+            cs.setPetSn1(0);
+            cs.setPetSn2(0);
+            cs.setPetSn3(0);
+            // Resolve pets
+            final Inventory cashInventory = user.getInventoryManager().getCashInventory();
+            for (long petSn : pets) {
+                final Optional<Map.Entry<Integer, Item>> itemEntryResult = cashInventory.getItems().entrySet().stream()
+                        .filter((entry) -> entry.getValue().getItemSn() == petSn)
+                        .findFirst();
+                if (itemEntryResult.isEmpty()) {
+                    // Item not found
+                    continue;
                 }
-                final PortalInfo targetPortal;
-                final Optional<PortalInfo> portalResult = targetField.getPortalById(portalId);
-                if (portalResult.isPresent()) {
-                    targetPortal = portalResult.get();
-                } else {
-                    log.error("Could not resolve default portal : {} on field ID : {}", 0, targetField.getFieldId());
-                    targetPortal = targetField.getPortalById(0).orElse(PortalInfo.EMPTY);
+                final Item item = itemEntryResult.get().getValue();
+                if (item.getItemType() != ItemType.PET || item.getDateExpire().isBefore(Instant.now())) {
+                    // Invalid pet or expired
+                    continue;
                 }
+                // Create pet and assign to user
+                final Pet pet = Pet.from(user, item);
+                user.addPet(pet, true);
+            }
+
+            // Initialize dragon
+            if (JobConstants.isDragonJob(user.getJob())) {
+                user.setDragon(new Dragon(user.getJob()));
+            }
 
-                // Set field packet sent here
-                user.warp(targetField, targetPortal, true, false);
+            // Initialize user data from MigrationInfo
+            user.getSecondaryStat().getTemporaryStats().putAll(migrationInfo.getTemporaryStats());
+            user.getSkillManager().getSkillSchedules().putAll(migrationInfo.getSchedules());
+            user.getSummoned().putAll(migrationInfo.getSummoned());
+            user.setEffectItemId(migrationInfo.getEffectItemId());
+            user.setAdBoard(migrationInfo.getAdBoard());
+            user.updatePassiveSkillData();
+            user.validateStat();
+            user.write(WvsContext.setGender(user.getGender()));
+            user.write(WvsContext.resetTownPortal());
+
+            // Add user to field
+            final int fieldId = user.getCharacterStat().getPosMap();
+            final byte portalId = user.getCharacterStat().getPortal();
+            final Field targetField;
+            final Optional<Field> fieldResult = channelServerNode.getFieldById(fieldId);
+            if (fieldResult.isPresent()) {
+                targetField = fieldResult.get();
+            } else {
+                log.error("Could not retrieve field ID : {} for character ID : {}, moving to {}", fieldId, user.getCharacterId(), 100000000);
+                targetField = channelServerNode.getFieldById(100000000).orElseThrow(() -> new IllegalStateException("Could not resolve Field from ChannelServer"));
+            }
+            final PortalInfo targetPortal;
+            final Optional<PortalInfo> portalResult = targetField.getPortalById(portalId);
+            if (portalResult.isPresent()) {
+                targetPortal = portalResult.get();
+            } else {
+                log.error("Could not resolve default portal : {} on field ID : {}", 0, targetField.getFieldId());
+                targetPortal = targetField.getPortalById(0).orElse(PortalInfo.EMPTY);
+            }
 
-                // Initialize func keys and quickslot
-                final ConfigManager cm = user.getConfigManager();
-                user.write(WvsContext.macroSysDataInit(cm.getMacroSysData()));
-                user.write(FieldPacket.funcKeyMappedInit(cm.getFuncKeyMap()));
-                user.write(FieldPacket.quickslotMappedInit(cm.getQuickslotKeyMap()));
-                user.write(FieldPacket.petConsumeItemInit(cm.getPetConsumeItem()));
-                user.write(FieldPacket.petConsumeMpItemInit(cm.getPetConsumeMpItem()));
+            // Set field packet sent here
+            user.warp(targetField, targetPortal, true, false);
 
-                // Load messenger from central server
-                if (user.getMessengerId() != 0) {
-                    channelServerNode.submitMessengerRequest(user, MessengerRequest.migrated());
-                }
+            // Initialize func keys and quickslot
+            final ConfigManager cm = user.getConfigManager();
+            user.write(WvsContext.macroSysDataInit(cm.getMacroSysData()));
+            user.write(FieldPacket.funcKeyMappedInit(cm.getFuncKeyMap()));
+            user.write(FieldPacket.quickslotMappedInit(cm.getQuickslotKeyMap()));
+            user.write(FieldPacket.petConsumeItemInit(cm.getPetConsumeItem()));
+            user.write(FieldPacket.petConsumeMpItemInit(cm.getPetConsumeMpItem()));
 
-                // Load party from central server
-                final int partyId = user.getCharacterData().getPartyId();
-                if (partyId != 0) {
-                    channelServerNode.submitPartyRequest(user, PartyRequest.loadParty(partyId));
-                }
+            // Load messenger from central server
+            if (user.getMessengerId() != 0) {
+                channelServerNode.submitMessengerRequest(user, MessengerRequest.migrated());
+            }
 
-                // Load guild from central server
-                final int guildId = user.getCharacterData().getGuildId();
-                if (guildId != 0) {
-                    channelServerNode.submitGuildRequest(user, GuildRequest.loadGuild(guildId));
-                }
+            // Load party from central server
+            final int partyId = user.getCharacterData().getPartyId();
+            if (partyId != 0) {
+                channelServerNode.submitPartyRequest(user, PartyRequest.loadParty(partyId));
+            }
 
-                // Load memos
-                final List<Memo> memos = DatabaseManager.memoAccessor().getMemosByCharacterId(user.getCharacterId());
-                if (!memos.isEmpty()) {
-                    user.write(MemoPacket.load(memos));
-                }
+            // Load guild from central server
+            final int guildId = user.getCharacterData().getGuildId();
+            if (guildId != 0) {
+                channelServerNode.submitGuildRequest(user, GuildRequest.loadGuild(guildId));
+            }
 
-                // Load friends
-                FriendHandler.loadFriends(user, (friendMap) -> {
-                    user.write(FriendPacket.loadFriendDone(friendMap.values()));
-                    final List<Integer> friendIds = friendMap.values().stream()
-                            .filter((friend) -> friend.getStatus() == FriendStatus.NORMAL)
-                            .map(Friend::getFriendId)
-                            .toList();
-                    if (!friendIds.isEmpty()) {
-                        user.getConnectedServer().submitUserPacketBroadcast(friendIds, FriendPacket.notify(user.getCharacterId(), user.getChannelId(), false));
-                    }
-                });
+            // Load memos
+            final List<Memo> memos = DatabaseManager.memoAccessor().getMemosByCharacterId(user.getCharacterId());
+            if (!memos.isEmpty()) {
+                user.write(MemoPacket.load(memos));
             }
-        });
+
+            // Load friends
+            FriendHandler.loadFriends(user, (friendMap) -> {
+                user.write(FriendPacket.loadFriendDone(friendMap.values()));
+                final List<Integer> friendIds = friendMap.values().stream()
+                        .filter((friend) -> friend.getStatus() == FriendStatus.NORMAL)
+                        .map(Friend::getFriendId)
+                        .toList();
+                if (!friendIds.isEmpty()) {
+                    user.getConnectedServer().submitUserPacketBroadcast(friendIds, FriendPacket.notify(user.getCharacterId(), user.getChannelId(), false));
+                }
+            });
+        }
     }
 
     @Handler(InHeader.UserTransferFieldRequest)
@@ -357,13 +383,19 @@ public final class MigrationHandler {
                 user.write(FieldPacket.transferChannelReqIgnored(TransferChannelType.GAMESVR_DISCONNECTED)); // Cannot move to that Channel
                 return;
             }
-            // Logout user and save
+            // Logout user and save in the background, the values are serialized before the data is handed over
             user.logout(false);
             user.setInTransfer(true);
-            DatabaseManager.accountAccessor().saveAccount(account);
-            DatabaseManager.characterAccessor().saveCharacter(user.getCharacterData());
+            final CompletionStage<Boolean> accountFuture = DatabaseManager.accountAccessor().saveAccountAsync(account);
+            final CompletionStage<Boolean> characterFuture = DatabaseManager.characterAccessor().saveCharacterAsync(user.getCharacterData());
+            accountFuture.thenCombine(characterFuture, (a, b) -> a && b).whenComplete((result, e) -> {
+                if (e != null) {
+                    log.error("Failed to save character ID : {} for transfer", user.getCharacterId(), e);
+                }
+            });
 
-            // Send migrate command
+            // Hand over the live data to the target channel, which does not need to wait for the save
+            MigrationCache.put(migrationInfo, account, user.getCharacterData());
             final TransferInfo transferInfo = transferResult.get();
             user.write(ClientPacket.migrateCommand(transferInfo.getChannelHost(), transferInfo.getChannelPort()));
         });
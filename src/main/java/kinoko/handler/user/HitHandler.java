@@ -438,7 +438,7 @@ public final class HitHandler {
             attackInfo.damage[0] = (int) Math.clamp(damage, 1.0, GameConstants.DAMAGE_MAX);
             attack.getAttackInfo().add(attackInfo);
             // Broadcast packet and process damage
-            user.getField().broadcastPacket(SummonedPacket.summonedAttack(user, summoned, attack));
+            user.getField().broadcastViewPacket(user, SummonedPacket.summonedAttack(user, summoned, attack), false);
             mob.damage(user, attackInfo.damage[0], 0);
         }
     }
@@ -500,7 +500,7 @@ public final class HitHandler {
                 attackInfo.damage[0] = Math.min((int) Math.clamp(damage, 1.0, GameConstants.DAMAGE_MAX), mob.getMaxHp() / 2);
                 attack.getAttackInfo().add(attackInfo);
                 // Broadcast packet and process damage
-                user.getField().broadcastPacket(SummonedPacket.summonedAttack(member, summoned, attack));
+                user.getField().broadcastViewPacket(member, SummonedPacket.summonedAttack(member, summoned, attack), false);
                 mob.damage(user, attackInfo.damage[0], 0);
             }
         });
@@ -101,7 +101,7 @@ public final class PetHandler {
                     }
                 }
                 // Update client
-                user.getField().broadcastPacket(PetPacket.petActivated(user, pet));
+                user.getField().broadcastViewPacket(user, PetPacket.petActivated(user, pet), false);
                 user.write(PetPacket.petLoadExceptionList(user, pet.getPetIndex(), pet.getItemSn(), user.getConfigManager().getPetExceptionList()));
             } else {
                 // Deactivate pet and update client
@@ -111,7 +111,7 @@ public final class PetHandler {
                     user.dispose();
                     return;
                 }
-                user.getField().broadcastPacket(PetPacket.petDeactivated(user, petIndex, 0));
+                user.getField().broadcastViewPacket(user, PetPacket.petDeactivated(user, petIndex, 0), false);
             }
         }
     }
@@ -132,7 +132,7 @@ public final class PetHandler {
             return;
         }
         movePath.applyTo(pet);
-        user.getField().broadcastPacket(PetPacket.petMove(user, petIndex, movePath), user);
+        user.getField().broadcastViewPacket(user, PetPacket.petMove(user, petIndex, movePath), true);
     }
 
     @Handler(InHeader.PetAction)
@@ -153,7 +153,7 @@ public final class PetHandler {
             log.error("Received PetAction for invalid pet index : {}", petIndex);
             return;
         }
-        user.getField().broadcastPacket(PetPacket.petAction(user, petIndex, type, action, chat), user);
+        user.getField().broadcastViewPacket(user, PetPacket.petAction(user, petIndex, type, action, chat), true);
     }
 
     @Handler(InHeader.PetInteractionRequest)
@@ -228,7 +228,7 @@ public final class PetHandler {
             }
 
             // Broadcast pet action
-            user.getField().broadcastPacket(PetPacket.petActionInteract(user, petIndex, action, success, false));
+            user.getField().broadcastViewPacket(user, PetPacket.petActionInteract(user, petIndex, action, success, false), false);
         }
     }
 
@@ -46,7 +46,7 @@ public final class SummonedHandler {
 
         final MovePath movePath = MovePath.decode(inPacket);
         movePath.applyTo(summoned);
-        summoned.getField().broadcastPacket(SummonedPacket.summonedMove(user, summoned, movePath), user);
+        summoned.getField().broadcastViewPacket(user, SummonedPacket.summonedMove(user, summoned, movePath), true);
     }
 
     @Handler(InHeader.SummonedAttack)
@@ -149,7 +149,7 @@ public final class SummonedHandler {
             }
         }
 
-        field.broadcastPacket(SummonedPacket.summonedAttack(user, summoned, attack), user);
+        field.broadcastViewPacket(user, SummonedPacket.summonedAttack(user, summoned, attack), true);
     }
 
     @Handler(InHeader.SummonedHit)
@@ -172,7 +172,7 @@ public final class SummonedHandler {
             hitInfo.dir = inPacket.decodeByte();
         }
 
-        user.getField().broadcastPacket(SummonedPacket.summonedHit(user, summoned, hitInfo));
+        user.getField().broadcastViewPacket(user, SummonedPacket.summonedHit(user, summoned, hitInfo), false);
         try (var lockedSummoned = summoned.acquire()) {
             summoned.setHp(summoned.getHp() - hitInfo.damage);
             if (summoned.getHp() <= 0) {
@@ -214,7 +214,7 @@ public final class SummonedHandler {
             SkillProcessor.processSkill(locked, skill);
         }
 
-        summoned.getField().broadcastPacket(SummonedPacket.summonedSkill(user, summoned, actionAndDir));
+        summoned.getField().broadcastViewPacket(user, SummonedPacket.summonedSkill(user, summoned, actionAndDir), false);
     }
 
     @Handler(InHeader.SummonedRemove)
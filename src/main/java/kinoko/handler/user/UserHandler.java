@@ -88,7 +88,8 @@ public final class UserHandler {
         }
         final MovePath movePath = MovePath.decode(inPacket);
         movePath.applyTo(user);
-        field.broadcastPacket(UserRemote.move(user, movePath), user);
+        field.getUserPool().updateView(user);
+        field.broadcastViewPacket(user, UserRemote.move(user, movePath), true);
     }
 
     @Handler(InHeader.UserSitRequest)
@@ -122,7 +123,7 @@ public final class UserHandler {
             CommandProcessor.tryProcessCommand(user, text);
             return;
         }
-        user.getField().broadcastPacket(UserPacket.userChat(user, ChatType.NORMAL, text, onlyBalloon));
+        user.getField().broadcastViewPacket(user, UserPacket.userChat(user, ChatType.NORMAL, text, onlyBalloon), false);
     }
 
     @Handler(InHeader.UserADBoardClose)
@@ -136,7 +137,7 @@ public final class UserHandler {
         final int emotion = inPacket.decodeInt(); // nEmotion
         final int duration = inPacket.decodeInt(); // nDuration
         final boolean isByItemOption = inPacket.decodeBoolean(); // bByItemOption
-        user.getField().broadcastPacket(UserRemote.emotion(user, emotion, duration, isByItemOption), user);
+        user.getField().broadcastViewPacket(user, UserRemote.emotion(user, emotion, duration, isByItemOption), true);
     }
 
     @Handler(InHeader.UserActivateEffectItem)
@@ -727,9 +728,12 @@ public final class UserHandler {
         final String portalName = inPacket.decodeString(); // sPortalName
         final short x = inPacket.decodeShort(); // GetPos()->x
         final short y = inPacket.decodeShort(); // GetPos()->x
-        inPacket.decodeShort(); // portal x
-        inPacket.decodeShort(); // portal y
-        // let USER_MOVE packets update user position
+        final short portalX = inPacket.decodeShort(); // portal x
+        final short portalY = inPacket.decodeShort(); // portal y
+        // Move user to the target portal, following USER_MOVE packets update the exact position
+        try (var locked = user.acquire()) {
+            locked.get().setPosition(portalX, portalY);
+        }
     }
 
     @Handler(InHeader.UserMapTransferRequest)
@@ -1497,7 +1501,7 @@ public final class UserHandler {
     @Handler(InHeader.DragonMove)
     public static void handleDragonMove(User user, InPacket inPacket) {
         final MovePath movePath = MovePath.decode(inPacket);
-        user.getField().broadcastPacket(DragonPacket.dragonMove(user, movePath), user);
+        user.getField().broadcastViewPacket(user, DragonPacket.dragonMove(user, movePath), true);
     }
 
     @Handler(InHeader.QuickslotKeyMappedModified)
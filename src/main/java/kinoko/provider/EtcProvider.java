@@ -25,8 +25,8 @@ public final class EtcProvider implements WzProvider {
     private static final Map<Integer, Set<Integer>> makeCharInfo = new HashMap<>();
 
     public static void initialize() {
-        try (final WzReader reader = WzReader.build(ETC_WZ, new WzReaderConfig(WzConstants.WZ_GMS_IV, ServerConstants.GAME_VERSION))) {
-            final WzPackage wzPackage = reader.readPackage();
+        try {
+            final WzPackage wzPackage = WzSnapshot.readPackage(ETC_WZ, new WzReaderConfig(WzConstants.WZ_GMS_IV, ServerConstants.GAME_VERSION));
             loadSetItemInfo(wzPackage);
             loadCashShop(wzPackage);
             loadTitleQuestIds(wzPackage);
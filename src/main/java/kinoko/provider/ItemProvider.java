@@ -5,6 +5,8 @@ import kinoko.provider.wz.*;
 import kinoko.provider.wz.property.WzListProperty;
 import kinoko.server.ServerConfig;
 import kinoko.server.ServerConstants;
+import kinoko.util.IntMap;
+import kinoko.util.Tuple;
 import kinoko.util.Util;
 import kinoko.world.item.BodyPart;
 import kinoko.world.item.ItemConstants;
@@ -19,39 +21,48 @@ public final class ItemProvider implements WzProvider {
     public static final Path ITEM_WZ = Path.of(ServerConfig.WZ_DIRECTORY, "Item.wz");
     public static final List<String> EQUIP_TYPES = List.of("Accessory", "Cap", "Cape", "Coat", "Dragon", "Face", "Glove", "Hair", "Longcoat", "Mechanic", "Pants", "PetEquip", "Ring", "Shield", "Shoes", "TamingMob", "Weapon");
     public static final List<String> ITEM_TYPES = List.of("Consume", "Install", "Etc", "Cash");
-    private static final Map<Integer, ItemInfo> itemInfos = new HashMap<>();
+    private static IntMap<ItemInfo> itemInfos = IntMap.empty();
     private static final Map<Integer, ItemOptionInfo> itemOptionInfos = new HashMap<>(); // item option id -> item option info
     private static final Map<Integer, Set<Integer>> petEquips = new HashMap<>(); // petEquipId -> set<petTemplateId>
     private static final Map<Integer, Map<Integer, PetInteraction>> petActions = new HashMap<>(); // petTemplateId -> (action -> PetInteraction)
     private static final Map<Integer, String> specialItemNames = new HashMap<>();
 
     public static void initialize() {
+        final IntMap.Builder<ItemInfo> itemInfoBuilder = IntMap.builder();
         // Character.wz
-        try (final WzReader reader = WzReader.build(CHARACTER_WZ, new WzReaderConfig(WzConstants.WZ_GMS_IV, ServerConstants.GAME_VERSION))) {
-            final WzPackage wzPackage = reader.readPackage();
-            loadEquipInfos(wzPackage);
+        try {
+            final WzPackage wzPackage = WzSnapshot.readPackage(CHARACTER_WZ, new WzReaderConfig(WzConstants.WZ_GMS_IV, ServerConstants.GAME_VERSION));
+            loadEquipInfos(wzPackage, itemInfoBuilder);
         } catch (IOException | ProviderError e) {
             throw new IllegalArgumentException("Exception caught while loading Character.wz", e);
         }
         // Item.wz
-        try (final WzReader reader = WzReader.build(ITEM_WZ, new WzReaderConfig(WzConstants.WZ_GMS_IV, ServerConstants.GAME_VERSION))) {
-            final WzPackage wzPackage = reader.readPackage();
-            loadItemInfos(wzPackage);
+        try {
+            final WzPackage wzPackage = WzSnapshot.readPackage(ITEM_WZ, new WzReaderConfig(WzConstants.WZ_GMS_IV, ServerConstants.GAME_VERSION));
+            loadItemInfos(wzPackage, itemInfoBuilder);
             loadItemOptionInfos(wzPackage);
             loadItemNames(wzPackage);
         } catch (IOException | ProviderError e) {
             throw new IllegalArgumentException("Exception caught while loading Item.wz", e);
         }
+        itemInfos = itemInfoBuilder.build();
     }
 
     public static List<ItemInfo> getItemInfos() {
-        return itemInfos.values().stream().toList();
+        return itemInfos.values();
     }
 
     public static Optional<ItemInfo> getItemInfo(int itemId) {
         return Optional.ofNullable(itemInfos.get(itemId));
     }
 
+    /**
+     * Variant of {@link #getItemInfo} for stat calculations, which returns null instead of allocating an Optional.
+     */
+    public static ItemInfo getItemInfoOrNull(int itemId) {
+        return itemInfos.get(itemId);
+    }
+
     public static Optional<ItemOptionLevelData> getItemOptionInfo(int itemOptionId, int optionLevel) {
         if (!itemOptionInfos.containsKey(itemOptionId)) {
             return Optional.empty();
@@ -92,7 +103,8 @@ public final class ItemProvider implements WzProvider {
         return Optional.ofNullable(specialItemNames.get(itemId));
     }
 
-    private static void loadEquipInfos(WzPackage source) throws ProviderError, IOException {
+    private static void loadEquipInfos(WzPackage source, IntMap.Builder<ItemInfo> itemInfoBuilder) throws ProviderError, IOException {
+        final List<Tuple<Integer, WzImage>> equipImages = new ArrayList<>(); // itemId, image
         for (String directoryName : EQUIP_TYPES) {
             final WzDirectory directory = source.getDirectory().getDirectories().get(directoryName);
             if (directory == null) {
@@ -100,30 +112,42 @@ public final class ItemProvider implements WzProvider {
             }
             for (var entry : directory.getImages().entrySet()) {
                 final int itemId = Integer.parseInt(entry.getKey().replace(".img", ""));
-                if (!(entry.getValue().getProperty() instanceof WzListProperty itemProp)) {
-                    throw new ProviderError("Failed to resolve item property");
-                }
-                itemInfos.put(itemId, ItemInfo.from(itemId, itemProp));
-                // Pet equips
-                if (!ItemConstants.isPetEquipItem(itemId)) {
-                    continue;
-                }
-                final Set<Integer> suitablePets = new HashSet<>();
-                for (var petEntry : entry.getValue().getProperty().getItems().entrySet()) {
-                    if (!Util.isInteger(petEntry.getKey())) {
-                        continue;
+                equipImages.add(Tuple.of(itemId, entry.getValue()));
+            }
+        }
+        // Resolve item infos in parallel, the results are in the same order as the equip images
+        final List<ItemInfo> equipInfos = equipImages.parallelStream()
+                .map((tuple) -> {
+                    if (!(tuple.getRight().getProperty() instanceof WzListProperty itemProp)) {
+                        throw new ProviderError("Failed to resolve item property");
                     }
-                    final int petTemplateId = Integer.parseInt(petEntry.getKey());
-                    suitablePets.add(petTemplateId);
-                }
-                if (!suitablePets.isEmpty()) {
-                    petEquips.put(itemId, Collections.unmodifiableSet(suitablePets));
+                    return ItemInfo.from(tuple.getLeft(), itemProp);
+                })
+                .toList();
+        for (ItemInfo itemInfo : equipInfos) {
+            itemInfoBuilder.put(itemInfo.getItemId(), itemInfo);
+        }
+        // Pet equips
+        for (var tuple : equipImages) {
+            final int itemId = tuple.getLeft();
+            if (!ItemConstants.isPetEquipItem(itemId)) {
+                continue;
+            }
+            final Set<Integer> suitablePets = new HashSet<>();
+            for (var petEntry : tuple.getRight().getProperty().getItems().entrySet()) {
+                if (!Util.isInteger(petEntry.getKey())) {
+                    continue;
                 }
+                final int petTemplateId = Integer.parseInt(petEntry.getKey());
+                suitablePets.add(petTemplateId);
+            }
+            if (!suitablePets.isEmpty()) {
+                petEquips.put(itemId, Collections.unmodifiableSet(suitablePets));
             }
         }
     }
 
-    private static void loadItemInfos(WzPackage source) throws ProviderError, IOException {
+    private static void loadItemInfos(WzPackage source, IntMap.Builder<ItemInfo> itemInfoBuilder) throws ProviderError, IOException {
         for (String directoryName : ITEM_TYPES) {
             final WzDirectory directory = source.getDirectory().getDirectories().get(directoryName);
             if (directory == null) {
@@ -135,7 +159,7 @@ public final class ItemProvider implements WzProvider {
                     if (!(entry.getValue() instanceof WzListProperty itemProp)) {
                         throw new ProviderError("Failed to resolve item property");
                     }
-                    itemInfos.put(itemId, ItemInfo.from(itemId, itemProp));
+                    itemInfoBuilder.put(itemId, ItemInfo.from(itemId, itemProp));
                 }
             }
         }
@@ -144,7 +168,7 @@ public final class ItemProvider implements WzProvider {
         }
         for (var imageEntry : petDirectory.getImages().entrySet()) {
             final int itemId = Integer.parseInt(imageEntry.getKey().replace(".img", ""));
-            itemInfos.put(itemId, ItemInfo.from(itemId, imageEntry.getValue().getProperty()));
+            itemInfoBuilder.put(itemId, ItemInfo.from(itemId, imageEntry.getValue().getProperty()));
             // Pet interactions
             if (!(imageEntry.getValue().getProperty().get("interact") instanceof WzListProperty interactList)) {
                 continue;
@@ -6,6 +6,7 @@ import kinoko.provider.wz.property.WzListProperty;
 import kinoko.server.ServerConfig;
 import kinoko.server.ServerConstants;
 import kinoko.util.Crc32;
+import kinoko.util.IntMap;
 import kinoko.util.Rect;
 import kinoko.util.Tuple;
 import kinoko.world.GameConstants;
@@ -16,14 +17,14 @@ import java.util.*;
 
 public final class MapProvider implements WzProvider {
     public static final Path MAP_WZ = Path.of(ServerConfig.WZ_DIRECTORY, "Map.wz");
-    private static final Map<Integer, MapInfo> mapInfos = new HashMap<>();
+    private static IntMap<MapInfo> mapInfos = IntMap.empty();
     private static final Map<Integer, Integer> mapLinks = new HashMap<>();
     private static final Map<Integer, Integer> areaCodes = new HashMap<>(); // key -> category
     private static int crcConstant;
 
     public static void initialize() {
-        try (final WzReader reader = WzReader.build(MAP_WZ, new WzReaderConfig(WzConstants.WZ_GMS_IV, ServerConstants.GAME_VERSION))) {
-            final WzPackage wzPackage = reader.readPackage();
+        try {
+            final WzPackage wzPackage = WzSnapshot.readPackage(MAP_WZ, new WzReaderConfig(WzConstants.WZ_GMS_IV, ServerConstants.GAME_VERSION));
             loadPhysics(wzPackage);
             loadMapInfos(wzPackage);
             loadAreaCodes(wzPackage);
@@ -33,7 +34,7 @@ public final class MapProvider implements WzProvider {
     }
 
     public static List<MapInfo> getMapInfos() {
-        return mapInfos.values().stream().toList();
+        return mapInfos.values();
     }
 
     public static Optional<MapInfo> getMapInfo(int mapId) {
@@ -71,10 +72,12 @@ public final class MapProvider implements WzProvider {
     }
 
     private static void loadMapInfos(WzPackage source) throws ProviderError {
+        final IntMap.Builder<MapInfo> mapInfoBuilder = IntMap.builder();
         final Map<Integer, Tuple<Integer, WzListProperty>> linkedMaps = new HashMap<>(); // mapId -> link, info
         if (!(source.getDirectory().getDirectories().get("Map") instanceof WzDirectory mapDirectory)) {
             throw new ProviderError("Could not resolve Map.wz/Map");
         }
+        final List<Tuple<Integer, WzImage>> mapImages = new ArrayList<>(); // mapId, image
         for (var dirEntry : mapDirectory.getDirectories().entrySet()) {
             final String directoryName = dirEntry.getKey();
             if (!directoryName.matches("Map[0-9]")) {
@@ -90,20 +93,29 @@ public final class MapProvider implements WzProvider {
                     linkedMaps.put(mapId, Tuple.of(WzProvider.getInteger(infoProp.get("link")), infoProp));
                     continue;
                 }
-                final boolean clock = mapEntry.getValue().getProperty().getItems().containsKey("clock");
-                final MapInfo mapInfo = resolveMapInfo(mapId, mapEntry.getValue(), infoProp, clock);
-                mapInfos.put(mapId, mapInfo);
+                mapImages.add(Tuple.of(mapId, mapEntry.getValue()));
             }
         }
+        // Resolve map infos in parallel, the results are in the same order as the map images
+        final List<MapInfo> resolvedMapInfos = mapImages.parallelStream()
+                .map((tuple) -> {
+                    final WzImage image = tuple.getRight();
+                    final boolean clock = image.getProperty().getItems().containsKey("clock");
+                    return resolveMapInfo(tuple.getLeft(), image, image.getProperty().get("info"), clock);
+                })
+                .toList();
+        for (MapInfo mapInfo : resolvedMapInfos) {
+            mapInfoBuilder.put(mapInfo.getMapId(), mapInfo);
+        }
         // Process linked maps
         for (var linkEntry : linkedMaps.entrySet()) {
             final int mapId = linkEntry.getKey();
             final int link = linkEntry.getValue().getLeft();
-            final MapInfo linkInfo = mapInfos.get(link);
+            final MapInfo linkInfo = mapInfoBuilder.get(link);
             if (linkInfo == null) {
                 throw new ProviderError("Failed to resolve linked map ID : %d, link : %d", mapId, link);
             }
-            mapInfos.put(mapId, MapInfo.from(
+            mapInfoBuilder.put(mapId, MapInfo.from(
                     mapId,
                     linkEntry.getValue().getRight(),
                     linkInfo.getAreas(),
@@ -116,6 +128,7 @@ public final class MapProvider implements WzProvider {
             ));
             mapLinks.put(mapId, link);
         }
+        mapInfos = mapInfoBuilder.build();
     }
 
     private static MapInfo resolveMapInfo(int mapId, WzImage image, WzListProperty infoProp, boolean clock) throws ProviderError {
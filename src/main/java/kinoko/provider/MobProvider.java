@@ -5,6 +5,7 @@ import kinoko.provider.wz.*;
 import kinoko.provider.wz.property.WzListProperty;
 import kinoko.server.ServerConfig;
 import kinoko.server.ServerConstants;
+import kinoko.util.IntMap;
 import kinoko.util.Tuple;
 
 import java.io.IOException;
@@ -13,12 +14,12 @@ import java.util.*;
 
 public final class MobProvider implements WzProvider {
     public static final Path MOB_WZ = Path.of(ServerConfig.WZ_DIRECTORY, "Mob.wz");
-    private static final Map<Integer, MobTemplate> mobTemplates = new HashMap<>();
+    private static IntMap<MobTemplate> mobTemplates = IntMap.empty();
     private static final Map<Integer, Set<Integer>> questCountGroups = new HashMap<>();
 
     public static void initialize() {
-        try (final WzReader reader = WzReader.build(MOB_WZ, new WzReaderConfig(WzConstants.WZ_GMS_IV, ServerConstants.GAME_VERSION))) {
-            final WzPackage wzPackage = reader.readPackage();
+        try {
+            final WzPackage wzPackage = WzSnapshot.readPackage(MOB_WZ, new WzReaderConfig(WzConstants.WZ_GMS_IV, ServerConstants.GAME_VERSION));
             loadMobTemplates(wzPackage);
             loadQuestCountGroups(wzPackage);
         } catch (IOException | ProviderError e) {
@@ -35,6 +36,7 @@ public final class MobProvider implements WzProvider {
     }
 
     private static void loadMobTemplates(WzPackage source) throws ProviderError {
+        final IntMap.Builder<MobTemplate> mobTemplateBuilder = IntMap.builder();
         final Map<Integer, WzListProperty> mobProperties = new HashMap<>(); // mobId -> mobProperty
         final Map<Integer, Tuple<Integer, WzListProperty>> linkedMobs = new HashMap<>(); // mobId -> link, infoProp
         for (var mobEntry : source.getDirectory().getImages().entrySet()) {
@@ -48,7 +50,7 @@ public final class MobProvider implements WzProvider {
                 continue;
             }
             mobProperties.put(mobId, mobProperty);
-            mobTemplates.put(mobId, MobTemplate.from(mobId, mobProperty, infoProp));
+            mobTemplateBuilder.put(mobId, MobTemplate.from(mobId, mobProperty, infoProp));
         }
         // Process linked mobs
         for (var linkEntry : linkedMobs.entrySet()) {
@@ -63,16 +65,17 @@ public final class MobProvider implements WzProvider {
                 throw new ProviderError("Failed to resolve linked mob ID : %d, link : %d", mobId, link);
             }
             final WzListProperty infoProp = linkEntry.getValue().getRight();
-            mobTemplates.put(mobId, MobTemplate.from(mobId, linkProp, infoProp));
+            mobTemplateBuilder.put(mobId, MobTemplate.from(mobId, linkProp, infoProp));
         }
         // Validate mobs
-        for (MobTemplate mobTemplate : mobTemplates.values()) {
+        for (MobTemplate mobTemplate : mobTemplateBuilder.values()) {
             for (int reviveId : mobTemplate.getRevives()) {
-                if (getMobTemplate(reviveId).isEmpty()) {
+                if (mobTemplateBuilder.get(reviveId) == null) {
                     throw new ProviderError("Failed to resolve revive ID : %d for mob template ID : %d", reviveId, mobTemplate.getId());
                 }
             }
         }
+        mobTemplates = mobTemplateBuilder.build();
     }
 
     private static void loadQuestCountGroups(WzPackage source) throws ProviderError {
@@ -4,8 +4,8 @@ import kinoko.provider.npc.NpcImitateData;
 import kinoko.provider.npc.NpcTemplate;
 import kinoko.provider.wz.WzConstants;
 import kinoko.provider.wz.WzPackage;
-import kinoko.provider.wz.WzReader;
 import kinoko.provider.wz.WzReaderConfig;
+import kinoko.provider.wz.WzSnapshot;
 import kinoko.provider.wz.property.WzListProperty;
 import kinoko.server.ServerConfig;
 import kinoko.server.ServerConstants;
@@ -26,8 +26,8 @@ public final class NpcProvider implements WzProvider {
     );
 
     public static void initialize() {
-        try (final WzReader reader = WzReader.build(NPC_WZ, new WzReaderConfig(WzConstants.WZ_GMS_IV, ServerConstants.GAME_VERSION))) {
-            final WzPackage wzPackage = reader.readPackage();
+        try {
+            final WzPackage wzPackage = WzSnapshot.readPackage(NPC_WZ, new WzReaderConfig(WzConstants.WZ_GMS_IV, ServerConstants.GAME_VERSION));
             loadNpcTemplates(wzPackage);
         } catch (IOException | ProviderError e) {
             throw new IllegalArgumentException("Exception caught while loading Npc.wz", e);
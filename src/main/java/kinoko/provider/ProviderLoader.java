@@ -0,0 +1,91 @@
+package kinoko.provider;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Loads providers in parallel while respecting the dependencies between them. A provider is started as soon as all of
+ * its dependencies have been loaded, so the total load time is bound by the longest dependency chain instead of the sum
+ * of all providers. Providers are loaded on a {@link ForkJoinPool}, which is also used by any parallel streams within the
+ * providers.
+ */
+public final class ProviderLoader {
+    private static final Logger log = LogManager.getLogger(ProviderLoader.class);
+    private final Map<String, ProviderTask> tasks = new LinkedHashMap<>();
+
+    /**
+     * Adds a provider to be loaded, dependencies must be added before the providers that depend on them.
+     */
+    public ProviderLoader add(String name, Runnable loader, String... dependencies) {
+        if (tasks.containsKey(name)) {
+            throw new IllegalArgumentException(String.format("Duplicate provider %s", name));
+        }
+        for (String dependency : dependencies) {
+            if (!tasks.containsKey(dependency)) {
+                throw new IllegalArgumentException(String.format("Unknown dependency %s for provider %s", dependency, name));
+            }
+        }
+        tasks.put(name, new ProviderTask(name, loader, List.of(dependencies)));
+        return this;
+    }
+
+    /**
+     * Loads all providers and waits for them to complete, rethrowing the first exception caught while loading. Providers
+     * depending on a failed provider are not loaded.
+     *
+     * @param parallelism number of providers and parallel stream tasks executed at the same time.
+     * @return load time of each provider in milliseconds, in the order they were added.
+     */
+    public Map<String, Long> load(int parallelism) {
+        final ForkJoinPool pool = new ForkJoinPool(parallelism);
+        try {
+            final Map<String, CompletableFuture<Long>> futures = new LinkedHashMap<>();
+            for (ProviderTask task : tasks.values()) {
+                final CompletableFuture<?>[] dependencyFutures = task.dependencies.stream()
+                        .map(futures::get)
+                        .toArray(CompletableFuture[]::new);
+                futures.put(task.name, CompletableFuture.allOf(dependencyFutures).thenApplyAsync((ignored) -> task.run(), pool));
+            }
+            final Map<String, Long> timings = new LinkedHashMap<>();
+            for (var entry : futures.entrySet()) {
+                timings.put(entry.getKey(), entry.getValue().join());
+            }
+            return timings;
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            } else if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw e;
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    private static final class ProviderTask {
+        private final String name;
+        private final Runnable loader;
+        private final List<String> dependencies;
+
+        private ProviderTask(String name, Runnable loader, List<String> dependencies) {
+            this.name = name;
+            this.loader = loader;
+            this.dependencies = dependencies;
+        }
+
+        private long run() {
+            final long start = System.nanoTime();
+            loader.run();
+            final long duration = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+            log.info("Loaded {} in {} milliseconds", name, duration);
+            return duration;
+        }
+    }
+}
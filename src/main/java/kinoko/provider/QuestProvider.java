@@ -1,43 +1,54 @@
 package kinoko.provider;
 
 import kinoko.provider.quest.QuestInfo;
+import kinoko.provider.quest.QuestMobData;
+import kinoko.provider.quest.check.QuestMobCheck;
 import kinoko.provider.wz.*;
 import kinoko.provider.wz.property.WzListProperty;
 import kinoko.server.ServerConfig;
 import kinoko.server.ServerConstants;
+import kinoko.util.IntMap;
 
 import java.io.IOException;
 import java.nio.file.Path;
-import java.util.HashMap;
-import java.util.List;
-import java.util.Map;
-import java.util.Optional;
+import java.util.*;
 
 public final class QuestProvider implements WzProvider {
     public static final Path QUEST_WZ = Path.of(ServerConfig.WZ_DIRECTORY, "Quest.wz");
-    private static final Map<Integer, QuestInfo> questInfos = new HashMap<>();
+    private static final int[] EMPTY_QUEST_IDS = new int[0];
+    private static IntMap<QuestInfo> questInfos = IntMap.empty();
+    private static IntMap<int[]> mobQuestIds = IntMap.empty(); // mob id -> sorted quest ids
 
     public static void initialize() {
-        try (final WzReader reader = WzReader.build(QUEST_WZ, new WzReaderConfig(WzConstants.WZ_GMS_IV, ServerConstants.GAME_VERSION))) {
-            final WzPackage wzPackage = reader.readPackage();
+        try {
+            final WzPackage wzPackage = WzSnapshot.readPackage(QUEST_WZ, new WzReaderConfig(WzConstants.WZ_GMS_IV, ServerConstants.GAME_VERSION));
             loadQuestInfos(wzPackage);
+            loadMobQuestIds();
         } catch (IOException | ProviderError e) {
             throw new IllegalArgumentException("Exception caught while loading Quest.wz", e);
         }
     }
 
     public static List<QuestInfo> getQuestInfos() {
-        return questInfos.values().stream().toList();
+        return questInfos.values();
     }
 
     public static Optional<QuestInfo> getQuestInfo(int questId) {
         return Optional.ofNullable(questInfos.get(questId));
     }
 
+    /**
+     * @return sorted IDs of the quests with a mob check that counts the mob, the array should not be modified.
+     */
+    public static int[] getMobQuestIds(int mobId) {
+        return mobQuestIds.getOrDefault(mobId, EMPTY_QUEST_IDS);
+    }
+
     private static void loadQuestInfos(WzPackage source) throws ProviderError {
         final WzImage infoImage = source.getDirectory().getImages().get("QuestInfo.img");
         final WzImage actImage = source.getDirectory().getImages().get("Act.img");
         final WzImage checkImage = source.getDirectory().getImages().get("Check.img");
+        final IntMap.Builder<QuestInfo> questInfoBuilder = IntMap.builder();
         for (var entry : infoImage.getProperty().getItems().entrySet()) {
             final int questId = Integer.parseInt(entry.getKey());
             if (!(entry.getValue() instanceof WzListProperty infoProp)) {
@@ -49,7 +60,30 @@ public final class QuestProvider implements WzProvider {
                     actImage.getProperty().get(entry.getKey()),
                     checkImage.getProperty().get(entry.getKey())
             );
-            questInfos.put(questId, questInfo);
+            questInfoBuilder.put(questId, questInfo);
+        }
+        questInfos = questInfoBuilder.build();
+    }
+
+    private static void loadMobQuestIds() {
+        // Mobs in a quest count group are counted for the quests of the group's mob, requires MobProvider
+        final Map<Integer, Set<Integer>> mobQuests = new HashMap<>();
+        for (QuestInfo questInfo : questInfos.values()) {
+            final Optional<QuestMobCheck> mobCheckResult = questInfo.getMobCheck();
+            if (mobCheckResult.isEmpty()) {
+                continue;
+            }
+            for (QuestMobData mobData : mobCheckResult.get().getMobs()) {
+                mobQuests.computeIfAbsent(mobData.getMobId(), (key) -> new TreeSet<>()).add(questInfo.getQuestId());
+                for (int mobId : MobProvider.getQuestCountGroup(mobData.getMobId())) {
+                    mobQuests.computeIfAbsent(mobId, (key) -> new TreeSet<>()).add(questInfo.getQuestId());
+                }
+            }
+        }
+        final IntMap.Builder<int[]> mobQuestIdBuilder = IntMap.builder();
+        for (var entry : mobQuests.entrySet()) {
+            mobQuestIdBuilder.put(entry.getKey(), entry.getValue().stream().mapToInt(Integer::intValue).toArray());
         }
+        mobQuestIds = mobQuestIdBuilder.build();
     }
 }
@@ -3,8 +3,8 @@ package kinoko.provider;
 import kinoko.provider.reactor.ReactorTemplate;
 import kinoko.provider.wz.WzConstants;
 import kinoko.provider.wz.WzPackage;
-import kinoko.provider.wz.WzReader;
 import kinoko.provider.wz.WzReaderConfig;
+import kinoko.provider.wz.WzSnapshot;
 import kinoko.provider.wz.property.WzListProperty;
 import kinoko.server.ServerConfig;
 import kinoko.server.ServerConstants;
@@ -23,8 +23,8 @@ public final class ReactorProvider implements WzProvider {
     private static final Map<Integer, ReactorTemplate> reactorTemplates = new HashMap<>();
 
     public static void initialize() {
-        try (final WzReader reader = WzReader.build(REACTOR_WZ, new WzReaderConfig(WzConstants.WZ_GMS_IV, ServerConstants.GAME_VERSION))) {
-            final WzPackage wzPackage = reader.readPackage();
+        try {
+            final WzPackage wzPackage = WzSnapshot.readPackage(REACTOR_WZ, new WzReaderConfig(WzConstants.WZ_GMS_IV, ServerConstants.GAME_VERSION));
             loadReactorTemplates(wzPackage);
         } catch (IOException | ProviderError e) {
             throw new IllegalArgumentException("Exception caught while loading Reactor.wz", e);
@@ -2,6 +2,7 @@ package kinoko.provider;
 
 import kinoko.provider.reward.Reward;
 import kinoko.server.ServerConfig;
+import kinoko.util.IntMap;
 import org.snakeyaml.engine.v2.api.Load;
 import org.snakeyaml.engine.v2.api.LoadSettings;
 
@@ -14,9 +15,10 @@ import java.util.stream.Stream;
 
 public final class RewardProvider implements DataProvider {
     public static final Path REWARD_DATA = Path.of(ServerConfig.DATA_DIRECTORY, "reward");
-    private static final Map<Integer, List<Reward>> mobRewards = new HashMap<>(); // mobId -> rewards
+    private static volatile IntMap<List<Reward>> mobRewards = IntMap.empty(); // mobId -> rewards
 
     public static void initialize() {
+        final IntMap.Builder<List<Reward>> mobRewardBuilder = IntMap.builder();
         final Load yamlLoader = new Load(LoadSettings.builder().build());
         try (final Stream<Path> paths = Files.list(REWARD_DATA)) {
             for (Path path : paths.toList()) {
@@ -26,19 +28,21 @@ public final class RewardProvider implements DataProvider {
                 }
                 final int mobId = Integer.parseInt(fileName.replace(".yaml", ""));
                 try (final InputStream is = Files.newInputStream(path)) {
-                    loadMobRewards(mobId, yamlLoader.loadFromInputStream(is));
+                    loadMobRewards(mobRewardBuilder, mobId, yamlLoader.loadFromInputStream(is));
                 }
             }
         } catch (IOException e) {
             throw new IllegalArgumentException("Exception caught while loading Reward Data", e);
         }
+        // Replaced atomically, as the rewards may be reloaded while in use
+        mobRewards = mobRewardBuilder.build();
     }
 
     public static List<Reward> getMobRewards(int mobId) {
         return mobRewards.getOrDefault(mobId, List.of());
     }
 
-    private static void loadMobRewards(int mobId, Object yamlObject) throws ProviderError {
+    private static void loadMobRewards(IntMap.Builder<List<Reward>> mobRewardBuilder, int mobId, Object yamlObject) throws ProviderError {
         if (!(yamlObject instanceof Map<?, ?> rewardData)) {
             throw new ProviderError("Could not resolve reward data for mob ID : %d", mobId);
         }
@@ -58,6 +62,6 @@ public final class RewardProvider implements DataProvider {
             final int questId = rewardInfo.size() > 4 ? ((Number) rewardInfo.get(4)).intValue() : 0;
             rewards.add(Reward.item(itemId, min, max, prob, questId));
         }
-        mobRewards.put(mobId, Collections.unmodifiableList(rewards));
+        mobRewardBuilder.put(mobId, Collections.unmodifiableList(rewards));
     }
 }
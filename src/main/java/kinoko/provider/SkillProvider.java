@@ -6,11 +6,12 @@ import kinoko.provider.skill.SkillInfo;
 import kinoko.provider.skill.SummonInfo;
 import kinoko.provider.wz.WzConstants;
 import kinoko.provider.wz.WzPackage;
-import kinoko.provider.wz.WzReader;
 import kinoko.provider.wz.WzReaderConfig;
+import kinoko.provider.wz.WzSnapshot;
 import kinoko.provider.wz.property.WzListProperty;
 import kinoko.server.ServerConfig;
 import kinoko.server.ServerConstants;
+import kinoko.util.IntMap;
 import kinoko.world.job.Job;
 
 import java.io.IOException;
@@ -21,23 +22,23 @@ public final class SkillProvider implements WzProvider {
     public static final Path SKILL_WZ = Path.of(ServerConfig.WZ_DIRECTORY, "Skill.wz");
     public static final Path MORPH_WZ = Path.of(ServerConfig.WZ_DIRECTORY, "Morph.wz");
     private static final Map<Job, List<SkillInfo>> jobSkills = new EnumMap<>(Job.class);
-    private static final Map<Integer, SkillInfo> skillInfos = new HashMap<>();
-    private static final Map<Integer, SkillInfo> mobSkills = new HashMap<>();
+    private static IntMap<SkillInfo> skillInfos = IntMap.empty();
+    private static IntMap<SkillInfo> mobSkills = IntMap.empty();
     private static final Map<Integer, SummonInfo> mobSummons = new HashMap<>(); // skill level -> summon info
     private static final Map<Integer, MorphInfo> morphInfos = new HashMap<>();
 
     public static void initialize() {
         // Skill.wz
-        try (final WzReader reader = WzReader.build(SKILL_WZ, new WzReaderConfig(WzConstants.WZ_GMS_IV, ServerConstants.GAME_VERSION))) {
-            final WzPackage wzPackage = reader.readPackage();
+        try {
+            final WzPackage wzPackage = WzSnapshot.readPackage(SKILL_WZ, new WzReaderConfig(WzConstants.WZ_GMS_IV, ServerConstants.GAME_VERSION));
             loadSkillInfos(wzPackage);
             loadMobSkills(wzPackage);
         } catch (IOException | ProviderError e) {
             throw new IllegalArgumentException("Exception caught while loading Skill.wz", e);
         }
         // Morph.wz
-        try (final WzReader reader = WzReader.build(MORPH_WZ, new WzReaderConfig(WzConstants.WZ_GMS_IV, ServerConstants.GAME_VERSION))) {
-            final WzPackage wzPackage = reader.readPackage();
+        try {
+            final WzPackage wzPackage = WzSnapshot.readPackage(MORPH_WZ, new WzReaderConfig(WzConstants.WZ_GMS_IV, ServerConstants.GAME_VERSION));
             loadMorphInfos(wzPackage);
         } catch (IOException | ProviderError e) {
             throw new IllegalArgumentException("Exception caught while loading Morph.wz", e);
@@ -52,6 +53,13 @@ public final class SkillProvider implements WzProvider {
         return Optional.ofNullable(skillInfos.get(skillId));
     }
 
+    /**
+     * Variant of {@link #getSkillInfoById} for stat calculations, which returns null instead of allocating an Optional.
+     */
+    public static SkillInfo getSkillInfoOrNull(int skillId) {
+        return skillInfos.get(skillId);
+    }
+
     public static Optional<SkillInfo> getMobSkillInfoById(int skillId) {
         return Optional.ofNullable(mobSkills.get(skillId));
     }
@@ -65,6 +73,7 @@ public final class SkillProvider implements WzProvider {
     }
 
     private static void loadSkillInfos(WzPackage source) throws ProviderError {
+        final IntMap.Builder<SkillInfo> skillInfoBuilder = IntMap.builder();
         for (var imageEntry : source.getDirectory().getImages().entrySet()) {
             final String imageName = imageEntry.getKey().replace(".img", "");
             if (!imageName.matches("[0-9]+")) {
@@ -86,22 +95,24 @@ public final class SkillProvider implements WzProvider {
                     jobSkills.put(job, new ArrayList<>());
                 }
                 jobSkills.get(job).add(skillInfo);
-                skillInfos.put(skillId, skillInfo);
+                skillInfoBuilder.put(skillId, skillInfo);
             }
         }
+        skillInfos = skillInfoBuilder.build();
     }
 
     private static void loadMobSkills(WzPackage source) throws ProviderError {
         if (!source.getDirectory().getImages().containsKey("MobSkill.img")) {
             throw new ProviderError("Failed to resolve MobSkill.img");
         }
+        final IntMap.Builder<SkillInfo> mobSkillBuilder = IntMap.builder();
         for (var entry : source.getDirectory().getImages().get("MobSkill.img").getProperty().getItems().entrySet()) {
             if (!(entry.getValue() instanceof WzListProperty skillProp)) {
                 throw new ProviderError("Failed to resolve mob skill property");
             }
             final int skillId = Integer.parseInt(entry.getKey());
             final SkillInfo skillInfo = SkillInfo.from(skillId, skillProp);
-            mobSkills.put(skillId, skillInfo);
+            mobSkillBuilder.put(skillId, skillInfo);
             if (skillId != MobSkillType.SUMMON.getId()) {
                 continue;
             }
@@ -123,6 +134,7 @@ public final class SkillProvider implements WzProvider {
                 mobSummons.put(slv, new SummonInfo(Collections.unmodifiableList(summons)));
             }
         }
+        mobSkills = mobSkillBuilder.build();
     }
 
     private static void loadMorphInfos(WzPackage source) throws ProviderError {
@@ -22,8 +22,8 @@ public final class StringProvider implements WzProvider {
     private static final Map<Integer, SkillStringInfo> skillStrings = new HashMap<>();
 
     public static void initialize() {
-        try (final WzReader reader = WzReader.build(STRING_WZ, new WzReaderConfig(WzConstants.WZ_GMS_IV, ServerConstants.GAME_VERSION))) {
-            final WzPackage wzPackage = reader.readPackage();
+        try {
+            final WzPackage wzPackage = WzSnapshot.readPackage(STRING_WZ, new WzReaderConfig(WzConstants.WZ_GMS_IV, ServerConstants.GAME_VERSION));
             loadItemNames(wzPackage);
             loadMapNames(wzPackage);
             loadMobNames(wzPackage);
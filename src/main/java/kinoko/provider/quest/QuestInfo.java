@@ -8,14 +8,12 @@ import kinoko.provider.quest.check.*;
 import kinoko.provider.wz.property.WzListProperty;
 import kinoko.util.Locked;
 import kinoko.util.Tuple;
-import kinoko.util.Util;
 import kinoko.world.quest.QuestManager;
 import kinoko.world.quest.QuestRecord;
 import kinoko.world.quest.QuestState;
 import kinoko.world.user.User;
 
 import java.util.*;
-import java.util.stream.Collectors;
 
 public final class QuestInfo {
     private final int questId;
@@ -29,6 +27,7 @@ public final class QuestInfo {
     private final List<QuestAct> completeActs;
     private final List<QuestCheck> startChecks;
     private final List<QuestCheck> completeChecks;
+    private final QuestMobCheck mobCheck;
 
     public QuestInfo(int questId, String questName, String questParent, int questArea, int nextQuest, boolean autoStart, boolean autoComplete, List<QuestAct> startActs, List<QuestAct> completeActs, List<QuestCheck> startChecks, List<QuestCheck> completeChecks) {
         this.questId = questId;
@@ -42,6 +41,10 @@ public final class QuestInfo {
         this.completeActs = completeActs;
         this.startChecks = startChecks;
         this.completeChecks = completeChecks;
+        this.mobCheck = (QuestMobCheck) completeChecks.stream()
+                .filter((check) -> check instanceof QuestMobCheck)
+                .findFirst()
+                .orElse(null);
     }
 
     public int getQuestId() {
@@ -88,6 +91,10 @@ public final class QuestInfo {
         return completeChecks;
     }
 
+    public Optional<QuestMobCheck> getMobCheck() {
+        return Optional.ofNullable(mobCheck);
+    }
+
     public boolean isAutoAlert() {
         return autoStart || autoComplete;
     }
@@ -213,54 +220,30 @@ public final class QuestInfo {
     }
 
     public Optional<QuestRecord> progressQuest(QuestRecord questRecord, int mobId) {
-        // Check that the quest has been started
-        if (questRecord.getState() != QuestState.PERFORM) {
+        // Check that the quest has been started and is relevant for the mob
+        if (questRecord.getState() != QuestState.PERFORM || mobCheck == null) {
             return Optional.empty();
         }
-        // Check if the quest is relevant for the mob
-        final Optional<QuestCheck> mobCheckResult = getCompleteChecks().stream()
-                .filter((check) -> check instanceof QuestMobCheck)
-                .findFirst();
-        if (mobCheckResult.isEmpty()) {
-            return Optional.empty();
-        }
-        final QuestMobCheck mobCheck = (QuestMobCheck) mobCheckResult.get();
-        if (mobCheck.getMobs().stream().noneMatch((mobData) -> mobData.isMatch(mobId))) {
-            return Optional.empty();
-        }
-        // Get current progress
-        final int[] progress = new int[mobCheck.getMobs().size()];
-        final String qrValue = questRecord.getValue();
-        if (qrValue != null && !qrValue.isEmpty()) {
-            // Split qrValue string every 3 characters to get current mob count
-            for (int c = 0; c < qrValue.length(); c += 3) {
-                final int countIndex = c / 3;
-                if (countIndex >= progress.length) {
-                    break;
-                }
-                final String countValue = qrValue.substring(c, Math.min(c + 3, qrValue.length()));
-                if (!Util.isInteger(countValue)) {
-                    continue;
-                }
-                progress[countIndex] = Integer.parseInt(countValue);
-            }
-        }
         // Increment progress
-        for (int i = 0; i < mobCheck.getMobs().size(); i++) {
-            final QuestMobData mobData = mobCheck.getMobs().get(i);
-            if (mobData.isMatch(mobId)) {
-                progress[i] = Math.min(progress[i] + 1, mobData.getCount());
+        final List<QuestMobData> mobs = mobCheck.getMobs();
+        final int[] progress = questRecord.getMobCounts(mobs.size());
+        boolean progressed = false;
+        for (int i = 0; i < mobs.size(); i++) {
+            final QuestMobData mobData = mobs.get(i);
+            if (!mobData.isMatch(mobId)) {
+                continue;
+            }
+            final int newCount = Math.min(progress[i] + 1, mobData.getCount());
+            if (newCount != progress[i]) {
+                progress[i] = newCount;
+                progressed = true;
             }
         }
-        // Check if quest record needs to be updated
-        final String newQrValue = Arrays.stream(progress)
-                .mapToObj((count) -> String.format("%03d", Math.min(count, 999)))
-                .collect(Collectors.joining());
-        if (newQrValue.equals(questRecord.getValue())) {
+        if (!progressed) {
             return Optional.empty();
         }
         // Update quest record and return
-        questRecord.setValue(newQrValue);
+        questRecord.setMobCounts(progress);
         return Optional.of(questRecord);
     }
 
@@ -15,10 +15,14 @@ import java.util.stream.Collectors;
 public final class QuestMobCheck implements QuestCheck {
     private final int questId;
     private final List<QuestMobData> mobs; // sorted by order
+    private final String requiredValue;
 
     public QuestMobCheck(int questId, List<QuestMobData> mobs) {
         this.questId = questId;
         this.mobs = mobs;
+        this.requiredValue = mobs.stream()
+                .map((mobData) -> String.format("%03d", mobData.getCount()))
+                .collect(Collectors.joining());
     }
 
     public List<QuestMobData> getMobs() {
@@ -36,9 +40,6 @@ public final class QuestMobCheck implements QuestCheck {
         if (qrValue == null || qrValue.isEmpty()) {
             return false;
         }
-        final String requiredValue = mobs.stream()
-                .map((mobData) -> String.format("%03d", mobData.getCount()))
-                .collect(Collectors.joining());
         return qrValue.equals(requiredValue);
     }
 
@@ -22,7 +22,7 @@ public final class WzCrypto {
     }
 
     public void cryptAscii(byte[] data) {
-        ensureSize(data.length);
+        final byte[] cipherMask = ensureSize(data.length);
         byte mask = (byte) 0xAA;
         for (int i = 0; i < data.length; i++) {
             data[i] = (byte) (data[i] ^ cipherMask[i] ^ mask);
@@ -31,7 +31,7 @@ public final class WzCrypto {
     }
 
     public void cryptUnicode(byte[] data) {
-        ensureSize(data.length);
+        final byte[] cipherMask = ensureSize(data.length);
         short mask = (short) 0xAAAA;
         for (int i = 0; i < data.length; i += 2) {
             data[i] = (byte) (data[i] ^ cipherMask[i] ^ (mask & 0xFF));
@@ -40,10 +40,10 @@ public final class WzCrypto {
         }
     }
 
-    private synchronized void ensureSize(int size) {
+    private synchronized byte[] ensureSize(int size) {
         final int curSize = cipherMask.length;
         if (curSize >= size) {
-            return;
+            return cipherMask;
         }
         final int newSize = ((size / BATCH_SIZE) + 1) * BATCH_SIZE;
         final byte[] newMask = new byte[newSize];
@@ -61,6 +61,7 @@ public final class WzCrypto {
         }
 
         this.cipherMask = newMask;
+        return newMask;
     }
 
     public static WzCrypto fromIv(byte[] iv) {
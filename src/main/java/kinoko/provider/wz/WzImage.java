@@ -1,13 +1,24 @@
 package kinoko.provider.wz;
 
 import kinoko.provider.wz.property.WzListProperty;
+import kinoko.server.ServerConfig;
 
+import java.lang.ref.SoftReference;
+import java.util.function.Function;
+
+/**
+ * Image within a WZ package, the property tree is parsed from the package buffer on first access. Parsed trees are held
+ * by a soft reference so that they can be reclaimed under memory pressure once the providers have resolved their data,
+ * and are parsed again if accessed afterwards.
+ */
 public final class WzImage {
     private final int offset;
-    private WzListProperty property;
+    private final Function<WzImage, WzListProperty> parser;
+    private volatile SoftReference<WzListProperty> cachedProperty;
 
-    public WzImage(int offset) {
+    public WzImage(int offset, Function<WzImage, WzListProperty> parser) {
         this.offset = offset;
+        this.parser = parser;
     }
 
     public int getOffset() {
@@ -15,10 +26,15 @@ public final class WzImage {
     }
 
     public WzListProperty getProperty() {
+        final SoftReference<WzListProperty> reference = cachedProperty;
+        WzListProperty property = reference != null ? reference.get() : null;
+        if (property == null) {
+            // Concurrent accesses may parse the image more than once, which is harmless as the trees are immutable
+            property = parser.apply(this);
+            if (ServerConfig.WZ_IMAGE_CACHE) {
+                cachedProperty = new SoftReference<>(property);
+            }
+        }
         return property;
     }
-
-    public void setProperty(WzListProperty property) {
-        this.property = property;
-    }
 }
@@ -12,8 +12,10 @@ import java.nio.channels.FileChannel;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Path;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 
 public final class WzReader implements AutoCloseable {
+    private final Map<String, String> strings = new ConcurrentHashMap<>(); // deduplicated keys and values of the package
     private final RandomAccessFile file;
     private final FileChannel channel;
     private final WzReaderConfig config;
@@ -68,7 +70,7 @@ public final class WzReader implements AutoCloseable {
                 final byte[] data = new byte[length];
                 buffer.get(data);
                 crypto.cryptAscii(data);
-                return new String(data, StandardCharsets.US_ASCII);
+                return deduplicate(new String(data, StandardCharsets.US_ASCII));
             }
         } else if (length > 0) {
             if (length == Byte.MAX_VALUE) {
@@ -79,12 +81,17 @@ public final class WzReader implements AutoCloseable {
                 final byte[] data = new byte[length];
                 buffer.get(data);
                 crypto.cryptUnicode(data);
-                return new String(data, StandardCharsets.UTF_16LE);
+                return deduplicate(new String(data, StandardCharsets.UTF_16LE));
             }
         }
         return "";
     }
 
+    private String deduplicate(String string) {
+        final String existing = strings.putIfAbsent(string, string);
+        return existing != null ? existing : string;
+    }
+
     private String readStringBlock(WzImage image, ByteBuffer buffer) throws WzReaderError {
         final byte stringType = buffer.get();
         switch (stringType) {
@@ -187,18 +194,23 @@ public final class WzReader implements AutoCloseable {
             if (childType == 3) {
                 directories.put(childName, readDirectory(parent, buffer));
             } else if (childType == 4) {
-                final WzImage image = new WzImage(childOffset);
-                if (!(readProperty(image, buffer) instanceof WzListProperty listProperty)) {
-                    throw new WzReaderError("Image property is not a list");
-                }
-                image.setProperty(listProperty);
-                images.put(childName, image);
+                images.put(childName, new WzImage(childOffset, (image) -> readImage(image, buffer)));
             }
             buffer.position(originalPosition);
         }
         return new WzDirectory(directories, images);
     }
 
+    public WzListProperty readImage(WzImage image, ByteBuffer buffer) throws WzReaderError {
+        // Images are parsed lazily and possibly concurrently, each parse requires its own buffer position
+        final ByteBuffer imageBuffer = buffer.duplicate().order(ByteOrder.LITTLE_ENDIAN);
+        imageBuffer.position(image.getOffset());
+        if (!(readProperty(image, imageBuffer) instanceof WzListProperty listProperty)) {
+            throw new WzReaderError("Image property is not a list");
+        }
+        return listProperty;
+    }
+
     public WzProperty readProperty(WzImage image, ByteBuffer buffer) throws WzReaderError {
         final String propertyTypeId = readStringBlock(image, buffer);
         final WzPropertyType propertyType = WzPropertyType.getById(propertyTypeId);
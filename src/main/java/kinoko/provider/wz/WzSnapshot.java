@@ -0,0 +1,425 @@
+package kinoko.provider.wz;
+
+import kinoko.provider.wz.property.*;
+import kinoko.server.ServerConfig;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.*;
+import java.util.zip.CRC32C;
+
+/**
+ * Compiled snapshot of a WZ package, containing the decrypted property trees of every image. Snapshots are written after
+ * a WZ file is parsed and read with a memory-mapped buffer on later starts, which skips the decryption and offset
+ * decoding of the WZ format. Images are length prefixed so that they are parsed lazily like images read from the WZ
+ * file. Canvas and sound data is not used by the server and is omitted from the snapshot.
+ * <p>
+ * A snapshot is only used if the size and modification time of the WZ file match the values recorded when the snapshot
+ * was written, as well as the snapshot format version and the reader config. If only the modification time differs, the
+ * checksum of the WZ file is compared instead and the snapshot is kept if the contents are unchanged.
+ */
+public final class WzSnapshot {
+    public static final Path SNAPSHOT_DIRECTORY = Path.of(ServerConfig.DATA_DIRECTORY, "snapshot");
+    private static final Logger log = LogManager.getLogger(WzSnapshot.class);
+    private static final int SNAPSHOT_MAGIC = 0x4B575A53; // KWZS
+    private static final int SNAPSHOT_VERSION = 2;
+    private static final int CHECKSUM_BUFFER_SIZE = 1 << 20;
+    private static final ByteBuffer EMPTY_BUFFER = ByteBuffer.allocate(0);
+
+    private static final byte TYPE_NULL = 0;
+    private static final byte TYPE_SHORT = 1;
+    private static final byte TYPE_INT = 2;
+    private static final byte TYPE_LONG = 3;
+    private static final byte TYPE_FLOAT = 4;
+    private static final byte TYPE_DOUBLE = 5;
+    private static final byte TYPE_STRING = 6;
+    private static final byte TYPE_LIST = 7;
+    private static final byte TYPE_CANVAS = 8;
+    private static final byte TYPE_VECTOR = 9;
+    private static final byte TYPE_CONVEX = 10;
+    private static final byte TYPE_SOUND = 11;
+    private static final byte TYPE_UOL = 12;
+
+    /**
+     * Reads the WZ package from its snapshot if it is up to date, otherwise the WZ file is parsed and a new snapshot is
+     * written for the next start.
+     */
+    public static WzPackage readPackage(Path wzPath, WzReaderConfig config) throws IOException {
+        if (!ServerConfig.WZ_SNAPSHOT) {
+            try (final WzReader reader = WzReader.build(wzPath, config)) {
+                return reader.readPackage();
+            }
+        }
+        return readPackage(wzPath, SNAPSHOT_DIRECTORY.resolve(wzPath.getFileName() + ".snapshot"), config);
+    }
+
+    static WzPackage readPackage(Path wzPath, Path snapshotPath, WzReaderConfig config) throws IOException {
+        final SourceInfo sourceInfo = SourceInfo.from(wzPath);
+        if (Files.exists(snapshotPath)) {
+            try {
+                final Optional<WzPackage> snapshotResult = readSnapshot(snapshotPath, sourceInfo, config);
+                if (snapshotResult.isPresent()) {
+                    log.debug("Loaded {} from snapshot", wzPath.getFileName());
+                    return snapshotResult.get();
+                }
+                log.info("Snapshot of {} is outdated, reading WZ file", wzPath.getFileName());
+            } catch (IOException | RuntimeException e) {
+                log.warn("Failed to read snapshot of {}, reading WZ file", wzPath.getFileName(), e);
+            }
+        }
+        final WzPackage wzPackage;
+        try (final WzReader reader = WzReader.build(wzPath, config)) {
+            wzPackage = reader.readPackage();
+        }
+        try {
+            writeSnapshot(snapshotPath, sourceInfo, config, wzPackage);
+        } catch (IOException | RuntimeException e) {
+            log.warn("Failed to write snapshot of {}", wzPath.getFileName(), e);
+        }
+        return wzPackage;
+    }
+
+    private static Optional<WzPackage> readSnapshot(Path snapshotPath, SourceInfo sourceInfo, WzReaderConfig config) throws IOException {
+        final ByteBuffer buffer;
+        try (final FileChannel channel = FileChannel.open(snapshotPath, StandardOpenOption.READ)) {
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+        // Header
+        if (buffer.getInt() != SNAPSHOT_MAGIC || buffer.getInt() != SNAPSHOT_VERSION) {
+            return Optional.empty();
+        }
+        final int version = buffer.getInt();
+        final byte[] iv = new byte[buffer.getInt()];
+        buffer.get(iv);
+        if (version != config.getVersion() || !Arrays.equals(iv, config.getIv())) {
+            return Optional.empty();
+        }
+        final long size = buffer.getLong();
+        final int lastModifiedOffset = buffer.position();
+        final long lastModified = buffer.getLong();
+        final long checksum = buffer.getLong();
+        if (size != sourceInfo.size) {
+            return Optional.empty();
+        }
+        if (lastModified != sourceInfo.lastModified) {
+            // WZ file was touched or replaced by a file of the same size, compare the contents
+            if (checksum != sourceInfo.getChecksum()) {
+                return Optional.empty();
+            }
+            updateLastModified(snapshotPath, lastModifiedOffset, sourceInfo.lastModified);
+        }
+        final int start = buffer.getInt();
+        final int hash = buffer.getInt();
+        final int bodyOffset = buffer.position();
+        // String table
+        buffer.position(buffer.limit() - Integer.BYTES);
+        buffer.position(buffer.getInt());
+        final String[] strings = new String[buffer.getInt()];
+        for (int i = 0; i < strings.length; i++) {
+            final byte[] data = new byte[buffer.getInt()];
+            buffer.get(data);
+            strings[i] = new String(data, StandardCharsets.UTF_8);
+        }
+        // Body
+        buffer.position(bodyOffset);
+        final WzPackage wzPackage = new WzPackage(start, hash);
+        wzPackage.setDirectory(readDirectory(buffer, strings));
+        return Optional.of(wzPackage);
+    }
+
+    private static void updateLastModified(Path snapshotPath, int offset, long lastModified) {
+        // Record the new modification time so that the checksum is not computed again on the next start
+        try (final FileChannel channel = FileChannel.open(snapshotPath, StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.allocate(Long.BYTES).putLong(0, lastModified), offset);
+        } catch (IOException e) {
+            log.warn("Failed to update modification time of {}", snapshotPath.getFileName(), e);
+        }
+    }
+
+    private static WzDirectory readDirectory(ByteBuffer buffer, String[] strings) {
+        final int directoryCount = buffer.getInt();
+        final Map<String, WzDirectory> directories = new HashMap<>(directoryCount * 2);
+        for (int i = 0; i < directoryCount; i++) {
+            final String name = strings[buffer.getInt()];
+            directories.put(name, readDirectory(buffer, strings));
+        }
+        final int imageCount = buffer.getInt();
+        final Map<String, WzImage> images = new HashMap<>(imageCount * 2);
+        for (int i = 0; i < imageCount; i++) {
+            final String name = strings[buffer.getInt()];
+            final int offset = buffer.getInt();
+            final int length = buffer.getInt();
+            final int position = buffer.position();
+            images.put(name, new WzImage(offset, (image) -> readList(buffer.duplicate().position(position), strings)));
+            buffer.position(position + length);
+        }
+        return new WzDirectory(directories, images);
+    }
+
+    private static WzListProperty readList(ByteBuffer buffer, String[] strings) {
+        final int size = buffer.getInt();
+        final SequencedMap<String, Object> items = new LinkedHashMap<>(size * 2);
+        for (int i = 0; i < size; i++) {
+            final String key = strings[buffer.getInt()];
+            items.put(key, readValue(buffer, strings));
+        }
+        return WzListProperty.from(items);
+    }
+
+    private static Object readValue(ByteBuffer buffer, String[] strings) {
+        final byte type = buffer.get();
+        switch (type) {
+            case TYPE_NULL -> {
+                return null;
+            }
+            case TYPE_SHORT -> {
+                return buffer.getShort();
+            }
+            case TYPE_INT -> {
+                return buffer.getInt();
+            }
+            case TYPE_LONG -> {
+                return buffer.getLong();
+            }
+            case TYPE_FLOAT -> {
+                return buffer.getFloat();
+            }
+            case TYPE_DOUBLE -> {
+                return buffer.getDouble();
+            }
+            case TYPE_STRING -> {
+                return strings[buffer.getInt()];
+            }
+            case TYPE_LIST -> {
+                return readList(buffer, strings);
+            }
+            case TYPE_CANVAS -> {
+                final int width = buffer.getInt();
+                final int height = buffer.getInt();
+                final int format = buffer.getInt();
+                final int format2 = buffer.getInt();
+                return new WzCanvasProperty(readList(buffer, strings), width, height, format, format2, EMPTY_BUFFER);
+            }
+            case TYPE_VECTOR -> {
+                final int x = buffer.getInt();
+                final int y = buffer.getInt();
+                return new WzVectorProperty(x, y);
+            }
+            case TYPE_CONVEX -> {
+                final int size = buffer.getInt();
+                final List<WzProperty> properties = new ArrayList<>(size);
+                for (int i = 0; i < size; i++) {
+                    properties.add((WzProperty) readValue(buffer, strings));
+                }
+                return new WzConvexProperty(properties);
+            }
+            case TYPE_SOUND -> {
+                return new WzSoundProperty(EMPTY_BUFFER, EMPTY_BUFFER);
+            }
+            case TYPE_UOL -> {
+                return new WzUolProperty(strings[buffer.getInt()]);
+            }
+            default -> throw new IllegalStateException(String.format("Unknown snapshot value type : %d", type));
+        }
+    }
+
+    private static void writeSnapshot(Path snapshotPath, SourceInfo sourceInfo, WzReaderConfig config, WzPackage wzPackage) throws IOException {
+        Files.createDirectories(snapshotPath.getParent());
+        final Path tempPath = Files.createTempFile(snapshotPath.getParent(), snapshotPath.getFileName().toString(), ".tmp");
+        try {
+            try (final SnapshotWriter writer = new SnapshotWriter(tempPath)) {
+                writer.writeHeader(sourceInfo, config, wzPackage);
+                writer.writeDirectory(wzPackage.getDirectory());
+                writer.writeStrings();
+            }
+            Files.move(tempPath, snapshotPath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(tempPath);
+        }
+    }
+
+    private static final class SnapshotWriter implements AutoCloseable {
+        private final Map<String, Integer> stringIndices = new LinkedHashMap<>();
+        private final ByteArrayOutputStream imageBytes = new ByteArrayOutputStream();
+        private final DataOutputStream imageOut = new DataOutputStream(imageBytes);
+        private final DataOutputStream out;
+
+        private SnapshotWriter(Path path) throws IOException {
+            this.out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(path), 1 << 16));
+        }
+
+        private void writeHeader(SourceInfo sourceInfo, WzReaderConfig config, WzPackage wzPackage) throws IOException {
+            out.writeInt(SNAPSHOT_MAGIC);
+            out.writeInt(SNAPSHOT_VERSION);
+            out.writeInt(config.getVersion());
+            out.writeInt(config.getIv().length);
+            out.write(config.getIv());
+            out.writeLong(sourceInfo.size);
+            out.writeLong(sourceInfo.lastModified);
+            out.writeLong(sourceInfo.getChecksum());
+            out.writeInt(wzPackage.getStart());
+            out.writeInt(wzPackage.getHash());
+        }
+
+        private void writeDirectory(WzDirectory directory) throws IOException {
+            out.writeInt(directory.getDirectories().size());
+            for (var entry : directory.getDirectories().entrySet()) {
+                out.writeInt(getStringIndex(entry.getKey()));
+                writeDirectory(entry.getValue());
+            }
+            out.writeInt(directory.getImages().size());
+            for (var entry : directory.getImages().entrySet()) {
+                out.writeInt(getStringIndex(entry.getKey()));
+                out.writeInt(entry.getValue().getOffset());
+                imageBytes.reset();
+                writeList(entry.getValue().getProperty());
+                out.writeInt(imageBytes.size());
+                imageBytes.writeTo(out);
+            }
+        }
+
+        private void writeList(WzListProperty listProperty) throws IOException {
+            imageOut.writeInt(listProperty.getItems().size());
+            for (var entry : listProperty.getItems().entrySet()) {
+                writeString(entry.getKey());
+                writeValue(entry.getValue());
+            }
+        }
+
+        private void writeValue(Object value) throws IOException {
+            switch (value) {
+                case null -> imageOut.writeByte(TYPE_NULL);
+                case Short shortValue -> {
+                    imageOut.writeByte(TYPE_SHORT);
+                    imageOut.writeShort(shortValue);
+                }
+                case Integer intValue -> {
+                    imageOut.writeByte(TYPE_INT);
+                    imageOut.writeInt(intValue);
+                }
+                case Long longValue -> {
+                    imageOut.writeByte(TYPE_LONG);
+                    imageOut.writeLong(longValue);
+                }
+                case Float floatValue -> {
+                    imageOut.writeByte(TYPE_FLOAT);
+                    imageOut.writeFloat(floatValue);
+                }
+                case Double doubleValue -> {
+                    imageOut.writeByte(TYPE_DOUBLE);
+                    imageOut.writeDouble(doubleValue);
+                }
+                case String stringValue -> {
+                    imageOut.writeByte(TYPE_STRING);
+                    writeString(stringValue);
+                }
+                case WzListProperty listProperty -> {
+                    imageOut.writeByte(TYPE_LIST);
+                    writeList(listProperty);
+                }
+                case WzCanvasProperty canvasProperty -> {
+                    imageOut.writeByte(TYPE_CANVAS);
+                    imageOut.writeInt(canvasProperty.getWidth());
+                    imageOut.writeInt(canvasProperty.getHeight());
+                    imageOut.writeInt(canvasProperty.getFormat());
+                    imageOut.writeInt(canvasProperty.getFormat2());
+                    writeList(canvasProperty.getProperties());
+                }
+                case WzVectorProperty vectorProperty -> {
+                    imageOut.writeByte(TYPE_VECTOR);
+                    imageOut.writeInt(vectorProperty.getX());
+                    imageOut.writeInt(vectorProperty.getY());
+                }
+                case WzConvexProperty convexProperty -> {
+                    imageOut.writeByte(TYPE_CONVEX);
+                    imageOut.writeInt(convexProperty.getProperties().size());
+                    for (WzProperty property : convexProperty.getProperties()) {
+                        writeValue(property);
+                    }
+                }
+                case WzSoundProperty ignored -> imageOut.writeByte(TYPE_SOUND);
+                case WzUolProperty uolProperty -> {
+                    imageOut.writeByte(TYPE_UOL);
+                    writeString(uolProperty.getUol());
+                }
+                default -> throw new IllegalStateException(String.format("Unhandled snapshot value type : %s", value.getClass().getSimpleName()));
+            }
+        }
+
+        private void writeString(String value) throws IOException {
+            imageOut.writeInt(getStringIndex(value));
+        }
+
+        private int getStringIndex(String value) {
+            return stringIndices.computeIfAbsent(value, (key) -> stringIndices.size());
+        }
+
+        private void writeStrings() throws IOException {
+            // DataOutputStream#size saturates at Integer.MAX_VALUE, which is also the limit of a mapped buffer
+            if (out.size() == Integer.MAX_VALUE) {
+                throw new IOException("Snapshot size exceeds mapped buffer limit");
+            }
+            final int stringTableOffset = out.size();
+            out.writeInt(stringIndices.size());
+            for (String value : stringIndices.keySet()) {
+                final byte[] data = value.getBytes(StandardCharsets.UTF_8);
+                out.writeInt(data.length);
+                out.write(data);
+            }
+            out.writeInt(stringTableOffset);
+        }
+
+        @Override
+        public void close() throws IOException {
+            out.close();
+        }
+    }
+
+    private static final class SourceInfo {
+        private final Path path;
+        private final long size;
+        private final long lastModified;
+        private long checksum = -1;
+
+        private SourceInfo(Path path, long size, long lastModified) {
+            this.path = path;
+            this.size = size;
+            this.lastModified = lastModified;
+        }
+
+        /**
+         * Computes the CRC32C of the WZ file on first use, which is only required if the modification time does not
+         * match the snapshot or a new snapshot is written.
+         */
+        private long getChecksum() throws IOException {
+            if (checksum >= 0) {
+                return checksum;
+            }
+            final CRC32C crc = new CRC32C();
+            final ByteBuffer buffer = ByteBuffer.allocateDirect(CHECKSUM_BUFFER_SIZE);
+            try (final FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+                while (channel.read(buffer) >= 0) {
+                    buffer.flip();
+                    crc.update(buffer);
+                    buffer.clear();
+                }
+            }
+            checksum = crc.getValue();
+            return checksum;
+        }
+
+        private static SourceInfo from(Path path) throws IOException {
+            final BasicFileAttributes attributes = Files.readAttributes(path, BasicFileAttributes.class);
+            return new SourceInfo(path, attributes.size(), attributes.lastModifiedTime().toMillis());
+        }
+    }
+}
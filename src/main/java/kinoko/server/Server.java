@@ -28,18 +28,20 @@ public final class Server {
     private static void initialize() throws Exception {
         // Initialize providers
         Instant start = Instant.now();
-        ItemProvider.initialize();      // Character.wz + Item.wz
-        SkillProvider.initialize();     // Skill.wz + Morph.wz
-        MapProvider.initialize();       // Map.wz
-        MobProvider.initialize();       // Mob.wz
-        NpcProvider.initialize();       // Npc.wz
-        ReactorProvider.initialize();   // Reactor.wz
-        QuestProvider.initialize();     // Quest.wz
-        StringProvider.initialize();    // String.wz
-        EtcProvider.initialize();       // Etc.wz
-        ShopProvider.initialize();      // data/shop
-        RewardProvider.initialize();    // data/reward
-        CashShop.initialize();          // data/cash
+        new ProviderLoader()
+                .add("ItemProvider", ItemProvider::initialize)         // Character.wz + Item.wz
+                .add("SkillProvider", SkillProvider::initialize)       // Skill.wz + Morph.wz
+                .add("MapProvider", MapProvider::initialize)           // Map.wz
+                .add("MobProvider", MobProvider::initialize)           // Mob.wz
+                .add("NpcProvider", NpcProvider::initialize)           // Npc.wz
+                .add("ReactorProvider", ReactorProvider::initialize)   // Reactor.wz
+                .add("QuestProvider", QuestProvider::initialize, "MobProvider") // Quest.wz
+                .add("StringProvider", StringProvider::initialize)     // String.wz
+                .add("EtcProvider", EtcProvider::initialize, "QuestProvider") // Etc.wz
+                .add("ShopProvider", ShopProvider::initialize, "ItemProvider") // data/shop
+                .add("RewardProvider", RewardProvider::initialize)     // data/reward
+                .add("CashShop", CashShop::initialize, "EtcProvider")  // data/cash
+                .load(ServerConfig.PROVIDER_LOAD_THREADS);
         System.gc();
         log.info("Loaded providers in {} milliseconds", Duration.between(start, Instant.now()).toMillis());
 
@@ -3,18 +3,36 @@ package kinoko.server;
 import kinoko.util.Util;
 import kinoko.world.GameConstants;
 
+import java.util.Set;
+
 public final class ServerConfig {
     public static final int WORLD_ID = Util.getEnv("WORLD_ID", 0);
     public static final String WORLD_NAME = Util.getEnv("WORLD_NAME", "Kinoko");
     public static final int CHANNELS_PER_WORLD = Util.getEnv("CHANNEL_COUNT", 5);
-    public static final int CENTRAL_REQUEST_TTL = 5;
+    public static final int CENTRAL_REQUEST_TTL = 5; // seconds
+    public static final int CENTRAL_EXECUTOR_THREADS = Util.getEnv("CENTRAL_EXECUTOR_THREADS", 2);
+    public static final int CENTRAL_QUEUE_CAPACITY = Util.getEnv("CENTRAL_QUEUE_CAPACITY", 1000); // per stripe
+    public static final int CENTRAL_UPDATE_WINDOW = Util.getEnv("CENTRAL_UPDATE_WINDOW", 100); // ms, 0 to disable
     public static final int FIELD_TICK_INTERVAL = 100; // 100 ms tick
+    public static final int FIELD_DORMANT_TICK_INTERVAL = Util.getEnv("FIELD_DORMANT_TICK_INTERVAL", 1000); // ms
+    public static final int FIELD_UNLOAD_TIMEOUT = Util.getEnv("FIELD_UNLOAD_TIMEOUT", 300); // seconds
+    public static final int FIELD_MAILBOX_CAPACITY = Util.getEnv("FIELD_MAILBOX_CAPACITY", 10000);
+    public static final int WRITE_BATCH_MAX_LATENCY = Util.getEnv("WRITE_BATCH_MAX_LATENCY", 20); // ms
     public static final int SHUTDOWN_TIMEOUT = 30;
+    public static final int AUTOSAVE_INTERVAL = Util.getEnv("AUTOSAVE_INTERVAL", 300); // seconds, 0 to disable
+    public static final int RANK_LOAD_PAGE_SIZE = Util.getEnv("RANK_LOAD_PAGE_SIZE", 1000); // rows
 
+    public static final int LOGIN_AUTH_THREADS = Util.getEnv("LOGIN_AUTH_THREADS", 2);
+    public static final int LOGIN_QUEUE_CAPACITY = Util.getEnv("LOGIN_QUEUE_CAPACITY", 1000);
+    public static final int LOGIN_RATE_LIMIT = Util.getEnv("LOGIN_RATE_LIMIT", 10); // attempts per minute per IP
+    public static final int LOGIN_CACHE_TTL = Util.getEnv("LOGIN_CACHE_TTL", 60); // seconds, 0 to disable
     public static final boolean AUTO_CREATE_ACCOUNT = Util.getEnv("AUTO_CREATE_ACCOUNT", true);
     public static final boolean REQUIRE_SECONDARY_PASSWORD = Util.getEnv("REQUIRE_SECONDARY_PASSWORD", true);
     public static final String WZ_DIRECTORY = Util.getEnv("WZ_DIRECTORY", "wz");
     public static final String DATA_DIRECTORY = Util.getEnv("DATA_DIRECTORY", "data");
+    public static final boolean WZ_IMAGE_CACHE = Util.getEnv("WZ_IMAGE_CACHE", true);
+    public static final boolean WZ_SNAPSHOT = Util.getEnv("WZ_SNAPSHOT", true);
+    public static final int PROVIDER_LOAD_THREADS = Util.getEnv("PROVIDER_LOAD_THREADS", Runtime.getRuntime().availableProcessors());
 
     public static final int CHARACTER_BASE_SLOTS = Util.getEnv("CHARACTER_BASE_SLOTS", 3);
     public static final int INVENTORY_BASE_SLOTS = Util.getEnv("INVENTORY_BASE_SLOTS", 24);
@@ -22,7 +40,8 @@ public final class ServerConfig {
     public static final int TRUNK_BASE_SLOTS = Util.getEnv("TRUNK_BASE_SLOTS", 4);
     public static final int FRIEND_MAX_BASE = 20;
     public static final int CYGNUS_LEVEL_MAX = 120;
-    public static final int ITEM_EXPIRE_INTERVAL = 60; // 180 seconds in BMS
+    public static final Set<Integer> VIEW_RANGE_FIELDS = Util.getEnvIntegers("VIEW_RANGE_FIELDS"); // comma separated field IDs
+    public static final int VIEW_RANGE = Util.getEnv("VIEW_RANGE", 1000);
     public static final int WORLD_SPEAKER_COOLTIME = 60;
 
     public static final String COMMAND_PREFIX = Util.getEnv("COMMAND_PREFIX", "!");
@@ -23,15 +23,23 @@ import kinoko.script.common.ScriptDispatcher;
 import kinoko.server.ServerConfig;
 import kinoko.server.cashshop.CashShop;
 import kinoko.server.cashshop.Commodity;
+import kinoko.server.netty.WriteBatch;
+import kinoko.server.node.CentralClient;
+import kinoko.server.node.FieldMailbox;
+import kinoko.server.node.ServerExecutor;
 import kinoko.util.BitFlag;
+import kinoko.util.LatencyHistogram;
+import kinoko.util.MemoryEstimator;
 import kinoko.util.Rect;
 import kinoko.util.Util;
 import kinoko.world.GameConstants;
 import kinoko.world.field.Field;
+import kinoko.world.field.UserPool;
 import kinoko.world.field.mob.Mob;
 import kinoko.world.field.mob.MobAppearType;
 import kinoko.world.field.npc.Npc;
 import kinoko.world.field.reactor.Reactor;
+import kinoko.world.item.Inventory;
 import kinoko.world.item.InventoryManager;
 import kinoko.world.item.InventoryOperation;
 import kinoko.world.item.InventoryType;
@@ -126,6 +134,58 @@ public final class AdminCommands {
         }
     }
 
+    @Command("perf")
+    public static void perf(User user, String[] args) {
+        user.write(MessagePacket.system("Packets written : %d, flushes : %d (%.2f packets per flush)",
+                WriteBatch.getPacketCount(), WriteBatch.getFlushCount(), WriteBatch.getPacketsPerFlush()));
+        final List<FieldMailbox> mailboxes = new ArrayList<>(ServerExecutor.getMailboxes());
+        mailboxes.sort(Comparator.comparingLong(FieldMailbox::getTotalTaskTime).reversed());
+        user.write(MessagePacket.system("Busiest fields (%d total) :", mailboxes.size()));
+        for (FieldMailbox mailbox : mailboxes.subList(0, Math.min(mailboxes.size(), 5))) {
+            user.write(MessagePacket.system("  %s : %d tasks, avg %.2f ms, max %.2f ms, queue %d (max %d)",
+                    mailbox.getName(), mailbox.getTaskCount(), mailbox.getAverageTaskTime() / 1_000_000, mailbox.getMaxTaskTime() / 1_000_000.0,
+                    mailbox.getQueueSize(), mailbox.getMaxQueueSize()));
+        }
+        final CentralClient centralClient = user.getConnectedServer().getCentralClient();
+        user.write(MessagePacket.system("Central packets written : %d, flushes : %d, user updates coalesced : %d, queued : %d",
+                centralClient.getPacketCount(), centralClient.getFlushCount(), centralClient.getCoalescedCount(), ServerExecutor.getCentralQueueSize()));
+        for (var entry : centralClient.getRequestLatencies().entrySet()) {
+            final LatencyHistogram histogram = entry.getValue();
+            if (histogram.getCount() == 0 && centralClient.getRequestTimeouts(entry.getKey()) == 0) {
+                continue;
+            }
+            user.write(MessagePacket.system("  %s : %d requests, p50 %.2f ms, p99 %.2f ms, max %.2f ms, timeouts %d",
+                    entry.getKey(), histogram.getCount(), histogram.getPercentileMillis(50), histogram.getPercentileMillis(99),
+                    histogram.getMaxMillis(), centralClient.getRequestTimeouts(entry.getKey())));
+        }
+        final UserPool userPool = user.getField().getUserPool();
+        if (userPool.isViewRangeEnabled()) {
+            user.write(MessagePacket.system("View range packets saved : %d, view changes : %d",
+                    userPool.getViewSavedCount(), userPool.getViewChangeCount()));
+        }
+    }
+
+    @Command("memory")
+    public static void memory(User user, String[] args) {
+        final Runtime runtime = Runtime.getRuntime();
+        user.write(MessagePacket.system("Heap used : %d MB, committed : %d MB, max : %d MB",
+                (runtime.totalMemory() - runtime.freeMemory()) / 1024 / 1024, runtime.totalMemory() / 1024 / 1024, runtime.maxMemory() / 1024 / 1024));
+        // Walking the provider data takes a while, avoid blocking the field
+        ServerExecutor.submitService(() -> {
+            final List<Class<?>> providers = List.of(ItemProvider.class, SkillProvider.class, MapProvider.class, MobProvider.class,
+                    NpcProvider.class, ReactorProvider.class, QuestProvider.class, StringProvider.class, EtcProvider.class,
+                    ShopProvider.class, RewardProvider.class, CashShop.class);
+            user.write(MessagePacket.system("Estimated provider memory :"));
+            long total = 0;
+            for (Class<?> provider : providers) {
+                final long size = MemoryEstimator.estimateStatic(provider);
+                user.write(MessagePacket.system("  %s : %.2f MB", provider.getSimpleName(), size / 1024.0 / 1024.0));
+                total += size;
+            }
+            user.write(MessagePacket.system("  Total : %.2f MB", total / 1024.0 / 1024.0));
+        });
+    }
+
     @Command({ "find", "lookup" })
     @Arguments({ "item/map/mob/npc/skill/quest/commodity", "id or query" })
     public static void find(User user, String[] args) {
@@ -528,12 +588,10 @@ public final class AdminCommands {
         final InventoryType inventoryType = inventoryTypeResult.get();
         try (var locked = user.acquire()) {
             final List<InventoryOperation> removeOperations = new ArrayList<>();
-            final var iter = locked.get().getInventoryManager().getInventoryByType(inventoryType).getItems().entrySet().iterator();
-            while (iter.hasNext()) {
-                final var tuple = iter.next();
-                final int position = tuple.getKey();
+            final Inventory inventory = locked.get().getInventoryManager().getInventoryByType(inventoryType);
+            for (int position : List.copyOf(inventory.getItems().keySet())) {
                 removeOperations.add(InventoryOperation.delItem(inventoryType, position));
-                iter.remove();
+                inventory.removeItem(position);
             }
             user.write(WvsContext.inventoryOperation(removeOperations, true));
             user.write(MessagePacket.system("%s inventory cleared!", inventoryType));
@@ -206,11 +206,14 @@ public abstract class MiniGameRoom extends MiniRoom {
         final User other = isOwner(user) ? getGuest() : getOwner();
         // Conclude game
         if (other != null && !isOpen()) {
-            ServerExecutor.submit(user.getField(), () -> {
+            final Runnable giveUp = () -> {
                 try (var lockedOther = other.acquire()) {
                     gameResult(GameResultType.GIVEUP, other, user);
                 }
-            });
+            };
+            if (!ServerExecutor.submit(user.getField(), giveUp)) {
+                ServerExecutor.submitService(giveUp);
+            }
         }
         // Close game if owner
         if (isOwner(user)) {
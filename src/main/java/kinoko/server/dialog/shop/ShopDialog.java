@@ -180,6 +180,7 @@ public final class ShopDialog implements Dialog {
                     throw new IllegalStateException("Could not deduct total price from user");
                 }
                 item.setQuantity((short) slotMax);
+                user.invalidateCombatStat();
                 // Update client
                 user.write(WvsContext.statChanged(Stat.MONEY, im.getMoney(), false));
                 user.write(WvsContext.inventoryOperation(InventoryOperation.itemNumber(InventoryType.CONSUME, position, item.getQuantity()), true));
@@ -2,18 +2,37 @@ package kinoko.server.field;
 
 import kinoko.provider.MapProvider;
 import kinoko.provider.map.MapInfo;
+import kinoko.server.ServerConfig;
+import kinoko.server.node.ServerExecutor;
 import kinoko.world.field.Field;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
 
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
 
 public final class ChannelFieldStorage implements FieldStorage {
+    private static final Logger log = LogManager.getLogger(ChannelFieldStorage.class);
     private final ConcurrentHashMap<Integer, Field> fieldMap = new ConcurrentHashMap<>(); // map id -> field
+    private final ScheduledFuture<?> unloadFuture;
+
+    public ChannelFieldStorage() {
+        this.unloadFuture = ServerExecutor.scheduleServiceWithFixedDelay(this::unloadFields, ServerConfig.FIELD_UNLOAD_TIMEOUT, ServerConfig.FIELD_UNLOAD_TIMEOUT, TimeUnit.SECONDS);
+    }
+
+    public int getFieldCount() {
+        return fieldMap.size();
+    }
 
     @Override
     public synchronized Optional<Field> getFieldById(int mapId) {
         final Field field = fieldMap.get(mapId);
         if (field != null) {
+            field.updateActiveTime();
             return Optional.of(field);
         }
         final Optional<Field> fieldResult = createField(this, mapId);
@@ -23,12 +42,45 @@ public final class ChannelFieldStorage implements FieldStorage {
 
     @Override
     public void clear() {
+        unloadFuture.cancel(true);
+        final var iter = fieldMap.values().iterator();
+        while (iter.hasNext()) {
+            final Field field = iter.next();
+            field.close();
+            field.getMailbox().close();
+            iter.remove();
+        }
+    }
+
+    synchronized void addField(Field field) {
+        fieldMap.put(field.getFieldId(), field);
+    }
+
+    /**
+     * Unloads fields that have been idle for {@link ServerConfig#FIELD_UNLOAD_TIMEOUT}, they are recreated from the map
+     * info on the next access.
+     */
+    private void unloadFields() {
+        unloadFields(Instant.now().minus(ServerConfig.FIELD_UNLOAD_TIMEOUT, ChronoUnit.SECONDS));
+    }
+
+    synchronized int unloadFields(Instant idleSince) {
+        int unloadCount = 0;
         final var iter = fieldMap.values().iterator();
         while (iter.hasNext()) {
             final Field field = iter.next();
-            field.getFieldEventFuture().cancel(true);
+            if (!field.isUnloadable(idleSince)) {
+                continue;
+            }
+            field.close();
+            field.getMailbox().close();
             iter.remove();
+            unloadCount++;
+        }
+        if (unloadCount > 0) {
+            log.debug("Unloaded {} idle fields, {} fields remaining", unloadCount, fieldMap.size());
         }
+        return unloadCount;
     }
 
     private static Optional<Field> createField(FieldStorage fieldStorage, int mapId) {
@@ -1,6 +1,8 @@
 package kinoko.server.field;
 
 import kinoko.provider.map.MapInfo;
+import kinoko.server.node.FieldMailbox;
+import kinoko.server.node.ServerExecutor;
 import kinoko.world.field.Field;
 
 import java.util.List;
@@ -10,15 +12,21 @@ import java.util.concurrent.ConcurrentHashMap;
 public final class InstanceFieldStorage implements FieldStorage {
     private final ConcurrentHashMap<Integer, Field> fieldMap = new ConcurrentHashMap<>(); // map id -> field
     private final Instance instance;
+    private final FieldMailbox mailbox;
 
     public InstanceFieldStorage(Instance instance) {
         this.instance = instance;
+        this.mailbox = ServerExecutor.createMailbox(String.format("Instance(%d)", instance.getInstanceId()));
     }
 
     public Instance getInstance() {
         return instance;
     }
 
+    public FieldMailbox getMailbox() {
+        return mailbox;
+    }
+
     @Override
     public Optional<Field> getFieldById(int mapId) {
         return Optional.ofNullable(fieldMap.get(mapId));
@@ -29,9 +37,10 @@ public final class InstanceFieldStorage implements FieldStorage {
         final var iter = fieldMap.values().iterator();
         while (iter.hasNext()) {
             final Field field = iter.next();
-            field.getFieldEventFuture().cancel(true);
+            field.close();
             iter.remove();
         }
+        mailbox.close();
     }
 
     public static InstanceFieldStorage from(Instance instance, List<MapInfo> mapInfos) {
@@ -0,0 +1,43 @@
+package kinoko.server.migration;
+
+import kinoko.util.Tuple;
+import kinoko.world.user.Account;
+import kinoko.world.user.CharacterData;
+
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Hands over the live account and character data of a user transferring between channels. All server nodes run in the
+ * same process, so the target channel can take over the objects released by the source channel instead of reading them
+ * back from the database. Entries are only valid for the lifetime of their {@link MigrationInfo}.
+ */
+public final class MigrationCache {
+    private static final ConcurrentHashMap<Integer, Entry> entries = new ConcurrentHashMap<>(); // account id -> entry
+
+    public static void put(MigrationInfo migrationInfo, Account account, CharacterData characterData) {
+        entries.values().removeIf((entry) -> entry.migrationInfo.isExpired());
+        entries.put(migrationInfo.getAccountId(), new Entry(migrationInfo, account, characterData));
+    }
+
+    public static Optional<Tuple<Account, CharacterData>> take(MigrationInfo migrationInfo) {
+        final Entry entry = entries.remove(migrationInfo.getAccountId());
+        if (entry == null || entry.migrationInfo.isExpired() ||
+                !entry.migrationInfo.verify(migrationInfo.getChannelId(), migrationInfo.getAccountId(), migrationInfo.getCharacterId(), migrationInfo.getMachineId(), migrationInfo.getClientKey())) {
+            return Optional.empty();
+        }
+        return Optional.of(new Tuple<>(entry.account, entry.characterData));
+    }
+
+    private static final class Entry {
+        private final MigrationInfo migrationInfo;
+        private final Account account;
+        private final CharacterData characterData;
+
+        private Entry(MigrationInfo migrationInfo, Account account, CharacterData characterData) {
+            this.migrationInfo = migrationInfo;
+            this.account = account;
+            this.characterData = characterData;
+        }
+    }
+}
@@ -13,6 +13,7 @@ import kinoko.server.header.CentralHeader;
 import kinoko.server.memo.Memo;
 import kinoko.server.memo.MemoType;
 import kinoko.server.messenger.Messenger;
+import kinoko.server.messenger.MessengerProtocol;
 import kinoko.server.messenger.MessengerRequest;
 import kinoko.server.messenger.MessengerUser;
 import kinoko.server.migration.MigrationInfo;
@@ -21,6 +22,7 @@ import kinoko.server.node.CentralServerNode;
 import kinoko.server.node.RemoteServerNode;
 import kinoko.server.node.ServerExecutor;
 import kinoko.server.packet.InPacket;
+import kinoko.server.packet.NioBufferInPacket;
 import kinoko.server.packet.OutPacket;
 import kinoko.server.party.Party;
 import kinoko.server.party.PartyRequest;
@@ -38,6 +40,7 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import java.util.function.BiConsumer;
+import java.util.function.IntFunction;
 
 public final class CentralServerHandler extends SimpleChannelInboundHandler<InPacket> {
     private static final Logger log = LogManager.getLogger(CentralServerHandler.class);
@@ -57,7 +60,7 @@ public final class CentralServerHandler extends SimpleChannelInboundHandler<InPa
         final int op = inPacket.decodeShort();
         final CentralHeader header = CentralHeader.getByValue(op);
         log.log(Level.TRACE, "[CentralServerNode] | {}({}) {}", header, Util.opToString(op), inPacket);
-        ServerExecutor.submitService(() -> {
+        final Runnable task = () -> {
             switch (header) {
                 case InitializeResult -> handleInitializeResult(remoteServerNode, inPacket);
                 case ShutdownResult -> handleShutdownResult(remoteServerNode, inPacket);
@@ -80,7 +83,24 @@ public final class CentralServerHandler extends SimpleChannelInboundHandler<InPa
                 case null -> log.error("Central Server received an unknown opcode : {}", op);
                 default -> log.error("Central Server received an unhandled header : {}", header);
             }
-        });
+        };
+        // Serialize messages for the same character or group, see getCharacterId and getGroupId
+        final boolean submitted = switch (header) {
+            case InitializeResult, ShutdownResult -> {
+                ServerExecutor.submitService(task);
+                yield true;
+            }
+            case UserConnect, UserUpdate, UserDisconnect, UserPacketReceive, WorldSpeakerRequest ->
+                    ServerExecutor.submitCentral(getCharacterId(header, inPacket), task);
+            case MessengerRequest, PartyRequest, GuildRequest, BoardRequest -> {
+                final int groupId = getGroupId(header, inPacket, centralServerNode::getUserByCharacterId);
+                yield ServerExecutor.submitCentral(groupId != 0 ? groupId : getCharacterId(header, inPacket), task);
+            }
+            case null, default -> ServerExecutor.submitCentral(task);
+        };
+        if (!submitted) {
+            handleRejected(remoteServerNode, header, inPacket);
+        }
     }
 
     @Override
@@ -98,6 +118,86 @@ public final class CentralServerHandler extends SimpleChannelInboundHandler<InPa
     }
 
 
+    /**
+     * Resolves the character that sent a per-user message, which is used as the key for the central executor. Every
+     * message from the same character is handled in the order it was sent, so that the connect, update and disconnect
+     * messages of a character can not overtake each other.
+     */
+    static int getCharacterId(CentralHeader header, InPacket inPacket) {
+        final InPacket payload = new NioBufferInPacket(inPacket.getData());
+        payload.decodeShort(); // header
+        if (header == CentralHeader.UserConnect || header == CentralHeader.UserUpdate || header == CentralHeader.UserDisconnect) {
+            payload.decodeInt(); // accountId
+        }
+        return payload.decodeInt();
+    }
+
+    /**
+     * Resolves the messenger, party or guild that a group request acts on, which is used as the key for the central
+     * executor instead of the character ID. Requests for the same group are handled in the order they were received,
+     * regardless of which member sent them. The group is taken from the request if it names one, from the inviter for
+     * join requests, and from the current membership of the requester otherwise.
+     *
+     * @return the group ID, or 0 if the requester is not in a group.
+     */
+    static int getGroupId(CentralHeader header, InPacket inPacket, IntFunction<Optional<RemoteUser>> userResolver) {
+        final InPacket payload = new NioBufferInPacket(inPacket.getData());
+        payload.decodeShort(); // header
+        final int characterId = payload.decodeInt();
+        final Optional<RemoteUser> requester = userResolver.apply(characterId);
+        try {
+            return switch (header) {
+                case MessengerRequest -> {
+                    final MessengerRequest messengerRequest = MessengerRequest.decode(payload);
+                    if (messengerRequest.getRequestType() == MessengerProtocol.MSMP_Enter && messengerRequest.getMessengerId() != 0) {
+                        yield messengerRequest.getMessengerId();
+                    }
+                    yield requester.map(RemoteUser::getMessengerId).orElse(0);
+                }
+                case PartyRequest -> {
+                    final PartyRequest partyRequest = PartyRequest.decode(payload);
+                    yield switch (partyRequest.getRequestType()) {
+                        case LoadParty -> partyRequest.getPartyId();
+                        case JoinParty -> userResolver.apply(partyRequest.getCharacterId()).map(RemoteUser::getPartyId).orElse(0);
+                        default -> requester.map(RemoteUser::getPartyId).orElse(0);
+                    };
+                }
+                case GuildRequest -> {
+                    final GuildRequest guildRequest = GuildRequest.decode(payload);
+                    yield switch (guildRequest.getRequestType()) {
+                        case LoadGuild, CreateNewGuild, RemoveGuild, WithdrawGuild -> guildRequest.getGuildId();
+                        case JoinGuild -> userResolver.apply(guildRequest.getInviterId()).map(RemoteUser::getGuildId).orElse(0);
+                        default -> requester.map(RemoteUser::getGuildId).orElse(0);
+                    };
+                }
+                case BoardRequest -> requester.map(RemoteUser::getGuildId).orElse(0);
+                default -> 0;
+            };
+        } catch (RuntimeException e) {
+            // Malformed requests are keyed by the character, the handler reports the decode error
+            return 0;
+        }
+    }
+
+    private void handleRejected(RemoteServerNode remoteServerNode, CentralHeader header, InPacket inPacket) {
+        log.error("Rejected {} from channel {}, central executor queue is full", header, remoteServerNode.getChannelId() + 1);
+        // Complete the request on the channel with a failure result
+        switch (header) {
+            case OnlineRequest -> remoteServerNode.write(CentralPacket.onlineResult(inPacket.decodeInt(), true));
+            case MigrateRequest -> remoteServerNode.write(CentralPacket.migrateResult(inPacket.decodeInt(), null));
+            case TransferRequest -> remoteServerNode.write(CentralPacket.transferResult(inPacket.decodeInt(), null));
+            case UserQueryRequest -> remoteServerNode.write(CentralPacket.userQueryResult(inPacket.decodeInt(), List.of()));
+            case WorldSpeakerRequest, MessengerRequest, PartyRequest, GuildRequest, BoardRequest -> {
+                final int characterId = inPacket.decodeInt();
+                remoteServerNode.write(CentralPacket.userPacketReceive(characterId, BroadcastPacket.alert("The server is busy, please try again later.")));
+            }
+            case null, default -> {
+                // No result is expected for the other messages
+            }
+        }
+    }
+
+
     // HANDLER METHODS -------------------------------------------------------------------------------------------------
 
     private void handleInitializeResult(RemoteServerNode remoteServerNode, InPacket inPacket) {
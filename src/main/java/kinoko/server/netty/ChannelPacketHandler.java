@@ -10,13 +10,9 @@ import kinoko.handler.user.*;
 import kinoko.handler.user.item.CashItemHandler;
 import kinoko.handler.user.item.ItemHandler;
 import kinoko.handler.user.item.UpgradeItemHandler;
-import kinoko.server.header.InHeader;
-
-import java.lang.reflect.Method;
-import java.util.Map;
 
 public final class ChannelPacketHandler extends PacketHandler {
-    private static final Map<InHeader, Method> channelPacketHandlerMap = loadHandlers(
+    private static final HandlerFunction[] channelPacketHandlerTable = loadHandlers(
             ClientHandler.class,
             CashShopHandler.class,
             MigrationHandler.class,
@@ -40,6 +36,6 @@ public final class ChannelPacketHandler extends PacketHandler {
     );
 
     public ChannelPacketHandler() {
-        super(channelPacketHandlerMap);
+        super(channelPacketHandlerTable);
     }
 }
@@ -11,6 +11,7 @@ import kinoko.server.migration.MigrationInfo;
 import kinoko.server.migration.TransferInfo;
 import kinoko.server.node.ChannelServerNode;
 import kinoko.server.node.ServerExecutor;
+import kinoko.server.packet.BroadcastOutPacket;
 import kinoko.server.packet.InPacket;
 import kinoko.server.packet.OutPacket;
 import kinoko.server.user.RemoteUser;
@@ -39,7 +40,7 @@ public final class ChannelServerHandler extends SimpleChannelInboundHandler<InPa
         final int op = inPacket.decodeShort();
         final CentralHeader header = CentralHeader.getByValue(op);
         log.log(Level.TRACE, "[ChannelServerNode] | {}({}) {}", header, Util.opToString(op), inPacket);
-        ServerExecutor.submitService(() -> {
+        final Runnable task = () -> {
             switch (header) {
                 case InitializeRequest -> {
                     ctx.channel().writeAndFlush(CentralPacket.initializeResult(channelServerNode.getChannelId(), ServerConstants.SERVER_HOST, channelServerNode.getChannelPort()));
@@ -68,7 +69,13 @@ public final class ChannelServerHandler extends SimpleChannelInboundHandler<InPa
                     log.error("Central client {} received an unhandled header : {}", channelServerNode.getChannelId() + 1, header);
                 }
             }
-        });
+        };
+        // Serialize results for the same user, the first int is the character ID
+        switch (header) {
+            case InitializeRequest, ShutdownRequest -> ServerExecutor.submitService(task);
+            case UserPacketReceive, WorldSpeakerRequest, MessengerResult, PartyResult, GuildResult -> ServerExecutor.submitCentral(inPacket.peekInt(), task);
+            case null, default -> ServerExecutor.submitCentral(task);
+        }
     }
 
     @Override
@@ -126,7 +133,7 @@ public final class ChannelServerHandler extends SimpleChannelInboundHandler<InPa
         }
         final int packetLength = inPacket.decodeInt();
         final byte[] packetData = inPacket.decodeArray(packetLength);
-        final OutPacket outPacket = OutPacket.of(packetData);
+        final BroadcastOutPacket outPacket = BroadcastOutPacket.from(OutPacket.of(packetData));
         for (int characterId : characterIds) {
             final Optional<User> targetUserResult = channelServerNode.getUserByCharacterId(characterId);
             if (targetUserResult.isEmpty()) {
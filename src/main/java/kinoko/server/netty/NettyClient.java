@@ -3,8 +3,11 @@ package kinoko.server.netty;
 import io.netty.channel.socket.SocketChannel;
 import io.netty.util.AttributeKey;
 import kinoko.server.node.ServerNode;
+import kinoko.server.packet.BroadcastOutPacket;
 import kinoko.server.packet.OutPacket;
 
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
 
@@ -13,6 +16,7 @@ public abstract class NettyClient {
     private final Lock encoderLock = new ReentrantLock();
     private final ServerNode serverNode;
     private final SocketChannel socketChannel;
+    private final InetAddress remoteAddress; // cached, as the channel does not report an address once closed
     private byte[] sendIv;
     private byte[] recvIv;
     private int storedLength = -1;
@@ -20,12 +24,21 @@ public abstract class NettyClient {
     public NettyClient(ServerNode serverNode, SocketChannel socketChannel) {
         this.serverNode = serverNode;
         this.socketChannel = socketChannel;
+        final InetSocketAddress socketAddress = socketChannel != null ? socketChannel.remoteAddress() : null;
+        this.remoteAddress = socketAddress != null ? socketAddress.getAddress() : null;
     }
 
     public ServerNode getServerNode() {
         return serverNode;
     }
 
+    /**
+     * @return the address of the remote peer, or null if the channel was not connected when the client was created.
+     */
+    public final InetAddress getRemoteAddress() {
+        return remoteAddress;
+    }
+
     public final byte[] getSendIv() {
         return sendIv;
     }
@@ -59,10 +72,28 @@ public abstract class NettyClient {
     }
 
     public final void write(OutPacket outPacket) {
-        socketChannel.writeAndFlush(outPacket);
+        writeMessage(outPacket);
+    }
+
+    public final void write(BroadcastOutPacket broadcastOutPacket) {
+        writeMessage(broadcastOutPacket);
+    }
+
+    private void writeMessage(Object message) {
+        if (WriteBatch.add(this)) {
+            socketChannel.write(message, socketChannel.voidPromise());
+        } else {
+            socketChannel.writeAndFlush(message, socketChannel.voidPromise());
+        }
+    }
+
+    final void flush() {
+        socketChannel.flush();
     }
 
     public void close() {
+        // Flush packets queued by an active write batch
+        socketChannel.flush();
         socketChannel.close();
     }
 }
@@ -6,6 +6,7 @@ import io.netty.handler.codec.MessageToByteEncoder;
 import kinoko.server.ServerConfig;
 import kinoko.server.ServerConstants;
 import kinoko.server.header.OutHeader;
+import kinoko.server.packet.BroadcastOutPacket;
 import kinoko.server.packet.OutPacket;
 import kinoko.util.Util;
 import kinoko.util.crypto.IGCipher;
@@ -15,16 +16,23 @@ import org.apache.logging.log4j.Level;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
-public final class PacketEncoder extends MessageToByteEncoder<OutPacket> {
+public final class PacketEncoder extends MessageToByteEncoder<Object> {
     public static final short SEND_VERSION = (short) (0xFFFF - ServerConstants.GAME_VERSION);
     private static final Logger log = LogManager.getLogger(PacketEncoder.class);
 
     @Override
-    protected void encode(ChannelHandlerContext ctx, OutPacket outPacket, ByteBuf out) {
+    public boolean acceptOutboundMessage(Object msg) {
+        return msg instanceof OutPacket || msg instanceof BroadcastOutPacket;
+    }
+
+    @Override
+    protected void encode(ChannelHandlerContext ctx, Object msg, ByteBuf out) {
         final NettyClient c = ctx.channel().attr(NettyClient.CLIENT_KEY).get();
-        final OutHeader header = outPacket.getHeader();
-        final byte[] data = outPacket.getData();
+        final OutPacket outPacket = msg instanceof OutPacket packet ? packet : null;
+        final BroadcastOutPacket broadcastOutPacket = msg instanceof BroadcastOutPacket packet ? packet : null;
+        final OutHeader header = outPacket != null ? outPacket.getHeader() : broadcastOutPacket.getHeader();
         if (c == null) {
+            final byte[] data = outPacket != null ? outPacket.getData() : broadcastOutPacket.getData();
             log.log(ServerConfig.DEBUG_MODE && !header.isIgnoreHeader() ? Level.DEBUG : Level.TRACE, "[Out] | Plain sending " + Util.readableByteArray(data));
             out.writeShortLE(data.length);
             out.writeBytes(data);
@@ -32,7 +40,14 @@ public final class PacketEncoder extends MessageToByteEncoder<OutPacket> {
         }
         c.acquireEncoderState();
         try {
-            log.log(ServerConfig.DEBUG_MODE && !header.isIgnoreHeader() ? Level.DEBUG : Level.TRACE, "[Out] | {}", outPacket);
+            log.log(ServerConfig.DEBUG_MODE && !header.isIgnoreHeader() ? Level.DEBUG : Level.TRACE, "[Out] | {}", msg);
+            final byte[] data;
+            if (broadcastOutPacket != null) {
+                data = broadcastOutPacket.getEncryptedData();
+            } else {
+                data = outPacket.getData();
+                ShandaCrypto.encrypt(data);
+            }
             final byte[] iv = c.getSendIv();
             final int rawSeq = ((iv[2] & 0xFF) | ((iv[3] << 8) & 0xFF00)) ^ SEND_VERSION;
             final int dataLen = data.length ^ rawSeq;
@@ -40,7 +55,6 @@ public final class PacketEncoder extends MessageToByteEncoder<OutPacket> {
             out.writeShortLE(rawSeq);
             out.writeShortLE(dataLen);
 
-            ShandaCrypto.encrypt(data);
             MapleCrypto.crypt(data, iv);
             c.setSendIv(IGCipher.innoHash(iv));
 
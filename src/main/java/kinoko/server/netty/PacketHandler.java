@@ -14,18 +14,15 @@ import org.apache.logging.log4j.Level;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
-import java.lang.reflect.InvocationTargetException;
+import java.lang.invoke.*;
 import java.lang.reflect.Method;
-import java.util.Collections;
-import java.util.EnumMap;
-import java.util.Map;
 
 public abstract class PacketHandler extends SimpleChannelInboundHandler<InPacket> {
     private static final Logger log = LogManager.getLogger(PacketHandler.class);
-    private final Map<InHeader, Method> handlerMap;
+    private final HandlerFunction[] handlerTable; // InHeader value -> handler function
 
-    protected PacketHandler(Map<InHeader, Method> handlerMap) {
-        this.handlerMap = handlerMap;
+    protected PacketHandler(HandlerFunction[] handlerTable) {
+        this.handlerTable = handlerTable;
     }
 
     @Override
@@ -37,26 +34,25 @@ public abstract class PacketHandler extends SimpleChannelInboundHandler<InPacket
             log.error("Unknown opcode {} | {}", Util.opToString(op), inPacket);
             return;
         }
-        final Method handler = handlerMap.get(header);
+        final HandlerFunction handler = handlerTable[header.getValue()];
         if (handler == null) {
             log.log(!header.isIgnoreHeader() ? Level.DEBUG : Level.TRACE, "Unhandled header {}({}) | {}", header, Util.opToString(op), inPacket);
             return;
         }
         log.log(ServerConfig.DEBUG_MODE && !header.isIgnoreHeader() ? Level.DEBUG : Level.TRACE, "[In]  | {}({}) {}", header, Util.opToString(op), inPacket);
-        ServerExecutor.submit(client, () -> {
+        final boolean submitted = ServerExecutor.submit(client, () -> {
             try {
-                if (handler.getParameterTypes()[0] == Client.class) {
-                    handler.invoke(null, client, inPacket);
-                } else if (handler.getParameterTypes()[0] == User.class) {
-                    handler.invoke(null, client.getUser(), inPacket);
-                } else {
-                    throw new IllegalStateException("Handler with incorrect parameter types.");
-                }
-            } catch (IllegalAccessException | InvocationTargetException e) {
+                handler.handle(client, inPacket);
+            } catch (Exception e) {
                 log.error("Exception caught while invoking packet handler", e);
                 e.printStackTrace();
             }
         });
+        if (!submitted) {
+            // Disconnect instead of dropping the client's input, which would leave the client out of sync
+            log.error("Could not submit handler for header {}, closing client", header);
+            ctx.close();
+        }
     }
 
     @Override
@@ -65,7 +61,10 @@ public abstract class PacketHandler extends SimpleChannelInboundHandler<InPacket
         final Client client = (Client) ctx.channel().attr(NettyClient.CLIENT_KEY).get();
         if (client != null) {
             log.log(ServerConfig.DEBUG_MODE ? Level.DEBUG : Level.TRACE, "Closing client");
-            ServerExecutor.submit(client, client::close);
+            if (!ServerExecutor.submit(client, client::close)) {
+                // Log out and save the user even if their field does not accept tasks
+                ServerExecutor.submitService(client::close);
+            }
         }
     }
 
@@ -75,8 +74,13 @@ public abstract class PacketHandler extends SimpleChannelInboundHandler<InPacket
         cause.printStackTrace();
     }
 
-    protected static Map<InHeader, Method> loadHandlers(Class<?>... handlerClasses) {
-        final Map<InHeader, Method> handlerMap = new EnumMap<>(InHeader.class);
+    /**
+     * Creates a dispatch table indexed by {@link InHeader} value for the {@link Handler} methods in the provided classes.
+     * Each handler method is bound to a generated {@link HandlerFunction} once, so that dispatching a packet does not
+     * involve reflection.
+     */
+    protected static HandlerFunction[] loadHandlers(Class<?>... handlerClasses) {
+        final HandlerFunction[] handlerTable = new HandlerFunction[InHeader.NO.getValue() + 1];
         for (Class<?> clazz : handlerClasses) {
             for (Method method : clazz.getDeclaredMethods()) {
                 if (!method.isAnnotationPresent(Handler.class)) {
@@ -86,15 +90,45 @@ public abstract class PacketHandler extends SimpleChannelInboundHandler<InPacket
                         method.getParameterTypes()[1] != InPacket.class) {
                     throw new RuntimeException(String.format("Incorrect parameters for handler method \"%s\"", method.getName()));
                 }
+                final HandlerFunction handlerFunction = createHandlerFunction(method);
                 Handler annotation = method.getAnnotation(Handler.class);
                 for (InHeader header : annotation.value()) {
-                    if (handlerMap.containsKey(header)) {
+                    if (handlerTable[header.getValue()] != null) {
                         throw new RuntimeException(String.format("Multiple handlers found for InHeader \"%s\"", header.name()));
                     }
-                    handlerMap.put(header, method);
+                    handlerTable[header.getValue()] = handlerFunction;
                 }
             }
         }
-        return Collections.unmodifiableMap(handlerMap);
+        return handlerTable;
+    }
+
+    static HandlerFunction createHandlerFunction(Method method) {
+        try {
+            final MethodHandles.Lookup lookup = MethodHandles.lookup();
+            final MethodHandle methodHandle = lookup.unreflect(method);
+            if (method.getParameterTypes()[0] == Client.class) {
+                final CallSite callSite = LambdaMetafactory.metafactory(lookup, "handle", MethodType.methodType(HandlerFunction.class),
+                        methodHandle.type(), methodHandle, methodHandle.type());
+                return (HandlerFunction) callSite.getTarget().invokeExact();
+            } else {
+                final CallSite callSite = LambdaMetafactory.metafactory(lookup, "handle", MethodType.methodType(UserHandlerFunction.class),
+                        methodHandle.type(), methodHandle, methodHandle.type());
+                final UserHandlerFunction userHandlerFunction = (UserHandlerFunction) callSite.getTarget().invokeExact();
+                return (client, inPacket) -> userHandlerFunction.handle(client.getUser(), inPacket);
+            }
+        } catch (Throwable e) {
+            throw new RuntimeException(String.format("Could not create handler function for method \"%s\"", method.getName()), e);
+        }
+    }
+
+    @FunctionalInterface
+    protected interface HandlerFunction {
+        void handle(Client client, InPacket inPacket);
+    }
+
+    @FunctionalInterface
+    protected interface UserHandlerFunction {
+        void handle(User user, InPacket inPacket);
     }
 }
@@ -0,0 +1,84 @@
+package kinoko.server.netty;
+
+import kinoko.server.ServerConfig;
+
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Coalesces packet flushes for the duration of an executor task. While a batch is active on the current thread,
+ * {@link NettyClient#write} only queues packets in the channel outbound buffer, and every written client is flushed
+ * once when the outermost batch ends. Batches that are held open for longer than
+ * {@link ServerConfig#WRITE_BATCH_MAX_LATENCY} are flushed early on the next write.
+ */
+public final class WriteBatch {
+    private static final ThreadLocal<WriteBatch> threadBatch = ThreadLocal.withInitial(WriteBatch::new);
+    private static final long maxLatency = TimeUnit.MILLISECONDS.toNanos(ServerConfig.WRITE_BATCH_MAX_LATENCY);
+    private static final LongAdder packetCount = new LongAdder();
+    private static final LongAdder flushCount = new LongAdder();
+    private final Set<NettyClient> pendingClients = new LinkedHashSet<>();
+    private int depth;
+    private long startTime;
+
+    private WriteBatch() {
+    }
+
+    private void flush() {
+        for (NettyClient client : pendingClients) {
+            client.flush();
+        }
+        flushCount.add(pendingClients.size());
+        pendingClients.clear();
+        startTime = System.nanoTime();
+    }
+
+    public static void begin() {
+        final WriteBatch batch = threadBatch.get();
+        if (batch.depth++ == 0) {
+            batch.startTime = System.nanoTime();
+        }
+    }
+
+    public static void end() {
+        final WriteBatch batch = threadBatch.get();
+        if (--batch.depth == 0) {
+            batch.flush();
+        }
+    }
+
+    /**
+     * Registers a pending write for the client.
+     *
+     * @return false if there is no active batch on the current thread, in which case the caller should flush
+     * immediately.
+     */
+    static boolean add(NettyClient client) {
+        final WriteBatch batch = threadBatch.get();
+        if (batch.depth == 0) {
+            packetCount.increment();
+            flushCount.increment();
+            return false;
+        }
+        if (System.nanoTime() - batch.startTime > maxLatency) {
+            batch.flush();
+        }
+        packetCount.increment();
+        batch.pendingClients.add(client);
+        return true;
+    }
+
+    public static long getPacketCount() {
+        return packetCount.sum();
+    }
+
+    public static long getFlushCount() {
+        return flushCount.sum();
+    }
+
+    public static double getPacketsPerFlush() {
+        final long flushes = getFlushCount();
+        return flushes != 0 ? (double) getPacketCount() / flushes : 0;
+    }
+}
@@ -0,0 +1,203 @@
+package kinoko.server.node;
+
+import io.netty.channel.Channel;
+import kinoko.packet.CentralPacket;
+import kinoko.server.ServerConfig;
+import kinoko.server.header.CentralHeader;
+import kinoko.server.packet.OutPacket;
+import kinoko.server.user.RemoteUser;
+import kinoko.util.LatencyHistogram;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.IntFunction;
+
+/**
+ * Connection from a server node to the central server. Messages are queued and written by the channel's event loop, so
+ * that every message submitted within one event loop tick is sent with a single flush. Repeated user updates for the
+ * same character are coalesced for {@link ServerConfig#CENTRAL_UPDATE_WINDOW}, a pending update is written ahead of any
+ * other message for the same character so that the central server receives them in order. Requests that are not
+ * answered within {@link ServerConfig#CENTRAL_REQUEST_TTL} are completed with their timeout result.
+ */
+public final class CentralClient {
+    private static final Logger log = LogManager.getLogger(CentralClient.class);
+    private static final AtomicInteger requestIdCounter = new AtomicInteger(1);
+    private static final long requestTtl = TimeUnit.SECONDS.toNanos(ServerConfig.CENTRAL_REQUEST_TTL);
+    private final Queue<OutPacket> pendingPackets = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean flushScheduled = new AtomicBoolean(false);
+    private final ConcurrentHashMap<Integer, RemoteUser> pendingUpdates = new ConcurrentHashMap<>(); // character id -> latest update
+    private final ConcurrentHashMap<Integer, PendingRequest<?>> pendingRequests = new ConcurrentHashMap<>(); // request id -> request
+    private final Map<CentralHeader, LatencyHistogram> requestLatencies = new EnumMap<>(CentralHeader.class);
+    private final Map<CentralHeader, LongAdder> requestTimeouts = new EnumMap<>(CentralHeader.class);
+    private final LongAdder packetCount = new LongAdder();
+    private final LongAdder flushCount = new LongAdder();
+    private final LongAdder coalescedCount = new LongAdder();
+    private final Channel channel;
+    private final ScheduledFuture<?> sweepSchedule;
+
+    public CentralClient(Channel channel) {
+        this.channel = channel;
+        for (CentralHeader header : CentralHeader.values()) {
+            requestLatencies.put(header, new LatencyHistogram());
+            requestTimeouts.put(header, new LongAdder());
+        }
+        this.sweepSchedule = ServerExecutor.scheduleServiceWithFixedDelay(() -> sweepRequests(System.nanoTime()), 1, 1, TimeUnit.SECONDS);
+    }
+
+    public void write(OutPacket outPacket) {
+        pendingPackets.add(outPacket);
+        if (flushScheduled.compareAndSet(false, true)) {
+            channel.eventLoop().execute(this::flush);
+        }
+    }
+
+    /**
+     * Writes a message for the character, any pending user update for the character is written first.
+     */
+    public void write(int characterId, OutPacket outPacket) {
+        flushUserUpdate(characterId);
+        write(outPacket);
+    }
+
+    /**
+     * Sends the user update once the update window has passed, replacing any update for the same character that is
+     * still pending.
+     */
+    public void writeUserUpdate(RemoteUser remoteUser) {
+        if (ServerConfig.CENTRAL_UPDATE_WINDOW <= 0) {
+            write(CentralPacket.userUpdate(remoteUser));
+            return;
+        }
+        final int characterId = remoteUser.getCharacterId();
+        if (pendingUpdates.put(characterId, remoteUser) != null) {
+            coalescedCount.increment();
+            return;
+        }
+        channel.eventLoop().schedule(() -> flushUserUpdate(characterId), ServerConfig.CENTRAL_UPDATE_WINDOW, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Writes the pending user update for the character without waiting for the update window.
+     */
+    public void flushUserUpdate(int characterId) {
+        final RemoteUser latest = pendingUpdates.remove(characterId);
+        if (latest != null) {
+            write(CentralPacket.userUpdate(latest));
+        }
+    }
+
+    /**
+     * Drops any pending user update for the character, which would otherwise be sent after the disconnect.
+     */
+    public void writeUserDisconnect(RemoteUser remoteUser) {
+        pendingUpdates.remove(remoteUser.getCharacterId());
+        write(CentralPacket.userDisconnect(remoteUser));
+    }
+
+    /**
+     * Submits a request to the central server, the packet is created with a new request ID.
+     *
+     * @param timeoutResult result used to complete the request if it is not answered in time.
+     */
+    public <T> CompletableFuture<T> submitRequest(CentralHeader header, T timeoutResult, IntFunction<OutPacket> packetFunction) {
+        final int requestId = requestIdCounter.getAndIncrement();
+        final PendingRequest<T> request = new PendingRequest<>(header, timeoutResult);
+        pendingRequests.put(requestId, request);
+        write(packetFunction.apply(requestId));
+        return request.future;
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T> void completeRequest(int requestId, T result) {
+        final PendingRequest<T> request = (PendingRequest<T>) pendingRequests.remove(requestId);
+        if (request == null) {
+            log.warn("Received result for unknown or expired request ID : {}", requestId);
+            return;
+        }
+        requestLatencies.get(request.header).record(System.nanoTime() - request.startTime);
+        request.future.complete(result);
+    }
+
+    public Map<CentralHeader, LatencyHistogram> getRequestLatencies() {
+        return Collections.unmodifiableMap(requestLatencies);
+    }
+
+    public long getRequestTimeouts(CentralHeader header) {
+        return requestTimeouts.get(header).sum();
+    }
+
+    public long getPacketCount() {
+        return packetCount.sum();
+    }
+
+    public long getFlushCount() {
+        return flushCount.sum();
+    }
+
+    public long getCoalescedCount() {
+        return coalescedCount.sum();
+    }
+
+    /**
+     * Writes the final packet and closes the connection once every pending packet has been flushed.
+     */
+    public void close(OutPacket outPacket) throws InterruptedException {
+        sweepSchedule.cancel(false);
+        for (int characterId : pendingUpdates.keySet()) {
+            flushUserUpdate(characterId);
+        }
+        write(outPacket);
+        // Tasks on the event loop are executed in order, the close is processed after the pending flush
+        channel.close().sync();
+    }
+
+    private void flush() {
+        flushScheduled.set(false);
+        int count = 0;
+        OutPacket outPacket;
+        while ((outPacket = pendingPackets.poll()) != null) {
+            channel.write(outPacket, channel.voidPromise());
+            count++;
+        }
+        if (count != 0) {
+            channel.flush();
+            packetCount.add(count);
+            flushCount.increment();
+        }
+    }
+
+    void sweepRequests(long now) {
+        final var iter = pendingRequests.entrySet().iterator();
+        while (iter.hasNext()) {
+            final Map.Entry<Integer, PendingRequest<?>> entry = iter.next();
+            final PendingRequest<?> request = entry.getValue();
+            if (now - request.startTime < requestTtl || !pendingRequests.remove(entry.getKey(), request)) {
+                continue;
+            }
+            log.warn("Central request {} with ID : {} timed out", request.header, entry.getKey());
+            requestTimeouts.get(request.header).increment();
+            request.timeout();
+        }
+    }
+
+    private static final class PendingRequest<T> {
+        private final CompletableFuture<T> future = new CompletableFuture<>();
+        private final long startTime = System.nanoTime();
+        private final CentralHeader header;
+        private final T timeoutResult;
+
+        private PendingRequest(CentralHeader header, T timeoutResult) {
+            this.header = header;
+            this.timeoutResult = timeoutResult;
+        }
+
+        private void timeout() {
+            future.complete(timeoutResult);
+        }
+    }
+}
@@ -15,12 +15,16 @@ import kinoko.server.field.Instance;
 import kinoko.server.field.InstanceStorage;
 import kinoko.server.guild.GuildBoardRequest;
 import kinoko.server.guild.GuildRequest;
+import kinoko.server.header.CentralHeader;
 import kinoko.server.messenger.MessengerRequest;
 import kinoko.server.migration.MigrationInfo;
 import kinoko.server.migration.TransferInfo;
 import kinoko.server.netty.*;
+import kinoko.server.packet.BroadcastOutPacket;
 import kinoko.server.packet.OutPacket;
 import kinoko.server.party.PartyRequest;
+import kinoko.server.rank.RankManager;
+import kinoko.server.user.AutosaveManager;
 import kinoko.server.user.RemoteUser;
 import kinoko.server.user.SpeakerManager;
 import kinoko.world.field.Field;
@@ -42,10 +46,12 @@ public final class ChannelServerNode extends ServerNode {
     private final ChannelFieldStorage fieldStorage = new ChannelFieldStorage();
     private final InstanceStorage instanceStorage = new InstanceStorage();
     private final SpeakerManager speakerManager = new SpeakerManager();
+    private final AutosaveManager autosaveManager = new AutosaveManager();
     private final EventManager eventManager = new EventManager();
     private final int channelId;
     private final int channelPort;
     private ChannelFuture centralClientFuture;
+    private CentralClient centralClient;
     private ChannelFuture channelServerFuture;
 
     public ChannelServerNode(int channelId, int channelPort) {
@@ -61,47 +67,40 @@ public final class ChannelServerNode extends ServerNode {
         return channelPort;
     }
 
+    public CentralClient getCentralClient() {
+        return centralClient;
+    }
+
 
     // MIGRATION METHODS -----------------------------------------------------------------------------------------------
 
     public void submitMigrationRequest(int accountId, int characterId, byte[] machineId, byte[] clientKey, Consumer<Optional<MigrationInfo>> consumer) {
-        final CompletableFuture<Optional<MigrationInfo>> migrationRequestFuture = new CompletableFuture<>();
+        final CompletableFuture<Optional<MigrationInfo>> migrationRequestFuture = centralClient.submitRequest(CentralHeader.MigrateRequest, Optional.empty(),
+                (requestId) -> CentralPacket.migrateRequest(requestId, accountId, characterId, machineId, clientKey));
         migrationRequestFuture.thenAccept(consumer).exceptionally(e -> {
             log.error("Exception caught while consuming migration request", e);
             e.printStackTrace();
             return null;
         });
-        final int requestId = getNewRequestId();
-        requestFutures.put(requestId, migrationRequestFuture);
-        centralClientFuture.channel().writeAndFlush(CentralPacket.migrateRequest(requestId, accountId, characterId, machineId, clientKey));
     }
 
-    @SuppressWarnings("unchecked")
     public void completeMigrationRequest(int requestId, MigrationInfo migrationInfo) {
-        final CompletableFuture<Optional<MigrationInfo>> migrationRequestFuture = (CompletableFuture<Optional<MigrationInfo>>) requestFutures.remove(requestId);
-        if (migrationRequestFuture != null) {
-            migrationRequestFuture.complete(Optional.ofNullable(migrationInfo));
-        }
+        centralClient.completeRequest(requestId, Optional.ofNullable(migrationInfo));
     }
 
     public void submitTransferRequest(MigrationInfo migrationInfo, Consumer<Optional<TransferInfo>> consumer) {
-        final CompletableFuture<Optional<TransferInfo>> transferRequestFuture = new CompletableFuture<>();
+        centralClient.flushUserUpdate(migrationInfo.getCharacterId());
+        final CompletableFuture<Optional<TransferInfo>> transferRequestFuture = centralClient.submitRequest(CentralHeader.TransferRequest, Optional.empty(),
+                (requestId) -> CentralPacket.transferRequest(requestId, migrationInfo));
         transferRequestFuture.thenAccept(consumer).exceptionally(e -> {
             log.error("Exception caught while consuming transfer request", e);
             e.printStackTrace();
             return null;
         });
-        final int requestId = getNewRequestId();
-        requestFutures.put(requestId, transferRequestFuture);
-        centralClientFuture.channel().writeAndFlush(CentralPacket.transferRequest(requestId, migrationInfo));
     }
 
-    @SuppressWarnings("unchecked")
     public void completeTransferRequest(int requestId, TransferInfo transferInfo) {
-        final CompletableFuture<Optional<TransferInfo>> transferRequestFuture = (CompletableFuture<Optional<TransferInfo>>) requestFutures.remove(requestId);
-        if (transferRequestFuture != null) {
-            transferRequestFuture.complete(Optional.ofNullable(transferInfo));
-        }
+        centralClient.completeRequest(requestId, Optional.ofNullable(transferInfo));
     }
 
 
@@ -120,47 +119,42 @@ public final class ChannelServerNode extends ServerNode {
     }
 
     public void notifyUserConnect(User user) {
-        centralClientFuture.channel().writeAndFlush(CentralPacket.userConnect(RemoteUser.from(user)));
+        centralClient.write(user.getCharacterId(), CentralPacket.userConnect(RemoteUser.from(user)));
     }
 
     public void notifyUserUpdate(User user) {
-        centralClientFuture.channel().writeAndFlush(CentralPacket.userUpdate(RemoteUser.from(user)));
+        centralClient.writeUserUpdate(RemoteUser.from(user));
+        RankManager.updateCharacter(user.getCharacterData());
     }
 
     public void notifyUserDisconnect(User user) {
-        centralClientFuture.channel().writeAndFlush(CentralPacket.userDisconnect(RemoteUser.from(user)));
+        centralClient.writeUserDisconnect(RemoteUser.from(user));
     }
 
     public void submitUserPacketRequest(String characterName, OutPacket remotePacket) {
-        centralClientFuture.channel().writeAndFlush(CentralPacket.userPacketRequest(characterName, remotePacket));
+        centralClient.write(CentralPacket.userPacketRequest(characterName, remotePacket));
     }
 
     public void submitUserPacketReceive(int characterId, OutPacket remotePacket) {
-        centralClientFuture.channel().writeAndFlush(CentralPacket.userPacketReceive(characterId, remotePacket));
+        centralClient.write(characterId, CentralPacket.userPacketReceive(characterId, remotePacket));
     }
 
     public void submitUserPacketBroadcast(List<Integer> characterIds, OutPacket remotePacket) {
-        centralClientFuture.channel().writeAndFlush(CentralPacket.userPacketBroadcast(characterIds, remotePacket));
+        centralClient.write(CentralPacket.userPacketBroadcast(characterIds, remotePacket));
     }
 
     public void submitUserQueryRequest(List<String> characterNames, Consumer<List<RemoteUser>> consumer) {
-        final CompletableFuture<List<RemoteUser>> userRequestFuture = new CompletableFuture<>();
+        final CompletableFuture<List<RemoteUser>> userRequestFuture = centralClient.submitRequest(CentralHeader.UserQueryRequest, List.of(),
+                (requestId) -> CentralPacket.userQueryRequest(requestId, characterNames));
         userRequestFuture.thenAccept(consumer).exceptionally(e -> {
             log.error("Exception caught while consuming user query request", e);
             e.printStackTrace();
             return null;
         });
-        final int requestId = getNewRequestId();
-        requestFutures.put(requestId, userRequestFuture);
-        centralClientFuture.channel().writeAndFlush(CentralPacket.userQueryRequest(requestId, characterNames));
     }
 
-    @SuppressWarnings("unchecked")
     public void completeUserQueryRequest(int requestId, List<RemoteUser> remoteUsers) {
-        final CompletableFuture<List<RemoteUser>> userRequestFuture = (CompletableFuture<List<RemoteUser>>) requestFutures.remove(requestId);
-        if (userRequestFuture != null) {
-            userRequestFuture.complete(remoteUsers);
-        }
+        centralClient.completeRequest(requestId, remoteUsers);
     }
 
 
@@ -175,7 +169,7 @@ public final class ChannelServerNode extends ServerNode {
     }
 
     public void submitWorldSpeakerRequest(int characterId, boolean avatar, OutPacket outPacket) {
-        centralClientFuture.channel().writeAndFlush(CentralPacket.worldSpeakerRequest(characterId, avatar, outPacket));
+        centralClient.write(characterId, CentralPacket.worldSpeakerRequest(characterId, avatar, outPacket));
     }
 
     public void completeWorldSpeakerRequest(int characterId, boolean avatar, OutPacket outPacket) {
@@ -183,32 +177,33 @@ public final class ChannelServerNode extends ServerNode {
     }
 
     public void submitChannelPacketBroadcast(OutPacket outPacket) {
+        final BroadcastOutPacket broadcastPacket = BroadcastOutPacket.from(outPacket);
         for (User user : clientStorage.getConnectedUsers()) {
-            user.write(outPacket);
+            user.write(broadcastPacket);
         }
     }
 
     public void submitServerPacketBroadcast(OutPacket outPacket) {
-        centralClientFuture.channel().writeAndFlush(CentralPacket.serverPacketBroadcast(outPacket));
+        centralClient.write(CentralPacket.serverPacketBroadcast(outPacket));
     }
 
 
     // OTHER CENTRAL REQUESTS ------------------------------------------------------------------------------------------
 
     public void submitMessengerRequest(User user, MessengerRequest messengerRequest) {
-        centralClientFuture.channel().writeAndFlush(CentralPacket.messengerRequest(user.getCharacterId(), messengerRequest));
+        centralClient.write(user.getCharacterId(), CentralPacket.messengerRequest(user.getCharacterId(), messengerRequest));
     }
 
     public void submitPartyRequest(User user, PartyRequest partyRequest) {
-        centralClientFuture.channel().writeAndFlush(CentralPacket.partyRequest(user.getCharacterId(), partyRequest));
+        centralClient.write(user.getCharacterId(), CentralPacket.partyRequest(user.getCharacterId(), partyRequest));
     }
 
     public void submitGuildRequest(User user, GuildRequest guildRequest) {
-        centralClientFuture.channel().writeAndFlush(CentralPacket.guildRequest(user.getCharacterId(), guildRequest));
+        centralClient.write(user.getCharacterId(), CentralPacket.guildRequest(user.getCharacterId(), guildRequest));
     }
 
     public void submitBoardRequest(User user, GuildBoardRequest boardRequest) {
-        centralClientFuture.channel().writeAndFlush(CentralPacket.boardRequest(user.getCharacterId(), boardRequest));
+        centralClient.write(user.getCharacterId(), CentralPacket.boardRequest(user.getCharacterId(), boardRequest));
     }
 
 
@@ -243,6 +238,7 @@ public final class ChannelServerNode extends ServerNode {
     public void initialize() throws InterruptedException, UnknownHostException {
         // Initialize channel server classes
         speakerManager.initialize(clientStorage);
+        autosaveManager.initialize(clientStorage);
         eventManager.initialize(fieldStorage);
 
         // Start channel server
@@ -271,12 +267,14 @@ public final class ChannelServerNode extends ServerNode {
             }
         }, InetAddress.getByAddress(ServerConstants.CENTRAL_HOST), ServerConstants.CENTRAL_PORT);
         centralClientFuture.sync();
+        centralClient = new CentralClient(centralClientFuture.channel());
     }
 
     @Override
     public void shutdown() throws InterruptedException {
         // Close client channels
         startShutdown();
+        autosaveManager.shutdown();
         for (Client client : clientStorage.getConnectedClients()) {
             client.close();
         }
@@ -292,8 +290,7 @@ public final class ChannelServerNode extends ServerNode {
         log.info("Channel {} closed", channelId + 1);
 
         // Close central client
-        centralClientFuture.channel().writeAndFlush(CentralPacket.shutdownResult(channelId, true));
-        centralClientFuture.channel().close().sync();
+        centralClient.close(CentralPacket.shutdownResult(channelId, true));
         log.info("Central client {} closed", channelId + 1);
     }
 }
@@ -6,12 +6,19 @@ import kinoko.packet.ClientPacket;
 import kinoko.server.netty.NettyClient;
 import kinoko.world.user.Account;
 import kinoko.world.user.User;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
 
 public final class Client extends NettyClient {
+    private static final Logger log = LogManager.getLogger(Client.class);
     private Account account;
     private User user;
     private byte[] machineId;
     private byte[] clientKey;
+    private boolean closing;
 
     public Client(ServerNode serverNode, SocketChannel socketChannel) {
         super(serverNode, socketChannel);
@@ -56,23 +63,36 @@ public final class Client extends NettyClient {
     @Override
     public synchronized void close() {
         super.close();
+        if (closing) {
+            return;
+        }
+        closing = true;
+        CompletionStage<?> saveFuture = CompletableFuture.completedFuture(null);
         if (user == null) {
             if (account != null) {
                 try (var lockedAccount = account.acquire()) {
-                    DatabaseManager.accountAccessor().saveAccount(account);
+                    saveFuture = DatabaseManager.accountAccessor().saveAccountAsync(account);
                 }
             }
         } else if (!user.isInTransfer()) {
             try (var locked = user.acquire()) {
                 try (var lockedAccount = account.acquire()) {
                     user.logout(true);
-                    DatabaseManager.accountAccessor().saveAccount(account);
-                    DatabaseManager.characterAccessor().saveCharacter(user.getCharacterData());
+                    saveFuture = DatabaseManager.accountAccessor().saveAccountAsync(account)
+                            .thenCombine(DatabaseManager.characterAccessor().saveCharacterAsync(user.getCharacterData()), (a, b) -> a && b);
                 }
             }
         }
-        getServerNode().removeClient(this);
-        account = null;
-        user = null;
+        // Keep the client registered until it is saved, so that it cannot log in again and the server cannot shut down
+        saveFuture.whenComplete((result, e) -> {
+            if (e != null) {
+                log.error("Failed to save client on close", e);
+            }
+            synchronized (this) {
+                getServerNode().removeClient(this);
+                account = null;
+                user = null;
+            }
+        });
     }
 }
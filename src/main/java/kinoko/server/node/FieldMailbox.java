@@ -0,0 +1,163 @@
+package kinoko.server.node;
+
+import kinoko.server.ServerConfig;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Bounded task mailbox for a field, or for every field of an instance. Tasks in a mailbox are executed one at a time in
+ * submission order, but the mailbox is not bound to a specific thread - whenever it has pending tasks, it is scheduled
+ * on the shared game executor and drained by whichever carrier thread is free.
+ */
+public final class FieldMailbox implements Runnable {
+    private static final Logger log = LogManager.getLogger(FieldMailbox.class);
+    private static final int DRAIN_LIMIT = 64;
+    private static final long SLOW_TASK_THRESHOLD = TimeUnit.MILLISECONDS.toNanos(ServerConfig.FIELD_TICK_INTERVAL);
+    private final Queue<Runnable> queue = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger queueSize = new AtomicInteger();
+    private final AtomicBoolean scheduled = new AtomicBoolean(false);
+    private final AtomicBoolean closed = new AtomicBoolean(false);
+    private final String name;
+    private final Executor executor;
+
+    // Only written by the thread currently draining the mailbox
+    private volatile long taskCount;
+    private volatile long totalTaskTime;
+    private volatile long maxTaskTime;
+    private volatile long taskStartTime;
+    private volatile int maxQueueSize;
+    private volatile long reportedStartTime;
+
+    FieldMailbox(String name, Executor executor) {
+        this.name = name;
+        this.executor = executor;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public boolean isClosed() {
+        return closed.get();
+    }
+
+    public int getQueueSize() {
+        return queueSize.get();
+    }
+
+    public int getMaxQueueSize() {
+        return maxQueueSize;
+    }
+
+    public long getTaskCount() {
+        return taskCount;
+    }
+
+    /**
+     * Total execution time of all tasks in nanoseconds.
+     */
+    public long getTotalTaskTime() {
+        return totalTaskTime;
+    }
+
+    /**
+     * Longest execution time of a single task in nanoseconds.
+     */
+    public long getMaxTaskTime() {
+        return maxTaskTime;
+    }
+
+    public double getAverageTaskTime() {
+        final long count = taskCount;
+        return count != 0 ? (double) totalTaskTime / count : 0;
+    }
+
+    /**
+     * Closes the mailbox, pending tasks are still executed but new tasks are rejected.
+     */
+    public void close() {
+        if (closed.compareAndSet(false, true)) {
+            ServerExecutor.unregisterMailbox(this);
+        }
+    }
+
+    /**
+     * @return false if the mailbox is closed or full, in which case the task is not executed.
+     */
+    boolean submit(Runnable runnable) {
+        if (closed.get()) {
+            log.warn("Rejected task for closed mailbox {}", name);
+            return false;
+        }
+        final int size = queueSize.incrementAndGet();
+        if (size > ServerConfig.FIELD_MAILBOX_CAPACITY) {
+            queueSize.decrementAndGet();
+            log.error("Rejected task for mailbox {}, queue is full", name);
+            return false;
+        }
+        queue.add(runnable);
+        if (scheduled.compareAndSet(false, true)) {
+            executor.execute(this);
+        }
+        return true;
+    }
+
+    /**
+     * Logs the mailbox if the current task has been running for longer than the field tick interval, each task is only
+     * reported once.
+     */
+    void checkStuck(long now) {
+        final long startTime = taskStartTime;
+        if (startTime != 0 && startTime != reportedStartTime && now - startTime > SLOW_TASK_THRESHOLD) {
+            reportedStartTime = startTime;
+            log.warn("Task for {} has been running for {} ms, queued tasks : {}", name, TimeUnit.NANOSECONDS.toMillis(now - startTime), queueSize.get());
+        }
+    }
+
+    @Override
+    public void run() {
+        final int size = queueSize.get();
+        if (size > maxQueueSize) {
+            maxQueueSize = size;
+        }
+        for (int i = 0; i < DRAIN_LIMIT; i++) {
+            final Runnable runnable = queue.poll();
+            if (runnable == null) {
+                break;
+            }
+            queueSize.decrementAndGet();
+            runTask(runnable);
+        }
+        // Allow other mailboxes to run before draining the remaining tasks
+        scheduled.set(false);
+        if (!queue.isEmpty() && scheduled.compareAndSet(false, true)) {
+            executor.execute(this);
+        }
+    }
+
+    private void runTask(Runnable runnable) {
+        final long startTime = System.nanoTime();
+        taskStartTime = startTime;
+        try {
+            runnable.run();
+        } finally {
+            final long elapsed = System.nanoTime() - startTime;
+            taskStartTime = 0;
+            taskCount = taskCount + 1;
+            totalTaskTime = totalTaskTime + elapsed;
+            if (elapsed > maxTaskTime) {
+                maxTaskTime = elapsed;
+            }
+            if (elapsed > SLOW_TASK_THRESHOLD) {
+                log.warn("Task for {} took {} ms, exceeding the field tick interval", name, TimeUnit.NANOSECONDS.toMillis(elapsed));
+            }
+        }
+    }
+}
@@ -0,0 +1,124 @@
+package kinoko.server.node;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.Queue;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Executes tasks in submission order per key, while tasks for different keys run in parallel. Keys are hashed onto a
+ * fixed number of serial stripes which are drained by a dedicated thread pool, so a slow task only delays the keys that
+ * share its stripe. Each stripe has a bounded queue, tasks submitted to a full stripe are rejected.
+ */
+public final class KeyedExecutor {
+    private static final Logger log = LogManager.getLogger(KeyedExecutor.class);
+    private static final int DRAIN_LIMIT = 64;
+    private final AtomicInteger nextStripe = new AtomicInteger();
+    private final Stripe[] stripes;
+    private final ExecutorService executor;
+    private final String name;
+    private final int capacity;
+
+    public KeyedExecutor(String name, int threadCount, int stripeCount, int capacity) {
+        final AtomicInteger threadIndex = new AtomicInteger();
+        this.executor = Executors.newFixedThreadPool(threadCount, (runnable) -> {
+            final Thread thread = new Thread(runnable, name + "-" + threadIndex.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.stripes = new Stripe[stripeCount];
+        for (int i = 0; i < stripeCount; i++) {
+            stripes[i] = new Stripe(i);
+        }
+        this.name = name;
+        this.capacity = capacity;
+    }
+
+    /**
+     * Submits a task that is executed after all previously submitted tasks with the same key.
+     *
+     * @return false if the task was rejected, as the queue of its stripe is full.
+     */
+    public boolean submit(int key, Runnable runnable) {
+        return stripes[Math.floorMod(spread(key), stripes.length)].submit(runnable);
+    }
+
+    /**
+     * Submits a task without ordering requirements.
+     *
+     * @return false if the task was rejected, as the queue of its stripe is full.
+     */
+    public boolean submit(Runnable runnable) {
+        return stripes[Math.floorMod(nextStripe.getAndIncrement(), stripes.length)].submit(runnable);
+    }
+
+    public int getQueueSize() {
+        int size = 0;
+        for (Stripe stripe : stripes) {
+            size += stripe.queueSize.get();
+        }
+        return size;
+    }
+
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    private static int spread(int key) {
+        // Sequential IDs of parties and guilds should not map to neighbouring stripes only
+        final int h = key * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+
+    private final class Stripe implements Runnable {
+        private final Queue<Runnable> queue = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger queueSize = new AtomicInteger();
+        private final AtomicBoolean scheduled = new AtomicBoolean(false);
+        private final int index;
+
+        private Stripe(int index) {
+            this.index = index;
+        }
+
+        private boolean submit(Runnable runnable) {
+            if (queueSize.incrementAndGet() > capacity) {
+                queueSize.decrementAndGet();
+                log.error("Rejected task for {} stripe {}, queue is full", name, index);
+                return false;
+            }
+            queue.add(runnable);
+            if (scheduled.compareAndSet(false, true)) {
+                schedule();
+            }
+            return true;
+        }
+
+        @Override
+        public void run() {
+            for (int i = 0; i < DRAIN_LIMIT; i++) {
+                final Runnable runnable = queue.poll();
+                if (runnable == null) {
+                    break;
+                }
+                queueSize.decrementAndGet();
+                runnable.run();
+            }
+            // Allow other stripes to run before draining the remaining tasks
+            scheduled.set(false);
+            if (!queue.isEmpty() && scheduled.compareAndSet(false, true)) {
+                schedule();
+            }
+        }
+
+        private void schedule() {
+            try {
+                executor.execute(this);
+            } catch (RejectedExecutionException e) {
+                log.warn("Rejected execution of {} stripe {}, executor is shut down", name, index);
+            }
+        }
+    }
+}
@@ -7,9 +7,11 @@ import kinoko.packet.CentralPacket;
 import kinoko.packet.stage.LoginPacket;
 import kinoko.server.ServerConfig;
 import kinoko.server.ServerConstants;
+import kinoko.server.header.CentralHeader;
 import kinoko.server.migration.MigrationInfo;
 import kinoko.server.migration.TransferInfo;
 import kinoko.server.netty.*;
+import kinoko.util.TokenBucket;
 import kinoko.world.user.Account;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -21,14 +23,18 @@ import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
 
 public final class LoginServerNode extends ServerNode {
     private static final Logger log = LogManager.getLogger(LoginServerNode.class);
     private final ConcurrentHashMap<Integer, ChannelInfo> channels = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<InetAddress, TokenBucket> loginBuckets = new ConcurrentHashMap<>();
+    private ScheduledFuture<?> loginBucketSchedule;
 
     private ChannelFuture centralClientFuture;
+    private CentralClient centralClient;
     private ChannelFuture loginServerFuture;
     private boolean initialized = false;
 
@@ -53,38 +59,47 @@ public final class LoginServerNode extends ServerNode {
     }
 
 
+    // LOGIN METHODS ---------------------------------------------------------------------------------------------------
+
+    /**
+     * Consumes a login attempt for the address, limited to {@link ServerConfig#LOGIN_RATE_LIMIT} attempts per minute.
+     * Attempts without an address are rejected, as they can not be rate limited.
+     */
+    public boolean tryLoginAttempt(InetAddress address) {
+        if (ServerConfig.LOGIN_RATE_LIMIT <= 0) {
+            return true;
+        }
+        if (address == null) {
+            return false;
+        }
+        return loginBuckets.computeIfAbsent(address, (key) -> new TokenBucket(ServerConfig.LOGIN_RATE_LIMIT, 1, TimeUnit.MINUTES)).tryAcquire();
+    }
+
+    private void removeFullBuckets() {
+        loginBuckets.values().removeIf(TokenBucket::isFull);
+    }
+
+
     // MIGRATION METHODS -----------------------------------------------------------------------------------------------
 
     public void submitOnlineRequest(Account account, Consumer<Boolean> consumer) {
-        final CompletableFuture<Boolean> onlineRequestFuture = new CompletableFuture<>();
+        final CompletableFuture<Boolean> onlineRequestFuture = centralClient.submitRequest(CentralHeader.OnlineRequest, true,
+                (requestId) -> CentralPacket.onlineRequest(requestId, account.getId()));
         onlineRequestFuture.thenAccept(consumer);
-        final int requestId = getNewRequestId();
-        requestFutures.put(requestId, onlineRequestFuture);
-        centralClientFuture.channel().writeAndFlush(CentralPacket.onlineRequest(requestId, account.getId()));
     }
 
-    @SuppressWarnings("unchecked")
     public void completeOnlineRequest(int requestId, boolean online) {
-        final CompletableFuture<Boolean> onlineRequestFuture = (CompletableFuture<Boolean>) requestFutures.remove(requestId);
-        if (onlineRequestFuture != null) {
-            onlineRequestFuture.complete(online);
-        }
+        centralClient.completeRequest(requestId, online);
     }
 
     public void submitLoginRequest(MigrationInfo migrationInfo, Consumer<Optional<TransferInfo>> consumer) {
-        final CompletableFuture<Optional<TransferInfo>> transferRequestFuture = new CompletableFuture<>();
+        final CompletableFuture<Optional<TransferInfo>> transferRequestFuture = centralClient.submitRequest(CentralHeader.TransferRequest, Optional.empty(),
+                (requestId) -> CentralPacket.transferRequest(requestId, migrationInfo));
         transferRequestFuture.thenAccept(consumer);
-        final int requestId = getNewRequestId();
-        requestFutures.put(requestId, transferRequestFuture);
-        centralClientFuture.channel().writeAndFlush(CentralPacket.transferRequest(requestId, migrationInfo));
     }
 
-    @SuppressWarnings("unchecked")
     public void completeLoginRequest(int requestId, TransferInfo transferInfo) {
-        final CompletableFuture<Optional<TransferInfo>> transferRequestFuture = (CompletableFuture<Optional<TransferInfo>>) requestFutures.remove(requestId);
-        if (transferRequestFuture != null) {
-            transferRequestFuture.complete(Optional.ofNullable(transferInfo));
-        }
+        centralClient.completeRequest(requestId, Optional.ofNullable(transferInfo));
     }
 
 
@@ -92,6 +107,8 @@ public final class LoginServerNode extends ServerNode {
 
     @Override
     public void initialize() throws InterruptedException, UnknownHostException {
+        loginBucketSchedule = ServerExecutor.scheduleServiceWithFixedDelay(this::removeFullBuckets, 1, 1, TimeUnit.MINUTES);
+
         // Start login server
         final LoginServerNode self = this;
         loginServerFuture = startServer(new ChannelInitializer<>() {
@@ -122,12 +139,14 @@ public final class LoginServerNode extends ServerNode {
             }
         }, InetAddress.getByAddress(ServerConstants.CENTRAL_HOST), ServerConstants.CENTRAL_PORT);
         centralClientFuture.sync();
+        centralClient = new CentralClient(centralClientFuture.channel());
     }
 
     @Override
     public void shutdown() throws InterruptedException {
         // Close client channels
         startShutdown();
+        loginBucketSchedule.cancel(false);
         for (Client client : clientStorage.getConnectedClients()) {
             client.close();
         }
@@ -138,8 +157,7 @@ public final class LoginServerNode extends ServerNode {
         log.info("Login server closed");
 
         // Close central client
-        centralClientFuture.channel().writeAndFlush(CentralPacket.shutdownResult(-1, true));
-        centralClientFuture.channel().close().sync();
+        centralClient.close(CentralPacket.shutdownResult(-1, true));
         log.info("Central client 0 closed");
     }
 }
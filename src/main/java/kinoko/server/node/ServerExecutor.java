@@ -1,29 +1,41 @@
 package kinoko.server.node;
 
-import kinoko.server.field.InstanceFieldStorage;
+import kinoko.server.ServerConfig;
+import kinoko.server.netty.WriteBatch;
 import kinoko.world.field.Field;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
-import java.util.ArrayList;
-import java.util.Collections;
 import java.util.List;
+import java.util.Set;
 import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
 
 public final class ServerExecutor {
     private static final Logger log = LogManager.getLogger(ServerExecutor.class);
-    private static final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
-    private static final List<ExecutorService> gameExecutors;
+    private static final int TIMER_TICK_DURATION = 10; // ms
+    private static final int TIMER_WHEEL_SIZE = 512;
+    private static final int CENTRAL_STRIPE_COUNT = 64;
+    private static final AtomicInteger timerIndex = new AtomicInteger();
+    private static final TimerWheel[] timerWheels;
+    private static final Set<FieldMailbox> fieldMailboxes = ConcurrentHashMap.newKeySet();
+    private static final ExecutorService gameExecutor;
     private static final ExecutorService serviceExecutor;
+    private static final KeyedExecutor centralExecutor;
+    private static final ThreadPoolExecutor authExecutor;
 
     static {
         final int executorCount = Runtime.getRuntime().availableProcessors();
-        final List<ExecutorService> executors = new ArrayList<>();
+        gameExecutor = Executors.newFixedThreadPool(executorCount);
+        serviceExecutor = Executors.newFixedThreadPool(executorCount);
+        authExecutor = new ThreadPoolExecutor(ServerConfig.LOGIN_AUTH_THREADS, ServerConfig.LOGIN_AUTH_THREADS, 0L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(ServerConfig.LOGIN_QUEUE_CAPACITY));
+        centralExecutor = new KeyedExecutor("CentralExecutor", ServerConfig.CENTRAL_EXECUTOR_THREADS, CENTRAL_STRIPE_COUNT, ServerConfig.CENTRAL_QUEUE_CAPACITY);
+        timerWheels = new TimerWheel[executorCount];
         for (int i = 0; i < executorCount; i++) {
-            executors.add(Executors.newSingleThreadExecutor());
+            timerWheels[i] = new TimerWheel("TimerWheel-" + i, TIMER_TICK_DURATION, TimeUnit.MILLISECONDS, TIMER_WHEEL_SIZE);
         }
-        gameExecutors = Collections.unmodifiableList(executors);
-        serviceExecutor = Executors.newFixedThreadPool(executorCount);
+        scheduleServiceWithFixedDelay(ServerExecutor::checkMailboxes, ServerConfig.FIELD_TICK_INTERVAL, ServerConfig.FIELD_TICK_INTERVAL, TimeUnit.MILLISECONDS);
     }
 
     public static void initialize() {
@@ -31,31 +43,71 @@ public final class ServerExecutor {
     }
 
     public static void shutdown() {
-        gameExecutors.forEach(ExecutorService::shutdown);
+        gameExecutor.shutdown();
         serviceExecutor.shutdown();
+        centralExecutor.shutdown();
+        authExecutor.shutdown();
+        for (TimerWheel timerWheel : timerWheels) {
+            timerWheel.shutdown();
+        }
+    }
+
+
+    // FIELD MAILBOX METHODS -------------------------------------------------------------------------------------------
+
+    public static FieldMailbox createMailbox(String name) {
+        final FieldMailbox mailbox = new FieldMailbox(name, gameExecutor);
+        fieldMailboxes.add(mailbox);
+        return mailbox;
+    }
+
+    public static List<FieldMailbox> getMailboxes() {
+        return List.copyOf(fieldMailboxes);
+    }
+
+    static void unregisterMailbox(FieldMailbox mailbox) {
+        fieldMailboxes.remove(mailbox);
+    }
+
+    private static void checkMailboxes() {
+        final long now = System.nanoTime();
+        for (FieldMailbox mailbox : fieldMailboxes) {
+            mailbox.checkStuck(now);
+        }
     }
 
 
     // GAME EXECUTOR METHODS -------------------------------------------------------------------------------------------
 
-    public static void submit(Client client, Runnable runnable) {
+    /**
+     * @return false if the task was rejected by the mailbox of the client's field, in which case it is not executed.
+     */
+    public static boolean submit(Client client, Runnable runnable) {
         if (client.getUser() == null || client.getUser().getField() == null) {
             submitService(runnable);
+            return true;
         } else {
-            submit(client.getUser().getField(), runnable);
+            return submit(client.getUser().getField(), runnable);
         }
     }
 
-    public static void submit(Field field, Runnable runnable) {
-        wrapAndSubmit(field, runnable);
+    /**
+     * @return false if the field's mailbox is closed or full, in which case the task is not executed.
+     */
+    public static boolean submit(Field field, Runnable runnable) {
+        return wrapAndSubmit(field, runnable);
     }
 
     public static ScheduledFuture<?> schedule(Field field, Runnable runnable, long delay, TimeUnit timeUnit) {
-        return scheduler.schedule(() -> submit(field, runnable), delay, timeUnit);
+        return nextTimerWheel().schedule(getFieldExecutor(field), runnable, delay, timeUnit);
     }
 
+    /**
+     * The next execution is only scheduled once the previous one has completed, so a slow field does not accumulate
+     * ticks in its mailbox.
+     */
     public static ScheduledFuture<?> scheduleWithFixedDelay(Field field, Runnable runnable, long initialDelay, long delay, TimeUnit timeUnit) {
-        return scheduler.scheduleWithFixedDelay(() -> submit(field, runnable), initialDelay, delay, timeUnit);
+        return nextTimerWheel().scheduleWithFixedDelay(getFieldExecutor(field), runnable, initialDelay, delay, timeUnit);
     }
 
 
@@ -66,11 +118,54 @@ public final class ServerExecutor {
     }
 
     public static ScheduledFuture<?> scheduleService(Runnable runnable, long delay, TimeUnit timeUnit) {
-        return scheduler.schedule(() -> submitService(runnable), delay, timeUnit);
+        return nextTimerWheel().schedule(ServerExecutor::submitService, runnable, delay, timeUnit);
     }
 
     public static ScheduledFuture<?> scheduleServiceWithFixedDelay(Runnable runnable, long initialDelay, long delay, TimeUnit timeUnit) {
-        return scheduler.scheduleWithFixedDelay(() -> submitService(runnable), initialDelay, delay, timeUnit);
+        return nextTimerWheel().scheduleWithFixedDelay(ServerExecutor::submitService, runnable, initialDelay, delay, timeUnit);
+    }
+
+
+    // CENTRAL EXECUTOR METHODS ----------------------------------------------------------------------------------------
+
+    /**
+     * Submits a task for handling an inter-node message. Tasks with the same key are executed in submission order, on
+     * threads separate from the service executor.
+     *
+     * @return false if the task was rejected, as too many tasks are queued for its key.
+     */
+    public static boolean submitCentral(int key, Runnable runnable) {
+        return centralExecutor.submit(key, wrap(runnable));
+    }
+
+    public static boolean submitCentral(Runnable runnable) {
+        return centralExecutor.submit(wrap(runnable));
+    }
+
+    public static int getCentralQueueSize() {
+        return centralExecutor.getQueueSize();
+    }
+
+
+    // AUTH EXECUTOR METHODS -------------------------------------------------------------------------------------------
+
+    /**
+     * Submits a task that verifies credentials. BCrypt is deliberately slow, so these tasks are queued in FIFO order on a
+     * small dedicated pool, instead of occupying the service executor during a login storm.
+     *
+     * @return the position of the task in the queue, or -1 if the queue is full.
+     */
+    public static int submitAuth(Runnable runnable) {
+        try {
+            authExecutor.execute(wrap(runnable));
+        } catch (RejectedExecutionException e) {
+            return -1;
+        }
+        return authExecutor.getQueue().size();
+    }
+
+    public static int getAuthQueueSize() {
+        return authExecutor.getQueue().size();
     }
 
 
@@ -78,21 +173,32 @@ public final class ServerExecutor {
 
     private static Runnable wrap(Runnable runnable) {
         return () -> {
+            WriteBatch.begin();
             try {
                 runnable.run();
             } catch (Exception e) {
                 log.error("Exception caught during execution : {}", e, e);
                 e.printStackTrace();
+            } finally {
+                WriteBatch.end();
             }
         };
     }
 
-    private static void wrapAndSubmit(Field field, Runnable runnable) {
-        if (field.getFieldStorage() instanceof InstanceFieldStorage instanceFieldStorage) {
-            gameExecutors.get(instanceFieldStorage.getInstance().getInstanceId() % gameExecutors.size()).submit(wrap(runnable));
-        } else {
-            gameExecutors.get(field.getExecutorIndex() % gameExecutors.size()).submit(wrap(runnable));
-        }
+    private static TimerWheel nextTimerWheel() {
+        return timerWheels[Math.floorMod(timerIndex.getAndIncrement(), timerWheels.length)];
+    }
+
+    private static Executor getFieldExecutor(Field field) {
+        return (runnable) -> {
+            if (!field.getMailbox().submit(wrap(runnable))) {
+                throw new RejectedExecutionException();
+            }
+        };
+    }
+
+    private static boolean wrapAndSubmit(Field field, Runnable runnable) {
+        return field.getMailbox().submit(wrap(runnable));
     }
 
     private static void wrapAndSubmitService(Runnable runnable) {
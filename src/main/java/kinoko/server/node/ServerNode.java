@@ -10,19 +10,10 @@ import kinoko.util.Util;
 import kinoko.world.user.Account;
 
 import java.net.InetAddress;
-import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.atomic.AtomicInteger;
 
 public abstract class ServerNode extends Node {
-    protected static final AtomicInteger requestIdCounter = new AtomicInteger(1);
-    protected final ConcurrentHashMap<Integer, CompletableFuture<?>> requestFutures = new ConcurrentHashMap<>();
     protected final ClientStorage clientStorage = new ClientStorage();
 
-    public int getNewRequestId() {
-        return requestIdCounter.getAndIncrement();
-    }
-
     public final boolean isConnected(Account account) {
         return clientStorage.isConnected(account);
     }
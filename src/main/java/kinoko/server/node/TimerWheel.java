@@ -0,0 +1,257 @@
+package kinoko.server.node;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.*;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Hashed timer wheel. Scheduling a task only appends it to a queue, the worker thread moves queued tasks into the wheel
+ * bucket for their deadline on the next tick, so that scheduling and cancelling are O(1) regardless of the number of
+ * pending tasks. Tasks are not executed by the worker thread itself, they are handed off to the executor provided when
+ * scheduling.
+ */
+public final class TimerWheel {
+    private static final Logger log = LogManager.getLogger(TimerWheel.class);
+    private final Queue<Timeout> pendingTimeouts = new ConcurrentLinkedQueue<>();
+    private final List<List<Timeout>> wheel;
+    private final int mask;
+    private final long tickDuration;
+    private final long startTime;
+    private final Thread workerThread;
+    private volatile boolean running = true;
+    private long tick; // Only accessed by the worker thread
+
+    public TimerWheel(String name, long tickDuration, TimeUnit timeUnit, int wheelSize) {
+        if (wheelSize <= 0 || (wheelSize & (wheelSize - 1)) != 0) {
+            throw new IllegalArgumentException("Wheel size must be a power of two");
+        }
+        this.wheel = new ArrayList<>(wheelSize);
+        for (int i = 0; i < wheelSize; i++) {
+            wheel.add(new ArrayList<>());
+        }
+        this.mask = wheelSize - 1;
+        this.tickDuration = timeUnit.toNanos(tickDuration);
+        this.startTime = System.nanoTime();
+        this.workerThread = new Thread(this::run, name);
+        this.workerThread.setDaemon(true);
+        this.workerThread.start();
+    }
+
+    /**
+     * The returned future is done once the task has run in the executor, or cancelled if the executor rejects the task.
+     */
+    public ScheduledFuture<?> schedule(Executor executor, Runnable runnable, long delay, TimeUnit timeUnit) {
+        return addTimeout(new Timeout(executor, runnable, 0), timeUnit.toNanos(delay));
+    }
+
+    /**
+     * The next execution is scheduled after the current execution has completed, so executions never overlap or
+     * accumulate in the executor.
+     */
+    public ScheduledFuture<?> scheduleWithFixedDelay(Executor executor, Runnable runnable, long initialDelay, long delay, TimeUnit timeUnit) {
+        return addTimeout(new Timeout(executor, runnable, Math.max(timeUnit.toNanos(delay), 1)), timeUnit.toNanos(initialDelay));
+    }
+
+    public void shutdown() {
+        running = false;
+        LockSupport.unpark(workerThread);
+    }
+
+    private Timeout addTimeout(Timeout timeout, long delay) {
+        timeout.deadline = System.nanoTime() - startTime + Math.max(delay, 0);
+        pendingTimeouts.add(timeout);
+        return timeout;
+    }
+
+    private void run() {
+        while (running) {
+            long sleepTime = tickDuration * (tick + 1) - (System.nanoTime() - startTime);
+            while (sleepTime > 0 && running) {
+                LockSupport.parkNanos(this, sleepTime);
+                sleepTime = tickDuration * (tick + 1) - (System.nanoTime() - startTime);
+            }
+            transferPendingTimeouts();
+            expireTimeouts(wheel.get((int) (tick & mask)));
+            tick++;
+        }
+    }
+
+    private void transferPendingTimeouts() {
+        Timeout timeout;
+        while ((timeout = pendingTimeouts.poll()) != null) {
+            if (timeout.isCancelled()) {
+                continue;
+            }
+            final long calculated = timeout.deadline / tickDuration;
+            timeout.remainingRounds = (calculated - tick) / wheel.size();
+            final long ticks = Math.max(calculated, tick);
+            wheel.get((int) (ticks & mask)).add(timeout);
+        }
+    }
+
+    private void expireTimeouts(List<Timeout> bucket) {
+        int remaining = 0;
+        for (int i = 0; i < bucket.size(); i++) {
+            final Timeout timeout = bucket.get(i);
+            if (timeout.isCancelled()) {
+                continue;
+            }
+            if (timeout.remainingRounds > 0) {
+                timeout.remainingRounds--;
+                bucket.set(remaining++, timeout);
+                continue;
+            }
+            try {
+                timeout.expire();
+            } catch (RejectedExecutionException e) {
+                log.warn("Rejected execution of scheduled task : {}", e.getMessage());
+            } catch (Throwable t) {
+                log.error("Exception caught while expiring scheduled task", t);
+            }
+        }
+        bucket.subList(remaining, bucket.size()).clear();
+    }
+
+    private final class Timeout implements ScheduledFuture<Void> {
+        private static final int STATE_PENDING = 0;
+        private static final int STATE_DONE = 1;
+        private static final int STATE_CANCELLED = 2;
+        private static final VarHandle STATE;
+
+        static {
+            try {
+                STATE = MethodHandles.lookup().findVarHandle(Timeout.class, "state", int.class);
+            } catch (ReflectiveOperationException e) {
+                throw new ExceptionInInitializerError(e);
+            }
+        }
+
+        private final Executor executor;
+        private final Runnable runnable;
+        private final long period;
+        private volatile int state;
+        private volatile long deadline;
+        private long remainingRounds;
+
+        private Timeout(Executor executor, Runnable runnable, long period) {
+            this.executor = executor;
+            this.runnable = runnable;
+            this.period = period;
+        }
+
+        private void expire() {
+            if (period == 0) {
+                try {
+                    executor.execute(this::runOnce);
+                } catch (RejectedExecutionException e) {
+                    // The task will never run, release any threads waiting on the result
+                    cancel(false);
+                    throw e;
+                }
+                return;
+            }
+            try {
+                executor.execute(() -> {
+                    try {
+                        runnable.run();
+                    } finally {
+                        if (!isCancelled() && running) {
+                            addTimeout(this, period);
+                        }
+                    }
+                });
+            } catch (RejectedExecutionException e) {
+                // Skip this execution, the task is only stopped by cancellation
+                if (!isCancelled() && running) {
+                    addTimeout(this, period);
+                }
+                throw e;
+            }
+        }
+
+        private void runOnce() {
+            if (isCancelled()) {
+                return;
+            }
+            try {
+                runnable.run();
+            } finally {
+                complete(STATE_DONE);
+            }
+        }
+
+        private boolean complete(int newState) {
+            if (STATE.compareAndSet(this, STATE_PENDING, newState)) {
+                synchronized (this) {
+                    notifyAll();
+                }
+                return true;
+            }
+            return false;
+        }
+
+        @Override
+        public boolean cancel(boolean mayInterruptIfRunning) {
+            // Cancelled timeouts are removed lazily by the worker thread when their bucket expires
+            return complete(STATE_CANCELLED);
+        }
+
+        @Override
+        public boolean isCancelled() {
+            return state == STATE_CANCELLED;
+        }
+
+        @Override
+        public boolean isDone() {
+            return state != STATE_PENDING;
+        }
+
+        @Override
+        public Void get() throws InterruptedException {
+            synchronized (this) {
+                while (state == STATE_PENDING) {
+                    wait();
+                }
+            }
+            if (state == STATE_CANCELLED) {
+                throw new CancellationException();
+            }
+            return null;
+        }
+
+        @Override
+        public Void get(long timeout, TimeUnit timeUnit) throws InterruptedException, TimeoutException {
+            final long endTime = System.nanoTime() + timeUnit.toNanos(timeout);
+            synchronized (this) {
+                while (state == STATE_PENDING) {
+                    final long remaining = endTime - System.nanoTime();
+                    if (remaining <= 0) {
+                        throw new TimeoutException();
+                    }
+                    TimeUnit.NANOSECONDS.timedWait(this, remaining);
+                }
+            }
+            if (state == STATE_CANCELLED) {
+                throw new CancellationException();
+            }
+            return null;
+        }
+
+        @Override
+        public long getDelay(TimeUnit timeUnit) {
+            return timeUnit.convert(deadline - (System.nanoTime() - startTime), TimeUnit.NANOSECONDS);
+        }
+
+        @Override
+        public int compareTo(Delayed other) {
+            return Long.compare(getDelay(TimeUnit.NANOSECONDS), other.getDelay(TimeUnit.NANOSECONDS));
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package kinoko.server.packet;
+
+import kinoko.server.header.OutHeader;
+import kinoko.util.crypto.ShandaCrypto;
+
+import java.util.Arrays;
+
+/**
+ * Finished packet shared between multiple recipients, created from the data of an {@link OutPacket} and immutable by
+ * construction. The Shanda stage does not depend on the client IV, so it is applied once on creation and
+ * {@link kinoko.server.netty.PacketEncoder} only has to apply the per-client AES stage.
+ */
+public final class BroadcastOutPacket {
+    private final OutHeader header;
+    private final byte[] data;
+    private final byte[] encryptedData;
+
+    private BroadcastOutPacket(OutHeader header, byte[] data) {
+        this.header = header;
+        this.data = data;
+        this.encryptedData = Arrays.copyOf(data, data.length);
+        ShandaCrypto.encrypt(encryptedData);
+    }
+
+    public OutHeader getHeader() {
+        return header;
+    }
+
+    public int getSize() {
+        return data.length;
+    }
+
+    /**
+     * Returns a copy of the packet data.
+     */
+    public byte[] getData() {
+        return Arrays.copyOf(data, data.length);
+    }
+
+    /**
+     * Returns a copy of the Shanda encrypted packet data, the AES stage is applied in place by the encoder.
+     */
+    public byte[] getEncryptedData() {
+        return Arrays.copyOf(encryptedData, encryptedData.length);
+    }
+
+    @Override
+    public String toString() {
+        return NioBufferOutPacket.toString(header, data);
+    }
+
+    public static BroadcastOutPacket from(OutPacket outPacket) {
+        return new BroadcastOutPacket(outPacket.getHeader(), outPacket.getData());
+    }
+}
@@ -3,6 +3,8 @@ package kinoko.server.packet;
 public interface InPacket {
     byte peekByte();
 
+    int peekInt();
+
     byte decodeByte();
 
     default boolean decodeBoolean() {
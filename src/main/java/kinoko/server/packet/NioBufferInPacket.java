@@ -22,6 +22,11 @@ public final class NioBufferInPacket implements InPacket {
         return buffer.get(buffer.position());
     }
 
+    @Override
+    public int peekInt() {
+        return buffer.getInt(buffer.position());
+    }
+
     @Override
     public byte decodeByte() {
         return buffer.get();
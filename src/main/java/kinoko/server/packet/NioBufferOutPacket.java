@@ -137,9 +137,12 @@ public final class NioBufferOutPacket implements OutPacket {
 
     @Override
     public String toString() {
-        final OutHeader header = getHeader();
+        return toString(getHeader(), getData());
+    }
+
+    static String toString(OutHeader header, byte[] data) {
         return String.format("%s(%s) | %s", header, Util.opToString(header.getValue()),
-                Util.readableByteArray(Arrays.copyOfRange(getData(), 2, getSize())));
+                Util.readableByteArray(Arrays.copyOfRange(data, 2, data.length)));
     }
 
     private static ByteBuffer newBuffer(int capacity) {
@@ -0,0 +1,151 @@
+package kinoko.server.rank;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Consumer;
+
+/**
+ * Order statistic tree of {@link RankEntry} ordered by {@link RankEntry#COMPARATOR}, implemented as a treap with
+ * subtree sizes so that insertion, removal and rank lookups are O(log n). Not thread safe.
+ */
+public final class Leaderboard {
+    private Node root;
+
+    public int size() {
+        return size(root);
+    }
+
+    public void add(RankEntry entry) {
+        root = insert(root, new Node(entry));
+    }
+
+    public void remove(RankEntry entry) {
+        root = delete(root, entry);
+    }
+
+    /**
+     * @return 1-based rank of the entry, or 0 if the entry is not in the leaderboard.
+     */
+    public int getRank(RankEntry entry) {
+        int rank = 0;
+        Node node = root;
+        while (node != null) {
+            final int cmp = RankEntry.COMPARATOR.compare(entry, node.entry);
+            if (cmp < 0) {
+                node = node.left;
+            } else {
+                rank += size(node.left) + 1;
+                if (cmp == 0) {
+                    return rank;
+                }
+                node = node.right;
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * Visits the entries in rank order.
+     */
+    public void forEach(Consumer<RankEntry> consumer) {
+        forEach(root, consumer);
+    }
+
+    private static void forEach(Node node, Consumer<RankEntry> consumer) {
+        while (node != null) {
+            forEach(node.left, consumer);
+            consumer.accept(node.entry);
+            node = node.right;
+        }
+    }
+
+    private static Node insert(Node node, Node inserted) {
+        if (node == null) {
+            return inserted;
+        }
+        if (RankEntry.COMPARATOR.compare(inserted.entry, node.entry) < 0) {
+            node.left = insert(node.left, inserted);
+            if (node.left.priority > node.priority) {
+                node = rotateRight(node);
+            }
+        } else {
+            node.right = insert(node.right, inserted);
+            if (node.right.priority > node.priority) {
+                node = rotateLeft(node);
+            }
+        }
+        node.update();
+        return node;
+    }
+
+    private static Node delete(Node node, RankEntry entry) {
+        if (node == null) {
+            return null;
+        }
+        final int cmp = RankEntry.COMPARATOR.compare(entry, node.entry);
+        if (cmp < 0) {
+            node.left = delete(node.left, entry);
+        } else if (cmp > 0) {
+            node.right = delete(node.right, entry);
+        } else {
+            return merge(node.left, node.right);
+        }
+        node.update();
+        return node;
+    }
+
+    private static Node merge(Node left, Node right) {
+        if (left == null) {
+            return right;
+        }
+        if (right == null) {
+            return left;
+        }
+        if (left.priority > right.priority) {
+            left.right = merge(left.right, right);
+            left.update();
+            return left;
+        } else {
+            right.left = merge(left, right.left);
+            right.update();
+            return right;
+        }
+    }
+
+    private static Node rotateRight(Node node) {
+        final Node left = node.left;
+        node.left = left.right;
+        left.right = node;
+        node.update();
+        return left;
+    }
+
+    private static Node rotateLeft(Node node) {
+        final Node right = node.right;
+        node.right = right.left;
+        right.left = node;
+        node.update();
+        return right;
+    }
+
+    private static int size(Node node) {
+        return node != null ? node.size : 0;
+    }
+
+    private static final class Node {
+        private final RankEntry entry;
+        private final int priority;
+        private Node left;
+        private Node right;
+        private int size;
+
+        private Node(RankEntry entry) {
+            this.entry = entry;
+            this.priority = ThreadLocalRandom.current().nextInt();
+            this.size = 1;
+        }
+
+        private void update() {
+            size = size(left) + size(right) + 1;
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package kinoko.server.rank;
+
+import kinoko.world.job.JobConstants;
+import kinoko.world.user.CharacterData;
+import kinoko.world.user.stat.CharacterStat;
+
+import java.time.Instant;
+import java.util.Comparator;
+
+/**
+ * Ranking data of a character, characters are ordered by cumulative exp in descending order, then by the time they
+ * reached the max level.
+ */
+public final class RankEntry {
+    public static final Comparator<RankEntry> COMPARATOR = Comparator.comparingLong(RankEntry::getCumulativeExp).reversed()
+            .thenComparingLong(RankEntry::getMaxLevelTime)
+            .thenComparingInt(RankEntry::getCharacterId);
+
+    private final int characterId;
+    private final int jobCategory;
+    private final long cumulativeExp;
+    private final long maxLevelTime;
+
+    public RankEntry(int characterId, int jobCategory, long cumulativeExp, long maxLevelTime) {
+        this.characterId = characterId;
+        this.jobCategory = jobCategory;
+        this.cumulativeExp = cumulativeExp;
+        this.maxLevelTime = maxLevelTime;
+    }
+
+    public int getCharacterId() {
+        return characterId;
+    }
+
+    public int getJobCategory() {
+        return jobCategory;
+    }
+
+    public long getCumulativeExp() {
+        return cumulativeExp;
+    }
+
+    public long getMaxLevelTime() {
+        return maxLevelTime;
+    }
+
+    public boolean isSameRank(RankEntry other) {
+        return jobCategory == other.jobCategory && cumulativeExp == other.cumulativeExp && maxLevelTime == other.maxLevelTime;
+    }
+
+    public static RankEntry from(int characterId, CharacterStat cs, Instant maxLevelTime) {
+        return new RankEntry(
+                characterId,
+                JobConstants.getJobCategory(cs.getJob()),
+                cs.getCumulativeExp(),
+                maxLevelTime != null ? maxLevelTime.toEpochMilli() : Long.MAX_VALUE
+        );
+    }
+
+    public static RankEntry from(CharacterData characterData) {
+        return from(characterData.getCharacterId(), characterData.getCharacterStat(), characterData.getMaxLevelTime());
+    }
+}
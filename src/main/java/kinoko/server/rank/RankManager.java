@@ -3,24 +3,38 @@ package kinoko.server.rank;
 import kinoko.database.DatabaseManager;
 import kinoko.server.guild.GuildRanking;
 import kinoko.server.node.ServerExecutor;
+import kinoko.world.user.CharacterData;
 
 import java.time.LocalDateTime;
 import java.time.temporal.ChronoUnit;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 
+/**
+ * Character ranks are kept in memory in a world {@link Leaderboard} and one per job category, which are loaded from the
+ * database at startup and updated as characters gain exp, change jobs, or are created and deleted. The rank gaps are
+ * computed against a snapshot of the ranks taken at midnight. Character updates are queued without taking the
+ * leaderboard lock, and are applied before the ranks are read and on every refresh.
+ */
 public final class RankManager {
-    private static Map<Integer, CharacterRank> originalCharacterRanks;
-    private static Map<Integer, CharacterRank> currentCharacterRanks;
+    private static final Map<Integer, RankEntry> rankEntries = new HashMap<>(); // character id -> rank entry
+    private static final ConcurrentHashMap<Integer, RankEntry> pendingEntries = new ConcurrentHashMap<>(); // character id -> latest rank entry
+    private static final Leaderboard worldLeaderboard = new Leaderboard();
+    private static final Map<Integer, Leaderboard> jobLeaderboards = new HashMap<>(); // job category -> leaderboard
+    private static Map<Integer, CharacterRank> originalCharacterRanks = Map.of();
     private static List<GuildRanking> guildRankings;
     private static ScheduledFuture<?> refreshSchedule;
 
     public static void initialize() {
-        originalCharacterRanks = DatabaseManager.characterAccessor().getCharacterRanks();
-        currentCharacterRanks = originalCharacterRanks;
+        synchronized (rankEntries) {
+            DatabaseManager.characterAccessor().forEachCharacterRank(RankManager::addEntry);
+            originalCharacterRanks = computeCharacterRanks();
+        }
         guildRankings = DatabaseManager.guildAccessor().getGuildRankings();
         // Schedule refresh every 10 minutes
         final LocalDateTime now = LocalDateTime.now();
@@ -29,22 +43,16 @@ public final class RankManager {
     }
 
     public static void refresh() {
+        synchronized (rankEntries) {
+            applyPendingEntries();
+        }
         if (getNearestHour() == 0 && getNearestMinute() == 0) {
             // Refresh original character ranks
-            originalCharacterRanks = DatabaseManager.characterAccessor().getCharacterRanks();
-            currentCharacterRanks = originalCharacterRanks;
-        } else {
-            // Compute character rank gaps
-            final Map<Integer, CharacterRank> newCharacterRanks = DatabaseManager.characterAccessor().getCharacterRanks();
-            for (var entry : newCharacterRanks.entrySet()) {
-                final CharacterRank newRank = entry.getValue();
-                final CharacterRank oldRank = originalCharacterRanks.get(entry.getKey());
-                if (oldRank != null) {
-                    newRank.setWorldRankGap(oldRank.getWorldRank() - newRank.getWorldRank());
-                    newRank.setJobRankGap(oldRank.getJobRank() - newRank.getJobRank());
-                }
+            final Map<Integer, CharacterRank> characterRanks;
+            synchronized (rankEntries) {
+                characterRanks = computeCharacterRanks();
             }
-            currentCharacterRanks = newCharacterRanks;
+            originalCharacterRanks = characterRanks;
         }
         // Refresh guild rankings
         guildRankings = DatabaseManager.guildAccessor().getGuildRankings();
@@ -54,14 +62,98 @@ public final class RankManager {
         refreshSchedule.cancel(true);
     }
 
+    public static void updateCharacter(CharacterData characterData) {
+        updateEntry(RankEntry.from(characterData));
+    }
+
+    /**
+     * Queues the rank entry of a character, replacing any entry for the character that has not been applied yet. This is
+     * called on every exp gain, so the leaderboards are only updated once the ranks are read.
+     */
+    static void updateEntry(RankEntry entry) {
+        pendingEntries.put(entry.getCharacterId(), entry);
+    }
+
+    public static void removeCharacter(int characterId) {
+        synchronized (rankEntries) {
+            pendingEntries.remove(characterId);
+            final RankEntry entry = rankEntries.get(characterId);
+            if (entry != null) {
+                removeEntry(entry);
+            }
+        }
+    }
+
     public static Optional<CharacterRank> getCharacterRank(int characterId) {
-        return Optional.ofNullable(currentCharacterRanks.get(characterId));
+        final CharacterRank characterRank;
+        synchronized (rankEntries) {
+            applyPendingEntries();
+            final RankEntry entry = rankEntries.get(characterId);
+            if (entry == null) {
+                return Optional.empty();
+            }
+            characterRank = new CharacterRank(
+                    characterId,
+                    worldLeaderboard.getRank(entry),
+                    jobLeaderboards.get(entry.getJobCategory()).getRank(entry)
+            );
+        }
+        final CharacterRank originalRank = originalCharacterRanks.get(characterId);
+        if (originalRank != null) {
+            characterRank.setWorldRankGap(originalRank.getWorldRank() - characterRank.getWorldRank());
+            characterRank.setJobRankGap(originalRank.getJobRank() - characterRank.getJobRank());
+        }
+        return Optional.of(characterRank);
     }
 
     public static List<GuildRanking> getGuildRankings() {
         return guildRankings.subList(0, Math.min(guildRankings.size(), 100));
     }
 
+    private static void applyPendingEntries() {
+        if (pendingEntries.isEmpty()) {
+            return;
+        }
+        for (int characterId : pendingEntries.keySet()) {
+            final RankEntry newEntry = pendingEntries.remove(characterId);
+            if (newEntry == null) {
+                continue;
+            }
+            final RankEntry oldEntry = rankEntries.get(characterId);
+            if (oldEntry != null) {
+                if (oldEntry.isSameRank(newEntry)) {
+                    continue;
+                }
+                removeEntry(oldEntry);
+            }
+            addEntry(newEntry);
+        }
+    }
+
+    private static void addEntry(RankEntry entry) {
+        rankEntries.put(entry.getCharacterId(), entry);
+        worldLeaderboard.add(entry);
+        jobLeaderboards.computeIfAbsent(entry.getJobCategory(), (key) -> new Leaderboard()).add(entry);
+    }
+
+    private static void removeEntry(RankEntry entry) {
+        rankEntries.remove(entry.getCharacterId());
+        worldLeaderboard.remove(entry);
+        jobLeaderboards.get(entry.getJobCategory()).remove(entry);
+    }
+
+    private static Map<Integer, CharacterRank> computeCharacterRanks() {
+        applyPendingEntries();
+        final Map<Integer, Integer> jobRanks = new HashMap<>(); // job rank counter
+        final Map<Integer, CharacterRank> characterRanks = new HashMap<>(); // character id -> character rank
+        worldLeaderboard.forEach((entry) -> {
+            final int worldRank = characterRanks.size() + 1;
+            final int jobRank = jobRanks.merge(entry.getJobCategory(), 1, Integer::sum);
+            characterRanks.put(entry.getCharacterId(), new CharacterRank(entry.getCharacterId(), worldRank, jobRank));
+        });
+        return characterRanks;
+    }
+
     private static int getNearestHour() {
         long minutes = (System.currentTimeMillis() / 60000) % (60 * 24);
         return (int) Math.round(minutes / 60.0) % 24;
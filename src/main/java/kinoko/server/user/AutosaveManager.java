@@ -0,0 +1,74 @@
+package kinoko.server.user;
+
+import kinoko.database.DatabaseManager;
+import kinoko.server.ServerConfig;
+import kinoko.server.node.ClientStorage;
+import kinoko.server.node.ServerExecutor;
+import kinoko.world.user.Account;
+import kinoko.world.user.User;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Periodically saves the connected users, so that progress is not lost if the server stops unexpectedly. Users are
+ * spread across the autosave interval by character ID, and only the modified sections of each user are written.
+ */
+public final class AutosaveManager {
+    private static final Logger log = LogManager.getLogger(AutosaveManager.class);
+    private ClientStorage clientStorage;
+    private ScheduledFuture<?> autosaveSchedule;
+    private long tick;
+
+    public void initialize(ClientStorage clientStorage) {
+        this.clientStorage = clientStorage;
+        if (ServerConfig.AUTOSAVE_INTERVAL > 0) {
+            this.autosaveSchedule = ServerExecutor.scheduleServiceWithFixedDelay(this::update, 1, 1, TimeUnit.SECONDS);
+        }
+    }
+
+    public void shutdown() {
+        // Users are saved when their clients are closed
+        if (autosaveSchedule != null) {
+            autosaveSchedule.cancel(false);
+        }
+    }
+
+    private void update() {
+        final int slot = (int) (tick++ % ServerConfig.AUTOSAVE_INTERVAL);
+        for (User user : clientStorage.getConnectedUsers()) {
+            if (Math.floorMod(user.getCharacterId(), ServerConfig.AUTOSAVE_INTERVAL) != slot) {
+                continue;
+            }
+            try {
+                saveUser(user);
+            } catch (Exception e) {
+                log.error("Exception caught while saving character {}", user.getCharacterName(), e);
+            }
+        }
+    }
+
+    private void saveUser(User user) {
+        final CompletionStage<Boolean> saveFuture;
+        try (var locked = user.acquire()) {
+            if (user.isInTransfer()) {
+                return;
+            }
+            final Account account = user.getAccount();
+            try (var lockedAccount = account.acquire()) {
+                saveFuture = DatabaseManager.accountAccessor().saveAccountChangesAsync(account)
+                        .thenCombine(DatabaseManager.characterAccessor().saveCharacterChangesAsync(user.getCharacterData()), (a, b) -> a && b);
+            }
+        }
+        saveFuture.whenComplete((result, e) -> {
+            if (e != null) {
+                log.error("Failed to autosave character {}", user.getCharacterName(), e);
+            } else if (!result) {
+                log.error("Could not autosave character {}", user.getCharacterName());
+            }
+        });
+    }
+}
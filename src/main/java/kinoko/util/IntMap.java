@@ -0,0 +1,117 @@
+package kinoko.util;
+
+import java.util.*;
+
+/**
+ * Immutable map with primitive int keys, backed by an open addressing table with linear probing. Lookups do not box
+ * the key and only touch two arrays, which makes it suitable for the provider registries that are read on every packet.
+ * Null values are not supported, as a null value marks an empty slot.
+ */
+public final class IntMap<V> {
+    private static final IntMap<?> EMPTY = new IntMap<>(new int[1], new Object[1], List.of());
+    private final int[] keys;
+    private final Object[] values;
+    private final List<V> valueList;
+    private final int mask;
+
+    private IntMap(int[] keys, Object[] values, List<V> valueList) {
+        this.keys = keys;
+        this.values = values;
+        this.valueList = valueList;
+        this.mask = keys.length - 1;
+    }
+
+    @SuppressWarnings("unchecked")
+    public V get(int key) {
+        int index = mix(key) & mask;
+        Object value;
+        while ((value = values[index]) != null) {
+            if (keys[index] == key) {
+                return (V) value;
+            }
+            index = (index + 1) & mask;
+        }
+        return null;
+    }
+
+    public V getOrDefault(int key, V defaultValue) {
+        final V value = get(key);
+        return value != null ? value : defaultValue;
+    }
+
+    public boolean containsKey(int key) {
+        return get(key) != null;
+    }
+
+    public int size() {
+        return valueList.size();
+    }
+
+    /**
+     * @return unmodifiable list of the values in insertion order.
+     */
+    public List<V> values() {
+        return valueList;
+    }
+
+    private static int mix(int key) {
+        // Item and map IDs are clustered, spread them over the table
+        final int h = key * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <V> IntMap<V> empty() {
+        return (IntMap<V>) EMPTY;
+    }
+
+    public static <V> IntMap<V> from(Map<Integer, V> map) {
+        final Builder<V> builder = new Builder<>();
+        for (var entry : map.entrySet()) {
+            builder.put(entry.getKey(), entry.getValue());
+        }
+        return builder.build();
+    }
+
+    public static <V> Builder<V> builder() {
+        return new Builder<>();
+    }
+
+    /**
+     * Collects the entries of an {@link IntMap}, entries with an existing key replace the previous value.
+     */
+    public static final class Builder<V> {
+        private final Map<Integer, V> entries = new LinkedHashMap<>();
+
+        public Builder<V> put(int key, V value) {
+            entries.put(key, Objects.requireNonNull(value));
+            return this;
+        }
+
+        public V get(int key) {
+            return entries.get(key);
+        }
+
+        public Collection<V> values() {
+            return entries.values();
+        }
+
+        public IntMap<V> build() {
+            // Load factor of at most 0.5, so that probe sequences stay short and there is always an empty slot
+            final int capacity = Integer.highestOneBit(Math.max(entries.size(), 1) * 2 - 1) << 1;
+            final int[] keys = new int[capacity];
+            final Object[] values = new Object[capacity];
+            final int mask = capacity - 1;
+            for (var entry : entries.entrySet()) {
+                final int key = entry.getKey();
+                int index = mix(key) & mask;
+                while (values[index] != null) {
+                    index = (index + 1) & mask;
+                }
+                keys[index] = key;
+                values[index] = entry.getValue();
+            }
+            return new IntMap<>(keys, values, List.copyOf(entries.values()));
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package kinoko.util;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lock-free latency histogram with power of two microsecond buckets. Percentiles are reported as the upper bound of the
+ * bucket they fall into, which is accurate to within a factor of two.
+ */
+public final class LatencyHistogram {
+    private static final int BUCKET_COUNT = 32;
+    private final AtomicLongArray buckets = new AtomicLongArray(BUCKET_COUNT);
+    private final LongAdder count = new LongAdder();
+    private final LongAdder totalTime = new LongAdder();
+    private final AtomicLong maxTime = new AtomicLong();
+
+    public void record(long nanos) {
+        final long micros = Math.max(TimeUnit.NANOSECONDS.toMicros(nanos), 1);
+        final int bucket = Math.min(63 - Long.numberOfLeadingZeros(micros), BUCKET_COUNT - 1);
+        buckets.incrementAndGet(bucket);
+        count.increment();
+        totalTime.add(nanos);
+        maxTime.accumulateAndGet(nanos, Math::max);
+    }
+
+    public long getCount() {
+        return count.sum();
+    }
+
+    public double getAverageMillis() {
+        final long n = count.sum();
+        return n != 0 ? totalTime.sum() / 1_000_000.0 / n : 0;
+    }
+
+    public double getMaxMillis() {
+        return maxTime.get() / 1_000_000.0;
+    }
+
+    /**
+     * @param percentile value between 0 and 100.
+     * @return upper bound of the bucket containing the percentile in milliseconds, or 0 if there are no samples.
+     */
+    public double getPercentileMillis(double percentile) {
+        final long[] snapshot = new long[BUCKET_COUNT];
+        long total = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            snapshot[i] = buckets.get(i);
+            total += snapshot[i];
+        }
+        if (total == 0) {
+            return 0;
+        }
+        final long target = (long) Math.ceil(total * percentile / 100.0);
+        long seen = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            seen += snapshot[i];
+            if (seen >= target) {
+                return (1L << (i + 1)) / 1_000.0;
+            }
+        }
+        return getMaxMillis();
+    }
+}
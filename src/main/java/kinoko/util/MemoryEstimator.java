@@ -0,0 +1,174 @@
+package kinoko.util;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.*;
+
+/**
+ * Estimates the heap size of object graphs by walking them reflectively, assuming a 64-bit JVM with compressed
+ * references. Classes of the application and its libraries are walked field by field, while JDK classes which cannot be
+ * accessed reflectively are estimated from their public API, so the result is an approximation intended for comparing
+ * the footprint of different data sets.
+ */
+public final class MemoryEstimator {
+    private static final int OBJECT_HEADER = 12;
+    private static final int ARRAY_HEADER = 16;
+    private static final int REFERENCE_SIZE = 4;
+    private static final int MAP_ENTRY_SIZE = 32;
+    private static final ClassValue<ClassLayout> classLayouts = new ClassValue<>() {
+        @Override
+        protected ClassLayout computeValue(Class<?> type) {
+            return ClassLayout.from(type);
+        }
+    };
+    private final Set<Object> visited = Collections.newSetFromMap(new IdentityHashMap<>());
+    private final Deque<Object> pending = new ArrayDeque<>();
+
+    /**
+     * Estimates the size of the objects reachable from the static fields of the class.
+     */
+    public static long estimateStatic(Class<?> type) {
+        final MemoryEstimator estimator = new MemoryEstimator();
+        for (Field field : type.getDeclaredFields()) {
+            if (!Modifier.isStatic(field.getModifiers()) || field.getType().isPrimitive()) {
+                continue;
+            }
+            try {
+                field.setAccessible(true);
+                estimator.push(field.get(null));
+            } catch (ReflectiveOperationException | RuntimeException e) {
+                // Inaccessible field, not estimated
+            }
+        }
+        return estimator.run();
+    }
+
+    /**
+     * Estimates the size of the objects reachable from the root object.
+     */
+    public static long estimate(Object root) {
+        final MemoryEstimator estimator = new MemoryEstimator();
+        estimator.push(root);
+        return estimator.run();
+    }
+
+    private long run() {
+        long size = 0;
+        Object object;
+        while ((object = pending.poll()) != null) {
+            if (visited.add(object)) {
+                size += visit(object);
+            }
+        }
+        return size;
+    }
+
+    private long visit(Object object) {
+        final Class<?> type = object.getClass();
+        if (type.isEnum() || object instanceof Enum<?> || object instanceof Class<?>) {
+            return 0;
+        }
+        if (type.isArray()) {
+            final int length = Array.getLength(object);
+            if (!type.getComponentType().isPrimitive()) {
+                for (int i = 0; i < length; i++) {
+                    push(Array.get(object, i));
+                }
+            }
+            return align(ARRAY_HEADER + (long) length * getFieldSize(type.getComponentType()));
+        }
+        if (object instanceof String string) {
+            final boolean latin1 = string.chars().allMatch((c) -> c < 256);
+            return align(OBJECT_HEADER + 12) + align(ARRAY_HEADER + (long) string.length() * (latin1 ? 1 : 2));
+        }
+        if (type.getModule().isNamed()) {
+            // JDK classes are not accessible reflectively
+            if (object instanceof Map<?, ?> map) {
+                for (var entry : map.entrySet()) {
+                    push(entry.getKey());
+                    push(entry.getValue());
+                }
+                return align(OBJECT_HEADER + 36) + getTableSize(map.size()) + (long) map.size() * MAP_ENTRY_SIZE;
+            }
+            if (object instanceof Collection<?> collection) {
+                collection.forEach(this::push);
+                if (collection instanceof Set<?>) {
+                    return align(OBJECT_HEADER + 4) + align(OBJECT_HEADER + 36) + getTableSize(collection.size()) + (long) collection.size() * MAP_ENTRY_SIZE;
+                }
+                return align(OBJECT_HEADER + 8) + align(ARRAY_HEADER + (long) collection.size() * REFERENCE_SIZE);
+            }
+            if (object instanceof Optional<?> optional) {
+                optional.ifPresent(this::push);
+            }
+            if (object instanceof Long || object instanceof Double) {
+                return align(OBJECT_HEADER + 8);
+            }
+            return align(OBJECT_HEADER + 4);
+        }
+        final ClassLayout layout = classLayouts.get(type);
+        for (Field field : layout.referenceFields) {
+            try {
+                push(field.get(object));
+            } catch (IllegalAccessException e) {
+                // Inaccessible field, not estimated
+            }
+        }
+        return layout.shallowSize;
+    }
+
+    private void push(Object object) {
+        if (object != null && !visited.contains(object)) {
+            pending.add(object);
+        }
+    }
+
+    private static long getTableSize(int size) {
+        final int capacity = size == 0 ? 0 : Integer.highestOneBit((int) (size / 0.75f)) << 1;
+        return align(ARRAY_HEADER + (long) capacity * REFERENCE_SIZE);
+    }
+
+    private static int getFieldSize(Class<?> type) {
+        if (type == long.class || type == double.class) {
+            return 8;
+        } else if (type == int.class || type == float.class) {
+            return 4;
+        } else if (type == short.class || type == char.class) {
+            return 2;
+        } else if (type == byte.class || type == boolean.class) {
+            return 1;
+        }
+        return REFERENCE_SIZE;
+    }
+
+    private static long align(long size) {
+        return (size + 7) & ~7L;
+    }
+
+    private static final class ClassLayout {
+        private final long shallowSize;
+        private final List<Field> referenceFields;
+
+        private ClassLayout(long shallowSize, List<Field> referenceFields) {
+            this.shallowSize = shallowSize;
+            this.referenceFields = referenceFields;
+        }
+
+        private static ClassLayout from(Class<?> type) {
+            long size = OBJECT_HEADER;
+            final List<Field> referenceFields = new ArrayList<>();
+            for (Class<?> c = type; c != null && c != Object.class; c = c.getSuperclass()) {
+                for (Field field : c.getDeclaredFields()) {
+                    if (Modifier.isStatic(field.getModifiers())) {
+                        continue;
+                    }
+                    size += getFieldSize(field.getType());
+                    if (!field.getType().isPrimitive() && field.trySetAccessible()) {
+                        referenceFields.add(field);
+                    }
+                }
+            }
+            return new ClassLayout(align(size), Collections.unmodifiableList(referenceFields));
+        }
+    }
+}
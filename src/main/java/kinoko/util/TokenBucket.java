@@ -0,0 +1,52 @@
+package kinoko.util;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * Token bucket rate limiter, holding up to {@code capacity} tokens which are refilled at a constant rate.
+ */
+public final class TokenBucket {
+    private final LongSupplier nanoTime;
+    private final int capacity;
+    private final long refillInterval; // nanoseconds per token
+    private double tokens;
+    private long lastRefill;
+
+    public TokenBucket(int capacity, long refillPeriod, TimeUnit timeUnit) {
+        this(capacity, refillPeriod, timeUnit, System::nanoTime);
+    }
+
+    /**
+     * @param nanoTime source of the current time in nanoseconds, {@link System#nanoTime()} by default.
+     */
+    public TokenBucket(int capacity, long refillPeriod, TimeUnit timeUnit, LongSupplier nanoTime) {
+        this.nanoTime = nanoTime;
+        this.capacity = capacity;
+        this.refillInterval = Math.max(timeUnit.toNanos(refillPeriod) / capacity, 1);
+        this.tokens = capacity;
+        this.lastRefill = nanoTime.getAsLong();
+    }
+
+    public synchronized boolean tryAcquire() {
+        refill(nanoTime.getAsLong());
+        if (tokens < 1) {
+            return false;
+        }
+        tokens -= 1;
+        return true;
+    }
+
+    /**
+     * @return true if the bucket has been refilled to capacity, in which case it is equivalent to a new bucket.
+     */
+    public synchronized boolean isFull() {
+        refill(nanoTime.getAsLong());
+        return tokens >= capacity;
+    }
+
+    private void refill(long now) {
+        tokens = Math.min(capacity, tokens + (double) (now - lastRefill) / refillInterval);
+        lastRefill = now;
+    }
+}
@@ -3,11 +3,14 @@ package kinoko.util;
 import java.net.InetAddress;
 import java.net.UnknownHostException;
 import java.security.SecureRandom;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.HexFormat;
 import java.util.Optional;
 import java.util.Random;
+import java.util.Set;
 import java.util.function.ToDoubleFunction;
+import java.util.stream.Collectors;
 
 public final class Util {
     private static final HexFormat hexFormat = HexFormat.ofDelimiter(" ").withUpperCase();
@@ -28,6 +31,14 @@ public final class Util {
         return value != null ? Boolean.parseBoolean(value) : defaultValue;
     }
 
+    public static Set<Integer> getEnvIntegers(String name) {
+        final String value = System.getenv(name);
+        if (value == null || value.isBlank()) {
+            return Set.of();
+        }
+        return Arrays.stream(value.split(",")).map(String::trim).map(Integer::parseInt).collect(Collectors.toUnmodifiableSet());
+    }
+
     public static byte[] getHost(String name) {
         try {
             return InetAddress.getByName(name).getAddress();
@@ -5,6 +5,13 @@ import javax.crypto.spec.SecretKeySpec;
 import java.security.InvalidKeyException;
 import java.security.NoSuchAlgorithmException;
 
+/**
+ * AES-OFB stream cipher applied to every client packet. The keystream only depends on the 4 byte IV, and each chunk of
+ * the packet restarts the keystream, so a single keystream of {@link #CHUNK_SIZE} bytes covers a packet of any length.
+ * <p>
+ * {@link Cipher} instances are not thread-safe, each thread holds its own instance along with a small LRU cache of
+ * keystreams for recently used IVs. Keystreams are generated lazily, so short packets only pay for the blocks they use.
+ */
 public final class MapleCrypto {
     public static final byte[] AES_USER_KEY = new byte[]{
             0x13, 0x00, 0x00, 0x00,
@@ -17,10 +24,22 @@ public final class MapleCrypto {
             0x52, 0x00, 0x00, 0x00
     };
     public static final int BLOCK_SIZE = 16;
-    private static final Cipher cipher;
+    public static final int FIRST_CHUNK_SIZE = 0x5B0;
+    public static final int CHUNK_SIZE = 0x5B4;
+    public static final int KEYSTREAM_SIZE = (CHUNK_SIZE + BLOCK_SIZE - 1) / BLOCK_SIZE * BLOCK_SIZE;
+    public static final int KEYSTREAM_CACHE_SIZE = 16;
+    private static final SecretKey key = new SecretKeySpec(AES_USER_KEY, "AES");
+    private static final ThreadLocal<MapleCrypto> threadCrypto = ThreadLocal.withInitial(MapleCrypto::new);
 
-    static {
-        final SecretKey key = new SecretKeySpec(AES_USER_KEY, "AES");
+    private final Cipher cipher;
+    private final byte[] ivBlock = new byte[BLOCK_SIZE];
+    private final int[] cachedIvs = new int[KEYSTREAM_CACHE_SIZE];
+    private final int[] cachedLengths = new int[KEYSTREAM_CACHE_SIZE];
+    private final long[] cachedAccess = new long[KEYSTREAM_CACHE_SIZE];
+    private final byte[][] cachedKeystreams = new byte[KEYSTREAM_CACHE_SIZE][KEYSTREAM_SIZE];
+    private long accessCounter;
+
+    private MapleCrypto() {
         try {
             cipher = Cipher.getInstance("AES/ECB/NoPadding");
             cipher.init(Cipher.ENCRYPT_MODE, key);
@@ -30,42 +49,72 @@ public final class MapleCrypto {
         }
     }
 
-    public static void initialize() {
-        // Run static initialization block
+    private void cryptInternal(byte[] data, byte[] iv) {
+        if (data.length == 0) {
+            return;
+        }
+        final byte[] keystream = getKeystream(iv, Math.min(data.length, CHUNK_SIZE));
+        int start = 0;
+        int chunkSize = FIRST_CHUNK_SIZE;
+        while (start < data.length) {
+            final int end = Math.min(start + chunkSize, data.length);
+            for (int i = start; i < end; i++) {
+                data[i] ^= keystream[i - start];
+            }
+            start = end;
+            chunkSize = CHUNK_SIZE;
+        }
     }
 
-    public static void crypt(byte[] data, byte[] iv) {
-        final byte[] cipher = new byte[BLOCK_SIZE];
-        int a = data.length;
-        int b = 0x5B0;
-        int c = 0;
-        while (a > 0) {
-            final byte[] block = expandIv(iv);
-            if (a < b) {
-                b = a;
+    private byte[] getKeystream(byte[] iv, int length) {
+        final int ivValue = (iv[0] & 0xFF) | ((iv[1] & 0xFF) << 8) | ((iv[2] & 0xFF) << 16) | ((iv[3] & 0xFF) << 24);
+        // Resolve cached keystream, or evict the least recently used entry
+        int slot = 0;
+        boolean found = false;
+        for (int i = 0; i < KEYSTREAM_CACHE_SIZE; i++) {
+            if (cachedLengths[i] > 0 && cachedIvs[i] == ivValue) {
+                slot = i;
+                found = true;
+                break;
+            }
+            if (cachedAccess[i] < cachedAccess[slot]) {
+                slot = i;
             }
-            for (int i = c; i < (c + b); i++) {
-                if ((i - c) % BLOCK_SIZE == 0) {
-                    try {
-                        MapleCrypto.cipher.doFinal(block, 0, BLOCK_SIZE, cipher);
-                        System.arraycopy(cipher, 0, block, 0, BLOCK_SIZE);
-                    } catch (IllegalBlockSizeException | BadPaddingException | ShortBufferException e) {
-                        throw new RuntimeException(e);
-                    }
+        }
+        if (!found) {
+            cachedIvs[slot] = ivValue;
+            cachedLengths[slot] = 0;
+        }
+        cachedAccess[slot] = ++accessCounter;
+        // Extend keystream if required, each block is the encryption of the previous block
+        final byte[] keystream = cachedKeystreams[slot];
+        int generated = cachedLengths[slot];
+        try {
+            if (generated == 0) {
+                for (int i = 0; i < BLOCK_SIZE; i += iv.length) {
+                    System.arraycopy(iv, 0, ivBlock, i, iv.length);
                 }
-                data[i] ^= block[(i - c) % BLOCK_SIZE];
+                cipher.update(ivBlock, 0, BLOCK_SIZE, keystream, 0);
+                generated = BLOCK_SIZE;
+            }
+            while (generated < length) {
+                cipher.update(keystream, generated - BLOCK_SIZE, BLOCK_SIZE, keystream, generated);
+                generated += BLOCK_SIZE;
             }
-            c += b;
-            a -= b;
-            b = 0x5B4;
+        } catch (ShortBufferException e) {
+            throw new RuntimeException(e);
         }
+        cachedLengths[slot] = generated;
+        return keystream;
     }
 
-    private static byte[] expandIv(byte[] iv) {
-        final byte[] expandedIv = new byte[BLOCK_SIZE];
-        for (int i = 0; i < BLOCK_SIZE; i += iv.length) {
-            System.arraycopy(iv, 0, expandedIv, i, iv.length);
-        }
-        return expandedIv;
+    public static void initialize() {
+        // Create the cipher for the calling thread to fail early if AES is unavailable, the other threads create their
+        // own instance on first use
+        threadCrypto.get();
+    }
+
+    public static void crypt(byte[] data, byte[] iv) {
+        threadCrypto.get().cryptInternal(data, iv);
     }
 }
@@ -11,6 +11,7 @@ import kinoko.world.item.ItemConstants;
 
 import java.io.BufferedWriter;
 import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.StandardOpenOption;
@@ -168,11 +169,9 @@ final class NpcShopExtractor {
 
     private static WzImage readImage(Path path) {
         try (final WzReader reader = WzReader.build(path, new WzReaderConfig(WzConstants.WZ_EMPTY_IV, ServerConstants.GAME_VERSION))) {
-            final WzImage image = new WzImage(0);
-            if (!(reader.readProperty(image, reader.getBuffer(0)) instanceof WzListProperty listProperty)) {
-                throw new WzReaderError("Image property is not a list");
-            }
-            image.setProperty(listProperty);
+            final ByteBuffer buffer = reader.getBuffer(0);
+            final WzImage image = new WzImage(0, (wzImage) -> reader.readImage(wzImage, buffer));
+            image.getProperty(); // validate image
             return image;
         } catch (IOException | ProviderError e) {
             throw new IllegalArgumentException("Exception caught while loading Reward.img", e);
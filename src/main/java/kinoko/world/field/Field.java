@@ -13,6 +13,7 @@ import kinoko.server.ServerConfig;
 import kinoko.server.field.FieldStorage;
 import kinoko.server.field.Instance;
 import kinoko.server.field.InstanceFieldStorage;
+import kinoko.server.node.FieldMailbox;
 import kinoko.server.node.ServerExecutor;
 import kinoko.server.packet.OutPacket;
 import kinoko.util.Util;
@@ -37,14 +38,12 @@ import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
 
 public final class Field {
-    private static final AtomicInteger fieldCounter = new AtomicInteger(1);
     private final AtomicInteger fieldObjectCounter = new AtomicInteger(1);
     private final AtomicBoolean firstEnterScript = new AtomicBoolean(false);
-    private final int executorIndex = fieldCounter.getAndIncrement();
 
     private final FieldStorage fieldStorage;
     private final MapInfo mapInfo;
-    private final ScheduledFuture<?> fieldEventFuture;
+    private final FieldMailbox mailbox;
     private final Map<Integer, Consumer<Mob>> mobSpawnModifiers;
 
     private final UserPool userPool;
@@ -58,6 +57,10 @@ public final class Field {
     private final AffectedAreaPool affectedAreaPool;
 
     private WeatherEffect weatherEffect;
+    private ScheduledFuture<?> fieldEventFuture;
+    private boolean dormant;
+    private boolean closed;
+    private volatile Instant lastActiveTime = Instant.now();
 
     private Instant nextMobRespawn = Instant.now();
     private Instant nextDropExpire = Instant.now();
@@ -66,6 +69,9 @@ public final class Field {
     public Field(FieldStorage fieldStorage, MapInfo mapInfo) {
         this.fieldStorage = fieldStorage;
         this.mapInfo = mapInfo;
+        this.mailbox = fieldStorage instanceof InstanceFieldStorage instanceFieldStorage ?
+                instanceFieldStorage.getMailbox() :
+                ServerExecutor.createMailbox(String.format("Field(%d)", mapInfo.getMapId()));
         this.mobSpawnModifiers = new ConcurrentHashMap<>();
         // Initialize field object pools
         this.userPool = new UserPool(this);
@@ -77,12 +83,8 @@ public final class Field {
         this.miniRoomPool = new MiniRoomPool(this);
         this.townPortalPool = new TownPortalPool(this);
         this.affectedAreaPool = new AffectedAreaPool(this);
-        // Initialize field updates
-        this.fieldEventFuture = ServerExecutor.scheduleWithFixedDelay(this, this::update, ServerConfig.FIELD_TICK_INTERVAL, ServerConfig.FIELD_TICK_INTERVAL, TimeUnit.MILLISECONDS);
-    }
-
-    public int getExecutorIndex() {
-        return executorIndex;
+        // Initialize field updates, fields are dormant until a user enters
+        scheduleUpdate(true);
     }
 
     public FieldStorage getFieldStorage() {
@@ -198,8 +200,12 @@ public final class Field {
         return mapInfo;
     }
 
-    public ScheduledFuture<?> getFieldEventFuture() {
-        return fieldEventFuture;
+    /**
+     * All tasks for this field are executed sequentially through this mailbox. Fields in the same instance share a
+     * mailbox.
+     */
+    public FieldMailbox getMailbox() {
+        return mailbox;
     }
 
     public Map<Integer, Consumer<Mob>> getMobSpawnModifiers() {
@@ -253,6 +259,56 @@ public final class Field {
         }
     }
 
+    /**
+     * Switches the field updates between the normal tick interval and the dormant tick interval used for fields
+     * without users.
+     */
+    private synchronized void scheduleUpdate(boolean dormant) {
+        if (closed || (fieldEventFuture != null && this.dormant == dormant)) {
+            return;
+        }
+        if (fieldEventFuture != null) {
+            fieldEventFuture.cancel(false);
+        }
+        this.dormant = dormant;
+        final int tickInterval = dormant ? ServerConfig.FIELD_DORMANT_TICK_INTERVAL : ServerConfig.FIELD_TICK_INTERVAL;
+        fieldEventFuture = ServerExecutor.scheduleWithFixedDelay(this, this::update, tickInterval, tickInterval, TimeUnit.MILLISECONDS);
+    }
+
+    public synchronized boolean isDormant() {
+        return dormant;
+    }
+
+    /**
+     * Stops the field updates, the field should not be used after it is closed.
+     */
+    public synchronized void close() {
+        closed = true;
+        fieldEventFuture.cancel(true);
+    }
+
+    /**
+     * Marks the field as active, delaying the field from being unloaded.
+     */
+    public void updateActiveTime() {
+        lastActiveTime = Instant.now();
+    }
+
+    /**
+     * Returns whether the field has been idle since the given time and does not hold any state that would be lost by
+     * recreating it from the map info. Fields with drops are kept until the drops expire.
+     */
+    public synchronized boolean isUnloadable(Instant idleSince) {
+        return !hasUser() &&
+                lastActiveTime.isBefore(idleSince) &&
+                dropPool.isEmpty() &&
+                townPortalPool.isEmpty() &&
+                miniRoomPool.isEmpty() &&
+                mobSpawnModifiers.isEmpty() &&
+                weatherEffect == null &&
+                !nextMobRespawn.equals(Instant.MAX);
+    }
+
     public synchronized void blowWeather(int itemId, String message, int duration) {
         broadcastPacket(FieldPacket.blowWeather(itemId, message));
         weatherEffect = new WeatherEffect(itemId, message, Instant.now().plus(duration, ChronoUnit.SECONDS));
@@ -311,11 +367,17 @@ public final class Field {
         userPool.broadcastPacket(outPacket, except);
     }
 
+    public void broadcastViewPacket(User user, OutPacket outPacket, boolean exceptUser) {
+        userPool.broadcastViewPacket(user, outPacket, exceptUser);
+    }
+
     public boolean hasUser() {
         return !userPool.isEmpty();
     }
 
     public void addUser(User user) {
+        updateActiveTime();
+        scheduleUpdate(false);
         userPool.addUser(user);
         // Execute field enter scripts
         if (mapInfo.hasOnFirstUserEnter()) {
@@ -347,6 +409,10 @@ public final class Field {
 
     public void removeUser(User user) {
         userPool.removeUser(user);
+        updateActiveTime();
+        if (!hasUser()) {
+            scheduleUpdate(true);
+        }
         // Handle dialogs
         user.closeDialog();
         // Handle instance
@@ -19,6 +19,7 @@ public final class MobPool extends FieldObjectPool<Mob> {
     private final List<MobSpawnPoint> mobSpawnPoints;
     private final int mobCapacityMin;
     private final int mobCapacityMax;
+    private final UpdateQueue<Mob> updateQueue = new UpdateQueue<>();
 
     public MobPool(Field field) {
         super(field);
@@ -50,6 +51,9 @@ public final class MobPool extends FieldObjectPool<Mob> {
         mob.setField(field);
         mob.setId(field.getNewObjectId());
         addObject(mob);
+        // Process mob on the next tick, which registers the deadlines set before it was added
+        mob.setNextUpdateTime(Instant.MIN);
+        scheduleUpdate(mob, Instant.MIN);
         field.broadcastPacket(MobPacket.mobEnterField(mob));
         field.getUserPool().assignController(mob);
     }
@@ -59,9 +63,11 @@ public final class MobPool extends FieldObjectPool<Mob> {
             return false;
         }
         // Send MobLeaveField after processing attack
-        ServerExecutor.submit(field, () -> {
+        if (!ServerExecutor.submit(field, () -> {
             field.broadcastPacket(MobPacket.mobLeaveField(mob));
-        });
+        })) {
+            field.broadcastPacket(MobPacket.mobLeaveField(mob));
+        }
         // Special handling for fields
         switch (field.getFieldId()) {
             case KerningPQ.STAGE_4 -> {
@@ -80,43 +86,60 @@ public final class MobPool extends FieldObjectPool<Mob> {
     }
 
     public void updateMobs(Instant now) {
-        for (Mob mob : getObjects()) {
+        for (Mob mob : updateQueue.poll(now)) {
             try (var lockedMob = mob.acquire()) {
-                // Handle burn
-                final Set<BurnedInfo> resetBurnedInfos = new HashSet<>();
-                final var iter = mob.getMobStat().getBurnedInfos().values().iterator();
-                while (iter.hasNext()) {
-                    final BurnedInfo burnedInfo = iter.next();
-                    if (now.isBefore(burnedInfo.getNextUpdate())) {
-                        continue;
-                    }
-                    mob.burn(burnedInfo.getCharacterId(), burnedInfo.getDamage());
-                    if (burnedInfo.getDotCount() > 1) {
-                        burnedInfo.setDotCount(burnedInfo.getDotCount() - 1);
-                        burnedInfo.setLastUpdate(now);
-                    } else {
-                        iter.remove();
-                        resetBurnedInfos.add(burnedInfo);
-                    }
-                }
-                // Expire temporary stat
-                final Set<MobTemporaryStat> resetStats = mob.getMobStat().expireTemporaryStat(now);
-                if (!resetBurnedInfos.isEmpty() && mob.getMobStat().getBurnedInfos().isEmpty()) {
-                    mob.getMobStat().getTemporaryStats().remove(MobTemporaryStat.Burned);
-                    resetStats.add(MobTemporaryStat.Burned);
+                // Skip mobs that were removed or already processed for an earlier entry
+                if (objects.get(mob.getId()) != mob || !now.isAfter(mob.getNextUpdateTime())) {
+                    continue;
                 }
-                final BitFlag<MobTemporaryStat> flag = BitFlag.from(resetStats, MobTemporaryStat.FLAG_SIZE);
-                if (!flag.isEmpty()) {
-                    field.broadcastPacket(MobPacket.mobStatReset(mob, flag, resetBurnedInfos));
+                // Deadlines registered while processing the mob are queued again
+                mob.setNextUpdateTime(Instant.MAX);
+                updateMob(mob, now);
+                mob.scheduleUpdate(mob.computeNextUpdateTime(now));
+            }
+        }
+    }
+
+    public void scheduleUpdate(Mob mob, Instant time) {
+        updateQueue.schedule(mob, time);
+    }
+
+    private void updateMob(Mob mob, Instant now) {
+        // Handle burn
+        Set<BurnedInfo> resetBurnedInfos = Set.of();
+        final var iter = mob.getMobStat().getBurnedInfos().values().iterator();
+        while (iter.hasNext()) {
+            final BurnedInfo burnedInfo = iter.next();
+            if (now.isBefore(burnedInfo.getNextUpdate())) {
+                continue;
+            }
+            mob.burn(burnedInfo.getCharacterId(), burnedInfo.getDamage());
+            if (burnedInfo.getDotCount() > 1) {
+                burnedInfo.setDotCount(burnedInfo.getDotCount() - 1);
+                burnedInfo.setLastUpdate(now);
+            } else {
+                iter.remove();
+                if (resetBurnedInfos.isEmpty()) {
+                    resetBurnedInfos = new HashSet<>();
                 }
-                // Try recovering hp/mp
-                mob.recovery(now);
-                // Try removing mob (removeAfter)
-                mob.remove(now);
-                // Try dropping item (dropItemPeriod)
-                mob.dropItem(now);
+                resetBurnedInfos.add(burnedInfo);
             }
         }
+        // Expire temporary stat
+        final Set<MobTemporaryStat> resetStats = mob.getMobStat().expireTemporaryStat(now);
+        if (!resetBurnedInfos.isEmpty() && mob.getMobStat().getBurnedInfos().isEmpty()) {
+            mob.getMobStat().getTemporaryStats().remove(MobTemporaryStat.Burned);
+            resetStats.add(MobTemporaryStat.Burned);
+        }
+        if (!resetStats.isEmpty()) {
+            field.broadcastPacket(MobPacket.mobStatReset(mob, BitFlag.from(resetStats, MobTemporaryStat.FLAG_SIZE), resetBurnedInfos));
+        }
+        // Try recovering hp/mp
+        mob.recovery(now);
+        // Try removing mob (removeAfter)
+        mob.remove(now);
+        // Try dropping item (dropItemPeriod)
+        mob.dropItem(now);
     }
 
     public void respawnMobs(Instant now) {
@@ -15,7 +15,7 @@ public final class SummonedPool extends FieldObjectPool<Summoned> {
         summoned.setField(field);
         summoned.setId(field.getNewObjectId());
         addObject(summoned);
-        field.broadcastPacket(SummonedPacket.summonedEnterField(user, summoned));
+        field.broadcastViewPacket(user, SummonedPacket.summonedEnterField(user, summoned), false);
         summoned.setEnterType(SummonedEnterType.DEFAULT);
     }
 
@@ -26,7 +26,7 @@ public final class SummonedPool extends FieldObjectPool<Summoned> {
         if (summoned.getSkillId() == Mechanic.ACCELERATION_BOT_EX_7) {
             Mechanic.handleRemoveAccelerationBot(summoned);
         }
-        field.broadcastPacket(SummonedPacket.summonedLeaveField(user, summoned));
+        field.broadcastViewPacket(user, SummonedPacket.summonedLeaveField(user, summoned), false);
         return true;
     }
 }
@@ -0,0 +1,41 @@
+package kinoko.world.field;
+
+import kinoko.util.Tuple;
+
+import java.time.Instant;
+import java.util.*;
+
+/**
+ * Deadlines at which the field objects of a pool should be processed on the field tick. Objects may be queued more than
+ * once, the pools skip the entries that no longer match the object's next update time.
+ */
+final class UpdateQueue<T> {
+    private final PriorityQueue<Tuple<Instant, T>> queue = new PriorityQueue<>(Comparator.comparing(Tuple::getLeft));
+
+    public synchronized void schedule(T object, Instant time) {
+        queue.add(Tuple.of(time, object));
+    }
+
+    /**
+     * Removes the entries of an object that left the pool, so that the queue does not keep a reference to it.
+     */
+    public synchronized void remove(T object) {
+        queue.removeIf((entry) -> entry.getRight() == object);
+    }
+
+    /**
+     * @return the objects with a deadline before now, removed from the queue.
+     */
+    public synchronized List<T> poll(Instant now) {
+        Tuple<Instant, T> entry = queue.peek();
+        if (entry == null || !now.isAfter(entry.getLeft())) {
+            return List.of();
+        }
+        final List<T> objects = new ArrayList<>();
+        while (entry != null && now.isAfter(entry.getLeft())) {
+            objects.add(queue.poll().getRight());
+            entry = queue.peek();
+        }
+        return objects;
+    }
+}
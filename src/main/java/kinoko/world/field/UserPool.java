@@ -10,7 +10,10 @@ import kinoko.provider.QuestProvider;
 import kinoko.provider.map.PortalInfo;
 import kinoko.provider.quest.QuestInfo;
 import kinoko.server.ServerConfig;
+import kinoko.server.packet.BroadcastOutPacket;
 import kinoko.server.packet.OutPacket;
+import kinoko.util.Locked;
+import kinoko.util.Tuple;
 import kinoko.world.field.drop.DropEnterType;
 import kinoko.world.field.summoned.Summoned;
 import kinoko.world.item.*;
@@ -22,61 +25,54 @@ import kinoko.world.skill.SkillProcessor;
 import kinoko.world.user.Pet;
 import kinoko.world.user.User;
 import kinoko.world.user.stat.CharacterTemporaryStat;
+import kinoko.world.user.stat.TemporaryStatOption;
 
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
-import java.util.ArrayList;
-import java.util.List;
-import java.util.Optional;
-import java.util.Set;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 
 public final class UserPool extends FieldObjectPool<User> {
+    private final ViewGrid viewGrid;
+    private final AtomicLong viewSavedCount = new AtomicLong();
+    private final AtomicLong viewChangeCount = new AtomicLong();
+    private final UpdateQueue<User> updateQueue = new UpdateQueue<>();
+
     public UserPool(Field field) {
         super(field);
+        this.viewGrid = ServerConfig.VIEW_RANGE_FIELDS.contains(field.getFieldId()) ? new ViewGrid(ServerConfig.VIEW_RANGE) : null;
     }
 
     public synchronized void addUser(User user) {
-        // Update client with existing users in pool
-        forEach((existingUser) -> {
-            try (var locked = existingUser.acquire()) {
-                user.write(UserPacket.userEnterField(locked.get()));
-                for (Pet pet : existingUser.getPets()) {
-                    user.write(PetPacket.petActivated(existingUser, pet));
-                }
-                for (List<Summoned> summonedList : existingUser.getSummoned().values()) {
-                    for (Summoned summoned : summonedList) {
-                        user.write(SummonedPacket.summonedEnterField(existingUser, summoned));
-                    }
-                }
-                if (existingUser.getDragon() != null) {
-                    user.write(DragonPacket.dragonEnterField(existingUser, existingUser.getDragon()));
-                }
-                if (existingUser.getOpenGate() != null) {
-                    user.write(FieldPacket.openGateCreated(existingUser, existingUser.getOpenGate(), false));
-                    if (existingUser.getOpenGate().getSecondGate() != null) {
-                        user.write(FieldPacket.openGateCreated(existingUser, existingUser.getOpenGate().getSecondGate(), false));
-                    }
-                }
-            }
-        });
+        if (viewGrid == null) {
+            // Update client with existing users in pool
+            forEach((existingUser) -> writeUserEnter(user, existingUser));
 
-        // Add user to pool
-        addObject(user);
-        broadcastPacket(UserPacket.userEnterField(user), user);
+            // Add user to pool
+            addObject(user);
+            broadcastPacket(UserPacket.userEnterField(user), user);
+        } else {
+            // Add user to pool, only users in view range are visible
+            addObject(user);
+            for (User existingUser : viewGrid.add(user)) {
+                writeUserEnter(user, existingUser);
+                existingUser.write(UserPacket.userEnterField(user));
+            }
+        }
 
         // Add user pets
         for (Pet pet : user.getPets()) {
             pet.setPosition(field, user.getX(), user.getY());
-            broadcastPacket(PetPacket.petActivated(user, pet));
+            broadcastViewPacket(user, PetPacket.petActivated(user, pet), false);
             user.write(PetPacket.petLoadExceptionList(user, pet.getPetIndex(), pet.getItemSn(), user.getConfigManager().getPetExceptionList()));
         }
 
         // Add user dragon
         if (user.getDragon() != null) {
             user.getDragon().setPosition(field, user.getX(), user.getY());
-            broadcastPacket(DragonPacket.dragonEnterField(user, user.getDragon()));
+            broadcastViewPacket(user, DragonPacket.dragonEnterField(user, user.getDragon()), false);
         }
 
         // Add user summoned
@@ -87,6 +83,10 @@ public final class UserPool extends FieldObjectPool<User> {
             }
         }
 
+        // Process user on the next tick, which registers their deadlines in this pool
+        user.setNextUpdateTime(Instant.MIN);
+        scheduleUpdate(user, Instant.MIN);
+
         // Update party
         forEachPartyMember(user, (member) -> {
             try (var lockedMember = member.acquire()) {
@@ -157,7 +157,15 @@ public final class UserPool extends FieldObjectPool<User> {
         if (!removeObject(user)) {
             return false;
         }
-        broadcastPacket(UserPacket.userLeaveField(user), user);
+        updateQueue.remove(user);
+        if (viewGrid == null) {
+            broadcastPacket(UserPacket.userLeaveField(user), user);
+        } else {
+            // Remove the user's summons along with the user, as the summoned leave packets are only sent to users in view
+            for (User other : viewGrid.remove(user)) {
+                writeUserLeave(other, user);
+            }
+        }
 
         // Handle controller change
         field.getMobPool().forEach((mob) -> {
@@ -203,95 +211,148 @@ public final class UserPool extends FieldObjectPool<User> {
     }
 
     public void updateUsers(Instant now) {
-        for (User user : getObjects()) {
+        for (User user : updateQueue.poll(now)) {
             try (var locked = user.acquire()) {
-                // Handle CTS updates on tick
-                SkillProcessor.processUpdate(locked, now);
-                // Expire temporary stat
-                user.resetTemporaryStat((cts, option) -> now.isAfter(option.getExpireTime()));
-                // Expire skill cooltimes
-                final Set<Integer> resetCooltimes = user.getSkillManager().expireSkillCooltime(now);
-                for (int skillId : resetCooltimes) {
-                    user.write(UserLocal.skillCooltimeSet(skillId, 0));
+                // Skip users that left the field or were already processed for an earlier entry
+                if (objects.get(user.getId()) != user || !now.isAfter(user.getNextUpdateTime())) {
+                    continue;
                 }
-                // Expire summoned
-                user.removeSummoned((summoned) -> now.isAfter(summoned.getExpireTime()));
-                // Expire town portal
-                final TownPortal townPortal = user.getTownPortal();
-                if (townPortal != null) {
-                    if (townPortal.getExpireTime().isBefore(now)) {
-                        townPortal.destroy();
-                        user.setTownPortal(null);
-                        user.write(WvsContext.resetTownPortal());
-                        user.write(MessagePacket.skillExpire(townPortal.getSkillId()));
-                        user.getConnectedServer().notifyUserUpdate(user);
+                // Deadlines registered while processing the user are queued again
+                user.setNextUpdateTime(Instant.MAX);
+                updateUser(locked, now);
+                user.scheduleUpdate(getNextUpdateTime(user, now));
+            }
+        }
+    }
+
+    public void scheduleUpdate(User user, Instant time) {
+        updateQueue.schedule(user, time);
+    }
+
+    private void updateUser(Locked<User> locked, Instant now) {
+        final User user = locked.get();
+        // Handle CTS updates on tick
+        SkillProcessor.processUpdate(locked, now);
+        // Expire temporary stat
+        user.resetTemporaryStat((cts, option) -> now.isAfter(option.getExpireTime()));
+        // Expire skill cooltimes
+        final Set<Integer> resetCooltimes = user.getSkillManager().expireSkillCooltime(now);
+        for (int skillId : resetCooltimes) {
+            user.write(UserLocal.skillCooltimeSet(skillId, 0));
+        }
+        // Expire summoned
+        user.removeSummoned((summoned) -> now.isAfter(summoned.getExpireTime()));
+        // Expire town portal
+        final TownPortal townPortal = user.getTownPortal();
+        if (townPortal != null) {
+            if (townPortal.getExpireTime().isBefore(now)) {
+                townPortal.destroy();
+                user.setTownPortal(null);
+                user.write(WvsContext.resetTownPortal());
+                user.write(MessagePacket.skillExpire(townPortal.getSkillId()));
+                user.getConnectedServer().notifyUserUpdate(user);
+            }
+        }
+        // Expire open gate
+        final OpenGate openGate = user.getOpenGate();
+        if (openGate != null) {
+            if (openGate.getExpireTime().isBefore(now)) {
+                openGate.destroy();
+                user.setOpenGate(null);
+            }
+        }
+        // Expire items
+        if (now.isAfter(user.getNextCheckItemExpire())) {
+            boolean itemExpired = false;
+            final InventoryManager im = user.getInventoryManager();
+            for (InventoryType inventoryType : List.of(InventoryType.EQUIPPED, InventoryType.EQUIP, InventoryType.CONSUME, InventoryType.INSTALL, InventoryType.ETC)) {
+                final Inventory inventory = im.getInventoryByType(inventoryType);
+                for (int position : List.copyOf(inventory.getItems().keySet())) {
+                    final Item item = inventory.getItem(position);
+                    if (item.getDateExpire() == null || now.isBefore(item.getDateExpire())) {
+                        continue;
                     }
+                    // Remove item from inventory
+                    inventory.removeItem(position);
+                    user.write(WvsContext.inventoryOperation(InventoryOperation.delItem(
+                            inventoryType == InventoryType.EQUIPPED ? InventoryType.EQUIP : inventoryType,
+                            inventoryType == InventoryType.EQUIPPED ? -position : position
+                    ), false));
+                    user.write(MessagePacket.generalItemExpire(item.getItemId()));
+                    itemExpired = true;
                 }
-                // Expire open gate
-                final OpenGate openGate = user.getOpenGate();
-                if (openGate != null) {
-                    if (openGate.getExpireTime().isBefore(now)) {
-                        openGate.destroy();
-                        user.setOpenGate(null);
-                    }
+            }
+            // Expire cash items and pets
+            final Inventory cashInventory = im.getCashInventory();
+            for (int position : List.copyOf(cashInventory.getItems().keySet())) {
+                final Item item = cashInventory.getItem(position);
+                if (item.getDateExpire() == null || now.isBefore(item.getDateExpire())) {
+                    continue;
                 }
-                // Expire items
-                if (now.isAfter(user.getNextCheckItemExpire())) {
-                    user.setNextCheckItemExpire(now.plus(ServerConfig.ITEM_EXPIRE_INTERVAL, ChronoUnit.SECONDS));
-                    boolean itemExpired = false;
-                    final InventoryManager im = user.getInventoryManager();
-                    for (InventoryType inventoryType : List.of(InventoryType.EQUIPPED, InventoryType.EQUIP, InventoryType.CONSUME, InventoryType.INSTALL, InventoryType.ETC)) {
-                        final var iter = im.getInventoryByType(inventoryType).getItems().entrySet().iterator();
-                        while (iter.hasNext()) {
-                            final var entry = iter.next();
-                            final int position = entry.getKey();
-                            final Item item = entry.getValue();
-                            if (item.getDateExpire() == null || now.isBefore(item.getDateExpire())) {
-                                continue;
-                            }
-                            // Remove item from inventory
-                            iter.remove();
-                            user.write(WvsContext.inventoryOperation(InventoryOperation.delItem(
-                                    inventoryType == InventoryType.EQUIPPED ? InventoryType.EQUIP : inventoryType,
-                                    inventoryType == InventoryType.EQUIPPED ? -position : position
-                            ), false));
-                            user.write(MessagePacket.generalItemExpire(item.getItemId()));
-                            itemExpired = true;
-                        }
-                    }
-                    // Expire cash items and pets
-                    final var iter = im.getCashInventory().getItems().entrySet().iterator();
-                    while (iter.hasNext()) {
-                        final var entry = iter.next();
-                        final int position = entry.getKey();
-                        final Item item = entry.getValue();
-                        if (item.getDateExpire() == null || now.isBefore(item.getDateExpire())) {
-                            continue;
-                        }
-                        if (item.getItemType() == ItemType.PET) {
-                            // Set pet as expired - FileTime.DEFAULT_TIME should be encoded to turn them into dolls
-                            item.setDateExpire(null);
-                            user.write(WvsContext.inventoryOperation(InventoryOperation.newItem(InventoryType.CASH, position, item), false));
-                            // Deactivate pet if required
-                            final Optional<Integer> petIndexResult = user.getPetIndex(item.getItemSn());
-                            if (petIndexResult.isPresent() && user.removePet(petIndexResult.get())) {
-                                user.getField().broadcastPacket(PetPacket.petDeactivated(user, petIndexResult.get(), 2)); // The pet's magical time has run out and so it has turned back into a doll.
-                            }
-                        } else {
-                            // Remove item from inventory
-                            iter.remove();
-                            user.write(WvsContext.inventoryOperation(InventoryOperation.delItem(InventoryType.CASH, position), false));
-                            user.write(MessagePacket.cashItemExpire(item.getItemId()));
-                        }
-                        itemExpired = true;
-                    }
-                    // Validate stat
-                    if (itemExpired) {
-                        user.validateStat();
+                if (item.getItemType() == ItemType.PET) {
+                    // Set pet as expired - FileTime.DEFAULT_TIME should be encoded to turn them into dolls
+                    item.setDateExpire(null);
+                    user.write(WvsContext.inventoryOperation(InventoryOperation.newItem(InventoryType.CASH, position, item), false));
+                    // Deactivate pet if required
+                    final Optional<Integer> petIndexResult = user.getPetIndex(item.getItemSn());
+                    if (petIndexResult.isPresent() && user.removePet(petIndexResult.get())) {
+                        user.getField().broadcastViewPacket(user, PetPacket.petDeactivated(user, petIndexResult.get(), 2), false); // The pet's magical time has run out and so it has turned back into a doll.
                     }
+                } else {
+                    // Remove item from inventory
+                    cashInventory.removeItem(position);
+                    user.write(WvsContext.inventoryOperation(InventoryOperation.delItem(InventoryType.CASH, position), false));
+                    user.write(MessagePacket.cashItemExpire(item.getItemId()));
                 }
+                itemExpired = true;
             }
+            // Validate stat
+            if (itemExpired) {
+                user.validateStat();
+            }
+            // Check again once the next item expires, items added later are registered by the inventories
+            user.setNextCheckItemExpire(im.getNextItemExpire());
+        }
+    }
+
+    private static Instant getNextUpdateTime(User user, Instant now) {
+        Instant nextUpdateTime = user.getNextCheckItemExpire();
+        for (TemporaryStatOption option : user.getSecondaryStat().getTemporaryStats().values()) {
+            nextUpdateTime = getEarliest(nextUpdateTime, option.getExpireTime(), now);
+        }
+        for (var entry : user.getSkillManager().getSkillCooltimes().entrySet()) {
+            // Battleship durability is stored as cooltime
+            if (entry.getKey() != SkillConstants.BATTLESHIP_DURABILITY) {
+                nextUpdateTime = getEarliest(nextUpdateTime, entry.getValue(), now);
+            }
+        }
+        for (Instant schedule : user.getSkillManager().getSkillSchedules().values()) {
+            if (schedule.isBefore(now) && user.getHp() <= 0) {
+                // Schedules are not processed while dead, check again once revived
+                schedule = now.plus(1, ChronoUnit.SECONDS);
+            }
+            nextUpdateTime = getEarliest(nextUpdateTime, schedule, now);
+        }
+        for (List<Summoned> summonedList : user.getSummoned().values()) {
+            for (Summoned summoned : summonedList) {
+                nextUpdateTime = getEarliest(nextUpdateTime, summoned.getExpireTime(), now);
+            }
+        }
+        if (user.getTownPortal() != null) {
+            nextUpdateTime = getEarliest(nextUpdateTime, user.getTownPortal().getExpireTime(), now);
+        }
+        if (user.getOpenGate() != null) {
+            nextUpdateTime = getEarliest(nextUpdateTime, user.getOpenGate().getExpireTime(), now);
+        }
+        return nextUpdateTime;
+    }
+
+    private static Instant getEarliest(Instant earliest, Instant time, Instant now) {
+        // Deadlines before now are stale, such as the schedules of temporary stats that were reset
+        if (time.isBefore(now) || !time.isBefore(earliest)) {
+            return earliest;
         }
+        return time;
     }
 
 
@@ -313,6 +374,99 @@ public final class UserPool extends FieldObjectPool<User> {
     }
 
 
+    // VIEW RANGE METHODS ----------------------------------------------------------------------------------------------
+
+    public boolean isViewRangeEnabled() {
+        return viewGrid != null;
+    }
+
+    /**
+     * Number of packets that were not sent to users outside the view range.
+     */
+    public long getViewSavedCount() {
+        return viewSavedCount.get();
+    }
+
+    /**
+     * Number of times that a pair of users entered or left each other's view range, entering and leaving the field is
+     * not counted.
+     */
+    public long getViewChangeCount() {
+        return viewChangeCount.get();
+    }
+
+    /**
+     * Updates the view of the user after a movement or a change of position within the field, users that cross the view
+     * range are created or removed on both clients. Called by {@link User#setPosition} and the user move handler.
+     */
+    public void updateView(User user) {
+        if (viewGrid == null) {
+            return;
+        }
+        final Tuple<List<User>, List<User>> viewChange = viewGrid.update(user);
+        viewChangeCount.addAndGet(viewChange.getLeft().size() + viewChange.getRight().size());
+        for (User other : viewChange.getLeft()) {
+            writeUserEnter(user, other);
+            writeUserEnter(other, user);
+        }
+        for (User other : viewChange.getRight()) {
+            writeUserLeave(user, other);
+            writeUserLeave(other, user);
+        }
+    }
+
+    /**
+     * Broadcasts the packet to the users in view of the source user, or to every user in the field if view range is not
+     * enabled for the field. Used for the packets of the user and of their pets, summons and dragon.
+     */
+    public void broadcastViewPacket(User user, OutPacket outPacket, boolean exceptUser) {
+        if (viewGrid == null) {
+            broadcastPacket(outPacket, exceptUser ? user : null);
+            return;
+        }
+        final List<User> inView = viewGrid.getView(user);
+        viewSavedCount.addAndGet(Math.max(getCount() - inView.size() - 1, 0));
+        broadcastPacket(inView, outPacket, null);
+        if (!exceptUser && objects.get(user.getId()) == user) {
+            user.write(outPacket);
+        }
+    }
+
+    private void writeUserEnter(User user, User existingUser) {
+        try (var locked = existingUser.acquire()) {
+            user.write(UserPacket.userEnterField(locked.get()));
+            for (Pet pet : existingUser.getPets()) {
+                user.write(PetPacket.petActivated(existingUser, pet));
+            }
+            for (List<Summoned> summonedList : existingUser.getSummoned().values()) {
+                for (Summoned summoned : summonedList) {
+                    user.write(SummonedPacket.summonedEnterField(existingUser, summoned));
+                }
+            }
+            if (existingUser.getDragon() != null) {
+                user.write(DragonPacket.dragonEnterField(existingUser, existingUser.getDragon()));
+            }
+            if (existingUser.getOpenGate() != null) {
+                user.write(FieldPacket.openGateCreated(existingUser, existingUser.getOpenGate(), false));
+                if (existingUser.getOpenGate().getSecondGate() != null) {
+                    user.write(FieldPacket.openGateCreated(existingUser, existingUser.getOpenGate().getSecondGate(), false));
+                }
+            }
+        }
+    }
+
+    private void writeUserLeave(User user, User existingUser) {
+        try (var locked = existingUser.acquire()) {
+            for (List<Summoned> summonedList : existingUser.getSummoned().values()) {
+                for (Summoned summoned : summonedList) {
+                    user.write(SummonedPacket.summonedLeaveField(existingUser, summoned));
+                }
+            }
+            user.write(UserPacket.userLeaveField(locked.get()));
+        }
+    }
+
+
     // HELPER METHODS --------------------------------------------------------------------------------------------------
 
     public void broadcastPacket(OutPacket outPacket) {
@@ -320,12 +474,26 @@ public final class UserPool extends FieldObjectPool<User> {
     }
 
     public void broadcastPacket(OutPacket outPacket, User except) {
-        forEach((user) -> {
+        broadcastPacket(objects.values(), outPacket, except);
+    }
+
+    private static void broadcastPacket(Collection<User> users, OutPacket outPacket, User except) {
+        if (users.size() <= 1) {
+            for (User user : users) {
+                if (except == null || user.getCharacterId() != except.getCharacterId()) {
+                    user.write(outPacket);
+                }
+            }
+            return;
+        }
+        // Apply the IV-independent encryption stage once for all recipients
+        final BroadcastOutPacket broadcastPacket = BroadcastOutPacket.from(outPacket);
+        for (User user : users) {
             if (except != null && user.getCharacterId() == except.getCharacterId()) {
-                return;
+                continue;
             }
-            user.write(outPacket);
-        });
+            user.write(broadcastPacket);
+        }
     }
 
     public Optional<User> getNearestUser(FieldObject fieldObject) {
@@ -0,0 +1,138 @@
+package kinoko.world.field;
+
+import kinoko.util.Tuple;
+import kinoko.world.user.User;
+
+import java.util.*;
+
+/**
+ * Uniform grid of users used for view range broadcasts. Each cell spans the view range, so the users in view of a
+ * position are always contained within the surrounding 3x3 cells. The view relation is symmetric and tracked per user,
+ * which allows {@link #update(User)} to report the users that crossed a view boundary.
+ */
+final class ViewGrid {
+    private final Map<Long, List<User>> cells = new HashMap<>(); // cell key -> users
+    private final Map<Integer, Long> userCells = new HashMap<>(); // character ID -> cell key
+    private final Map<Integer, Set<User>> userViews = new HashMap<>(); // character ID -> users in view
+    private final int range;
+
+    ViewGrid(int range) {
+        this.range = range;
+    }
+
+    /**
+     * Adds the user to the grid.
+     *
+     * @return users that are in view of the added user.
+     */
+    synchronized List<User> add(User user) {
+        final long cellKey = getCellKey(user.getX(), user.getY());
+        cells.computeIfAbsent(cellKey, (key) -> new ArrayList<>()).add(user);
+        userCells.put(user.getCharacterId(), cellKey);
+        final Set<User> inView = computeView(user);
+        for (User other : inView) {
+            userViews.get(other.getCharacterId()).add(user);
+        }
+        userViews.put(user.getCharacterId(), inView);
+        return List.copyOf(inView);
+    }
+
+    /**
+     * Removes the user from the grid.
+     *
+     * @return users that were in view of the removed user.
+     */
+    synchronized List<User> remove(User user) {
+        final Long cellKey = userCells.remove(user.getCharacterId());
+        if (cellKey == null) {
+            return List.of();
+        }
+        removeFromCell(cellKey, user);
+        final Set<User> inView = userViews.remove(user.getCharacterId());
+        for (User other : inView) {
+            userViews.get(other.getCharacterId()).remove(user);
+        }
+        return List.copyOf(inView);
+    }
+
+    /**
+     * Updates the user's position in the grid.
+     *
+     * @return a tuple of the users that entered the view, and the users that left the view of the updated user.
+     */
+    synchronized Tuple<List<User>, List<User>> update(User user) {
+        final Long cellKey = userCells.get(user.getCharacterId());
+        if (cellKey == null) {
+            return new Tuple<>(List.of(), List.of());
+        }
+        final long newCellKey = getCellKey(user.getX(), user.getY());
+        if (newCellKey != cellKey) {
+            removeFromCell(cellKey, user);
+            cells.computeIfAbsent(newCellKey, (key) -> new ArrayList<>()).add(user);
+            userCells.put(user.getCharacterId(), newCellKey);
+        }
+        final Set<User> oldView = userViews.get(user.getCharacterId());
+        final Set<User> newView = computeView(user);
+        final List<User> entered = new ArrayList<>();
+        final List<User> left = new ArrayList<>();
+        for (User other : newView) {
+            if (!oldView.contains(other)) {
+                userViews.get(other.getCharacterId()).add(user);
+                entered.add(other);
+            }
+        }
+        for (User other : oldView) {
+            if (!newView.contains(other)) {
+                userViews.get(other.getCharacterId()).remove(user);
+                left.add(other);
+            }
+        }
+        userViews.put(user.getCharacterId(), newView);
+        return new Tuple<>(entered, left);
+    }
+
+    /**
+     * @return users that are in view of the user, does not include the user.
+     */
+    synchronized List<User> getView(User user) {
+        final Set<User> inView = userViews.get(user.getCharacterId());
+        return inView != null ? List.copyOf(inView) : List.of();
+    }
+
+    private Set<User> computeView(User user) {
+        final Set<User> inView = new HashSet<>();
+        final int cellX = Math.floorDiv(user.getX(), range);
+        final int cellY = Math.floorDiv(user.getY(), range);
+        for (int x = cellX - 1; x <= cellX + 1; x++) {
+            for (int y = cellY - 1; y <= cellY + 1; y++) {
+                final List<User> cell = cells.get(toCellKey(x, y));
+                if (cell == null) {
+                    continue;
+                }
+                for (User other : cell) {
+                    if (other.getCharacterId() != user.getCharacterId() &&
+                            Math.abs(other.getX() - user.getX()) <= range &&
+                            Math.abs(other.getY() - user.getY()) <= range) {
+                        inView.add(other);
+                    }
+                }
+            }
+        }
+        return inView;
+    }
+
+    private void removeFromCell(long cellKey, User user) {
+        final List<User> cell = cells.get(cellKey);
+        if (cell != null && cell.remove(user) && cell.isEmpty()) {
+            cells.remove(cellKey);
+        }
+    }
+
+    private long getCellKey(int x, int y) {
+        return toCellKey(Math.floorDiv(x, range), Math.floorDiv(y, range));
+    }
+
+    private static long toCellKey(int cellX, int cellY) {
+        return ((long) cellX << 32) | (cellY & 0xFFFFFFFFL);
+    }
+}
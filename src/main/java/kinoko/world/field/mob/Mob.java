@@ -9,7 +9,6 @@ import kinoko.provider.mob.DamagedAttribute;
 import kinoko.provider.mob.MobAttack;
 import kinoko.provider.mob.MobSkill;
 import kinoko.provider.mob.MobTemplate;
-import kinoko.provider.quest.QuestInfo;
 import kinoko.provider.reward.Reward;
 import kinoko.provider.skill.ElementAttribute;
 import kinoko.provider.skill.SkillInfo;
@@ -23,6 +22,7 @@ import kinoko.util.Lockable;
 import kinoko.util.Util;
 import kinoko.world.GameConstants;
 import kinoko.world.field.ControlledObject;
+import kinoko.world.field.Field;
 import kinoko.world.field.drop.Drop;
 import kinoko.world.field.drop.DropEnterType;
 import kinoko.world.field.drop.DropOwnType;
@@ -34,6 +34,7 @@ import kinoko.world.quest.QuestRecord;
 import kinoko.world.user.User;
 import kinoko.world.user.stat.CharacterTemporaryStat;
 
+import java.time.Duration;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
 import java.util.*;
@@ -66,6 +67,7 @@ public final class Mob extends Life implements ControlledObject, Encodable, Lock
     private Instant nextRecovery;
     private Instant removeAfter;
     private Instant nextDropItem;
+    private volatile Instant nextUpdateTime = Instant.MIN;
 
     public Mob(MobTemplate template, MobSpawnPoint spawnPoint, int x, int y, int fh) {
         this.template = template;
@@ -208,6 +210,9 @@ public final class Mob extends Life implements ControlledObject, Encodable, Lock
 
     public void setHp(int hp) {
         this.hp = hp;
+        if (hp < getMaxHp() && getHpRecovery() > 0) {
+            scheduleRecovery();
+        }
     }
 
     public int getMp() {
@@ -216,6 +221,9 @@ public final class Mob extends Life implements ControlledObject, Encodable, Lock
 
     public void setMp(int mp) {
         this.mp = mp;
+        if (mp < getMaxMp() && getMpRecovery() > 0) {
+            scheduleRecovery();
+        }
     }
 
     public int getExp() {
@@ -248,12 +256,82 @@ public final class Mob extends Life implements ControlledObject, Encodable, Lock
 
     public void setRemoveAfter(Instant removeAfter) {
         this.removeAfter = removeAfter;
+        if (template.getRemoveAfter() > 0) {
+            scheduleUpdate(removeAfter);
+        }
     }
 
     public void resetDropItemPeriod() {
         if (template.getDropItemPeriod() > 0) {
             nextDropItem = Instant.now().plus(template.getDropItemPeriod(), ChronoUnit.SECONDS);
+            scheduleUpdate(nextDropItem);
+        }
+    }
+
+    public Instant getNextUpdateTime() {
+        return nextUpdateTime;
+    }
+
+    public void setNextUpdateTime(Instant nextUpdateTime) {
+        this.nextUpdateTime = nextUpdateTime;
+    }
+
+    /**
+     * Registers a deadline at which {@link kinoko.world.field.MobPool#updateMobs} should process this mob, such as the
+     * expiry of a temporary stat or the next burn damage.
+     */
+    public void scheduleUpdate(Instant time) {
+        if (!time.isBefore(nextUpdateTime)) {
+            return;
+        }
+        nextUpdateTime = time;
+        final Field field = getField();
+        if (field != null) {
+            field.getMobPool().scheduleUpdate(this, time);
+        }
+    }
+
+    /**
+     * Computes the earliest deadline of the mob after processing it at the given time, idle mobs at full hp and mp
+     * without temporary stats do not have a deadline.
+     */
+    public Instant computeNextUpdateTime(Instant now) {
+        Instant nextUpdate = Instant.MAX;
+        for (MobStatOption option : getMobStat().getTemporaryStats().values()) {
+            nextUpdate = getEarliest(nextUpdate, option.getExpireTime(), now);
+        }
+        for (BurnedInfo burnedInfo : getMobStat().getBurnedInfos().values()) {
+            nextUpdate = getEarliest(nextUpdate, burnedInfo.getNextUpdate(), now);
+        }
+        if (getHp() >= 0 && ((getHp() < getMaxHp() && getHpRecovery() > 0) || (getMp() < getMaxMp() && getMpRecovery() > 0))) {
+            nextUpdate = getEarliest(nextUpdate, nextRecovery, now);
+        }
+        if (template.getRemoveAfter() > 0) {
+            nextUpdate = getEarliest(nextUpdate, removeAfter, now);
         }
+        if (template.getDropItemPeriod() > 0) {
+            // Items are not dropped while there are no users in the field, check again later
+            nextUpdate = getEarliest(nextUpdate, nextDropItem.isAfter(now) ? nextDropItem : now.plus(1, ChronoUnit.SECONDS), now);
+        }
+        return nextUpdate;
+    }
+
+    private void scheduleRecovery() {
+        final Instant now = Instant.now();
+        if (nextRecovery.isBefore(now)) {
+            // Keep the recovery interval aligned, as if the mob was processed while at full hp and mp
+            final long interval = GameConstants.MOB_RECOVER_TIME * 1000L;
+            final long elapsed = Duration.between(nextRecovery, now).toMillis();
+            nextRecovery = nextRecovery.plusMillis((elapsed / interval + 1) * interval);
+        }
+        scheduleUpdate(nextRecovery);
+    }
+
+    private static Instant getEarliest(Instant earliest, Instant time, Instant now) {
+        if (time.isBefore(now) || !time.isBefore(earliest)) {
+            return earliest;
+        }
+        return time;
     }
 
 
@@ -268,13 +346,12 @@ public final class Mob extends Life implements ControlledObject, Encodable, Lock
         if (getHp() < 0 || now.isBefore(nextRecovery)) {
             return;
         }
+        // Assigned directly instead of through setHp and setMp, the next recovery is covered by computeNextUpdateTime
         if (getHpRecovery() > 0) {
-            final int newHp = getHp() + getHpRecovery();
-            setHp(Math.min(newHp, getMaxHp()));
+            hp = Math.min(getHp() + getHpRecovery(), getMaxHp());
         }
         if (getMpRecovery() > 0) {
-            final int newMp = getMp() + getMpRecovery();
-            setMp(Math.min(newMp, getMaxMp()));
+            mp = Math.min(getMp() + getMpRecovery(), getMaxMp());
         }
         nextRecovery = now.plus(GameConstants.MOB_RECOVER_TIME, ChronoUnit.SECONDS);
     }
@@ -320,6 +397,7 @@ public final class Mob extends Life implements ControlledObject, Encodable, Lock
     public void setTemporaryStat(Map<MobTemporaryStat, MobStatOption> setStats, int delay) {
         for (var entry : setStats.entrySet()) {
             getMobStat().getTemporaryStats().put(entry.getKey(), entry.getValue());
+            scheduleUpdate(entry.getValue().getExpireTime());
         }
         final BitFlag<MobTemporaryStat> flag = BitFlag.from(setStats.keySet(), MobTemporaryStat.FLAG_SIZE);
         if (!flag.isEmpty()) {
@@ -332,8 +410,10 @@ public final class Mob extends Life implements ControlledObject, Encodable, Lock
         setStats.put(MobTemporaryStat.Burned, MobStatOption.of(1, burnedInfo.getSkillId(), 0));
         for (var entry : setStats.entrySet()) {
             getMobStat().getTemporaryStats().put(entry.getKey(), entry.getValue());
+            scheduleUpdate(entry.getValue().getExpireTime());
         }
         getMobStat().addBurnedInfo(burnedInfo);
+        scheduleUpdate(burnedInfo.getNextUpdate());
         final BitFlag<MobTemporaryStat> flag = BitFlag.from(setStats.keySet(), MobTemporaryStat.FLAG_SIZE);
         if (!flag.isEmpty()) {
             getField().broadcastPacket(MobPacket.mobStatSet(this, getMobStat(), flag, delay));
@@ -485,7 +565,7 @@ public final class Mob extends Life implements ControlledObject, Encodable, Lock
             final int exp = entry.getValue();
             final int memberCount = partyMembers.getOrDefault(user.getPartyId(), Set.of()).size();
             final int partyBonus = GameConstants.getPartyBonusExp(exp, memberCount);
-            ServerExecutor.submit(getField(), () -> {
+            final Runnable distributeExp = () -> {
                 try (var locked = user.acquire()) {
                     // Distribute exp
                     if (locked.get().getField() != getField()) {
@@ -517,20 +597,19 @@ public final class Mob extends Life implements ControlledObject, Encodable, Lock
                         user.write(MessagePacket.incExp(finalExp, finalPartyBonus, user == highestDamageDone, false));
                     }
                     // Process mob kill for quest
-                    for (QuestRecord qr : user.getQuestManager().getStartedQuests()) {
-                        final Optional<QuestInfo> questInfoResult = QuestProvider.getQuestInfo(qr.getQuestId());
-                        if (questInfoResult.isEmpty()) {
-                            continue;
-                        }
-                        final Optional<QuestRecord> questProgressResult = questInfoResult.get().progressQuest(qr, getTemplateId());
-                        if (questProgressResult.isEmpty()) {
-                            continue;
-                        }
-                        user.write(MessagePacket.questRecord(questProgressResult.get()));
+                    final List<QuestRecord> progressedQuests = user.getQuestManager().progressMobQuests(getTemplateId());
+                    for (QuestRecord qr : progressedQuests) {
+                        user.write(MessagePacket.questRecord(qr));
+                    }
+                    if (!progressedQuests.isEmpty()) {
                         user.validateStat();
                     }
                 }
-            });
+            };
+            // The user lock is sufficient for the exp distribution, run it on the service executor if rejected by the field
+            if (!ServerExecutor.submit(getField(), distributeExp)) {
+                ServerExecutor.submitService(distributeExp);
+            }
         }
     }
 
@@ -42,6 +42,7 @@ public final class EquipData {
     private byte level;
     private int exp;
     private int durability = -1;
+    private boolean dirty; // set when modified, cleared once saved
 
     public EquipData() {
     }
@@ -133,6 +134,7 @@ public final class EquipData {
 
     public void setIncStr(short incStr) {
         this.incStr = incStr;
+        this.dirty = true;
     }
 
     public short getIncDex() {
@@ -141,6 +143,7 @@ public final class EquipData {
 
     public void setIncDex(short incDex) {
         this.incDex = incDex;
+        this.dirty = true;
     }
 
     public short getIncInt() {
@@ -149,6 +152,7 @@ public final class EquipData {
 
     public void setIncInt(short incInt) {
         this.incInt = incInt;
+        this.dirty = true;
     }
 
     public short getIncLuk() {
@@ -157,6 +161,7 @@ public final class EquipData {
 
     public void setIncLuk(short incLuk) {
         this.incLuk = incLuk;
+        this.dirty = true;
     }
 
     public short getIncMaxHp() {
@@ -165,6 +170,7 @@ public final class EquipData {
 
     public void setIncMaxHp(short incMaxHp) {
         this.incMaxHp = incMaxHp;
+        this.dirty = true;
     }
 
     public short getIncMaxMp() {
@@ -173,6 +179,7 @@ public final class EquipData {
 
     public void setIncMaxMp(short incMaxMp) {
         this.incMaxMp = incMaxMp;
+        this.dirty = true;
     }
 
     public short getIncPad() {
@@ -181,6 +188,7 @@ public final class EquipData {
 
     public void setIncPad(short incPad) {
         this.incPad = incPad;
+        this.dirty = true;
     }
 
     public short getIncMad() {
@@ -189,6 +197,7 @@ public final class EquipData {
 
     public void setIncMad(short incMad) {
         this.incMad = incMad;
+        this.dirty = true;
     }
 
     public short getIncPdd() {
@@ -197,6 +206,7 @@ public final class EquipData {
 
     public void setIncPdd(short incPdd) {
         this.incPdd = incPdd;
+        this.dirty = true;
     }
 
     public short getIncMdd() {
@@ -205,6 +215,7 @@ public final class EquipData {
 
     public void setIncMdd(short incMdd) {
         this.incMdd = incMdd;
+        this.dirty = true;
     }
 
     public short getIncAcc() {
@@ -213,6 +224,7 @@ public final class EquipData {
 
     public void setIncAcc(short incAcc) {
         this.incAcc = incAcc;
+        this.dirty = true;
     }
 
     public short getIncEva() {
@@ -221,6 +233,7 @@ public final class EquipData {
 
     public void setIncEva(short incEva) {
         this.incEva = incEva;
+        this.dirty = true;
     }
 
     public short getIncCraft() {
@@ -229,6 +242,7 @@ public final class EquipData {
 
     public void setIncCraft(short incCraft) {
         this.incCraft = incCraft;
+        this.dirty = true;
     }
 
     public short getIncSpeed() {
@@ -237,6 +251,7 @@ public final class EquipData {
 
     public void setIncSpeed(short incSpeed) {
         this.incSpeed = incSpeed;
+        this.dirty = true;
     }
 
     public short getIncJump() {
@@ -245,6 +260,7 @@ public final class EquipData {
 
     public void setIncJump(short incJump) {
         this.incJump = incJump;
+        this.dirty = true;
     }
 
     public byte getRuc() {
@@ -253,6 +269,7 @@ public final class EquipData {
 
     public void setRuc(byte ruc) {
         this.ruc = ruc;
+        this.dirty = true;
     }
 
     public byte getCuc() {
@@ -261,6 +278,7 @@ public final class EquipData {
 
     public void setCuc(byte cuc) {
         this.cuc = cuc;
+        this.dirty = true;
     }
 
     public int getIuc() {
@@ -269,6 +287,7 @@ public final class EquipData {
 
     public void setIuc(int iuc) {
         this.iuc = iuc;
+        this.dirty = true;
     }
 
     public byte getChuc() {
@@ -277,6 +296,7 @@ public final class EquipData {
 
     public void setChuc(byte chuc) {
         this.chuc = chuc;
+        this.dirty = true;
     }
 
     public byte getGrade() {
@@ -285,6 +305,7 @@ public final class EquipData {
 
     public void setGrade(byte grade) {
         this.grade = grade;
+        this.dirty = true;
     }
 
     public short getOption1() {
@@ -293,6 +314,7 @@ public final class EquipData {
 
     public void setOption1(short option1) {
         this.option1 = option1;
+        this.dirty = true;
     }
 
     public short getOption2() {
@@ -301,6 +323,7 @@ public final class EquipData {
 
     public void setOption2(short option2) {
         this.option2 = option2;
+        this.dirty = true;
     }
 
     public short getOption3() {
@@ -309,6 +332,7 @@ public final class EquipData {
 
     public void setOption3(short option3) {
         this.option3 = option3;
+        this.dirty = true;
     }
 
     public short getSocket1() {
@@ -317,6 +341,7 @@ public final class EquipData {
 
     public void setSocket1(short socket1) {
         this.socket1 = socket1;
+        this.dirty = true;
     }
 
     public short getSocket2() {
@@ -325,6 +350,7 @@ public final class EquipData {
 
     public void setSocket2(short socket2) {
         this.socket2 = socket2;
+        this.dirty = true;
     }
 
     public byte getLevelUpType() {
@@ -333,6 +359,7 @@ public final class EquipData {
 
     public void setLevelUpType(byte levelUpType) {
         this.levelUpType = levelUpType;
+        this.dirty = true;
     }
 
     public byte getLevel() {
@@ -341,6 +368,7 @@ public final class EquipData {
 
     public void setLevel(byte level) {
         this.level = level;
+        this.dirty = true;
     }
 
     public int getExp() {
@@ -349,6 +377,7 @@ public final class EquipData {
 
     public void setExp(int exp) {
         this.exp = exp;
+        this.dirty = true;
     }
 
     public int getDurability() {
@@ -357,6 +386,7 @@ public final class EquipData {
 
     public void setDurability(int durability) {
         this.durability = durability;
+        this.dirty = true;
     }
 
 
@@ -523,4 +553,12 @@ public final class EquipData {
         }
         return equipData;
     }
+
+    boolean isDirty() {
+        return dirty;
+    }
+
+    void clearDirty() {
+        dirty = false;
+    }
 }
@@ -1,18 +1,30 @@
 package kinoko.world.item;
 
+import java.time.Instant;
+import java.util.Collections;
 import java.util.SortedMap;
 import java.util.TreeMap;
+import java.util.function.Consumer;
 
 public final class Inventory {
     private final SortedMap<Integer, Item> items = new TreeMap<>();
+    private final SortedMap<Integer, Item> itemsView = Collections.unmodifiableSortedMap(items);
     private int size;
+    private int modCount; // incremented when items are added, removed or updated
+    private boolean dirty; // set when modified, cleared once saved
+    private Consumer<Instant> scheduleHandler = (time) -> {
+    };
 
     public Inventory(int size) {
         this.size = size;
     }
 
+    /**
+     * Returns an unmodifiable view of the items, items are added and removed through {@link #putItem} and
+     * {@link #removeItem} so that the changes are tracked.
+     */
     public SortedMap<Integer, Item> getItems() {
-        return items;
+        return itemsView;
     }
 
     public int getSize() {
@@ -21,29 +33,77 @@ public final class Inventory {
 
     public void setSize(int size) {
         this.size = size;
+        this.dirty = true;
     }
 
     public int getRemaining() {
         return Math.max(size - items.size(), 0);
     }
 
+    public int getModCount() {
+        return modCount;
+    }
+
+    void incrementModCount() {
+        modCount++;
+    }
+
     public Item getItem(int position) {
         return items.get(Math.abs(position));
     }
 
     public void putItem(int position, Item item) {
+        modCount++;
+        dirty = true;
         if (item != null) {
             items.put(Math.abs(position), item);
+            if (item.getDateExpire() != null) {
+                scheduleHandler.accept(item.getDateExpire());
+            }
         } else {
             items.remove(Math.abs(position));
         }
     }
 
     public Item removeItem(int position) {
+        modCount++;
+        dirty = true;
         return items.remove(Math.abs(position));
     }
 
     public boolean removeItem(int position, Item item) {
+        modCount++;
+        dirty = true;
         return items.remove(Math.abs(position), item);
     }
+
+    /**
+     * Sets the handler notified of the expiry date of the items put in this inventory, used to register the item expiry
+     * check of the owning user.
+     */
+    public void setScheduleHandler(Consumer<Instant> scheduleHandler) {
+        this.scheduleHandler = scheduleHandler;
+    }
+
+    /**
+     * Returns whether the inventory or any of its items have been modified since the last call to {@link #clearDirty}.
+     */
+    public boolean isDirty() {
+        if (dirty) {
+            return true;
+        }
+        for (Item item : items.values()) {
+            if (item.isDirty()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public void clearDirty() {
+        dirty = false;
+        for (Item item : items.values()) {
+            item.clearDirty();
+        }
+    }
 }
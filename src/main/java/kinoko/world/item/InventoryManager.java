@@ -8,6 +8,7 @@ import org.apache.logging.log4j.Logger;
 
 import java.time.Instant;
 import java.util.*;
+import java.util.function.Consumer;
 
 public final class InventoryManager {
     private static final Logger log = LogManager.getLogger(InventoryManager.class);
@@ -84,6 +85,27 @@ public final class InventoryManager {
         this.extSlotExpire = extSlotExpire;
     }
 
+    public void setScheduleHandler(Consumer<Instant> scheduleHandler) {
+        for (Inventory inventory : List.of(equipped, equipInventory, consumeInventory, installInventory, etcInventory, cashInventory)) {
+            inventory.setScheduleHandler(scheduleHandler);
+        }
+    }
+
+    /**
+     * @return the earliest expiry date of the items in the inventories, or {@link Instant#MAX} if no item expires.
+     */
+    public Instant getNextItemExpire() {
+        Instant nextItemExpire = Instant.MAX;
+        for (Inventory inventory : List.of(equipped, equipInventory, consumeInventory, installInventory, etcInventory, cashInventory)) {
+            for (Item item : inventory.getItems().values()) {
+                if (item.getDateExpire() != null && item.getDateExpire().isBefore(nextItemExpire)) {
+                    nextItemExpire = item.getDateExpire();
+                }
+            }
+        }
+        return nextItemExpire;
+    }
+
     public Inventory getInventoryByItemId(int itemId) {
         return getInventoryByType(InventoryType.getByItemId(itemId));
     }
@@ -148,6 +170,7 @@ public final class InventoryManager {
         if (inventory.getItem(position) != item) {
             return Optional.empty();
         }
+        inventory.incrementModCount();
         return Optional.of(InventoryOperation.newItem(inventoryType, position, item));
     }
 
@@ -320,6 +343,7 @@ public final class InventoryManager {
                 }
                 case ItemNumber -> {
                     inventory.getItem(op.getPosition()).setQuantity((short) op.getNewQuantity());
+                    inventory.incrementModCount();
                 }
                 case Position -> {
                     final Item firstItem = inventory.removeItem(op.getPosition());
@@ -337,6 +361,7 @@ public final class InventoryManager {
                 }
                 case EXP -> {
                     final Item item = inventory.getItem(op.getPosition());
+                    // Equip exp does not affect the stats, the mod count is not incremented so that the real equips are kept
                     item.getEquipData().setExp(op.getNewExp());
                 }
             }
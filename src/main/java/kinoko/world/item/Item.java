@@ -17,6 +17,7 @@ public final class Item implements Encodable {
     private EquipData equipData;
     private PetData petData;
     private RingData ringData;
+    private boolean dirty; // set when modified, cleared once saved
 
     public Item(ItemType itemType) {
         this.itemType = itemType;
@@ -80,6 +81,7 @@ public final class Item implements Encodable {
 
     public void setItemSn(long itemSn) {
         this.itemSn = itemSn;
+        this.dirty = true;
     }
 
     public int getItemId() {
@@ -88,6 +90,7 @@ public final class Item implements Encodable {
 
     public void setItemId(int itemId) {
         this.itemId = itemId;
+        this.dirty = true;
     }
 
     public boolean isCash() {
@@ -96,6 +99,7 @@ public final class Item implements Encodable {
 
     public void setCash(boolean cash) {
         this.cash = cash;
+        this.dirty = true;
     }
 
     public short getQuantity() {
@@ -104,6 +108,7 @@ public final class Item implements Encodable {
 
     public void setQuantity(short quantity) {
         this.quantity = quantity;
+        this.dirty = true;
     }
 
     public short getAttribute() {
@@ -112,6 +117,7 @@ public final class Item implements Encodable {
 
     public void setAttribute(short attribute) {
         this.attribute = attribute;
+        this.dirty = true;
     }
 
     public String getTitle() {
@@ -120,6 +126,7 @@ public final class Item implements Encodable {
 
     public void setTitle(String title) {
         this.title = title;
+        this.dirty = true;
     }
 
     public Instant getDateExpire() {
@@ -128,6 +135,7 @@ public final class Item implements Encodable {
 
     public void setDateExpire(Instant dateExpire) {
         this.dateExpire = dateExpire;
+        this.dirty = true;
     }
 
     public EquipData getEquipData() {
@@ -136,6 +144,7 @@ public final class Item implements Encodable {
 
     public void setEquipData(EquipData equipData) {
         this.equipData = equipData;
+        this.dirty = true;
     }
 
     public PetData getPetData() {
@@ -144,6 +153,7 @@ public final class Item implements Encodable {
 
     public void setPetData(PetData petData) {
         this.petData = petData;
+        this.dirty = true;
     }
 
     public RingData getRingData() {
@@ -152,6 +162,7 @@ public final class Item implements Encodable {
 
     public void setRingData(RingData ringData) {
         this.ringData = ringData;
+        this.dirty = true;
     }
 
 
@@ -163,12 +174,14 @@ public final class Item implements Encodable {
 
     public void addAttribute(ItemAttribute itemAttribute) {
         this.attribute |= itemAttribute.getValue();
+        this.dirty = true;
     }
 
     public void removeAttribute(ItemAttribute itemAttribute) {
         if (hasAttribute(itemAttribute)) {
             this.attribute ^= itemAttribute.getValue();
         }
+        this.dirty = true;
     }
 
     public boolean isPossibleTrading() {
@@ -182,4 +195,24 @@ public final class Item implements Encodable {
             removeAttribute(ItemAttribute.getPossibleTradingAttribute(getItemType()));
         }
     }
+
+    boolean isDirty() {
+        return dirty ||
+                (equipData != null && equipData.isDirty()) ||
+                (petData != null && petData.isDirty()) ||
+                (ringData != null && ringData.isDirty());
+    }
+
+    void clearDirty() {
+        dirty = false;
+        if (equipData != null) {
+            equipData.clearDirty();
+        }
+        if (petData != null) {
+            petData.clearDirty();
+        }
+        if (ringData != null) {
+            ringData.clearDirty();
+        }
+    }
 }
@@ -12,6 +12,7 @@ public final class PetData {
     private short petSkill;
     private short petAttribute;
     private int remainLife;
+    private boolean dirty; // set when modified, cleared once saved
 
     public PetData() {
     }
@@ -44,6 +45,7 @@ public final class PetData {
 
     public void setPetName(String petName) {
         this.petName = petName;
+        this.dirty = true;
     }
 
     public byte getLevel() {
@@ -52,6 +54,7 @@ public final class PetData {
 
     public void setLevel(byte level) {
         this.level = level;
+        this.dirty = true;
     }
 
     public byte getFullness() {
@@ -60,6 +63,7 @@ public final class PetData {
 
     public void setFullness(byte fullness) {
         this.fullness = fullness;
+        this.dirty = true;
     }
 
     public short getTameness() {
@@ -68,6 +72,7 @@ public final class PetData {
 
     public void setTameness(short tameness) {
         this.tameness = tameness;
+        this.dirty = true;
     }
 
     public short getPetSkill() {
@@ -76,6 +81,7 @@ public final class PetData {
 
     public void setPetSkill(short petSkill) {
         this.petSkill = petSkill;
+        this.dirty = true;
     }
 
     public short getPetAttribute() {
@@ -84,6 +90,7 @@ public final class PetData {
 
     public void setPetAttribute(short petAttribute) {
         this.petAttribute = petAttribute;
+        this.dirty = true;
     }
 
     public int getRemainLife() {
@@ -92,6 +99,7 @@ public final class PetData {
 
     public void setRemainLife(int remainLife) {
         this.remainLife = remainLife;
+        this.dirty = true;
     }
 
     public static PetData from(ItemInfo itemInfo) {
@@ -101,4 +109,12 @@ public final class PetData {
         petData.setFullness((byte) 100);
         return petData;
     }
+
+    boolean isDirty() {
+        return dirty;
+    }
+
+    void clearDirty() {
+        dirty = false;
+    }
 }
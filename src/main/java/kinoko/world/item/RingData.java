@@ -4,6 +4,7 @@ public final class RingData {
     private int pairCharacterId;
     private String pairCharacterName;
     private long pairItemSn;
+    private boolean dirty; // set when modified, cleared once saved
 
     public RingData() {
     }
@@ -20,6 +21,7 @@ public final class RingData {
 
     public void setPairCharacterId(int pairCharacterId) {
         this.pairCharacterId = pairCharacterId;
+        this.dirty = true;
     }
 
     public String getPairCharacterName() {
@@ -28,6 +30,7 @@ public final class RingData {
 
     public void setPairCharacterName(String pairCharacterName) {
         this.pairCharacterName = pairCharacterName;
+        this.dirty = true;
     }
 
     public long getPairItemSn() {
@@ -36,6 +39,7 @@ public final class RingData {
 
     public void setPairItemSn(long pairItemSn) {
         this.pairItemSn = pairItemSn;
+        this.dirty = true;
     }
 
     public static RingData from(int pairCharacterId, String pairCharacterName, long pairItemSn) {
@@ -45,4 +49,12 @@ public final class RingData {
         ringData.setPairItemSn(pairItemSn);
         return ringData;
     }
+
+    boolean isDirty() {
+        return dirty;
+    }
+
+    void clearDirty() {
+        dirty = false;
+    }
 }
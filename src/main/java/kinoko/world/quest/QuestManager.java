@@ -1,15 +1,16 @@
 package kinoko.world.quest;
 
 import kinoko.provider.EtcProvider;
+import kinoko.provider.QuestProvider;
+import kinoko.provider.quest.QuestInfo;
 
 import java.time.Instant;
-import java.util.HashMap;
-import java.util.List;
-import java.util.Map;
-import java.util.Optional;
+import java.util.*;
 
 public final class QuestManager {
     private final Map<Integer, QuestRecord> questRecords = new HashMap<>();
+    private final Map<Integer, QuestRecord> mobQuestRecords = new HashMap<>(); // started quests with a mob check
+    private boolean dirty; // set when quest records are added or removed, cleared once saved
 
     public List<QuestRecord> getQuestRecords() {
         return questRecords.values().stream().toList();
@@ -40,13 +41,88 @@ public final class QuestManager {
     }
 
     public void addQuestRecord(QuestRecord questRecord) {
-        questRecords.put(questRecord.getQuestId(), questRecord);
+        final int questId = questRecord.getQuestId();
+        questRecords.put(questId, questRecord);
+        dirty = true;
+        if (questRecord.getState() == QuestState.PERFORM && QuestProvider.getQuestInfo(questId).flatMap(QuestInfo::getMobCheck).isPresent()) {
+            mobQuestRecords.put(questId, questRecord);
+        } else {
+            mobQuestRecords.remove(questId);
+        }
     }
 
     public Optional<QuestRecord> removeQuestRecord(int questId) {
+        mobQuestRecords.remove(questId);
+        dirty = true;
         return Optional.ofNullable(questRecords.remove(questId));
     }
 
+    /**
+     * Returns whether any quest record has been added, removed or updated since the last call to {@link #clearDirty}.
+     */
+    public boolean isDirty() {
+        if (dirty) {
+            return true;
+        }
+        for (QuestRecord qr : questRecords.values()) {
+            if (qr.isDirty()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public void clearDirty() {
+        dirty = false;
+        for (QuestRecord qr : questRecords.values()) {
+            qr.clearDirty();
+        }
+    }
+
+    /**
+     * Progresses the started quests that count the mob.
+     *
+     * @return the progressed quest records.
+     */
+    public List<QuestRecord> progressMobQuests(int mobId) {
+        if (mobQuestRecords.isEmpty()) {
+            return List.of();
+        }
+        final int[] questIds = QuestProvider.getMobQuestIds(mobId);
+        if (questIds.length == 0) {
+            return List.of();
+        }
+        List<QuestRecord> progressed = List.of();
+        if (questIds.length <= mobQuestRecords.size()) {
+            for (int questId : questIds) {
+                final QuestRecord qr = mobQuestRecords.get(questId);
+                if (qr != null && progressMobQuest(qr, mobId)) {
+                    progressed = addProgressed(progressed, qr);
+                }
+            }
+        } else {
+            for (QuestRecord qr : mobQuestRecords.values()) {
+                if (Arrays.binarySearch(questIds, qr.getQuestId()) >= 0 && progressMobQuest(qr, mobId)) {
+                    progressed = addProgressed(progressed, qr);
+                }
+            }
+        }
+        return progressed;
+    }
+
+    private static boolean progressMobQuest(QuestRecord qr, int mobId) {
+        final Optional<QuestInfo> questInfoResult = QuestProvider.getQuestInfo(qr.getQuestId());
+        return questInfoResult.isPresent() && questInfoResult.get().progressQuest(qr, mobId).isPresent();
+    }
+
+    private static List<QuestRecord> addProgressed(List<QuestRecord> progressed, QuestRecord qr) {
+        if (progressed.isEmpty()) {
+            progressed = new ArrayList<>();
+        }
+        progressed.add(qr);
+        return progressed;
+    }
+
     public Optional<QuestRecord> getQuestRecord(int questId) {
         return Optional.ofNullable(questRecords.get(questId));
     }
@@ -7,6 +7,9 @@ public final class QuestRecord {
     private QuestState state;
     private String value;
     private Instant completedTime;
+    private int[] mobCounts; // parsed from value
+    private boolean valueChanged;
+    private boolean dirty; // set when modified, cleared once saved
 
     public QuestRecord(int questId) {
         this.questId = questId;
@@ -22,14 +25,39 @@ public final class QuestRecord {
 
     public void setState(QuestState state) {
         this.state = state;
+        this.dirty = true;
     }
 
     public String getValue() {
+        if (valueChanged) {
+            value = encodeMobCounts(mobCounts);
+            valueChanged = false;
+        }
         return value;
     }
 
     public void setValue(String value) {
         this.value = value;
+        this.mobCounts = null;
+        this.valueChanged = false;
+        this.dirty = true;
+    }
+
+    /**
+     * Mob kill counts stored in the value as 3 digits per mob. The value is parsed once and the counts are kept as an
+     * array while the quest is progressed, the value string is only rebuilt when it is read.
+     */
+    public int[] getMobCounts(int size) {
+        if (mobCounts == null || mobCounts.length != size) {
+            mobCounts = decodeMobCounts(getValue(), size);
+        }
+        return mobCounts;
+    }
+
+    public void setMobCounts(int[] mobCounts) {
+        this.mobCounts = mobCounts;
+        this.valueChanged = true;
+        this.dirty = true;
     }
 
     public Instant getCompletedTime() {
@@ -38,5 +66,47 @@ public final class QuestRecord {
 
     public void setCompletedTime(Instant completedTime) {
         this.completedTime = completedTime;
+        this.dirty = true;
+    }
+
+    boolean isDirty() {
+        return dirty;
+    }
+
+    void clearDirty() {
+        dirty = false;
+    }
+
+    private static int[] decodeMobCounts(String value, int size) {
+        final int[] counts = new int[size];
+        if (value == null) {
+            return counts;
+        }
+        // Split value string every 3 characters to get current mob count
+        for (int i = 0; i < size && i * 3 < value.length(); i++) {
+            int count = 0;
+            final int end = Math.min(i * 3 + 3, value.length());
+            for (int c = i * 3; c < end; c++) {
+                final char digit = value.charAt(c);
+                if (digit < '0' || digit > '9') {
+                    count = 0;
+                    break;
+                }
+                count = count * 10 + (digit - '0');
+            }
+            counts[i] = count;
+        }
+        return counts;
+    }
+
+    private static String encodeMobCounts(int[] counts) {
+        final char[] value = new char[counts.length * 3];
+        for (int i = 0; i < counts.length; i++) {
+            final int count = Math.clamp(counts[i], 0, 999);
+            value[i * 3] = (char) ('0' + count / 100);
+            value[i * 3 + 1] = (char) ('0' + count / 10 % 10);
+            value[i * 3 + 2] = (char) ('0' + count % 10);
+        }
+        return new String(value);
     }
 }
@@ -6,6 +6,8 @@ import kinoko.provider.skill.SkillStat;
 import kinoko.world.job.JobConstants;
 import kinoko.world.job.resistance.Mechanic;
 import kinoko.world.user.stat.BasicStat;
+import kinoko.world.user.stat.CharacterTemporaryStat;
+import kinoko.world.user.stat.DiceInfo;
 import kinoko.world.user.stat.SecondaryStat;
 
 import java.util.HashMap;
@@ -14,6 +16,11 @@ import java.util.Optional;
 
 public final class PassiveSkillData {
     private final Map<Integer, AdditionPsd> additionPsd = new HashMap<>();
+    private int skillModCount;
+    private int job;
+    private int combatOrders;
+    private boolean mechanicVehicle;
+    private DiceInfo diceInfo;
     private int mhpR;
     private int mmpR;
     private int cr;
@@ -166,6 +173,19 @@ public final class PassiveSkillData {
     }
 
     public void setFrom(BasicStat bs, SecondaryStat ss, SkillManager sm) {
+        // Skip if the skill records and the temporary stats read below are unchanged
+        final int combatOrders = ss.getOption(CharacterTemporaryStat.CombatOrders).nOption;
+        final boolean mechanicVehicle = ss.getRidingVehicle() == SkillConstants.MECHANIC_VEHICLE;
+        if (skillModCount == sm.getModCount() && job == bs.getJob() && this.combatOrders == combatOrders &&
+                this.mechanicVehicle == mechanicVehicle && diceInfo == ss.getDiceInfo()) {
+            return;
+        }
+        this.skillModCount = sm.getModCount();
+        this.job = bs.getJob();
+        this.combatOrders = combatOrders;
+        this.mechanicVehicle = mechanicVehicle;
+        this.diceInfo = ss.getDiceInfo();
+
         clearData();
         // No guild skills in v95
 
@@ -7,11 +7,16 @@ import kinoko.world.user.stat.SecondaryStat;
 
 import java.time.Instant;
 import java.util.*;
+import java.util.function.Consumer;
 
 public final class SkillManager {
     private final Map<Integer, SkillRecord> skillRecords = new HashMap<>();
     private final Map<Integer, Instant> skillCooltimes = new HashMap<>();
     private final Map<Integer, Instant> skillSchedules = new HashMap<>();
+    private Consumer<Instant> scheduleHandler = (time) -> {
+    };
+    private int modCount; // incremented when skill records are added, removed or updated
+    private boolean dirty; // set when skill records are added or removed, cleared once saved
 
     // SKILL RECORD METHODS --------------------------------------------------------------------------------------------
 
@@ -25,10 +30,47 @@ public final class SkillManager {
 
     public void addSkill(SkillRecord skillRecord) {
         skillRecords.put(skillRecord.getSkillId(), skillRecord);
+        modCount++;
+        dirty = true;
     }
 
     public void removeSkill(int skillId) {
         skillRecords.remove(skillId);
+        modCount++;
+        dirty = true;
+    }
+
+    public int getModCount() {
+        return modCount;
+    }
+
+    /**
+     * Skill records are updated in place, this should be called after changing the level of a skill record.
+     */
+    public void incrementModCount() {
+        modCount++;
+    }
+
+    /**
+     * Returns whether any skill record has been added, removed or updated since the last call to {@link #clearDirty}.
+     */
+    public boolean isDirty() {
+        if (dirty) {
+            return true;
+        }
+        for (SkillRecord skillRecord : skillRecords.values()) {
+            if (skillRecord.isDirty()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public void clearDirty() {
+        dirty = false;
+        for (SkillRecord skillRecord : skillRecords.values()) {
+            skillRecord.clearDirty();
+        }
     }
 
 
@@ -45,6 +87,7 @@ public final class SkillManager {
 
     public void setSkillCooltime(int skillId, Instant nextAvailable) {
         skillCooltimes.put(skillId, nextAvailable);
+        scheduleHandler.accept(nextAvailable);
     }
 
     public Set<Integer> expireSkillCooltime(Instant now) {
@@ -85,6 +128,15 @@ public final class SkillManager {
 
     public void setSkillSchedule(int skillId, Instant nextSchedule) {
         skillSchedules.put(skillId, nextSchedule);
+        scheduleHandler.accept(nextSchedule);
+    }
+
+    /**
+     * Sets the handler notified of the cooltimes and schedules set through this manager, used to register the deadlines
+     * of the owning user.
+     */
+    public void setScheduleHandler(Consumer<Instant> scheduleHandler) {
+        this.scheduleHandler = scheduleHandler;
     }
 
 
@@ -95,7 +147,8 @@ public final class SkillManager {
         if (skillRecord == null || skillRecord.getSkillLevel() == 0) {
             return 0;
         }
-        if (SkillProvider.getSkillInfoById(skillId).map(SkillInfo::isCombatOrders).orElse(false)) {
+        final SkillInfo si = SkillProvider.getSkillInfoOrNull(skillId);
+        if (si != null && si.isCombatOrders()) {
             return skillRecord.getSkillLevel() + ss.getOption(CharacterTemporaryStat.CombatOrders).nOption;
         }
         return skillRecord.getSkillLevel();
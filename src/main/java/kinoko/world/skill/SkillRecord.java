@@ -4,6 +4,7 @@ public final class SkillRecord {
     private final int skillId;
     private int skillLevel;
     private int masterLevel;
+    private boolean dirty; // set when modified, cleared once saved
 
     public SkillRecord(int skillId) {
         this.skillId = skillId;
@@ -19,6 +20,7 @@ public final class SkillRecord {
 
     public void setSkillLevel(int skillLevel) {
         this.skillLevel = skillLevel;
+        this.dirty = true;
     }
 
     public int getMasterLevel() {
@@ -27,5 +29,14 @@ public final class SkillRecord {
 
     public void setMasterLevel(int masterLevel) {
         this.masterLevel = masterLevel;
+        this.dirty = true;
+    }
+
+    boolean isDirty() {
+        return dirty;
+    }
+
+    void clearDirty() {
+        dirty = false;
     }
 }
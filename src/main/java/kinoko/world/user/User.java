@@ -20,8 +20,10 @@ import kinoko.server.dialog.miniroom.TradingRoom;
 import kinoko.server.guild.GuildRank;
 import kinoko.server.node.ChannelServerNode;
 import kinoko.server.node.Client;
+import kinoko.server.packet.BroadcastOutPacket;
 import kinoko.server.packet.OutPacket;
 import kinoko.server.party.PartyRequest;
+import kinoko.server.rank.RankManager;
 import kinoko.util.BitFlag;
 import kinoko.util.Lockable;
 import kinoko.world.GameConstants;
@@ -64,6 +66,9 @@ public final class User extends Life implements Lockable<User> {
     private final SecondaryStat secondaryStat = new SecondaryStat();
     private final PassiveSkillData passiveSkillData = new PassiveSkillData();
     private final CalcDamage calcDamage = new CalcDamage();
+    private CombatStat combatStat;
+    private Map<Integer, Item> realEquip;
+    private final int[] realEquipKey = new int[EquipStat.REAL_EQUIP_KEY_SIZE];
 
     private final List<Pet> pets = new ArrayList<>();
     private final Map<Integer, List<Summoned>> summoned = new HashMap<>(); // skill id -> list of summons
@@ -82,11 +87,15 @@ public final class User extends Life implements Lockable<User> {
     private String adBoard;
     private boolean inTransfer;
     private Instant nextCheckItemExpire;
+    private volatile Instant nextUpdateTime;
 
     public User(Client client, CharacterData characterData) {
         this.client = client;
         this.characterData = characterData;
         this.nextCheckItemExpire = Instant.MIN;
+        this.nextUpdateTime = Instant.MIN;
+        characterData.getSkillManager().setScheduleHandler(this::scheduleUpdate);
+        characterData.getInventoryManager().setScheduleHandler(this::scheduleItemExpire);
     }
 
     public Client getClient() {
@@ -177,6 +186,17 @@ public final class User extends Life implements Lockable<User> {
         return calcDamage;
     }
 
+    public CombatStat getCombatStat() {
+        if (combatStat == null || !combatStat.isValid(getInventoryManager().getConsumeInventory())) {
+            combatStat = CalcDamage.calcCombatStat(this);
+        }
+        return combatStat;
+    }
+
+    public void invalidateCombatStat() {
+        combatStat = null;
+    }
+
     public List<Pet> getPets() {
         return pets;
     }
@@ -293,6 +313,9 @@ public final class User extends Life implements Lockable<User> {
 
     public void setTownPortal(TownPortal townPortal) {
         this.townPortal = townPortal;
+        if (townPortal != null) {
+            scheduleUpdate(townPortal.getExpireTime());
+        }
     }
 
     public int getTownPortalIndex() {
@@ -305,6 +328,9 @@ public final class User extends Life implements Lockable<User> {
 
     public void setOpenGate(OpenGate openGate) {
         this.openGate = openGate;
+        if (openGate != null) {
+            scheduleUpdate(openGate.getExpireTime());
+        }
     }
 
     public int getEffectItemId() {
@@ -345,6 +371,36 @@ public final class User extends Life implements Lockable<User> {
 
     public void setNextCheckItemExpire(Instant nextCheckItemExpire) {
         this.nextCheckItemExpire = nextCheckItemExpire;
+        scheduleUpdate(nextCheckItemExpire);
+    }
+
+    private void scheduleItemExpire(Instant dateExpire) {
+        if (dateExpire.isBefore(nextCheckItemExpire)) {
+            setNextCheckItemExpire(dateExpire);
+        }
+    }
+
+    public Instant getNextUpdateTime() {
+        return nextUpdateTime;
+    }
+
+    public void setNextUpdateTime(Instant nextUpdateTime) {
+        this.nextUpdateTime = nextUpdateTime;
+    }
+
+    /**
+     * Registers a deadline at which {@link kinoko.world.field.UserPool#updateUsers} should process this user, such as the expiry of a
+     * temporary stat, cooltime or summon.
+     */
+    public void scheduleUpdate(Instant time) {
+        if (!time.isBefore(nextUpdateTime)) {
+            return;
+        }
+        nextUpdateTime = time;
+        final Field field = getField();
+        if (field != null) {
+            field.getUserPool().scheduleUpdate(this, time);
+        }
     }
 
     // STAT METHODS ----------------------------------------------------------------------------------------------------
@@ -414,6 +470,7 @@ public final class User extends Life implements Lockable<User> {
                 getCharacterData().setMaxLevelTime(Instant.now());
             }
         }
+        RankManager.updateCharacter(getCharacterData());
     }
 
     public int getPop() {
@@ -440,12 +497,20 @@ public final class User extends Life implements Lockable<User> {
     }
 
     public void updatePassiveSkillData() {
+        // Skill records may have been updated in place, recompute the stats derived from them
+        getSkillManager().incrementModCount();
         getPassiveSkillData().setFrom(getBasicStat(), getSecondaryStat(), getSkillManager());
     }
 
     public void validateStat() {
-        // get_real_equip
-        final Map<Integer, Item> realEquip = EquipStat.getRealEquip(this);
+        invalidateCombatStat();
+
+        // get_real_equip - only resolved again when the equipped items or the equip requirements change, the stat layers
+        // derived from the real equips are cached against the returned map
+        final boolean realEquipChanged = EquipStat.updateRealEquipKey(this, realEquipKey);
+        if (realEquip == null || realEquipChanged) {
+            this.realEquip = EquipStat.getRealEquip(this);
+        }
 
         // BasicStat::SetFrom
         getBasicStat().setFrom(getCharacterStat(), getForcedStat(), getSecondaryStat(), getSkillManager(), getPassiveSkillData(), realEquip);
@@ -477,8 +542,9 @@ public final class User extends Life implements Lockable<User> {
     public void setTemporaryStat(Map<CharacterTemporaryStat, TemporaryStatOption> setStats) {
         for (var entry : setStats.entrySet()) {
             getSecondaryStat().getTemporaryStats().put(entry.getKey(), entry.getValue());
+            scheduleUpdate(entry.getValue().getExpireTime());
         }
-        updatePassiveSkillData();
+        getPassiveSkillData().setFrom(getBasicStat(), getSecondaryStat(), getSkillManager());
         validateStat();
         final BitFlag<CharacterTemporaryStat> flag = BitFlag.from(setStats.keySet(), CharacterTemporaryStat.FLAG_SIZE);
         if (!flag.isEmpty()) {
@@ -498,7 +564,7 @@ public final class User extends Life implements Lockable<User> {
     public void resetTemporaryStat(BiPredicate<CharacterTemporaryStat, TemporaryStatOption> predicate) {
         final Set<CharacterTemporaryStat> resetStats = getSecondaryStat().resetTemporaryStat(predicate);
         if (!resetStats.isEmpty()) {
-            updatePassiveSkillData();
+            getPassiveSkillData().setFrom(getBasicStat(), getSecondaryStat(), getSkillManager());
             validateStat();
             final BitFlag<CharacterTemporaryStat> flag = BitFlag.from(resetStats, CharacterTemporaryStat.FLAG_SIZE);
             if (!flag.isEmpty()) {
@@ -681,6 +747,7 @@ public final class User extends Life implements Lockable<User> {
         }
         summonedList.add(summoned);
         getField().getSummonedPool().addSummoned(this, summoned);
+        scheduleUpdate(summoned.getExpireTime());
     }
 
     public void removeSummoned(Summoned summoned) {
@@ -722,6 +789,17 @@ public final class User extends Life implements Lockable<User> {
         return GameConstants.UNDEFINED_FIELD_ID;
     }
 
+    /**
+     * Moves the user within the current field, and updates the view of the user in view range fields.
+     */
+    public void setPosition(int x, int y) {
+        setX(x);
+        setY(y);
+        if (getField() != null) {
+            getField().getUserPool().updateView(this);
+        }
+    }
+
     public void warp(Field destination, PortalInfo portalInfo, boolean isMigrate, boolean isRevive) {
         warp(destination, portalInfo.getX(), portalInfo.getY(), portalInfo.getPortalId(), isMigrate, isRevive);
     }
@@ -745,6 +823,10 @@ public final class User extends Life implements Lockable<User> {
         getClient().write(outPacket);
     }
 
+    public void write(BroadcastOutPacket broadcastOutPacket) {
+        getClient().write(broadcastOutPacket);
+    }
+
     public void dispose() {
         write(WvsContext.statChanged(Map.of(), true));
     }
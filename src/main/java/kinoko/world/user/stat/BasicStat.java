@@ -33,6 +33,7 @@ public final class BasicStat {
     private int pop;
     private int maxHp;
     private int maxMp;
+    private BasicEquipStat equipStat;
 
     public int getGender() {
         return gender;
@@ -78,73 +79,22 @@ public final class BasicStat {
     // VALIDATE STAT METHODS -------------------------------------------------------------------------------------------
 
     public void setFrom(CharacterStat cs, ForcedStat fs, SecondaryStat ss, SkillManager sm, PassiveSkillData psd, Map<Integer, Item> realEquip) {
+        // Equip and set item stats
+        if (equipStat == null || equipStat.realEquip != realEquip) {
+            equipStat = new BasicEquipStat(realEquip);
+        }
+        final BasicStatRateOption option = equipStat.option;
+
         this.gender = cs.getGender();
         this.level = cs.getLevel();
         this.job = cs.getJob();
-        this.str = cs.getBaseStr();
-        this.dex = cs.getBaseDex();
-        this.int_ = cs.getBaseInt();
-        this.luk = cs.getBaseLuk();
+        this.str = cs.getBaseStr() + equipStat.str;
+        this.dex = cs.getBaseDex() + equipStat.dex;
+        this.int_ = cs.getBaseInt() + equipStat.int_;
+        this.luk = cs.getBaseLuk() + equipStat.luk;
         this.pop = cs.getPop();
-        this.maxHp = cs.getMaxHp();
-        this.maxMp = cs.getMaxMp();
-
-        final BasicStatRateOption option = new BasicStatRateOption();
-        int incMaxHpR = 0;
-        int incMaxMpR = 0;
-
-        // Equip stats
-        for (var item : realEquip.values()) {
-            final Optional<ItemInfo> itemInfoResult = ItemProvider.getItemInfo(item.getItemId());
-            if (itemInfoResult.isEmpty()) {
-                continue;
-            }
-            final ItemInfo ii = itemInfoResult.get();
-
-            // Apply stats
-            final EquipData ed = item.getEquipData();
-            this.str += ed.getIncStr();
-            this.int_ += ed.getIncInt();
-            this.dex += ed.getIncDex();
-            this.luk += ed.getIncLuk();
-            this.maxHp += ed.getIncMaxHp();
-            this.maxMp += ed.getIncMaxMp();
-
-            incMaxHpR += ii.getInfo(ItemInfoType.incMHPr);
-            incMaxMpR += ii.getInfo(ItemInfoType.incMMPr);
-
-            final int optionLevel = ii.getOptionLevel(); // no sockets in v95
-            if (ed.isReleased()) {
-                this.applyItemOption(ed.getOption1(), optionLevel);
-                this.applyItemOption(ed.getOption2(), optionLevel);
-                this.applyItemOption(ed.getOption3(), optionLevel);
-                option.applyItemOptionR(ed.getOption1(), optionLevel);
-                option.applyItemOptionR(ed.getOption2(), optionLevel);
-                option.applyItemOptionR(ed.getOption3(), optionLevel);
-            }
-        }
-
-        // Set items
-        for (SetItemInfo setItemInfo : EtcProvider.getSetItemInfos()) {
-            final Set<Integer> equippedItems = realEquip.values().stream().map(Item::getItemId).collect(Collectors.toSet());
-            equippedItems.retainAll(setItemInfo.getItems());
-            for (int itemCount = 0; itemCount <= equippedItems.size(); itemCount++) {
-                final Map<ItemInfoType, Integer> effect = setItemInfo.getEffect().get(itemCount);
-                if (effect == null) {
-                    continue;
-                }
-                for (var entry : effect.entrySet()) {
-                    switch (entry.getKey()) {
-                        case incSTR -> this.str += entry.getValue();
-                        case incDEX -> this.dex += entry.getValue();
-                        case incINT -> this.int_ += entry.getValue();
-                        case incLUK -> this.luk += entry.getValue();
-                        case incMHP -> this.maxHp += entry.getValue();
-                        case incMMP -> this.maxMp += entry.getValue();
-                    }
-                }
-            }
-        }
+        this.maxHp = cs.getMaxHp() + equipStat.maxHp;
+        this.maxMp = cs.getMaxMp() + equipStat.maxMp;
 
         // BasicStatUp CTS (Maple Warrior)
         final int basicStatUp = ss.getOption(CharacterTemporaryStat.BasicStatUp).nOption;
@@ -184,44 +134,115 @@ public final class BasicStat {
         mpIncRateFromCts += ss.getOption(CharacterTemporaryStat.MaxMP).nOption;
 
         // Max hp/mp rate increases
-        this.maxHp += this.maxHp * (incMaxHpR + option.incMaxHpR + hpIncRateFromCts + psd.getMhpR()) / 100;
-        this.maxMp += this.maxMp * (incMaxMpR + option.incMaxMpR + mpIncRateFromCts + psd.getMmpR()) / 100;
+        this.maxHp += this.maxHp * (equipStat.incMaxHpR + option.incMaxHpR + hpIncRateFromCts + psd.getMhpR()) / 100;
+        this.maxMp += this.maxMp * (equipStat.incMaxMpR + option.incMaxMpR + mpIncRateFromCts + psd.getMmpR()) / 100;
 
         // Max hp/mp cap
         this.maxHp = Math.min(this.maxHp, GameConstants.HP_MAX);
         this.maxMp = Math.min(this.maxMp, GameConstants.MP_MAX);
     }
 
-    private void applyItemOption(int itemOptionId, int optionLevel) {
-        final Optional<ItemOptionLevelData> itemOptionResult = ItemProvider.getItemOptionInfo(itemOptionId, optionLevel);
-        if (itemOptionResult.isEmpty()) {
-            return;
-        }
-        for (var entry : itemOptionResult.get().getStats().entrySet()) {
-            switch (entry.getKey()) {
-                case incSTR -> this.str += entry.getValue();
-                case incDEX -> this.dex += entry.getValue();
-                case incINT -> this.int_ += entry.getValue();
-                case incLUK -> this.luk += entry.getValue();
-                case incMHP -> this.maxHp += entry.getValue();
-                case incMMP -> this.maxMp += entry.getValue();
-            }
-        }
-    }
-
     private int getJaguarRidingMaxHpUp(SecondaryStat ss, SkillManager sm) {
         if (!SkillConstants.WILD_HUNTER_JAGUARS.contains(ss.getRidingVehicle())) {
             return 0;
         }
-        final Optional<SkillInfo> skillInfoResult = SkillProvider.getSkillInfoById(WildHunter.JAGUAR_RIDER);
-        if (skillInfoResult.isEmpty()) {
+        final SkillInfo si = SkillProvider.getSkillInfoOrNull(WildHunter.JAGUAR_RIDER);
+        if (si == null) {
             return 0;
         }
-        final SkillInfo si = skillInfoResult.get();
         final int slv = SkillManager.getSkillLevel(ss, sm, WildHunter.JAGUAR_RIDER);
         return si.getValue(SkillStat.z, slv);
     }
 
+    /**
+     * Stats from the real equips and the completed set items, computed once for each real equip map.
+     */
+    private static final class BasicEquipStat {
+        private final Map<Integer, Item> realEquip;
+        private final BasicStatRateOption option = new BasicStatRateOption();
+        private int str;
+        private int dex;
+        private int int_;
+        private int luk;
+        private int maxHp;
+        private int maxMp;
+        private int incMaxHpR;
+        private int incMaxMpR;
+
+        private BasicEquipStat(Map<Integer, Item> realEquip) {
+            this.realEquip = realEquip;
+
+            // Equip stats
+            for (var item : realEquip.values()) {
+                final ItemInfo ii = ItemProvider.getItemInfoOrNull(item.getItemId());
+                if (ii == null) {
+                    continue;
+                }
+
+                // Apply stats
+                final EquipData ed = item.getEquipData();
+                this.str += ed.getIncStr();
+                this.int_ += ed.getIncInt();
+                this.dex += ed.getIncDex();
+                this.luk += ed.getIncLuk();
+                this.maxHp += ed.getIncMaxHp();
+                this.maxMp += ed.getIncMaxMp();
+
+                this.incMaxHpR += ii.getInfo(ItemInfoType.incMHPr);
+                this.incMaxMpR += ii.getInfo(ItemInfoType.incMMPr);
+
+                final int optionLevel = ii.getOptionLevel(); // no sockets in v95
+                if (ed.isReleased()) {
+                    this.applyItemOption(ed.getOption1(), optionLevel);
+                    this.applyItemOption(ed.getOption2(), optionLevel);
+                    this.applyItemOption(ed.getOption3(), optionLevel);
+                    option.applyItemOptionR(ed.getOption1(), optionLevel);
+                    option.applyItemOptionR(ed.getOption2(), optionLevel);
+                    option.applyItemOptionR(ed.getOption3(), optionLevel);
+                }
+            }
+
+            // Set items
+            for (SetItemInfo setItemInfo : EtcProvider.getSetItemInfos()) {
+                final Set<Integer> equippedItems = realEquip.values().stream().map(Item::getItemId).collect(Collectors.toSet());
+                equippedItems.retainAll(setItemInfo.getItems());
+                for (int itemCount = 0; itemCount <= equippedItems.size(); itemCount++) {
+                    final Map<ItemInfoType, Integer> effect = setItemInfo.getEffect().get(itemCount);
+                    if (effect == null) {
+                        continue;
+                    }
+                    for (var entry : effect.entrySet()) {
+                        switch (entry.getKey()) {
+                            case incSTR -> this.str += entry.getValue();
+                            case incDEX -> this.dex += entry.getValue();
+                            case incINT -> this.int_ += entry.getValue();
+                            case incLUK -> this.luk += entry.getValue();
+                            case incMHP -> this.maxHp += entry.getValue();
+                            case incMMP -> this.maxMp += entry.getValue();
+                        }
+                    }
+                }
+            }
+        }
+
+        private void applyItemOption(int itemOptionId, int optionLevel) {
+            final Optional<ItemOptionLevelData> itemOptionResult = ItemProvider.getItemOptionInfo(itemOptionId, optionLevel);
+            if (itemOptionResult.isEmpty()) {
+                return;
+            }
+            for (var entry : itemOptionResult.get().getStats().entrySet()) {
+                switch (entry.getKey()) {
+                    case incSTR -> this.str += entry.getValue();
+                    case incDEX -> this.dex += entry.getValue();
+                    case incINT -> this.int_ += entry.getValue();
+                    case incLUK -> this.luk += entry.getValue();
+                    case incMHP -> this.maxHp += entry.getValue();
+                    case incMMP -> this.maxMp += entry.getValue();
+                }
+            }
+        }
+    }
+
     private static class BasicStatRateOption {
         private int strR;
         private int dexR;
@@ -1,6 +1,7 @@
 package kinoko.world.user.stat;
 
 import kinoko.provider.ItemProvider;
+import kinoko.provider.item.ItemInfo;
 import kinoko.provider.item.ItemInfoType;
 import kinoko.provider.mob.DamagedAttribute;
 import kinoko.provider.skill.ElementAttribute;
@@ -14,6 +15,7 @@ import kinoko.world.field.mob.Mob;
 import kinoko.world.field.mob.MobStat;
 import kinoko.world.field.mob.MobTemporaryStat;
 import kinoko.world.item.BodyPart;
+import kinoko.world.item.Inventory;
 import kinoko.world.item.Item;
 import kinoko.world.item.ItemConstants;
 import kinoko.world.item.WeaponType;
@@ -32,7 +34,6 @@ import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
 import java.util.Map;
-import java.util.Optional;
 
 public final class CalcDamage {
     private static final Logger log = LogManager.getLogger(CalcDamage.class);
@@ -282,16 +283,13 @@ public final class CalcDamage {
     }
 
     public static double calcDamageMax(User user) {
-        final Item weapon = user.getInventoryManager().getEquipped().getItem(BodyPart.WEAPON.getValue());
-        final WeaponType weaponType = WeaponType.getByItemId(weapon != null ? weapon.getItemId() : 0);
-        return calcDamageByWT(weaponType, user.getBasicStat(), getPad(user), getMad(user));
+        return calcDamageByWT(user.getCombatStat().getWeaponType(), user.getBasicStat(), getPad(user), getMad(user));
     }
 
     public static double calcDamageMin(User user) {
-        final Item weapon = user.getInventoryManager().getEquipped().getItem(BodyPart.WEAPON.getValue());
-        final WeaponType weaponType = WeaponType.getByItemId(weapon != null ? weapon.getItemId() : 0);
-        final double k = getMasteryConstByWT(weaponType);
-        final int mastery = getWeaponMastery(user, weaponType);
+        final CombatStat cs = user.getCombatStat();
+        final double k = getMasteryConstByWT(cs.getWeaponType());
+        final int mastery = cs.getWeaponMastery();
         // Note : for CUIStatDetail::Draw, totalMastery = k + min(mastery, 0.95)
         // whereas in the actual calculation (adjust_ramdom_damage), totalMastery = min(mastery + k, 0.95)
         return (k + Math.min(mastery / 100.0, GameConstants.MASTERY_MAX)) * calcDamageMax(user) + 0.5;
@@ -314,13 +312,23 @@ public final class CalcDamage {
     }
 
     private static int getCriticalRate(User user, Attack attack) {
-        int criticalRate = user.getSkillStatValue(getCriticalSkillId(user, attack), SkillStat.prop) + 5;
+        final CombatStat cs = user.getCombatStat();
+        int criticalRate = cs.getCriticalRate();
+        if (attack.getAction() == ActionType.ASSASSINATIONS.getValue()) {
+            criticalRate += user.getSkillStatValue(Thief.ASSASSINATE, SkillStat.prop);
+        } else if (attack.isShootAttack() || !cs.isShootCriticalSkill()) {
+            criticalRate += cs.getCriticalSkillRate();
+        }
         if (attack.isMagicAttack()) {
-            criticalRate += user.getSecondaryStat().getOption(CharacterTemporaryStat.SwallowCritical).nOption;
+            criticalRate += cs.getMagicCriticalRate();
         }
+        return criticalRate;
+    }
+
+    private static int calcCriticalRate(User user) {
         final int sharpEyes = user.getSecondaryStat().getOption(CharacterTemporaryStat.SharpEyes).nOption;
         final int thornsEffect = user.getSecondaryStat().getOption(CharacterTemporaryStat.ThornsEffect).nOption;
-        criticalRate = criticalRate + Math.max(sharpEyes >> 8, thornsEffect >> 8);
+        int criticalRate = 5 + Math.max(sharpEyes >> 8, thornsEffect >> 8);
         // ignore cd->critical.nProb
         final int comboCount = user.getSecondaryStat().getOption(CharacterTemporaryStat.ComboAbilityBuff).nOption;
         if (comboCount > 0) {
@@ -339,23 +347,18 @@ public final class CalcDamage {
         return criticalRate;
     }
 
-    private static int getCriticalSkillId(User user, Attack attack) {
-        // get_critical_skill_level
-        if (attack.getAction() == ActionType.ASSASSINATIONS.getValue()) {
-            return Thief.ASSASSINATE;
-        }
+    private static boolean isShootCriticalSkill(int skillId) {
+        return skillId == Bowman.CRITICAL_SHOT || skillId == WindArcher.CRITICAL_SHOT ||
+                skillId == Thief.CRITICAL_THROW || skillId == NightWalker.CRITICAL_THROW;
+    }
+
+    private static int getCriticalSkillId(User user, WeaponType weaponType) {
+        // get_critical_skill_level, the assassinate action and the shoot attack checks are done in getCriticalRate
         if (JobConstants.isResistanceJob(user.getJob())) {
             return Citizen.DEADLY_CRITS;
         }
-        final Item weapon = user.getInventoryManager().getEquipped().getItem(BodyPart.WEAPON.getValue());
-        if (weapon == null) {
-            return 0;
-        }
-        switch (WeaponType.getByItemId(weapon.getItemId())) {
+        switch (weaponType) {
             case BOW, CROSSBOW -> {
-                if (!attack.isShootAttack()) {
-                    return 0;
-                }
                 if (JobConstants.isCygnusJob(user.getJob())) {
                     return WindArcher.CRITICAL_SHOT;
                 } else {
@@ -363,9 +366,6 @@ public final class CalcDamage {
                 }
             }
             case THROWINGGLOVE -> {
-                if (!attack.isShootAttack()) {
-                    return 0;
-                }
                 if (JobConstants.isCygnusJob(user.getJob())) {
                     return NightWalker.CRITICAL_THROW;
                 } else {
@@ -454,15 +454,52 @@ public final class CalcDamage {
     // SECONDARY STAT METHODS ------------------------------------------------------------------------------------------
 
     public static int getPad(User user) {
+        return user.getCombatStat().getPad();
+    }
+
+    public static int getMad(User user) {
+        final CombatStat cs = user.getCombatStat();
+        return Evan.isDragonFury(user) ? cs.getDragonFuryMad() : cs.getMad();
+    }
+
+    public static int getAcc(User user) {
+        return user.getCombatStat().getAcc();
+    }
+
+    public static CombatStat calcCombatStat(User user) {
+        final Item weapon = user.getInventoryManager().getEquipped().getItem(BodyPart.WEAPON.getValue());
+        final WeaponType weaponType = WeaponType.getByItemId(weapon != null ? weapon.getItemId() : 0);
+        final Inventory consumeInventory = user.getInventoryManager().getConsumeInventory();
+        final Item bulletItem = getBulletItem(weapon, consumeInventory);
+        final int criticalSkillId = getCriticalSkillId(user, weaponType);
+        return new CombatStat(
+                weaponType,
+                getWeaponMastery(user, weaponType),
+                calcPad(user, bulletItem),
+                calcMad(user, false),
+                calcMad(user, true),
+                calcAcc(user),
+                calcCriticalRate(user),
+                user.getSkillStatValue(criticalSkillId, SkillStat.prop),
+                isShootCriticalSkill(criticalSkillId),
+                user.getSecondaryStat().getOption(CharacterTemporaryStat.SwallowCritical).nOption,
+                consumeInventory,
+                bulletItem
+        );
+    }
+
+    private static int calcPad(User user, Item bulletItem) {
         // SecondaryStat::GetPAD
         final SecondaryStat ss = user.getSecondaryStat();
         final PassiveSkillData psd = user.getPassiveSkillData();
         // nPAD + incPAD + incEPAD + nPsdPADX + nBlessingArmorIncPAD
         int pad = ss.getPad() + getIncPad(user) + getIncEpad(user) + psd.getPadX() + ss.getOption(CharacterTemporaryStat.BlessingArmorIncPAD).nOption;
         // CItemInfo::GetBulletPAD
-        final int bulletItemId = getBulletItemId(user);
-        if (bulletItemId != 0 && !JobConstants.isMechanicJob(user.getJob())) {
-            pad += ItemProvider.getItemInfo(bulletItemId).map((ii) -> ii.getInfo(ItemInfoType.incPAD)).orElse(0);
+        if (bulletItem != null && !JobConstants.isMechanicJob(user.getJob())) {
+            final ItemInfo bulletInfo = ItemProvider.getItemInfoOrNull(bulletItem.getItemId());
+            if (bulletInfo != null) {
+                pad += bulletInfo.getInfo(ItemInfoType.incPAD);
+            }
         }
         // nComboAbilityBuff
         final int comboAbilityBuff = ss.getOption(CharacterTemporaryStat.ComboAbilityBuff).nOption;
@@ -484,18 +521,17 @@ public final class CalcDamage {
         return Math.clamp(pad, 0, GameConstants.PAD_MAX);
     }
 
-    public static int getMad(User user) {
+    private static int calcMad(User user, boolean dragonFury) {
         // SecondaryStat::GetMAD
         final SecondaryStat ss = user.getSecondaryStat();
         final PassiveSkillData psd = user.getPassiveSkillData();
         // nMAD + incMAD + nPsdMADX
         int mad = ss.getMad() + ss.getOption(CharacterTemporaryStat.MAD).nOption + psd.getMadX();
         // Apply madR
-        final int dragonFury = Evan.isDragonFury(user) ? user.getSkillStatValue(Evan.DRAGON_FURY, SkillStat.damage) : 0;
         final int statMadR = ss.getOption(CharacterTemporaryStat.MaxLevelBuff).nOption +
                 ss.getOption(CharacterTemporaryStat.DarkAura).nOption +
                 ss.getOption(CharacterTemporaryStat.SwallowAttackDamage).nOption +
-                dragonFury;
+                (dragonFury ? user.getSkillStatValue(Evan.DRAGON_FURY, SkillStat.damage) : 0);
         final int totalMadR = statMadR + psd.getMadR() + ss.getItemMadR();
         if (totalMadR > 0) {
             mad += mad * totalMadR / 100;
@@ -503,7 +539,7 @@ public final class CalcDamage {
         return Math.clamp(mad, 0, GameConstants.MAD_MAX);
     }
 
-    public static int getAcc(User user) {
+    private static int calcAcc(User user) {
         // SecondaryStat::GetAcc
         final BasicStat bs = user.getBasicStat();
         final SecondaryStat ss = user.getSecondaryStat();
@@ -551,15 +587,16 @@ public final class CalcDamage {
         return Math.max(incAcc, ecAcc);
     }
 
-    private static int getBulletItemId(User user) {
-        final Item weaponItem = user.getInventoryManager().getEquipped().getItem(BodyPart.WEAPON.getValue());
+    private static Item getBulletItem(Item weaponItem, Inventory consumeInventory) {
         if (weaponItem == null) {
-            return 0;
+            return null;
+        }
+        for (Item item : consumeInventory.getItems().values()) {
+            if (ItemConstants.isCorrectBulletItem(weaponItem.getItemId(), item.getItemId()) && item.getQuantity() >= 1) {
+                return item;
+            }
         }
-        final Optional<Item> bulletItemResult = user.getInventoryManager().getConsumeInventory().getItems().values().stream()
-                .filter((item) -> ItemConstants.isCorrectBulletItem(weaponItem.getItemId(), item.getItemId()) && item.getQuantity() >= 1)
-                .findFirst();
-        return bulletItemResult.map(Item::getItemId).orElse(0);
+        return null;
     }
 
 
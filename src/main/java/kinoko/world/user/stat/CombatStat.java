@@ -0,0 +1,95 @@
+package kinoko.world.user.stat;
+
+import kinoko.world.item.Inventory;
+import kinoko.world.item.Item;
+import kinoko.world.item.WeaponType;
+
+/**
+ * Snapshot of the attack independent stats read by {@link CalcDamage}, computed by {@link CalcDamage#calcCombatStat}.
+ * The snapshot is dropped by {@link kinoko.world.user.User#validateStat}, and is rebuilt when the consume inventory
+ * changes or the bullet item runs out.
+ */
+public final class CombatStat {
+    private final WeaponType weaponType;
+    private final int weaponMastery;
+    private final int pad;
+    private final int mad;
+    private final int dragonFuryMad;
+    private final int acc;
+    private final int criticalRate;
+    private final int criticalSkillRate;
+    private final boolean shootCriticalSkill;
+    private final int magicCriticalRate;
+    private final Inventory consumeInventory;
+    private final int consumeModCount;
+    private final Item bulletItem;
+
+    CombatStat(WeaponType weaponType, int weaponMastery, int pad, int mad, int dragonFuryMad, int acc, int criticalRate, int criticalSkillRate, boolean shootCriticalSkill, int magicCriticalRate, Inventory consumeInventory, Item bulletItem) {
+        this.weaponType = weaponType;
+        this.weaponMastery = weaponMastery;
+        this.pad = pad;
+        this.mad = mad;
+        this.dragonFuryMad = dragonFuryMad;
+        this.acc = acc;
+        this.criticalRate = criticalRate;
+        this.criticalSkillRate = criticalSkillRate;
+        this.shootCriticalSkill = shootCriticalSkill;
+        this.magicCriticalRate = magicCriticalRate;
+        this.consumeInventory = consumeInventory;
+        this.consumeModCount = consumeInventory.getModCount();
+        this.bulletItem = bulletItem;
+    }
+
+    public WeaponType getWeaponType() {
+        return weaponType;
+    }
+
+    public int getWeaponMastery() {
+        return weaponMastery;
+    }
+
+    public int getPad() {
+        return pad;
+    }
+
+    public int getMad() {
+        return mad;
+    }
+
+    public int getDragonFuryMad() {
+        return dragonFuryMad;
+    }
+
+    public int getAcc() {
+        return acc;
+    }
+
+    /**
+     * @return critical rate without the critical skill and the magic attack bonus.
+     */
+    public int getCriticalRate() {
+        return criticalRate;
+    }
+
+    public int getCriticalSkillRate() {
+        return criticalSkillRate;
+    }
+
+    /**
+     * @return whether the critical skill of the weapon only applies to shoot attacks.
+     */
+    public boolean isShootCriticalSkill() {
+        return shootCriticalSkill;
+    }
+
+    public int getMagicCriticalRate() {
+        return magicCriticalRate;
+    }
+
+    public boolean isValid(Inventory consumeInventory) {
+        if (this.consumeInventory != consumeInventory || consumeModCount != consumeInventory.getModCount()) {
+            return false;
+        }
+        return bulletItem == null || bulletItem.getQuantity() >= 1;
+    }
+}
@@ -19,6 +19,7 @@ import java.util.stream.Collectors;
  * stat requirements of equipped items.
  */
 public final class EquipStat {
+    public static final int REAL_EQUIP_KEY_SIZE = 15;
     private int incStr = 0;
     private int incDex = 0;
     private int incInt = 0;
@@ -122,6 +123,44 @@ public final class EquipStat {
         }
     }
 
+    /**
+     * Updates the key with the inputs of {@link #getRealEquip} in place, the real equips only need to be resolved again
+     * when these change. This is called on every validateStat, so the key is compared without allocating.
+     *
+     * @param key array of {@link #REAL_EQUIP_KEY_SIZE} values, holding the inputs of the previous call.
+     * @return true if any of the inputs changed.
+     */
+    public static boolean updateRealEquipKey(User user, int[] key) {
+        final CharacterStat cs = user.getCharacterStat();
+        final InventoryManager im = user.getInventoryManager();
+        final List<Pet> pets = user.getPets();
+        boolean changed = false;
+        changed |= updateKey(key, 0, im.getEquipped().getModCount());
+        changed |= updateKey(key, 1, im.getExtSlotExpire().toEpochMilli() < System.currentTimeMillis() ? 0 : 1);
+        changed |= updateKey(key, 2, user.getSecondaryStat().getOption(CharacterTemporaryStat.BasicStatUp).nOption);
+        changed |= updateKey(key, 3, cs.getGender());
+        changed |= updateKey(key, 4, cs.getLevel());
+        changed |= updateKey(key, 5, cs.getJob());
+        changed |= updateKey(key, 6, cs.getSubJob());
+        changed |= updateKey(key, 7, cs.getBaseStr());
+        changed |= updateKey(key, 8, cs.getBaseDex());
+        changed |= updateKey(key, 9, cs.getBaseInt());
+        changed |= updateKey(key, 10, cs.getBaseLuk());
+        changed |= updateKey(key, 11, cs.getPop());
+        changed |= updateKey(key, 12, pets.size() > 0 ? pets.get(0).getTemplateId() : 0);
+        changed |= updateKey(key, 13, pets.size() > 1 ? pets.get(1).getTemplateId() : 0);
+        changed |= updateKey(key, 14, pets.size() > 2 ? pets.get(2).getTemplateId() : 0);
+        return changed;
+    }
+
+    private static boolean updateKey(int[] key, int index, int value) {
+        if (key[index] == value) {
+            return false;
+        }
+        key[index] = value;
+        return true;
+    }
+
     public static Map<Integer, Item> getRealEquip(User user) {
         final CharacterStat cs = user.getCharacterStat();
         final int basicStatUp = user.getSecondaryStat().getOption(CharacterTemporaryStat.BasicStatUp).nOption;
@@ -151,11 +190,10 @@ public final class EquipStat {
             stat.incInt += ed.getIncInt();
             stat.incLuk += ed.getIncLuk();
 
-            final Optional<ItemInfo> itemInfoResult = ItemProvider.getItemInfo(item.getItemId());
-            if (itemInfoResult.isEmpty()) {
+            final ItemInfo ii = ItemProvider.getItemInfoOrNull(item.getItemId());
+            if (ii == null) {
                 continue;
             }
-            final ItemInfo ii = itemInfoResult.get();
             final int optionLevel = ii.getOptionLevel();
             if (ed.isReleased()) {
                 stat.applyItemOption(ed.getOption1(), optionLevel);
@@ -197,11 +235,10 @@ public final class EquipStat {
             if (item.getItemType() != ItemType.EQUIP) {
                 continue;
             }
-            final Optional<ItemInfo> itemInfoResult = ItemProvider.getItemInfo(item.getItemId());
-            if (itemInfoResult.isEmpty()) {
+            final ItemInfo ii = ItemProvider.getItemInfoOrNull(item.getItemId());
+            if (ii == null) {
                 continue;
             }
-            final ItemInfo ii = itemInfoResult.get();
             final EquipData ed = item.getEquipData();
 
             // Compute stat without this equip
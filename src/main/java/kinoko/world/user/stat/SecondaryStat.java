@@ -50,6 +50,8 @@ public final class SecondaryStat {
     private int craft;
     private int speed;
     private int jump;
+    private SecondaryEquipStat equipStat;
+    private SecondarySkillStat skillStat;
 
     public Map<CharacterTemporaryStat, TemporaryStatOption> getTemporaryStats() {
         return temporaryStats;
@@ -240,12 +242,24 @@ public final class SecondaryStat {
     // VALIDATE STAT METHODS -------------------------------------------------------------------------------------------
 
     public void setFrom(BasicStat bs, ForcedStat fs, SecondaryStat ss, SkillManager sm, Map<Integer, Item> realEquip) {
-        this.pad = 0;
-        this.pdd = 0;
-        this.mad = 0;
-        this.mdd = 0;
-        this.acc = 0;
-        this.eva = 0;
+        // Equip and set item stats
+        if (equipStat == null || equipStat.realEquip != realEquip) {
+            equipStat = new SecondaryEquipStat(realEquip);
+        }
+        final SecondaryStatRateOption option = equipStat.option;
+
+        // Passive skills, get_weapon_mastery, get_magic_mastery and get_increase_speed
+        final int combatOrders = ss.getOption(CharacterTemporaryStat.CombatOrders).nOption;
+        if (skillStat == null || !skillStat.isValid(sm, combatOrders, bs.getJob(), realEquip)) {
+            skillStat = new SecondarySkillStat(ss, sm, combatOrders, bs.getJob(), realEquip);
+        }
+
+        this.pad = equipStat.setItemPad;
+        this.pdd = equipStat.pdd;
+        this.mad = equipStat.mad + skillStat.mad;
+        this.mdd = equipStat.mdd;
+        this.acc = equipStat.acc + skillStat.acc;
+        this.eva = equipStat.eva + skillStat.eva;
         this.itemPadR = 0;
         this.itemPddR = 0;
         this.itemMadR = 0;
@@ -253,33 +267,9 @@ public final class SecondaryStat {
         this.itemAccR = 0;
         this.itemEvaR = 0;
         this.itemCriR = 0;
-        this.craft = bs.getDex() + bs.getInt() + bs.getLuk();
-        this.speed = 100;
-        this.jump = 100;
-
-        // Set items
-        for (SetItemInfo setItemInfo : EtcProvider.getSetItemInfos()) {
-            final Set<Integer> equippedItems = realEquip.values().stream().map(Item::getItemId).collect(Collectors.toSet());
-            equippedItems.retainAll(setItemInfo.getItems());
-            for (int itemCount = 0; itemCount <= equippedItems.size(); itemCount++) {
-                final Map<ItemInfoType, Integer> effect = setItemInfo.getEffect().get(itemCount);
-                if (effect == null) {
-                    continue;
-                }
-                for (var entry : effect.entrySet()) {
-                    switch (entry.getKey()) {
-                        case incPAD -> this.pad += entry.getValue();
-                        case incPDD -> this.pdd += entry.getValue();
-                        case incMAD -> this.mad += entry.getValue();
-                        case incMDD -> this.mdd += entry.getValue();
-                        case incACC -> this.acc += entry.getValue();
-                        case incEVA -> this.eva += entry.getValue();
-                        case incSpeed -> this.speed += entry.getValue();
-                        case incJump -> this.jump += entry.getValue();
-                    }
-                }
-            }
-        }
+        this.craft = bs.getDex() + bs.getInt() + bs.getLuk() + equipStat.craft;
+        this.speed = 100 + equipStat.speed + skillStat.speed;
+        this.jump = 100 + equipStat.jump;
 
         // Bare hands for pirates
         final Item weapon = realEquip.get(BodyPart.WEAPON.getValue());
@@ -290,181 +280,30 @@ public final class SecondaryStat {
                 this.pad = (int) (bs.getLevel() * 0.7 + 10.0);
             }
         }
-
-        // Equip stats
-        final SecondaryStatRateOption option = new SecondaryStatRateOption();
-        for (var item : realEquip.values()) {
-            // Resolve item and item info
-            final Optional<ItemInfo> itemInfoResult = ItemProvider.getItemInfo(item.getItemId());
-            if (itemInfoResult.isEmpty()) {
-                continue;
-            }
-            final ItemInfo ii = itemInfoResult.get();
-
-            // Apply stats
-            final EquipData ed = item.getEquipData();
-            this.pad += ed.getIncPad();
-            this.pdd += ed.getIncPdd();
-            this.mad += ed.getIncMad();
-            this.mdd += ed.getIncMdd();
-            this.acc += ed.getIncAcc();
-            this.eva += ed.getIncEva();
-            this.craft += ed.getIncCraft();
-            this.speed += ed.getIncSpeed();
-            this.jump += ed.getIncJump();
-
-            final int optionLevel = ii.getOptionLevel();
-            if (ed.isReleased()) {
-                this.applyItemOption(ed.getOption1(), optionLevel);
-                this.applyItemOption(ed.getOption2(), optionLevel);
-                this.applyItemOption(ed.getOption3(), optionLevel);
-                option.applyItemOptionR(ed.getOption1(), optionLevel);
-                option.applyItemOptionR(ed.getOption2(), optionLevel);
-                option.applyItemOptionR(ed.getOption3(), optionLevel);
-            }
-        }
-
-        // Passive skills
-        for (int skillId : SkillConstants.SECONDARY_STAT_SKILLS) {
-            final Optional<SkillInfo> skillInfoResult = SkillProvider.getSkillInfoById(skillId);
-            if (skillInfoResult.isEmpty()) {
-                continue;
-            }
-            final SkillInfo si = skillInfoResult.get();
-            final int slv = SkillManager.getSkillLevel(ss, sm, skillId);
-            if (slv == 0) {
-                continue;
-            }
-            switch (skillId) {
-                case Thief.NIMBLE_BODY, NightWalker.NIMBLE_BODY, Pirate.BULLET_TIME, ThunderBreaker.QUICK_MOTION -> {
-                    this.acc += si.getValue(SkillStat.x, slv);
-                    this.eva += si.getValue(SkillStat.y, slv);
-                }
-                case Evan.DRAGON_SOUL -> {
-                    this.mad += si.getValue(SkillStat.mad, slv);
-                }
-                case Beginner.BLESSING_OF_THE_FAIRY, Noblesse.BLESSING_OF_THE_FAIRY, Citizen.BLESSING_OF_THE_FAIRY,
-                        Aran.BLESSING_OF_THE_FAIRY, Evan.BLESSING_OF_THE_FAIRY -> {
-                    this.pad += si.getValue(SkillStat.x, slv);
-                    this.mad += si.getValue(SkillStat.y, slv);
-                    this.acc += si.getValue(SkillStat.z, slv);
-                    this.eva += si.getValue(SkillStat.z, slv);
-                }
-            }
-        }
+        this.pad += equipStat.pad + skillStat.pad;
 
         // Jaguar Rider
         if (SkillConstants.WILD_HUNTER_JAGUARS.contains(getRidingVehicle())) {
             final int slv = SkillManager.getSkillLevel(ss, sm, WildHunter.JAGUAR_RIDER);
             if (slv > 0) {
-                SkillProvider.getSkillInfoById(WildHunter.JAGUAR_RIDER).ifPresent((si) -> {
+                final SkillInfo si = SkillProvider.getSkillInfoOrNull(WildHunter.JAGUAR_RIDER);
+                if (si != null) {
                     this.eva += si.getValue(SkillStat.y, slv);
-                });
-            }
-        }
-
-        // get_weapon_mastery
-        final WeaponType wt = WeaponType.getByItemId(weapon != null ? weapon.getItemId() : 0);
-        switch (wt) {
-            case OH_SWORD, TH_SWORD -> {
-                getStatFromSkill(ss, sm, Warrior.WEAPON_MASTERY_HERO, Warrior.WEAPON_MASTERY_PALADIN, DawnWarrior.SWORD_MASTERY);
-            }
-            case OH_AXE, TH_AXE -> {
-                getStatFromSkill(ss, sm, Warrior.WEAPON_MASTERY_HERO);
-            }
-            case OH_MACE, TH_MACE -> {
-                getStatFromSkill(ss, sm, Warrior.WEAPON_MASTERY_PALADIN);
-            }
-            case DAGGER -> {
-                final Item shield = realEquip.get(BodyPart.SHIELD.getValue());
-                if (shield != null && WeaponType.getByItemId(shield.getItemId()) == WeaponType.SUB_DAGGER) {
-                    getStatFromSkill(ss, sm, Thief.KATARA_MASTERY);
-                } else {
-                    getStatFromSkill(ss, sm, Thief.DAGGER_MASTERY);
-                }
-            }
-            case SPEAR -> {
-                getStatFromSkill(ss, sm, Warrior.WEAPON_MASTERY_DRK);
-            }
-            case POLEARM -> {
-                if (JobConstants.isAranJob(bs.getJob())) {
-                    getStatFromSkill(ss, sm, Aran.POLEARM_MASTERY);
-                    getStatFromSkill(ss, sm, Aran.HIGH_MASTERY);
-                } else {
-                    getStatFromSkill(ss, sm, Warrior.WEAPON_BOOSTER_DRK);
-                }
-            }
-            case BOW -> {
-                if (JobConstants.isCygnusJob(bs.getJob())) {
-                    getStatFromSkill(ss, sm, WindArcher.BOW_MASTERY);
-                    getStatFromSkill(ss, sm, WindArcher.BOW_EXPERT);
-                } else {
-                    getStatFromSkill(ss, sm, Bowman.BOW_MASTERY);
-                    getStatFromSkill(ss, sm, Bowman.BOW_EXPERT);
-                }
-            }
-            case CROSSBOW -> {
-                if (JobConstants.isWildHunterJob(bs.getJob())) {
-                    getStatFromSkill(ss, sm, WildHunter.CROSSBOW_MASTERY);
-                    getStatFromSkill(ss, sm, WildHunter.CROSSBOW_EXPERT);
-                } else {
-                    getStatFromSkill(ss, sm, Bowman.CROSSBOW_MASTERY);
-                    getStatFromSkill(ss, sm, Bowman.MARKSMAN_BOOST);
-                }
-            }
-            case THROWINGGLOVE -> {
-                if (JobConstants.isCygnusJob(bs.getJob())) {
-                    getStatFromSkill(ss, sm, NightWalker.CLAW_MASTERY);
-                } else {
-                    getStatFromSkill(ss, sm, Thief.CLAW_MASTERY);
-                }
-            }
-            case KNUCKLE -> {
-                if (JobConstants.isCygnusJob(bs.getJob())) {
-                    getStatFromSkill(ss, sm, ThunderBreaker.KNUCKLE_MASTERY);
-                } else {
-                    getStatFromSkill(ss, sm, Pirate.KNUCKLE_MASTERY);
                 }
             }
-            case GUN -> {
-                if (JobConstants.isMechanicJob(bs.getJob())) {
-                    getStatFromSkill(ss, sm, Mechanic.EXTREME_MECH, Mechanic.MECHANIC_MASTERY);
-                } else {
-                    getStatFromSkill(ss, sm, Pirate.GUN_MASTERY);
-                }
-            }
-        }
-
-        // get_magic_mastery
-        if (JobConstants.isEvanJob(bs.getJob())) {
-            getStatFromSkill(ss, sm, Evan.SPELL_MASTERY);
-            getStatFromSkill(ss, sm, Evan.MAGIC_MASTERY);
-        } else if (JobConstants.isBattleMageJob(bs.getJob())) {
-            getStatFromSkill(ss, sm, BattleMage.STAFF_MASTERY);
-        } else if (JobConstants.isBlazeWizardJob(bs.getJob())) {
-            getStatFromSkill(ss, sm, BlazeWizard.SPELL_MASTERY);
-        } else if (JobConstants.isFirePoisonJob(bs.getJob())) {
-            getStatFromSkill(ss, sm, Magician.SPELL_MASTERY_FP);
-        } else if (JobConstants.isIceLightningJob(bs.getJob())) {
-            getStatFromSkill(ss, sm, Magician.SPELL_MASTERY_IL);
-        } else if (JobConstants.isBishopJob(bs.getJob())) {
-            getStatFromSkill(ss, sm, Magician.SPELL_MASTERY_BISH);
         }
 
-        // get_increase_speed
-        if (JobConstants.isBowmasterJob(bs.getJob())) {
-            getStatFromSkill(ss, sm, Bowman.THRUST_BM);
-        } else if (JobConstants.isMarksmanJob(bs.getJob())) {
-            getStatFromSkill(ss, sm, Bowman.THRUST_MM);
-        } else if (JobConstants.isWindArcherJob(bs.getJob())) {
-            getStatFromSkill(ss, sm, WindArcher.THRUST);
-        }
+        // Yellow Aura
         if (hasOption(CharacterTemporaryStat.YellowAura)) {
-            final Optional<SkillInfo> yellowAuraResult = SkillProvider.getSkillInfoById(getOption(CharacterTemporaryStat.YellowAura).rOption);
-            yellowAuraResult.ifPresent((si) -> this.speed += si.getValue(SkillStat.x, getOption(CharacterTemporaryStat.YellowAura).nOption));
+            final SkillInfo yellowAura = SkillProvider.getSkillInfoOrNull(getOption(CharacterTemporaryStat.YellowAura).rOption);
+            if (yellowAura != null) {
+                this.speed += yellowAura.getValue(SkillStat.x, getOption(CharacterTemporaryStat.YellowAura).nOption);
+            }
             if (hasOption(CharacterTemporaryStat.SuperBody)) {
-                final Optional<SkillInfo> bodyBoostResult = SkillProvider.getSkillInfoById(BattleMage.BODY_BOOST_YELLOW_AURA);
-                bodyBoostResult.ifPresent((si) -> this.speed += si.getValue(SkillStat.x, getOption(CharacterTemporaryStat.SuperBody).nOption));
+                final SkillInfo bodyBoost = SkillProvider.getSkillInfoOrNull(BattleMage.BODY_BOOST_YELLOW_AURA);
+                if (bodyBoost != null) {
+                    this.speed += bodyBoost.getValue(SkillStat.x, getOption(CharacterTemporaryStat.SuperBody).nOption);
+                }
             }
         }
 
@@ -513,58 +352,285 @@ public final class SecondaryStat {
         this.jump = Math.clamp(this.jump, GameConstants.JUMP_MIN, GameConstants.JUMP_MAX);
     }
 
-    private void applyItemOption(int itemOptionId, int optionLevel) {
-        final Optional<ItemOptionLevelData> itemOptionResult = ItemProvider.getItemOptionInfo(itemOptionId, optionLevel);
-        if (itemOptionResult.isEmpty()) {
-            return;
+    /**
+     * Stats from the completed set items and the real equips, computed once for each real equip map. The set item attack
+     * is kept apart, as it is replaced by the bare hands attack for pirates.
+     */
+    private static final class SecondaryEquipStat {
+        private final Map<Integer, Item> realEquip;
+        private final SecondaryStatRateOption option = new SecondaryStatRateOption();
+        private int setItemPad;
+        private int pad;
+        private int pdd;
+        private int mad;
+        private int mdd;
+        private int acc;
+        private int eva;
+        private int craft;
+        private int speed;
+        private int jump;
+
+        private SecondaryEquipStat(Map<Integer, Item> realEquip) {
+            this.realEquip = realEquip;
+
+            for (SetItemInfo setItemInfo : EtcProvider.getSetItemInfos()) {
+                final Set<Integer> equippedItems = realEquip.values().stream().map(Item::getItemId).collect(Collectors.toSet());
+                equippedItems.retainAll(setItemInfo.getItems());
+                for (int itemCount = 0; itemCount <= equippedItems.size(); itemCount++) {
+                    final Map<ItemInfoType, Integer> effect = setItemInfo.getEffect().get(itemCount);
+                    if (effect == null) {
+                        continue;
+                    }
+                    for (var entry : effect.entrySet()) {
+                        switch (entry.getKey()) {
+                            case incPAD -> this.setItemPad += entry.getValue();
+                            case incPDD -> this.pdd += entry.getValue();
+                            case incMAD -> this.mad += entry.getValue();
+                            case incMDD -> this.mdd += entry.getValue();
+                            case incACC -> this.acc += entry.getValue();
+                            case incEVA -> this.eva += entry.getValue();
+                            case incSpeed -> this.speed += entry.getValue();
+                            case incJump -> this.jump += entry.getValue();
+                        }
+                    }
+                }
+            }
+
+            for (var item : realEquip.values()) {
+                // Resolve item and item info
+                final ItemInfo ii = ItemProvider.getItemInfoOrNull(item.getItemId());
+                if (ii == null) {
+                    continue;
+                }
+
+                // Apply stats
+                final EquipData ed = item.getEquipData();
+                this.pad += ed.getIncPad();
+                this.pdd += ed.getIncPdd();
+                this.mad += ed.getIncMad();
+                this.mdd += ed.getIncMdd();
+                this.acc += ed.getIncAcc();
+                this.eva += ed.getIncEva();
+                this.craft += ed.getIncCraft();
+                this.speed += ed.getIncSpeed();
+                this.jump += ed.getIncJump();
+
+                final int optionLevel = ii.getOptionLevel();
+                if (ed.isReleased()) {
+                    this.applyItemOption(ed.getOption1(), optionLevel);
+                    this.applyItemOption(ed.getOption2(), optionLevel);
+                    this.applyItemOption(ed.getOption3(), optionLevel);
+                    option.applyItemOptionR(ed.getOption1(), optionLevel);
+                    option.applyItemOptionR(ed.getOption2(), optionLevel);
+                    option.applyItemOptionR(ed.getOption3(), optionLevel);
+                }
+            }
         }
-        for (var entry : itemOptionResult.get().getStats().entrySet()) {
-            switch (entry.getKey()) {
-                case incPAD -> this.pad += entry.getValue();
-                case incPDD -> this.pdd += entry.getValue();
-                case incMAD -> this.mad += entry.getValue();
-                case incMDD -> this.mdd += entry.getValue();
-                case incACC -> this.acc += entry.getValue();
-                case incEVA -> this.eva += entry.getValue();
-                case incSpeed -> this.speed += entry.getValue();
-                case incJump -> this.jump += entry.getValue();
+
+        private void applyItemOption(int itemOptionId, int optionLevel) {
+            final Optional<ItemOptionLevelData> itemOptionResult = ItemProvider.getItemOptionInfo(itemOptionId, optionLevel);
+            if (itemOptionResult.isEmpty()) {
+                return;
+            }
+            for (var entry : itemOptionResult.get().getStats().entrySet()) {
+                switch (entry.getKey()) {
+                    case incPAD -> this.pad += entry.getValue();
+                    case incPDD -> this.pdd += entry.getValue();
+                    case incMAD -> this.mad += entry.getValue();
+                    case incMDD -> this.mdd += entry.getValue();
+                    case incACC -> this.acc += entry.getValue();
+                    case incEVA -> this.eva += entry.getValue();
+                    case incSpeed -> this.speed += entry.getValue();
+                    case incJump -> this.jump += entry.getValue();
+                }
             }
         }
     }
 
-    private void getStatFromSkill(SecondaryStat ss, SkillManager sm, int... skillIds) {
-        for (int skillId : skillIds) {
-            final Optional<SkillInfo> skillInfoResult = SkillProvider.getSkillInfoById(skillId);
-            if (skillInfoResult.isEmpty()) {
-                continue;
-            }
-            final SkillInfo si = skillInfoResult.get();
-            final int slv = SkillManager.getSkillLevel(ss, sm, skillId);
-            if (slv == 0) {
-                continue;
+    /**
+     * Stats from the passive and mastery skills, computed again when the skill records, the combat orders level, the job
+     * or the real equips change.
+     */
+    private static final class SecondarySkillStat {
+        private final int skillModCount;
+        private final int combatOrders;
+        private final int job;
+        private final Map<Integer, Item> realEquip;
+        private int pad;
+        private int mad;
+        private int acc;
+        private int eva;
+        private int speed;
+
+        private SecondarySkillStat(SecondaryStat ss, SkillManager sm, int combatOrders, int job, Map<Integer, Item> realEquip) {
+            this.skillModCount = sm.getModCount();
+            this.combatOrders = combatOrders;
+            this.job = job;
+            this.realEquip = realEquip;
+
+            for (int skillId : SkillConstants.SECONDARY_STAT_SKILLS) {
+                final SkillInfo si = SkillProvider.getSkillInfoOrNull(skillId);
+                if (si == null) {
+                    continue;
+                }
+                final int slv = SkillManager.getSkillLevel(ss, sm, skillId);
+                if (slv == 0) {
+                    continue;
+                }
+                switch (skillId) {
+                    case Thief.NIMBLE_BODY, NightWalker.NIMBLE_BODY, Pirate.BULLET_TIME, ThunderBreaker.QUICK_MOTION -> {
+                        this.acc += si.getValue(SkillStat.x, slv);
+                        this.eva += si.getValue(SkillStat.y, slv);
+                    }
+                    case Evan.DRAGON_SOUL -> {
+                        this.mad += si.getValue(SkillStat.mad, slv);
+                    }
+                    case Beginner.BLESSING_OF_THE_FAIRY, Noblesse.BLESSING_OF_THE_FAIRY, Citizen.BLESSING_OF_THE_FAIRY,
+                            Aran.BLESSING_OF_THE_FAIRY, Evan.BLESSING_OF_THE_FAIRY -> {
+                        this.pad += si.getValue(SkillStat.x, slv);
+                        this.mad += si.getValue(SkillStat.y, slv);
+                        this.acc += si.getValue(SkillStat.z, slv);
+                        this.eva += si.getValue(SkillStat.z, slv);
+                    }
+                }
             }
-            switch (skillId) {
-                case Warrior.WEAPON_MASTERY_HERO, Warrior.WEAPON_MASTERY_PALADIN, DawnWarrior.SWORD_MASTERY,
-                        Thief.KATARA_MASTERY, Thief.DAGGER_MASTERY, Warrior.WEAPON_MASTERY_DRK, Aran.POLEARM_MASTERY,
-                        WindArcher.BOW_MASTERY, Bowman.BOW_MASTERY, WildHunter.CROSSBOW_MASTERY,
-                        Bowman.CROSSBOW_MASTERY, NightWalker.CLAW_MASTERY, Thief.CLAW_MASTERY,
-                        ThunderBreaker.KNUCKLE_MASTERY, Pirate.KNUCKLE_MASTERY, Mechanic.EXTREME_MECH,
-                        Mechanic.MECHANIC_MASTERY, Pirate.GUN_MASTERY -> {
-                    this.acc += si.getValue(SkillStat.x, slv);
+
+            // get_weapon_mastery
+            final Item weapon = realEquip.get(BodyPart.WEAPON.getValue());
+            final WeaponType wt = WeaponType.getByItemId(weapon != null ? weapon.getItemId() : 0);
+            switch (wt) {
+                case OH_SWORD, TH_SWORD -> {
+                    getStatFromSkill(ss, sm, Warrior.WEAPON_MASTERY_HERO, Warrior.WEAPON_MASTERY_PALADIN, DawnWarrior.SWORD_MASTERY);
+                }
+                case OH_AXE, TH_AXE -> {
+                    getStatFromSkill(ss, sm, Warrior.WEAPON_MASTERY_HERO);
+                }
+                case OH_MACE, TH_MACE -> {
+                    getStatFromSkill(ss, sm, Warrior.WEAPON_MASTERY_PALADIN);
                 }
-                case Aran.HIGH_MASTERY, WindArcher.BOW_EXPERT, Bowman.BOW_EXPERT, WildHunter.CROSSBOW_EXPERT,
-                        Bowman.MARKSMAN_BOOST -> {
-                    this.pad += si.getValue(SkillStat.x, slv);
+                case DAGGER -> {
+                    final Item shield = realEquip.get(BodyPart.SHIELD.getValue());
+                    if (shield != null && WeaponType.getByItemId(shield.getItemId()) == WeaponType.SUB_DAGGER) {
+                        getStatFromSkill(ss, sm, Thief.KATARA_MASTERY);
+                    } else {
+                        getStatFromSkill(ss, sm, Thief.DAGGER_MASTERY);
+                    }
                 }
-                case Evan.SPELL_MASTERY, Evan.MAGIC_MASTERY, BattleMage.STAFF_MASTERY, BlazeWizard.SPELL_MASTERY,
-                        Magician.SPELL_MASTERY_BISH, Magician.SPELL_MASTERY_IL, Magician.SPELL_MASTERY_FP -> {
-                    this.mad += si.getValue(SkillStat.x, slv);
+                case SPEAR -> {
+                    getStatFromSkill(ss, sm, Warrior.WEAPON_MASTERY_DRK);
                 }
-                case Bowman.THRUST_BM, Bowman.THRUST_MM, WindArcher.THRUST -> {
-                    this.speed += si.getValue(SkillStat.speed, slv);
+                case POLEARM -> {
+                    if (JobConstants.isAranJob(job)) {
+                        getStatFromSkill(ss, sm, Aran.POLEARM_MASTERY);
+                        getStatFromSkill(ss, sm, Aran.HIGH_MASTERY);
+                    } else {
+                        getStatFromSkill(ss, sm, Warrior.WEAPON_BOOSTER_DRK);
+                    }
                 }
+                case BOW -> {
+                    if (JobConstants.isCygnusJob(job)) {
+                        getStatFromSkill(ss, sm, WindArcher.BOW_MASTERY);
+                        getStatFromSkill(ss, sm, WindArcher.BOW_EXPERT);
+                    } else {
+                        getStatFromSkill(ss, sm, Bowman.BOW_MASTERY);
+                        getStatFromSkill(ss, sm, Bowman.BOW_EXPERT);
+                    }
+                }
+                case CROSSBOW -> {
+                    if (JobConstants.isWildHunterJob(job)) {
+                        getStatFromSkill(ss, sm, WildHunter.CROSSBOW_MASTERY);
+                        getStatFromSkill(ss, sm, WildHunter.CROSSBOW_EXPERT);
+                    } else {
+                        getStatFromSkill(ss, sm, Bowman.CROSSBOW_MASTERY);
+                        getStatFromSkill(ss, sm, Bowman.MARKSMAN_BOOST);
+                    }
+                }
+                case THROWINGGLOVE -> {
+                    if (JobConstants.isCygnusJob(job)) {
+                        getStatFromSkill(ss, sm, NightWalker.CLAW_MASTERY);
+                    } else {
+                        getStatFromSkill(ss, sm, Thief.CLAW_MASTERY);
+                    }
+                }
+                case KNUCKLE -> {
+                    if (JobConstants.isCygnusJob(job)) {
+                        getStatFromSkill(ss, sm, ThunderBreaker.KNUCKLE_MASTERY);
+                    } else {
+                        getStatFromSkill(ss, sm, Pirate.KNUCKLE_MASTERY);
+                    }
+                }
+                case GUN -> {
+                    if (JobConstants.isMechanicJob(job)) {
+                        getStatFromSkill(ss, sm, Mechanic.EXTREME_MECH, Mechanic.MECHANIC_MASTERY);
+                    } else {
+                        getStatFromSkill(ss, sm, Pirate.GUN_MASTERY);
+                    }
+                }
+            }
+
+            // get_magic_mastery
+            if (JobConstants.isEvanJob(job)) {
+                getStatFromSkill(ss, sm, Evan.SPELL_MASTERY);
+                getStatFromSkill(ss, sm, Evan.MAGIC_MASTERY);
+            } else if (JobConstants.isBattleMageJob(job)) {
+                getStatFromSkill(ss, sm, BattleMage.STAFF_MASTERY);
+            } else if (JobConstants.isBlazeWizardJob(job)) {
+                getStatFromSkill(ss, sm, BlazeWizard.SPELL_MASTERY);
+            } else if (JobConstants.isFirePoisonJob(job)) {
+                getStatFromSkill(ss, sm, Magician.SPELL_MASTERY_FP);
+            } else if (JobConstants.isIceLightningJob(job)) {
+                getStatFromSkill(ss, sm, Magician.SPELL_MASTERY_IL);
+            } else if (JobConstants.isBishopJob(job)) {
+                getStatFromSkill(ss, sm, Magician.SPELL_MASTERY_BISH);
+            }
+
+            // get_increase_speed
+            if (JobConstants.isBowmasterJob(job)) {
+                getStatFromSkill(ss, sm, Bowman.THRUST_BM);
+            } else if (JobConstants.isMarksmanJob(job)) {
+                getStatFromSkill(ss, sm, Bowman.THRUST_MM);
+            } else if (JobConstants.isWindArcherJob(job)) {
+                getStatFromSkill(ss, sm, WindArcher.THRUST);
+            }
+        }
+
+        private boolean isValid(SkillManager sm, int combatOrders, int job, Map<Integer, Item> realEquip) {
+            return skillModCount == sm.getModCount() && this.combatOrders == combatOrders && this.job == job && this.realEquip == realEquip;
+        }
+
+        private void getStatFromSkill(SecondaryStat ss, SkillManager sm, int... skillIds) {
+            for (int skillId : skillIds) {
+                final SkillInfo si = SkillProvider.getSkillInfoOrNull(skillId);
+                if (si == null) {
+                    continue;
+                }
+                final int slv = SkillManager.getSkillLevel(ss, sm, skillId);
+                if (slv == 0) {
+                    continue;
+                }
+                switch (skillId) {
+                    case Warrior.WEAPON_MASTERY_HERO, Warrior.WEAPON_MASTERY_PALADIN, DawnWarrior.SWORD_MASTERY,
+                            Thief.KATARA_MASTERY, Thief.DAGGER_MASTERY, Warrior.WEAPON_MASTERY_DRK, Aran.POLEARM_MASTERY,
+                            WindArcher.BOW_MASTERY, Bowman.BOW_MASTERY, WildHunter.CROSSBOW_MASTERY,
+                            Bowman.CROSSBOW_MASTERY, NightWalker.CLAW_MASTERY, Thief.CLAW_MASTERY,
+                            ThunderBreaker.KNUCKLE_MASTERY, Pirate.KNUCKLE_MASTERY, Mechanic.EXTREME_MECH,
+                            Mechanic.MECHANIC_MASTERY, Pirate.GUN_MASTERY -> {
+                        this.acc += si.getValue(SkillStat.x, slv);
+                    }
+                    case Aran.HIGH_MASTERY, WindArcher.BOW_EXPERT, Bowman.BOW_EXPERT, WildHunter.CROSSBOW_EXPERT,
+                            Bowman.MARKSMAN_BOOST -> {
+                        this.pad += si.getValue(SkillStat.x, slv);
+                    }
+                    case Evan.SPELL_MASTERY, Evan.MAGIC_MASTERY, BattleMage.STAFF_MASTERY, BlazeWizard.SPELL_MASTERY,
+                            Magician.SPELL_MASTERY_BISH, Magician.SPELL_MASTERY_IL, Magician.SPELL_MASTERY_FP -> {
+                        this.mad += si.getValue(SkillStat.x, slv);
+                    }
+                    case Bowman.THRUST_BM, Bowman.THRUST_MM, WindArcher.THRUST -> {
+                        this.speed += si.getValue(SkillStat.speed, slv);
+                    }
+                }
+                break;
             }
-            break;
         }
     }
 
@@ -0,0 +1,180 @@
+package kinoko.database.cassandra;
+
+import com.datastax.oss.driver.api.core.CqlSession;
+import com.datastax.oss.driver.api.core.type.codec.registry.CodecRegistry;
+import kinoko.database.DatabaseManager;
+import kinoko.database.cassandra.table.CharacterTable;
+import kinoko.world.item.*;
+import kinoko.world.quest.QuestManager;
+import kinoko.world.quest.QuestRecord;
+import kinoko.world.quest.QuestState;
+import kinoko.world.skill.SkillManager;
+import kinoko.world.skill.SkillRecord;
+import kinoko.world.user.CharacterData;
+import kinoko.world.user.data.ConfigManager;
+import kinoko.world.user.data.MapTransferInfo;
+import kinoko.world.user.data.MiniGameRecord;
+import kinoko.world.user.data.WildHunterInfo;
+import kinoko.world.user.stat.CharacterStat;
+import kinoko.world.user.stat.ExtendSp;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.datastax.oss.driver.api.querybuilder.QueryBuilder.literal;
+import static com.datastax.oss.driver.api.querybuilder.QueryBuilder.update;
+
+/**
+ * Compares the save latency of a character with full inventories using the prepared update statement, against the
+ * previous implementation which inlined every value as a CQL literal. Requires a running database at
+ * {@link DatabaseManager#DATABASE_ADDRESS}, the benchmark character is deleted on tear down.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CharacterSaveBenchmark {
+    private static final int ACCOUNT_ID = Integer.MAX_VALUE;
+    private static final int CHARACTER_ID = Integer.MAX_VALUE;
+    private static final int INVENTORY_SIZE = 96;
+
+    private CassandraCharacterAccessor accessor;
+    private CharacterData characterData;
+
+    @Setup
+    public void setup() {
+        DatabaseManager.initialize();
+        accessor = (CassandraCharacterAccessor) DatabaseManager.characterAccessor();
+        characterData = createCharacterData();
+    }
+
+    @TearDown
+    public void tearDown() {
+        accessor.deleteCharacter(ACCOUNT_ID, CHARACTER_ID);
+        DatabaseManager.shutdown();
+    }
+
+    @Benchmark
+    public boolean savePrepared() {
+        return accessor.saveCharacter(characterData);
+    }
+
+    @Benchmark
+    public boolean saveLiteral() {
+        final CqlSession session = accessor.getSession();
+        final CodecRegistry registry = session.getContext().getCodecRegistry();
+        final InventoryManager im = characterData.getInventoryManager();
+        return session.execute(
+                update(accessor.getKeyspace(), CharacterTable.getTableName())
+                        .setColumn(CharacterTable.ACCOUNT_ID, literal(characterData.getAccountId()))
+                        .setColumn(CharacterTable.CHARACTER_NAME, literal(characterData.getCharacterName()))
+                        .setColumn(CharacterTable.CHARACTER_NAME_INDEX, literal(characterData.getCharacterName().toLowerCase()))
+                        .setColumn(CharacterTable.CHARACTER_STAT, literal(characterData.getCharacterStat(), registry))
+                        .setColumn(CharacterTable.CHARACTER_EQUIPPED, literal(im.getEquipped(), registry))
+                        .setColumn(CharacterTable.EQUIP_INVENTORY, literal(im.getEquipInventory(), registry))
+                        .setColumn(CharacterTable.CONSUME_INVENTORY, literal(im.getConsumeInventory(), registry))
+                        .setColumn(CharacterTable.INSTALL_INVENTORY, literal(im.getInstallInventory(), registry))
+                        .setColumn(CharacterTable.ETC_INVENTORY, literal(im.getEtcInventory(), registry))
+                        .setColumn(CharacterTable.CASH_INVENTORY, literal(im.getCashInventory(), registry))
+                        .setColumn(CharacterTable.MONEY, literal(im.getMoney()))
+                        .setColumn(CharacterTable.EXT_SLOT_EXPIRE, literal(im.getExtSlotExpire()))
+                        .setColumn(CharacterTable.SKILL_COOLTIMES, literal(characterData.getSkillManager().getSkillCooltimes()))
+                        .setColumn(CharacterTable.SKILL_RECORDS, literal(characterData.getSkillManager().getSkillRecords(), registry))
+                        .setColumn(CharacterTable.QUEST_RECORDS, literal(characterData.getQuestManager().getQuestRecords(), registry))
+                        .setColumn(CharacterTable.CONFIG, literal(characterData.getConfigManager(), registry))
+                        .setColumn(CharacterTable.MINIGAME_RECORD, literal(characterData.getMiniGameRecord(), registry))
+                        .setColumn(CharacterTable.MAP_TRANSFER_INFO, literal(characterData.getMapTransferInfo(), registry))
+                        .setColumn(CharacterTable.WILD_HUNTER_INFO, literal(characterData.getWildHunterInfo(), registry))
+                        .setColumn(CharacterTable.ITEM_SN_COUNTER, literal(characterData.getItemSnCounter().get()))
+                        .setColumn(CharacterTable.FRIEND_MAX, literal(characterData.getFriendMax()))
+                        .setColumn(CharacterTable.PARTY_ID, literal(characterData.getPartyId()))
+                        .setColumn(CharacterTable.GUILD_ID, literal(characterData.getGuildId()))
+                        .setColumn(CharacterTable.CREATION_TIME, literal(characterData.getCreationTime()))
+                        .setColumn(CharacterTable.MAX_LEVEL_TIME, literal(characterData.getMaxLevelTime()))
+                        .whereColumn(CharacterTable.CHARACTER_ID).isEqualTo(literal(characterData.getCharacterId()))
+                        .build()
+        ).wasApplied();
+    }
+
+    private static CharacterData createCharacterData() {
+        final CharacterData characterData = new CharacterData(ACCOUNT_ID);
+        characterData.setItemSnCounter(new AtomicInteger(1));
+        characterData.setCreationTime(Instant.now());
+
+        final CharacterStat cs = new CharacterStat();
+        cs.setId(CHARACTER_ID);
+        cs.setName("Benchmark");
+        cs.setLevel((short) 200);
+        cs.setSp(ExtendSp.from(Map.of()));
+        characterData.setCharacterStat(cs);
+
+        final InventoryManager im = new InventoryManager();
+        im.setEquipped(createInventory(characterData, ItemType.EQUIP, 1000100, 32));
+        im.setEquipInventory(createInventory(characterData, ItemType.EQUIP, 1302000, INVENTORY_SIZE));
+        im.setConsumeInventory(createInventory(characterData, ItemType.BUNDLE, 2000000, INVENTORY_SIZE));
+        im.setInstallInventory(createInventory(characterData, ItemType.BUNDLE, 3010000, INVENTORY_SIZE));
+        im.setEtcInventory(createInventory(characterData, ItemType.BUNDLE, 4000000, INVENTORY_SIZE));
+        im.setCashInventory(createInventory(characterData, ItemType.BUNDLE, 5000000, INVENTORY_SIZE));
+        im.setMoney(Integer.MAX_VALUE);
+        im.setExtSlotExpire(Instant.now());
+        characterData.setInventoryManager(im);
+
+        final SkillManager sm = new SkillManager();
+        for (int i = 0; i < 100; i++) {
+            final SkillRecord skillRecord = new SkillRecord(1000000 + i);
+            skillRecord.setSkillLevel(20);
+            skillRecord.setMasterLevel(30);
+            sm.addSkill(skillRecord);
+        }
+        characterData.setSkillManager(sm);
+
+        final QuestManager qm = new QuestManager();
+        for (int i = 0; i < 500; i++) {
+            final QuestRecord questRecord = new QuestRecord(1000 + i);
+            questRecord.setState(QuestState.COMPLETE);
+            questRecord.setValue("");
+            questRecord.setCompletedTime(Instant.now());
+            qm.addQuestRecord(questRecord);
+        }
+        characterData.setQuestManager(qm);
+
+        characterData.setConfigManager(ConfigManager.defaults());
+        characterData.setMiniGameRecord(new MiniGameRecord());
+        characterData.setMapTransferInfo(new MapTransferInfo());
+        characterData.setWildHunterInfo(new WildHunterInfo());
+        characterData.setFriendMax(50);
+        return characterData;
+    }
+
+    private static Inventory createInventory(CharacterData characterData, ItemType itemType, int baseItemId, int size) {
+        final Inventory inventory = new Inventory(size);
+        for (int i = 1; i <= size; i++) {
+            final Item item = new Item(itemType);
+            item.setItemSn(characterData.getNextItemSn());
+            item.setItemId(baseItemId + i);
+            item.setQuantity((short) 1);
+            item.setTitle("");
+            item.setDateExpire(Instant.now());
+            if (itemType == ItemType.EQUIP) {
+                item.setEquipData(new EquipData());
+            }
+            inventory.putItem(i, item);
+        }
+        return inventory;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(CharacterSaveBenchmark.class.getSimpleName())
+                .build()
+        ).run();
+    }
+}
@@ -0,0 +1,97 @@
+package kinoko.database.cassandra;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.BitSet;
+import java.util.List;
+import java.util.function.IntFunction;
+
+public final class SavedColumnsTest {
+    private static final List<String> COLUMNS = List.of("a", "b", "c");
+
+    @Test
+    public void testUnchanged() {
+        final SavedColumns<Object> savedColumns = new SavedColumns<>(COLUMNS);
+        final Object object = new Object();
+        savedColumns.load(object, values("1", "2", "3"));
+        final SavedColumns.Snapshot snapshot = savedColumns.hash(values("1", "2", "3"), new BitSet());
+        Assertions.assertTrue(savedColumns.getChanged(object, snapshot).isEmpty());
+        Assertions.assertFalse(savedColumns.isPending(object, 0));
+    }
+
+    @Test
+    public void testChanged() {
+        final SavedColumns<Object> savedColumns = new SavedColumns<>(COLUMNS);
+        final Object object = new Object();
+        savedColumns.load(object, values("1", "2", "3"));
+        final SavedColumns.Snapshot snapshot = savedColumns.hash(values("1", "x", "3"), new BitSet());
+        final BitSet changed = savedColumns.getChanged(object, snapshot);
+        Assertions.assertEquals(bits(1), changed);
+        // Written columns are recorded once the write succeeds
+        savedColumns.update(object, snapshot, changed);
+        Assertions.assertTrue(savedColumns.getChanged(object, savedColumns.hash(values("1", "x", "3"), new BitSet())).isEmpty());
+        // Objects that were not loaded are written in full
+        Assertions.assertEquals(bits(0, 1, 2), savedColumns.getChanged(new Object(), snapshot));
+        Assertions.assertTrue(savedColumns.isPending(new Object(), 0));
+    }
+
+    @Test
+    public void testSkipped() {
+        final SavedColumns<Object> savedColumns = new SavedColumns<>(COLUMNS);
+        final Object object = new Object();
+        savedColumns.load(object, values("1", "2", "3"));
+        // Skipped columns are not compared and keep their recorded hash
+        final SavedColumns.Snapshot snapshot = savedColumns.hash(values("x", null, "3"), bits(1));
+        Assertions.assertEquals(bits(0), savedColumns.getChanged(object, snapshot));
+        savedColumns.update(object, snapshot, bits(0));
+        Assertions.assertTrue(savedColumns.getChanged(object, savedColumns.hash(values("x", "2", "3"), new BitSet())).isEmpty());
+    }
+
+    @Test
+    public void testFailedWrite() {
+        final SavedColumns<Object> savedColumns = new SavedColumns<>(COLUMNS);
+        final Object object = new Object();
+        savedColumns.load(object, values("1", "2", "3"));
+        final SavedColumns.Snapshot failed = savedColumns.hash(values("1", "x", "3"), new BitSet());
+        savedColumns.fail(object, failed, savedColumns.getChanged(object, failed));
+        // The failed column is bound and written again, even if the value was reverted
+        Assertions.assertTrue(savedColumns.isPending(object, 1));
+        Assertions.assertFalse(savedColumns.isPending(object, 0));
+        final SavedColumns.Snapshot retry = savedColumns.hash(values("1", "2", "3"), new BitSet());
+        final BitSet changed = savedColumns.getChanged(object, retry);
+        Assertions.assertEquals(bits(1), changed);
+        savedColumns.update(object, retry, changed);
+        Assertions.assertFalse(savedColumns.isPending(object, 1));
+        Assertions.assertTrue(savedColumns.getChanged(object, savedColumns.hash(values("1", "2", "3"), new BitSet())).isEmpty());
+    }
+
+    @Test
+    public void testOutOfOrder() {
+        final SavedColumns<Object> savedColumns = new SavedColumns<>(COLUMNS);
+        final Object object = new Object();
+        savedColumns.load(object, values("1", "2", "3"));
+        final SavedColumns.Snapshot first = savedColumns.hash(values("x", "2", "3"), new BitSet());
+        final SavedColumns.Snapshot second = savedColumns.hash(values("y", "2", "3"), new BitSet());
+        savedColumns.update(object, second, bits(0));
+        // Completions of older writes do not override the newer hashes
+        savedColumns.update(object, first, bits(0));
+        savedColumns.fail(object, first, bits(0));
+        Assertions.assertFalse(savedColumns.isPending(object, 0));
+        Assertions.assertTrue(savedColumns.getChanged(object, savedColumns.hash(values("y", "2", "3"), new BitSet())).isEmpty());
+    }
+
+    private static IntFunction<ByteBuffer> values(String... values) {
+        return (index) -> values[index] != null ? ByteBuffer.wrap(values[index].getBytes(StandardCharsets.UTF_8)) : null;
+    }
+
+    private static BitSet bits(int... indices) {
+        final BitSet bitSet = new BitSet();
+        for (int index : indices) {
+            bitSet.set(index);
+        }
+        return bitSet;
+    }
+}
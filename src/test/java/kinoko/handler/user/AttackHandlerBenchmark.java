@@ -0,0 +1,251 @@
+package kinoko.handler.user;
+
+import io.netty.channel.*;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.channel.socket.DefaultSocketChannelConfig;
+import io.netty.channel.socket.ServerSocketChannel;
+import io.netty.channel.socket.SocketChannel;
+import io.netty.channel.socket.SocketChannelConfig;
+import kinoko.provider.map.FieldType;
+import kinoko.provider.map.Foothold;
+import kinoko.provider.map.MapInfo;
+import kinoko.provider.mob.MobTemplate;
+import kinoko.server.header.OutHeader;
+import kinoko.server.netty.WriteBatch;
+import kinoko.server.node.Client;
+import kinoko.util.Locked;
+import kinoko.world.field.Field;
+import kinoko.world.field.mob.Mob;
+import kinoko.world.item.*;
+import kinoko.world.skill.Attack;
+import kinoko.world.skill.AttackInfo;
+import kinoko.world.skill.SkillManager;
+import kinoko.world.user.CharacterData;
+import kinoko.world.user.User;
+import kinoko.world.user.stat.CharacterStat;
+import kinoko.world.user.stat.ExtendSp;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Runs {@link AttackHandler}'s damage verification path for an attack with 15 damage lines on 6 mobs, as the handler
+ * does for a decoded packet. The providers are not loaded, so the attack is a basic melee attack by a claw wielding
+ * thief with a full consume inventory, and the damage lines are zero so that the mobs stay alive. Written packets are
+ * discarded by the channel.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AttackHandlerBenchmark {
+    private static final int MOB_COUNT = 6;
+    private static final int DAMAGE_PER_MOB = 15;
+    private static final int CONSUME_ITEM_COUNT = 24;
+
+    private MethodHandle handleAttack;
+    private User user;
+    private List<Mob> mobs;
+
+    @Setup
+    public void setup() throws Exception {
+        handleAttack = MethodHandles.privateLookupIn(AttackHandler.class, MethodHandles.lookup())
+                .findStatic(AttackHandler.class, "handleAttack", MethodType.methodType(void.class, Locked.class, Attack.class));
+        // Create field and mobs
+        final Foothold foothold = new Foothold(0, 0, 1, -1000, 0, 1000, 0, 0, 0, 0, 0, 0, 0);
+        final MapInfo mapInfo = new MapInfo(100000000, false, false, false, false, false, 0, 999999999, 999999999,
+                Set.of(), FieldType.DEFAULT, 1.0f, "", "", List.of(), List.of(foothold), List.of(), List.of(), List.of(), List.of());
+        final Field field = new Field(null, mapInfo);
+        field.close();
+        final MobTemplate template = new MobTemplate(100100, 10, 3, 1000000, 1000, 10, 0, 0, 0, 20, 0, 1, 0, 0, 0,
+                0, false, false, false, false, false, false, Map.of(), Map.of(), Map.of(), Set.of(), List.of(), 0);
+        mobs = new ArrayList<>();
+        for (int i = 0; i < MOB_COUNT; i++) {
+            final Mob mob = new Mob(template, null, i * 20, 0, 1);
+            field.getMobPool().addMob(mob);
+            mobs.add(mob);
+        }
+        // Create user
+        final CharacterData characterData = new CharacterData(1);
+        characterData.setItemSnCounter(new AtomicInteger(1));
+        characterData.setCharacterStat(createCharacterStat());
+        characterData.setInventoryManager(createInventoryManager());
+        characterData.setSkillManager(new SkillManager());
+        user = new User(new Client(null, new DiscardChannel()), characterData);
+        user.setField(field);
+        try (var locked = user.acquire()) {
+            locked.get().updatePassiveSkillData();
+            locked.get().validateStat();
+        }
+    }
+
+    @Benchmark
+    public Attack handleAttack() throws Throwable {
+        final Attack attack = new Attack(OutHeader.UserMeleeAttack);
+        attack.mask = (byte) (DAMAGE_PER_MOB | (MOB_COUNT << 4));
+        for (Mob mob : mobs) {
+            final AttackInfo ai = new AttackInfo();
+            ai.mobId = mob.getId();
+            attack.getAttackInfo().add(ai);
+        }
+        WriteBatch.begin();
+        try (var locked = user.acquire()) {
+            handleAttack.invoke(locked, attack);
+        } finally {
+            WriteBatch.end();
+        }
+        return attack;
+    }
+
+    private static CharacterStat createCharacterStat() {
+        final CharacterStat cs = new CharacterStat();
+        cs.setId(1);
+        cs.setName("Benchmark");
+        cs.setLevel((short) 120);
+        cs.setJob((short) 412);
+        cs.setBaseStr((short) 4);
+        cs.setBaseDex((short) 60);
+        cs.setBaseInt((short) 4);
+        cs.setBaseLuk((short) 500);
+        cs.setHp(5000);
+        cs.setMaxHp(5000);
+        cs.setMp(5000);
+        cs.setMaxMp(5000);
+        cs.setSp(ExtendSp.from(Map.of()));
+        return cs;
+    }
+
+    private static InventoryManager createInventoryManager() {
+        final InventoryManager im = new InventoryManager();
+        im.setEquipped(new Inventory(Short.MAX_VALUE));
+        im.setEquipInventory(new Inventory(CONSUME_ITEM_COUNT));
+        im.setConsumeInventory(new Inventory(CONSUME_ITEM_COUNT));
+        im.setInstallInventory(new Inventory(CONSUME_ITEM_COUNT));
+        im.setEtcInventory(new Inventory(CONSUME_ITEM_COUNT));
+        im.setCashInventory(new Inventory(CONSUME_ITEM_COUNT));
+        im.setExtSlotExpire(Instant.now());
+        // Equip claw
+        final Item weapon = new Item(ItemType.EQUIP);
+        weapon.setItemId(1472000);
+        weapon.setQuantity((short) 1);
+        weapon.setEquipData(new EquipData());
+        im.getEquipped().putItem(BodyPart.WEAPON.getValue(), weapon);
+        // Fill consume inventory with potions, followed by throwing stars
+        for (int i = 1; i <= CONSUME_ITEM_COUNT; i++) {
+            final Item item = new Item(ItemType.BUNDLE);
+            item.setItemId(i < CONSUME_ITEM_COUNT ? 2000000 + i : 2070000);
+            item.setQuantity((short) 100);
+            im.getConsumeInventory().putItem(i, item);
+        }
+        return im;
+    }
+
+    private static final class DiscardChannel extends EmbeddedChannel implements SocketChannel {
+        private SocketChannelConfig config;
+
+        private DiscardChannel() {
+            super(new ChannelOutboundHandlerAdapter() {
+                @Override
+                public void write(ChannelHandlerContext ctx, Object msg, ChannelPromise promise) {
+                }
+
+                @Override
+                public void flush(ChannelHandlerContext ctx) {
+                }
+            });
+        }
+
+        @Override
+        public ServerSocketChannel parent() {
+            return null;
+        }
+
+        @Override
+        public SocketChannelConfig config() {
+            if (config == null) {
+                config = new DefaultSocketChannelConfig(this, new Socket());
+            }
+            return config;
+        }
+
+        @Override
+        public InetSocketAddress localAddress() {
+            return null;
+        }
+
+        @Override
+        public InetSocketAddress remoteAddress() {
+            return null;
+        }
+
+        @Override
+        public boolean isInputShutdown() {
+            return false;
+        }
+
+        @Override
+        public ChannelFuture shutdownInput() {
+            return newSucceededFuture();
+        }
+
+        @Override
+        public ChannelFuture shutdownInput(ChannelPromise promise) {
+            return promise.setSuccess();
+        }
+
+        @Override
+        public boolean isOutputShutdown() {
+            return false;
+        }
+
+        @Override
+        public ChannelFuture shutdownOutput() {
+            return newSucceededFuture();
+        }
+
+        @Override
+        public ChannelFuture shutdownOutput(ChannelPromise promise) {
+            return promise.setSuccess();
+        }
+
+        @Override
+        public boolean isShutdown() {
+            return false;
+        }
+
+        @Override
+        public ChannelFuture shutdown() {
+            return newSucceededFuture();
+        }
+
+        @Override
+        public ChannelFuture shutdown(ChannelPromise promise) {
+            return promise.setSuccess();
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(AttackHandlerBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build()
+        ).run();
+    }
+}
@@ -0,0 +1,50 @@
+package kinoko.provider;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+public final class ProviderLoaderTest {
+    @Test
+    public void testDependencies() {
+        final List<String> loaded = new CopyOnWriteArrayList<>();
+        final Map<String, Long> timings = new ProviderLoader()
+                .add("A", () -> sleepAndAdd(loaded, "A", 100))
+                .add("B", () -> sleepAndAdd(loaded, "B", 0))
+                .add("C", () -> sleepAndAdd(loaded, "C", 0), "A")
+                .add("D", () -> sleepAndAdd(loaded, "D", 0), "B", "C")
+                .load(4);
+        Assertions.assertEquals(List.of("A", "B", "C", "D"), List.copyOf(timings.keySet()));
+        Assertions.assertEquals(4, loaded.size());
+        Assertions.assertTrue(loaded.indexOf("B") < loaded.indexOf("A"));
+        Assertions.assertTrue(loaded.indexOf("A") < loaded.indexOf("C"));
+        Assertions.assertTrue(loaded.indexOf("C") < loaded.indexOf("D"));
+    }
+
+    @Test
+    public void testFailure() {
+        final AtomicBoolean dependentLoaded = new AtomicBoolean(false);
+        final ProviderLoader loader = new ProviderLoader()
+                .add("A", () -> {
+                    throw new ProviderError("Failed to load A");
+                })
+                .add("B", () -> dependentLoaded.set(true), "A");
+        Assertions.assertThrows(ProviderError.class, () -> loader.load(2));
+        Assertions.assertFalse(dependentLoaded.get());
+        Assertions.assertThrows(IllegalArgumentException.class, () -> loader.add("C", () -> {
+        }, "D"));
+    }
+
+    private static void sleepAndAdd(List<String> loaded, String name, long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            throw new RuntimeException(e);
+        }
+        loaded.add(name);
+    }
+}
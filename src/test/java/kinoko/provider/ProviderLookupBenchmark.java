@@ -0,0 +1,152 @@
+package kinoko.provider;
+
+import kinoko.provider.item.ItemInfo;
+import kinoko.provider.skill.SkillInfo;
+import kinoko.util.IntMap;
+import kinoko.util.Rect;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.lang.reflect.Field;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the provider registry lookups, with {@link HashMap} keyed by boxed integers as previously used by the
+ * providers against {@link IntMap}, and skill level data stored as {@code List<Integer>} against {@code int[]}. Each
+ * operation performs 1000 lookups with item IDs above the {@link Integer} cache range, as in
+ * {@link ItemProvider#getItemInfo}. The provider getters are compared as well, {@link ItemProvider#getItemInfo} and
+ * {@link SkillProvider#getSkillInfoById} wrap the result in an {@link Optional} while the nullable variants used by the
+ * stat calculations do not, the providers are populated with placeholder entries through reflection. Run with the GC
+ * profiler to compare the allocation rate per operation, the boxed and Optional variants allocate per lookup unless
+ * escape analysis removes it.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ProviderLookupBenchmark {
+    private static final int ENTRY_COUNT = 50000;
+    private static final int LOOKUP_COUNT = 1000;
+    private static final int MAX_LEVEL = 30;
+
+    private final int[] lookupKeys = new int[LOOKUP_COUNT];
+    private final int[] lookupLevels = new int[LOOKUP_COUNT];
+    private Map<Integer, Object> hashMap;
+    private IntMap<Object> intMap;
+    private List<Integer> levelList;
+    private int[] levelArray;
+
+    @Setup
+    public void setup() throws ReflectiveOperationException {
+        final Random random = new Random(0);
+        final int[] keys = new int[ENTRY_COUNT];
+        hashMap = new HashMap<>();
+        final IntMap.Builder<Object> builder = IntMap.builder();
+        final IntMap.Builder<ItemInfo> itemInfoBuilder = IntMap.builder();
+        final IntMap.Builder<SkillInfo> skillInfoBuilder = IntMap.builder();
+        final List<Rect> rects = Collections.nCopies(MAX_LEVEL + 1, null);
+        for (int i = 0; i < ENTRY_COUNT; i++) {
+            keys[i] = 1000000 + random.nextInt(5000000);
+            final Object value = new Object();
+            hashMap.put(keys[i], value);
+            builder.put(keys[i], value);
+            itemInfoBuilder.put(keys[i], new ItemInfo(keys[i], Map.of(), Map.of()));
+            skillInfoBuilder.put(keys[i], new SkillInfo(keys[i], MAX_LEVEL, false, false, false, List.of(), List.of(), null, Map.of(), rects, null, Map.of()));
+        }
+        intMap = builder.build();
+        setProviderField(ItemProvider.class, "itemInfos", itemInfoBuilder.build());
+        setProviderField(SkillProvider.class, "skillInfos", skillInfoBuilder.build());
+        for (int i = 0; i < LOOKUP_COUNT; i++) {
+            lookupKeys[i] = keys[random.nextInt(ENTRY_COUNT)];
+            lookupLevels[i] = random.nextInt(MAX_LEVEL + 1);
+        }
+        final List<Integer> levelData = new ArrayList<>();
+        levelArray = new int[MAX_LEVEL + 1];
+        for (int slv = 0; slv <= MAX_LEVEL; slv++) {
+            levelData.add(1000 + slv * 50);
+            levelArray[slv] = 1000 + slv * 50;
+        }
+        levelList = Collections.unmodifiableList(levelData);
+    }
+
+    @Benchmark
+    public void hashMapLookup(Blackhole blackhole) {
+        for (int key : lookupKeys) {
+            blackhole.consume(hashMap.get(key));
+        }
+    }
+
+    @Benchmark
+    public void intMapLookup(Blackhole blackhole) {
+        for (int key : lookupKeys) {
+            blackhole.consume(intMap.get(key));
+        }
+    }
+
+    @Benchmark
+    public void itemInfoOptional(Blackhole blackhole) {
+        for (int key : lookupKeys) {
+            blackhole.consume(ItemProvider.getItemInfo(key).orElse(null));
+        }
+    }
+
+    @Benchmark
+    public void itemInfoOrNull(Blackhole blackhole) {
+        for (int key : lookupKeys) {
+            blackhole.consume(ItemProvider.getItemInfoOrNull(key));
+        }
+    }
+
+    @Benchmark
+    public void skillInfoOptional(Blackhole blackhole) {
+        for (int key : lookupKeys) {
+            blackhole.consume(SkillProvider.getSkillInfoById(key).orElse(null));
+        }
+    }
+
+    @Benchmark
+    public void skillInfoOrNull(Blackhole blackhole) {
+        for (int key : lookupKeys) {
+            blackhole.consume(SkillProvider.getSkillInfoOrNull(key));
+        }
+    }
+
+    @Benchmark
+    public int levelListLookup() {
+        int sum = 0;
+        for (int slv : lookupLevels) {
+            sum += levelList.get(slv);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public int levelArrayLookup() {
+        int sum = 0;
+        for (int slv : lookupLevels) {
+            sum += levelArray[slv];
+        }
+        return sum;
+    }
+
+    private static void setProviderField(Class<?> providerClass, String fieldName, Object value) throws ReflectiveOperationException {
+        final Field field = providerClass.getDeclaredField(fieldName);
+        field.setAccessible(true);
+        field.set(null, value);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(ProviderLookupBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build()
+        ).run();
+    }
+}
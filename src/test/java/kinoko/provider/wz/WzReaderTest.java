@@ -12,12 +12,23 @@ public final class WzReaderTest {
     private void readWzFile(String fileName, byte[] iv, int version) {
         File file = Path.of("src", "test", "resources", "wz", fileName).toFile();
         try (WzReader reader = WzReader.build(file, new WzReaderConfig(iv, version))) {
-            Assertions.assertDoesNotThrow(() -> reader.readPackage());
+            final WzPackage wzPackage = Assertions.assertDoesNotThrow(() -> reader.readPackage());
+            // Images are parsed lazily
+            Assertions.assertDoesNotThrow(() -> readImages(wzPackage.getDirectory()));
         } catch (IOException e) {
             throw new RuntimeException(e);
         }
     }
 
+    private void readImages(WzDirectory directory) {
+        for (WzDirectory childDirectory : directory.getDirectories().values()) {
+            readImages(childDirectory);
+        }
+        for (WzImage image : directory.getImages().values()) {
+            Assertions.assertNotNull(image.getProperty());
+        }
+    }
+
     @Test
     public void testTamingMob() {
         readWzFile("TamingMob_GMS_75.wz", WzConstants.WZ_GMS_IV, 75);
@@ -0,0 +1,109 @@
+package kinoko.provider.wz;
+
+import kinoko.provider.wz.property.*;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+
+public final class WzSnapshotTest {
+    @TempDir
+    private Path tempDirectory;
+
+    @Test
+    public void testSnapshot() throws IOException {
+        final Path wzPath = tempDirectory.resolve("TamingMob.wz");
+        final Path snapshotPath = tempDirectory.resolve("TamingMob.wz.snapshot");
+        Files.copy(Path.of("src", "test", "resources", "wz", "TamingMob_GMS_95.wz"), wzPath);
+        final WzReaderConfig config = new WzReaderConfig(WzConstants.WZ_GMS_IV, 95);
+        final WzPackage expected;
+        try (final WzReader reader = WzReader.build(wzPath, config)) {
+            expected = reader.readPackage();
+        }
+
+        // Parse WZ file and write snapshot
+        assertPackageEquals(expected, WzSnapshot.readPackage(wzPath, snapshotPath, config));
+        Assertions.assertTrue(Files.exists(snapshotPath));
+        final FileTime snapshotTime = Files.getLastModifiedTime(snapshotPath);
+
+        // Read snapshot
+        assertPackageEquals(expected, WzSnapshot.readPackage(wzPath, snapshotPath, config));
+        Assertions.assertEquals(snapshotTime, Files.getLastModifiedTime(snapshotPath));
+
+        // Touched WZ file keeps snapshot, the checksum is compared once and the new modification time is recorded
+        Files.setLastModifiedTime(wzPath, FileTime.from(Instant.now().plusSeconds(60)));
+        final long snapshotSize = Files.size(snapshotPath);
+        assertPackageEquals(expected, WzSnapshot.readPackage(wzPath, snapshotPath, config));
+        Assertions.assertEquals(snapshotSize, Files.size(snapshotPath));
+        Files.setLastModifiedTime(snapshotPath, FileTime.from(Instant.EPOCH));
+        assertPackageEquals(expected, WzSnapshot.readPackage(wzPath, snapshotPath, config));
+        Assertions.assertEquals(FileTime.from(Instant.EPOCH), Files.getLastModifiedTime(snapshotPath));
+
+        // Modified WZ file invalidates snapshot
+        Files.write(wzPath, new byte[]{ 0 }, StandardOpenOption.APPEND);
+        assertPackageEquals(expected, WzSnapshot.readPackage(wzPath, snapshotPath, config));
+        Assertions.assertNotEquals(FileTime.from(Instant.EPOCH), Files.getLastModifiedTime(snapshotPath));
+    }
+
+    private static void assertPackageEquals(WzPackage expected, WzPackage actual) {
+        Assertions.assertEquals(expected.getStart(), actual.getStart());
+        Assertions.assertEquals(expected.getHash(), actual.getHash());
+        assertDirectoryEquals(expected.getDirectory(), actual.getDirectory());
+    }
+
+    private static void assertDirectoryEquals(WzDirectory expected, WzDirectory actual) {
+        Assertions.assertEquals(expected.getDirectories().keySet(), actual.getDirectories().keySet());
+        for (var entry : expected.getDirectories().entrySet()) {
+            assertDirectoryEquals(entry.getValue(), actual.getDirectories().get(entry.getKey()));
+        }
+        Assertions.assertEquals(expected.getImages().keySet(), actual.getImages().keySet());
+        for (var entry : expected.getImages().entrySet()) {
+            final WzImage actualImage = actual.getImages().get(entry.getKey());
+            Assertions.assertEquals(entry.getValue().getOffset(), actualImage.getOffset());
+            assertValueEquals(entry.getValue().getProperty(), actualImage.getProperty());
+        }
+    }
+
+    private static void assertValueEquals(Object expected, Object actual) {
+        if (!(expected instanceof WzProperty)) {
+            Assertions.assertEquals(expected, actual);
+            return;
+        }
+        Assertions.assertEquals(expected.getClass(), actual.getClass());
+        switch (expected) {
+            case WzListProperty listProperty -> {
+                final WzListProperty actualList = (WzListProperty) actual;
+                Assertions.assertEquals(listProperty.getItems().sequencedKeySet().stream().toList(), actualList.getItems().sequencedKeySet().stream().toList());
+                for (var entry : listProperty.getItems().entrySet()) {
+                    assertValueEquals(entry.getValue(), actualList.get(entry.getKey()));
+                }
+            }
+            case WzCanvasProperty canvasProperty -> {
+                final WzCanvasProperty actualCanvas = (WzCanvasProperty) actual;
+                Assertions.assertEquals(canvasProperty.getWidth(), actualCanvas.getWidth());
+                Assertions.assertEquals(canvasProperty.getHeight(), actualCanvas.getHeight());
+                assertValueEquals(canvasProperty.getProperties(), actualCanvas.getProperties());
+            }
+            case WzVectorProperty vectorProperty -> {
+                Assertions.assertEquals(vectorProperty.getX(), ((WzVectorProperty) actual).getX());
+                Assertions.assertEquals(vectorProperty.getY(), ((WzVectorProperty) actual).getY());
+            }
+            case WzConvexProperty convexProperty -> {
+                final WzConvexProperty actualConvex = (WzConvexProperty) actual;
+                Assertions.assertEquals(convexProperty.getProperties().size(), actualConvex.getProperties().size());
+                for (int i = 0; i < convexProperty.getProperties().size(); i++) {
+                    assertValueEquals(convexProperty.getProperties().get(i), actualConvex.getProperties().get(i));
+                }
+            }
+            case WzUolProperty uolProperty -> Assertions.assertEquals(uolProperty.getUol(), ((WzUolProperty) actual).getUol());
+            default -> {
+            }
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package kinoko.server.field;
+
+import kinoko.provider.map.FieldType;
+import kinoko.provider.map.Foothold;
+import kinoko.provider.map.MapInfo;
+import kinoko.server.node.ServerExecutor;
+import kinoko.world.GameConstants;
+import kinoko.world.field.Field;
+import kinoko.world.field.FieldObject;
+import kinoko.world.field.FieldObjectImpl;
+import kinoko.world.field.drop.Drop;
+import kinoko.world.field.drop.DropEnterType;
+import kinoko.world.field.drop.DropOwnType;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Set;
+
+public final class ChannelFieldStorageTest {
+    @Test
+    public void testIsUnloadable() {
+        final ChannelFieldStorage fieldStorage = new ChannelFieldStorage();
+        try {
+            final Field field = createField(fieldStorage, 100000000);
+            final Instant idleSince = Instant.now().plus(1, ChronoUnit.SECONDS);
+            Assertions.assertTrue(field.isUnloadable(idleSince));
+            Assertions.assertFalse(field.isUnloadable(Instant.now().minus(1, ChronoUnit.HOURS)));
+            // Drops are not recreated from the map info
+            final Drop drop = createDrop();
+            field.getDropPool().addDrop(drop, DropEnterType.CREATE, 0, 0, 0);
+            Assertions.assertFalse(field.isUnloadable(idleSince));
+            field.getDropPool().expireDrops(drop.getExpireTime().plus(1, ChronoUnit.SECONDS));
+            Assertions.assertTrue(field.isUnloadable(idleSince));
+            // Disabled mob spawns are not recreated from the map info
+            field.setMobSpawn(false);
+            Assertions.assertFalse(field.isUnloadable(idleSince));
+        } finally {
+            fieldStorage.clear();
+        }
+    }
+
+    @Test
+    public void testUnloadFields() {
+        final ChannelFieldStorage fieldStorage = new ChannelFieldStorage();
+        try {
+            final Field idleField = createField(fieldStorage, 100000000);
+            final Field dropField = createField(fieldStorage, 100000001);
+            fieldStorage.addField(idleField);
+            fieldStorage.addField(dropField);
+            dropField.getDropPool().addDrop(createDrop(), DropEnterType.CREATE, 0, 0, 0);
+            Assertions.assertEquals(2, fieldStorage.getFieldCount());
+            // Recently active fields are kept
+            Assertions.assertEquals(0, fieldStorage.unloadFields(Instant.now().minus(1, ChronoUnit.HOURS)));
+            Assertions.assertEquals(2, fieldStorage.getFieldCount());
+            // Idle fields are unloaded and their mailbox is closed, fields with drops are kept
+            Assertions.assertEquals(1, fieldStorage.unloadFields(Instant.now().plus(1, ChronoUnit.SECONDS)));
+            Assertions.assertEquals(1, fieldStorage.getFieldCount());
+            Assertions.assertFalse(ServerExecutor.submit(idleField, () -> {
+            }));
+            Assertions.assertTrue(ServerExecutor.submit(dropField, () -> {
+            }));
+        } finally {
+            fieldStorage.clear();
+        }
+    }
+
+    private static Drop createDrop() {
+        final FieldObject source = new FieldObjectImpl() {
+        };
+        return Drop.money(DropOwnType.NOOWN, source, 100, 0);
+    }
+
+    private static Field createField(FieldStorage fieldStorage, int mapId) {
+        final Foothold foothold = new Foothold(1, 1, 1, -500, 0, 500, 0, 0, 0, 0, 0, 0, 0);
+        final MapInfo mapInfo = new MapInfo(mapId, false, false, false, false, false, 0, GameConstants.UNDEFINED_FIELD_ID, GameConstants.UNDEFINED_FIELD_ID, Set.of(), FieldType.DEFAULT, 1.0f, "", "", List.of(), List.of(foothold), List.of(), List.of(), List.of(), List.of());
+        return new Field(fieldStorage, mapInfo);
+    }
+}
@@ -0,0 +1,143 @@
+package kinoko.server.netty;
+
+import kinoko.packet.CentralPacket;
+import kinoko.server.guild.GuildBoardRequest;
+import kinoko.server.guild.GuildRequest;
+import kinoko.server.header.CentralHeader;
+import kinoko.server.messenger.MessengerRequest;
+import kinoko.server.node.KeyedExecutor;
+import kinoko.server.packet.InPacket;
+import kinoko.server.packet.NioBufferInPacket;
+import kinoko.server.packet.OutPacket;
+import kinoko.server.party.PartyRequest;
+import kinoko.server.user.RemoteUser;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+public final class CentralServerHandlerTest {
+    @Test
+    public void testCharacterId() {
+        final RemoteUser remoteUser = createRemoteUser(1000, 1);
+        Assertions.assertEquals(1, getCharacterId(CentralPacket.userConnect(remoteUser)));
+        Assertions.assertEquals(1, getCharacterId(CentralPacket.userUpdate(remoteUser)));
+        Assertions.assertEquals(1, getCharacterId(CentralPacket.userDisconnect(remoteUser)));
+        Assertions.assertEquals(1, getCharacterId(CentralPacket.userPacketReceive(1, OutPacket.of())));
+        Assertions.assertEquals(1, getCharacterId(CentralPacket.worldSpeakerRequest(1, false, OutPacket.of())));
+        Assertions.assertEquals(1, getCharacterId(CentralPacket.partyRequest(1, PartyRequest.createNewParty())));
+    }
+
+    @Test
+    public void testOrderPerCharacter() throws InterruptedException {
+        final KeyedExecutor executor = new KeyedExecutor("CentralServerHandlerTest", 4, 8, 10000);
+        final int characterCount = 16;
+        final int updateCount = 100;
+        final List<List<CentralHeader>> results = new ArrayList<>();
+        final List<OutPacket> outPackets = new ArrayList<>();
+        for (int characterId = 0; characterId < characterCount; characterId++) {
+            results.add(new ArrayList<>());
+            final RemoteUser remoteUser = createRemoteUser(1000 + characterId, characterId);
+            outPackets.add(CentralPacket.userConnect(remoteUser));
+            for (int i = 0; i < updateCount; i++) {
+                outPackets.add(CentralPacket.userUpdate(remoteUser));
+            }
+            outPackets.add(CentralPacket.partyRequest(characterId, PartyRequest.withdrawParty()));
+            outPackets.add(CentralPacket.userDisconnect(remoteUser));
+        }
+        final CountDownLatch latch = new CountDownLatch(outPackets.size());
+        for (OutPacket outPacket : outPackets) {
+            final InPacket inPacket = new NioBufferInPacket(outPacket.getData());
+            final CentralHeader header = CentralHeader.getByValue(inPacket.decodeShort());
+            final int characterId = CentralServerHandler.getCharacterId(header, inPacket);
+            executor.submit(characterId, () -> {
+                results.get(characterId).add(header);
+                latch.countDown();
+            });
+        }
+        Assertions.assertTrue(latch.await(10, TimeUnit.SECONDS));
+        for (List<CentralHeader> result : results) {
+            Assertions.assertEquals(updateCount + 3, result.size());
+            Assertions.assertEquals(CentralHeader.UserConnect, result.get(0));
+            for (int i = 1; i <= updateCount; i++) {
+                Assertions.assertEquals(CentralHeader.UserUpdate, result.get(i));
+            }
+            Assertions.assertEquals(CentralHeader.PartyRequest, result.get(updateCount + 1));
+            Assertions.assertEquals(CentralHeader.UserDisconnect, result.get(updateCount + 2));
+        }
+        executor.shutdown();
+    }
+
+    @Test
+    public void testGroupId() {
+        // Characters 1 and 2 are in party 10 and guild 20, character 3 is in no group
+        final Map<Integer, RemoteUser> users = Map.of(
+                1, createRemoteUser(1001, 1, 0, 10, 20),
+                2, createRemoteUser(1002, 2, 0, 10, 20),
+                3, createRemoteUser(1003, 3, 0, 0, 0)
+        );
+        Assertions.assertEquals(10, getGroupId(CentralPacket.partyRequest(1, PartyRequest.withdrawParty()), users));
+        Assertions.assertEquals(10, getGroupId(CentralPacket.partyRequest(2, PartyRequest.kickParty(1)), users));
+        Assertions.assertEquals(10, getGroupId(CentralPacket.partyRequest(3, PartyRequest.joinParty(1)), users));
+        Assertions.assertEquals(30, getGroupId(CentralPacket.partyRequest(3, PartyRequest.loadParty(30)), users));
+        Assertions.assertEquals(0, getGroupId(CentralPacket.partyRequest(3, PartyRequest.createNewParty()), users));
+        Assertions.assertEquals(20, getGroupId(CentralPacket.guildRequest(1, GuildRequest.setNotice("notice")), users));
+        Assertions.assertEquals(20, getGroupId(CentralPacket.guildRequest(3, GuildRequest.joinGuild(2)), users));
+        Assertions.assertEquals(40, getGroupId(CentralPacket.guildRequest(3, GuildRequest.createNewGuild(40, "guild")), users));
+        Assertions.assertEquals(20, getGroupId(CentralPacket.boardRequest(2, GuildBoardRequest.loadList(0)), users));
+        Assertions.assertEquals(0, getGroupId(CentralPacket.messengerRequest(1, MessengerRequest.leave()), users));
+        // Unknown requester
+        Assertions.assertEquals(0, getGroupId(CentralPacket.partyRequest(4, PartyRequest.withdrawParty()), users));
+    }
+
+    @Test
+    public void testOrderPerGroup() throws InterruptedException {
+        final KeyedExecutor executor = new KeyedExecutor("CentralServerHandlerTest", 4, 8, 10000);
+        final Map<Integer, RemoteUser> users = Map.of(
+                1, createRemoteUser(1001, 1, 0, 10, 0),
+                2, createRemoteUser(1002, 2, 0, 10, 0)
+        );
+        final int requestCount = 1000;
+        final List<Integer> result = new ArrayList<>();
+        final CountDownLatch latch = new CountDownLatch(requestCount);
+        for (int i = 0; i < requestCount; i++) {
+            // Alternate between the members of the party
+            final OutPacket outPacket = CentralPacket.partyRequest(1 + (i % 2), PartyRequest.kickParty(i));
+            final int value = i;
+            executor.submit(getGroupId(outPacket, users), () -> {
+                result.add(value);
+                latch.countDown();
+            });
+        }
+        Assertions.assertTrue(latch.await(10, TimeUnit.SECONDS));
+        for (int i = 0; i < requestCount; i++) {
+            Assertions.assertEquals(i, result.get(i));
+        }
+        executor.shutdown();
+    }
+
+    private static int getGroupId(OutPacket outPacket, Map<Integer, RemoteUser> users) {
+        final InPacket inPacket = new NioBufferInPacket(outPacket.getData());
+        final CentralHeader header = CentralHeader.getByValue(inPacket.decodeShort());
+        return CentralServerHandler.getGroupId(header, inPacket, (characterId) -> Optional.ofNullable(users.get(characterId)));
+    }
+
+    private static int getCharacterId(OutPacket outPacket) {
+        final InPacket inPacket = new NioBufferInPacket(outPacket.getData());
+        final CentralHeader header = CentralHeader.getByValue(inPacket.decodeShort());
+        return CentralServerHandler.getCharacterId(header, inPacket);
+    }
+
+    private static RemoteUser createRemoteUser(int accountId, int characterId) {
+        return createRemoteUser(accountId, characterId, 0, 0, 0);
+    }
+
+    private static RemoteUser createRemoteUser(int accountId, int characterId, int messengerId, int partyId, int guildId) {
+        return new RemoteUser(accountId, characterId, "test", 1, 0, 0, 100000000, messengerId, partyId, guildId, null);
+    }
+}
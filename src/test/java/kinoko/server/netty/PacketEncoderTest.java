@@ -0,0 +1,44 @@
+package kinoko.server.netty;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.channel.embedded.EmbeddedChannel;
+import kinoko.server.header.OutHeader;
+import kinoko.server.node.Client;
+import kinoko.server.packet.BroadcastOutPacket;
+import kinoko.server.packet.OutPacket;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public final class PacketEncoderTest {
+    private static final byte[] SEND_IV = new byte[]{ 0x12, 0x34, 0x56, 0x78 };
+
+    @Test
+    public void testBroadcastPacket() {
+        final OutPacket outPacket = OutPacket.of(OutHeader.UserChat);
+        outPacket.encodeInt(1);
+        outPacket.encodeString("Broadcast packet");
+        final BroadcastOutPacket broadcastPacket = BroadcastOutPacket.from(outPacket);
+        Assertions.assertEquals(outPacket.getSize(), broadcastPacket.getSize());
+        Assertions.assertArrayEquals(outPacket.getData(), broadcastPacket.getData());
+        // Shanda stage applied on creation, the result matches the per-packet path
+        final byte[] expected = encode(outPacket);
+        Assertions.assertArrayEquals(expected, encode(broadcastPacket));
+        Assertions.assertArrayEquals(expected, encode(broadcastPacket));
+    }
+
+    private static byte[] encode(Object packet) {
+        final EmbeddedChannel channel = new EmbeddedChannel(new PacketEncoder());
+        final Client client = new Client(null, null);
+        client.setSendIv(SEND_IV.clone());
+        channel.attr(NettyClient.CLIENT_KEY).set(client);
+        Assertions.assertTrue(channel.writeOutbound(packet));
+        final ByteBuf out = channel.readOutbound();
+        try {
+            return ByteBufUtil.getBytes(out);
+        } finally {
+            out.release();
+            channel.finishAndReleaseAll();
+        }
+    }
+}
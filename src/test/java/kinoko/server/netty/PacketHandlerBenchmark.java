@@ -0,0 +1,106 @@
+package kinoko.server.netty;
+
+import kinoko.handler.Handler;
+import kinoko.handler.user.AttackHandler;
+import kinoko.handler.user.UserHandler;
+import kinoko.server.header.InHeader;
+import kinoko.server.node.Client;
+import kinoko.server.packet.InPacket;
+import kinoko.server.packet.NioBufferInPacket;
+import kinoko.world.user.User;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.lang.reflect.Method;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the packet dispatch overhead of the previous reflective path ({@link EnumMap} lookup and
+ * {@link Method#invoke}) against the generated {@link PacketHandler.HandlerFunction} table, across every opcode handled
+ * by {@link UserHandler} and {@link AttackHandler}. Each {@link Handler} method is replaced by a no-op stub with the
+ * same signature, which is bound once per handler method by {@link PacketHandler#createHandlerFunction} as the real
+ * handlers are. Every binding generates its own lambda class, so the dispatch call sites see as many receiver types as
+ * with the real handlers while only the dispatch cost is measured.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PacketHandlerBenchmark {
+    private static int handleCount;
+
+    private InHeader[] headers;
+    private Map<InHeader, Method> reflectiveMap;
+    private PacketHandler.HandlerFunction[] handlerTable;
+    private Client client;
+    private InPacket inPacket;
+
+    @Setup
+    public void setup() throws Exception {
+        final List<InHeader> headerList = new ArrayList<>();
+        reflectiveMap = new EnumMap<>(InHeader.class);
+        handlerTable = new PacketHandler.HandlerFunction[InHeader.NO.getValue() + 1];
+        for (Class<?> clazz : List.of(UserHandler.class, AttackHandler.class)) {
+            for (Method method : clazz.getDeclaredMethods()) {
+                if (!method.isAnnotationPresent(Handler.class)) {
+                    continue;
+                }
+                // Bind the stub separately for each handler method, every binding generates a distinct lambda class
+                final Method stubMethod = PacketHandlerBenchmark.class.getMethod("handleStub", method.getParameterTypes());
+                final PacketHandler.HandlerFunction stubFunction = PacketHandler.createHandlerFunction(stubMethod);
+                for (InHeader header : method.getAnnotation(Handler.class).value()) {
+                    headerList.add(header);
+                    reflectiveMap.put(header, stubMethod);
+                    handlerTable[header.getValue()] = stubFunction;
+                }
+            }
+        }
+        // Dispatch in a fixed random order, so that the call sites do not see a repeating pattern of handlers
+        Collections.shuffle(headerList, new Random(0));
+        headers = headerList.toArray(InHeader[]::new);
+        client = new Client(null, null);
+        inPacket = new NioBufferInPacket(new byte[0]);
+    }
+
+    @Benchmark
+    public int reflectiveDispatch() throws Exception {
+        for (InHeader header : headers) {
+            final Method handler = reflectiveMap.get(header);
+            if (handler.getParameterTypes()[0] == Client.class) {
+                handler.invoke(null, client, inPacket);
+            } else if (handler.getParameterTypes()[0] == User.class) {
+                handler.invoke(null, client.getUser(), inPacket);
+            }
+        }
+        return handleCount;
+    }
+
+    @Benchmark
+    public int tableDispatch() {
+        for (InHeader header : headers) {
+            handlerTable[header.getValue()].handle(client, inPacket);
+        }
+        return handleCount;
+    }
+
+    public static void handleStub(Client client, InPacket inPacket) {
+        handleCount++;
+    }
+
+    public static void handleStub(User user, InPacket inPacket) {
+        handleCount++;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(PacketHandlerBenchmark.class.getSimpleName())
+                .build()
+        ).run();
+    }
+
+}
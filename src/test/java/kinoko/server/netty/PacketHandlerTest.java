@@ -0,0 +1,19 @@
+package kinoko.server.netty;
+
+import kinoko.handler.user.AttackHandler;
+import kinoko.handler.user.UserHandler;
+import kinoko.server.header.InHeader;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public final class PacketHandlerTest {
+    @Test
+    public void testLoadHandlers() {
+        Assertions.assertDoesNotThrow(LoginPacketHandler::new);
+        Assertions.assertDoesNotThrow(ChannelPacketHandler::new);
+        final PacketHandler.HandlerFunction[] handlerTable = PacketHandler.loadHandlers(UserHandler.class, AttackHandler.class);
+        Assertions.assertNotNull(handlerTable[InHeader.UserMove.getValue()]);
+        Assertions.assertNotNull(handlerTable[InHeader.UserMeleeAttack.getValue()]);
+        Assertions.assertNull(handlerTable[InHeader.MobMove.getValue()]);
+    }
+}
@@ -0,0 +1,105 @@
+package kinoko.server.node;
+
+import io.netty.channel.embedded.EmbeddedChannel;
+import kinoko.server.ServerConfig;
+import kinoko.server.header.CentralHeader;
+import kinoko.server.packet.OutPacket;
+import kinoko.server.user.RemoteUser;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+public final class CentralClientTest {
+    @Test
+    public void testBatchedFlush() {
+        final EmbeddedChannel channel = new EmbeddedChannel();
+        final CentralClient centralClient = new CentralClient(channel);
+        for (int i = 0; i < 3; i++) {
+            centralClient.write(OutPacket.of(CentralHeader.UserPacketRequest));
+        }
+        Assertions.assertNull(channel.readOutbound());
+        channel.runPendingTasks();
+        for (int i = 0; i < 3; i++) {
+            Assertions.assertNotNull(channel.readOutbound());
+        }
+        Assertions.assertEquals(3, centralClient.getPacketCount());
+        Assertions.assertEquals(1, centralClient.getFlushCount());
+    }
+
+    @Test
+    public void testCompleteRequest() {
+        final EmbeddedChannel channel = new EmbeddedChannel();
+        final CentralClient centralClient = new CentralClient(channel);
+        final int[] requestIdHolder = new int[1];
+        final CompletableFuture<Boolean> future = centralClient.submitRequest(CentralHeader.OnlineRequest, true, (requestId) -> {
+            requestIdHolder[0] = requestId;
+            return OutPacket.of(CentralHeader.OnlineRequest);
+        });
+        centralClient.completeRequest(requestIdHolder[0], false);
+        Assertions.assertFalse(future.join());
+        Assertions.assertEquals(1, centralClient.getRequestLatencies().get(CentralHeader.OnlineRequest).getCount());
+    }
+
+    @Test
+    public void testCoalescedUserUpdate() {
+        final EmbeddedChannel channel = new EmbeddedChannel();
+        final CentralClient centralClient = new CentralClient(channel);
+        for (int level = 1; level <= 3; level++) {
+            centralClient.writeUserUpdate(createRemoteUser(1, level));
+        }
+        channel.runPendingTasks();
+        Assertions.assertNull(channel.readOutbound());
+        Assertions.assertEquals(2, centralClient.getCoalescedCount());
+
+        // Update is sent once the window has passed
+        channel.advanceTimeBy(ServerConfig.CENTRAL_UPDATE_WINDOW, TimeUnit.MILLISECONDS);
+        channel.runScheduledPendingTasks();
+        channel.runPendingTasks();
+        Assertions.assertEquals(CentralHeader.UserUpdate, readHeader(channel));
+        Assertions.assertNull(channel.readOutbound());
+    }
+
+    @Test
+    public void testUserUpdateFlushedBeforeMessage() {
+        final EmbeddedChannel channel = new EmbeddedChannel();
+        final CentralClient centralClient = new CentralClient(channel);
+        centralClient.writeUserUpdate(createRemoteUser(1, 10));
+        centralClient.writeUserUpdate(createRemoteUser(2, 10));
+        centralClient.write(1, OutPacket.of(CentralHeader.UserPacketReceive));
+        channel.runPendingTasks();
+        Assertions.assertEquals(CentralHeader.UserUpdate, readHeader(channel));
+        Assertions.assertEquals(CentralHeader.UserPacketReceive, readHeader(channel));
+        // Update for the other character is still pending
+        Assertions.assertNull(channel.readOutbound());
+
+        // Flushed update is not sent again once the window has passed
+        channel.advanceTimeBy(ServerConfig.CENTRAL_UPDATE_WINDOW, TimeUnit.MILLISECONDS);
+        channel.runScheduledPendingTasks();
+        channel.runPendingTasks();
+        Assertions.assertEquals(CentralHeader.UserUpdate, readHeader(channel));
+        Assertions.assertNull(channel.readOutbound());
+    }
+
+    @Test
+    public void testRequestTimeout() {
+        final EmbeddedChannel channel = new EmbeddedChannel();
+        final CentralClient centralClient = new CentralClient(channel);
+        final CompletableFuture<Boolean> future = centralClient.submitRequest(CentralHeader.OnlineRequest, false, (requestId) -> OutPacket.of(CentralHeader.OnlineRequest));
+        centralClient.sweepRequests(System.nanoTime());
+        Assertions.assertFalse(future.isDone());
+        centralClient.sweepRequests(System.nanoTime() + TimeUnit.SECONDS.toNanos(ServerConfig.CENTRAL_REQUEST_TTL));
+        Assertions.assertFalse(future.join());
+        Assertions.assertEquals(1, centralClient.getRequestTimeouts(CentralHeader.OnlineRequest));
+    }
+
+    private static CentralHeader readHeader(EmbeddedChannel channel) {
+        final byte[] data = ((OutPacket) channel.readOutbound()).getData();
+        return CentralHeader.getByValue((data[0] & 0xFF) | (data[1] & 0xFF) << 8);
+    }
+
+    private static RemoteUser createRemoteUser(int characterId, int level) {
+        return new RemoteUser(characterId, characterId, "test", level, 0, 0, 100000000, 0, 0, 0, null);
+    }
+}
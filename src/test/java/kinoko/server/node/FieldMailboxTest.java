@@ -0,0 +1,77 @@
+package kinoko.server.node;
+
+import kinoko.server.ServerConfig;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public final class FieldMailboxTest {
+    @Test
+    public void testSequentialExecution() throws InterruptedException {
+        final int producerCount = 4;
+        final int taskCount = 2000; // within FIELD_MAILBOX_CAPACITY
+        final ExecutorService executor = Executors.newFixedThreadPool(4);
+        final FieldMailbox mailbox = new FieldMailbox("test", executor);
+        final AtomicInteger running = new AtomicInteger();
+        final AtomicInteger overlaps = new AtomicInteger();
+        final int[] counter = new int[1]; // not thread-safe on purpose
+        final CountDownLatch latch = new CountDownLatch(producerCount * taskCount);
+        for (int i = 0; i < producerCount; i++) {
+            new Thread(() -> {
+                for (int j = 0; j < taskCount; j++) {
+                    Assertions.assertTrue(mailbox.submit(() -> {
+                        if (running.incrementAndGet() != 1) {
+                            overlaps.incrementAndGet();
+                        }
+                        counter[0]++;
+                        running.decrementAndGet();
+                        latch.countDown();
+                    }));
+                }
+            }).start();
+        }
+        Assertions.assertTrue(latch.await(10, TimeUnit.SECONDS));
+        Assertions.assertEquals(0, overlaps.get());
+        Assertions.assertEquals(producerCount * taskCount, counter[0]);
+        executor.shutdown();
+    }
+
+    @Test
+    public void testRejectWhenFull() {
+        final List<Runnable> scheduled = new ArrayList<>();
+        final FieldMailbox mailbox = new FieldMailbox("test", scheduled::add); // drained manually
+        final AtomicInteger counter = new AtomicInteger();
+        for (int i = 0; i < ServerConfig.FIELD_MAILBOX_CAPACITY; i++) {
+            Assertions.assertTrue(mailbox.submit(counter::incrementAndGet));
+        }
+        Assertions.assertFalse(mailbox.submit(counter::incrementAndGet));
+        Assertions.assertEquals(ServerConfig.FIELD_MAILBOX_CAPACITY, mailbox.getQueueSize());
+        Assertions.assertEquals(1, scheduled.size());
+
+        // Draining the mailbox makes room for new tasks
+        scheduled.removeFirst().run();
+        Assertions.assertTrue(counter.get() > 0);
+        Assertions.assertTrue(mailbox.submit(counter::incrementAndGet));
+    }
+
+    @Test
+    public void testRejectWhenClosed() {
+        final FieldMailbox mailbox = new FieldMailbox("test", Runnable::run);
+        final AtomicInteger counter = new AtomicInteger();
+        Assertions.assertTrue(mailbox.submit(counter::incrementAndGet));
+        Assertions.assertEquals(1, counter.get());
+
+        mailbox.close();
+        Assertions.assertTrue(mailbox.isClosed());
+        Assertions.assertFalse(mailbox.submit(counter::incrementAndGet));
+        Assertions.assertEquals(1, counter.get());
+        Assertions.assertEquals(0, mailbox.getQueueSize());
+    }
+}
@@ -0,0 +1,64 @@
+package kinoko.server.node;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+public final class KeyedExecutorTest {
+    @Test
+    public void testOrderPerKey() throws InterruptedException {
+        final KeyedExecutor executor = new KeyedExecutor("KeyedExecutorTest", 4, 8, 10000);
+        final int keyCount = 16;
+        final int taskCount = 1000;
+        final List<List<Integer>> results = new ArrayList<>();
+        for (int i = 0; i < keyCount; i++) {
+            results.add(new ArrayList<>());
+        }
+        final CountDownLatch latch = new CountDownLatch(keyCount * taskCount);
+        for (int i = 0; i < taskCount; i++) {
+            for (int key = 0; key < keyCount; key++) {
+                final int value = i;
+                final List<Integer> result = results.get(key);
+                executor.submit(key, () -> {
+                    result.add(value);
+                    latch.countDown();
+                });
+            }
+        }
+        Assertions.assertTrue(latch.await(10, TimeUnit.SECONDS));
+        for (List<Integer> result : results) {
+            for (int i = 0; i < taskCount; i++) {
+                Assertions.assertEquals(i, result.get(i));
+            }
+        }
+        executor.shutdown();
+    }
+
+    @Test
+    public void testBoundedQueue() throws InterruptedException {
+        final KeyedExecutor executor = new KeyedExecutor("KeyedExecutorTest", 1, 1, 2);
+        final CountDownLatch blocked = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        executor.submit(0, () -> {
+            blocked.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        Assertions.assertTrue(blocked.await(1, TimeUnit.SECONDS));
+        for (int i = 0; i < 5; i++) {
+            final boolean submitted = executor.submit(0, () -> {
+            });
+            Assertions.assertEquals(i < 2, submitted);
+        }
+        Assertions.assertEquals(2, executor.getQueueSize());
+        release.countDown();
+        executor.shutdown();
+    }
+}
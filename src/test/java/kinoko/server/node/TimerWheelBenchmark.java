@@ -0,0 +1,71 @@
+package kinoko.server.node;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.*;
+
+/**
+ * Compares scheduling and cancelling periodic field ticks on a {@link ScheduledThreadPoolExecutor}, as previously used
+ * by {@link ServerExecutor}, against the {@link TimerWheel}. Each operation schedules and cancels 10000 tasks, which
+ * corresponds to a channel with every field loaded.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TimerWheelBenchmark {
+    private static final int TASK_COUNT = 10000;
+    private static final Runnable TASK = () -> {
+    };
+
+    private final ScheduledFuture<?>[] futures = new ScheduledFuture<?>[TASK_COUNT];
+    private ScheduledThreadPoolExecutor scheduler;
+    private TimerWheel timerWheel;
+
+    @Setup
+    public void setup() {
+        scheduler = new ScheduledThreadPoolExecutor(1);
+        timerWheel = new TimerWheel("benchmark", 10, TimeUnit.MILLISECONDS, 512);
+    }
+
+    @TearDown
+    public void tearDown() {
+        scheduler.shutdownNow();
+        timerWheel.shutdown();
+    }
+
+    @Benchmark
+    public ScheduledFuture<?>[] scheduler() {
+        for (int i = 0; i < TASK_COUNT; i++) {
+            futures[i] = scheduler.scheduleWithFixedDelay(TASK, 100 + i % 100, 100, TimeUnit.MILLISECONDS);
+        }
+        for (int i = 0; i < TASK_COUNT; i++) {
+            futures[i].cancel(false);
+        }
+        scheduler.purge();
+        return futures;
+    }
+
+    @Benchmark
+    public ScheduledFuture<?>[] timerWheel() {
+        for (int i = 0; i < TASK_COUNT; i++) {
+            futures[i] = timerWheel.scheduleWithFixedDelay(Runnable::run, TASK, 100 + i % 100, 100, TimeUnit.MILLISECONDS);
+        }
+        for (int i = 0; i < TASK_COUNT; i++) {
+            futures[i].cancel(false);
+        }
+        return futures;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(TimerWheelBenchmark.class.getSimpleName())
+                .build()
+        ).run();
+    }
+}
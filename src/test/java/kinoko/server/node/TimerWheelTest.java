@@ -0,0 +1,104 @@
+package kinoko.server.node;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public final class TimerWheelTest {
+    @Test
+    public void testSchedule() throws Exception {
+        final TimerWheel timerWheel = new TimerWheel("test", 1, TimeUnit.MILLISECONDS, 8);
+        final AtomicInteger counter = new AtomicInteger();
+        final long startTime = System.nanoTime();
+        // Delay spans multiple rounds of the wheel
+        final ScheduledFuture<?> future = timerWheel.schedule(Runnable::run, counter::incrementAndGet, 50, TimeUnit.MILLISECONDS);
+        future.get(1, TimeUnit.SECONDS);
+        Assertions.assertTrue(System.nanoTime() - startTime >= TimeUnit.MILLISECONDS.toNanos(50));
+        Assertions.assertEquals(1, counter.get());
+        timerWheel.shutdown();
+    }
+
+    @Test
+    public void testScheduleWithFixedDelay() throws InterruptedException {
+        final TimerWheel timerWheel = new TimerWheel("test", 1, TimeUnit.MILLISECONDS, 8);
+        final CountDownLatch latch = new CountDownLatch(5);
+        final ScheduledFuture<?> future = timerWheel.scheduleWithFixedDelay(Runnable::run, latch::countDown, 0, 5, TimeUnit.MILLISECONDS);
+        Assertions.assertTrue(latch.await(1, TimeUnit.SECONDS));
+        Assertions.assertTrue(future.cancel(false));
+        Assertions.assertTrue(future.isCancelled());
+        timerWheel.shutdown();
+    }
+
+    @Test
+    public void testCancel() throws InterruptedException {
+        final TimerWheel timerWheel = new TimerWheel("test", 1, TimeUnit.MILLISECONDS, 8);
+        final AtomicInteger counter = new AtomicInteger();
+        final ScheduledFuture<?> future = timerWheel.schedule(Runnable::run, counter::incrementAndGet, 20, TimeUnit.MILLISECONDS);
+        future.cancel(false);
+        Thread.sleep(50);
+        Assertions.assertEquals(0, counter.get());
+        timerWheel.shutdown();
+    }
+
+    @Test
+    public void testGetAfterCompletion() throws Exception {
+        final TimerWheel timerWheel = new TimerWheel("test", 1, TimeUnit.MILLISECONDS, 8);
+        final ExecutorService executor = Executors.newSingleThreadExecutor();
+        final CountDownLatch started = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        final AtomicInteger counter = new AtomicInteger();
+        final ScheduledFuture<?> future = timerWheel.schedule(executor, () -> {
+            started.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                throw new RuntimeException(e);
+            }
+            counter.incrementAndGet();
+        }, 0, TimeUnit.MILLISECONDS);
+        // The future is not done while the task is running
+        Assertions.assertTrue(started.await(1, TimeUnit.SECONDS));
+        Assertions.assertFalse(future.isDone());
+        Assertions.assertThrows(TimeoutException.class, () -> future.get(10, TimeUnit.MILLISECONDS));
+        release.countDown();
+        future.get(1, TimeUnit.SECONDS);
+        Assertions.assertTrue(future.isDone());
+        Assertions.assertEquals(1, counter.get());
+        executor.shutdown();
+        timerWheel.shutdown();
+    }
+
+    @Test
+    public void testRejectedExecution() {
+        final TimerWheel timerWheel = new TimerWheel("test", 1, TimeUnit.MILLISECONDS, 8);
+        final Executor executor = (runnable) -> {
+            throw new RejectedExecutionException("test");
+        };
+        final ScheduledFuture<?> future = timerWheel.schedule(executor, () -> {
+        }, 0, TimeUnit.MILLISECONDS);
+        // Rejected tasks release threads waiting on the result instead of blocking forever
+        Assertions.assertThrows(CancellationException.class, () -> future.get(1, TimeUnit.SECONDS));
+        Assertions.assertTrue(future.isCancelled());
+        timerWheel.shutdown();
+    }
+
+    @Test
+    public void testCancelAfterHandOff() throws Exception {
+        final TimerWheel timerWheel = new TimerWheel("test", 1, TimeUnit.MILLISECONDS, 8);
+        final BlockingQueue<Runnable> handedOff = new LinkedBlockingQueue<>();
+        final AtomicInteger counter = new AtomicInteger();
+        final ScheduledFuture<?> future = timerWheel.schedule(handedOff::add, counter::incrementAndGet, 0, TimeUnit.MILLISECONDS);
+        final Runnable task = handedOff.poll(1, TimeUnit.SECONDS);
+        Assertions.assertNotNull(task);
+        // Cancelled after the hand-off, the task is skipped when the executor runs it
+        Assertions.assertTrue(future.cancel(false));
+        task.run();
+        Assertions.assertEquals(0, counter.get());
+        Assertions.assertTrue(future.isCancelled());
+        Assertions.assertThrows(CancellationException.class, future::get);
+        Assertions.assertFalse(future.cancel(false));
+        timerWheel.shutdown();
+    }
+}
@@ -0,0 +1,42 @@
+package kinoko.server.rank;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+public final class LeaderboardTest {
+    @Test
+    public void testRank() {
+        final Random random = new Random(0);
+        final Leaderboard leaderboard = new Leaderboard();
+        final List<RankEntry> entries = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            final RankEntry entry = new RankEntry(i, i % 6, random.nextInt(100), random.nextBoolean() ? Long.MAX_VALUE : random.nextInt(10));
+            entries.add(entry);
+            leaderboard.add(entry);
+        }
+        // Remove and re-add entries with updated exp
+        for (int i = 0; i < 500; i++) {
+            final int index = random.nextInt(entries.size());
+            final RankEntry oldEntry = entries.get(index);
+            leaderboard.remove(oldEntry);
+            final RankEntry newEntry = new RankEntry(oldEntry.getCharacterId(), oldEntry.getJobCategory(), oldEntry.getCumulativeExp() + random.nextInt(50), oldEntry.getMaxLevelTime());
+            entries.set(index, newEntry);
+            leaderboard.add(newEntry);
+        }
+        leaderboard.remove(entries.remove(0));
+        Assertions.assertEquals(entries.size(), leaderboard.size());
+        Assertions.assertEquals(0, leaderboard.getRank(new RankEntry(0, 0, 0, 0)));
+
+        entries.sort(RankEntry.COMPARATOR);
+        for (int i = 0; i < entries.size(); i++) {
+            Assertions.assertEquals(i + 1, leaderboard.getRank(entries.get(i)));
+        }
+        final List<RankEntry> ordered = new ArrayList<>();
+        leaderboard.forEach(ordered::add);
+        Assertions.assertEquals(entries, ordered);
+    }
+}
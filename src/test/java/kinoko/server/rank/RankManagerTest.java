@@ -0,0 +1,39 @@
+package kinoko.server.rank;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public final class RankManagerTest {
+    private static final int JOB_CATEGORY = 900;
+
+    @Test
+    public void testPendingEntries() {
+        // Only the latest pending entry of a character is applied
+        RankManager.updateEntry(new RankEntry(900001, JOB_CATEGORY, 100, Long.MAX_VALUE));
+        RankManager.updateEntry(new RankEntry(900001, JOB_CATEGORY, 3_000_000_000_000L, Long.MAX_VALUE));
+        RankManager.updateEntry(new RankEntry(900002, JOB_CATEGORY, 2_000_000_000_000L, Long.MAX_VALUE));
+        assertRank(900001, 1, 1);
+        assertRank(900002, 2, 2);
+
+        RankManager.updateEntry(new RankEntry(900002, JOB_CATEGORY, 4_000_000_000_000L, Long.MAX_VALUE));
+        assertRank(900002, 1, 1);
+        assertRank(900001, 2, 2);
+
+        RankManager.removeCharacter(900002);
+        assertRank(900001, 1, 1);
+        Assertions.assertTrue(RankManager.getCharacterRank(900002).isEmpty());
+    }
+
+    @Test
+    public void testRemovePendingEntry() {
+        RankManager.updateEntry(new RankEntry(900003, JOB_CATEGORY + 1, 100, Long.MAX_VALUE));
+        RankManager.removeCharacter(900003);
+        Assertions.assertTrue(RankManager.getCharacterRank(900003).isEmpty());
+    }
+
+    private static void assertRank(int characterId, int worldRank, int jobRank) {
+        final CharacterRank characterRank = RankManager.getCharacterRank(characterId).orElseThrow();
+        Assertions.assertEquals(worldRank, characterRank.getWorldRank());
+        Assertions.assertEquals(jobRank, characterRank.getJobRank());
+    }
+}
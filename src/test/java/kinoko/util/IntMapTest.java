@@ -0,0 +1,41 @@
+package kinoko.util;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+public final class IntMapTest {
+    @Test
+    public void testIntMap() {
+        final Random random = new Random(0);
+        final Map<Integer, String> expected = new HashMap<>();
+        final IntMap.Builder<String> builder = IntMap.builder();
+        for (int i = 0; i < 10000; i++) {
+            final int key = i % 3 == 0 ? random.nextInt() : 1000000 + i * 16;
+            expected.put(key, String.valueOf(i));
+            builder.put(key, String.valueOf(i));
+        }
+        builder.put(0, "replaced");
+        builder.put(0, "zero");
+        expected.put(0, "zero");
+
+        final IntMap<String> map = builder.build();
+        Assertions.assertEquals(expected.size(), map.size());
+        Assertions.assertEquals(expected.size(), map.values().size());
+        for (var entry : expected.entrySet()) {
+            Assertions.assertEquals(entry.getValue(), map.get(entry.getKey()));
+        }
+        Assertions.assertNull(map.get(1000000 + 1));
+        Assertions.assertFalse(map.containsKey(-1000000));
+        Assertions.assertEquals("default", map.getOrDefault(1, "default"));
+
+        final IntMap<String> empty = IntMap.empty();
+        Assertions.assertEquals(0, empty.size());
+        Assertions.assertNull(empty.get(0));
+        Assertions.assertEquals(List.of("a"), IntMap.from(Map.of(5, "a")).values());
+    }
+}
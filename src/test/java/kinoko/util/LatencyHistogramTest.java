@@ -0,0 +1,23 @@
+package kinoko.util;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+public final class LatencyHistogramTest {
+    @Test
+    public void testPercentiles() {
+        final LatencyHistogram histogram = new LatencyHistogram();
+        Assertions.assertEquals(0, histogram.getPercentileMillis(50));
+        for (int i = 0; i < 99; i++) {
+            histogram.record(TimeUnit.MICROSECONDS.toNanos(300)); // 256 - 512 us bucket
+        }
+        histogram.record(TimeUnit.MILLISECONDS.toNanos(100));
+        Assertions.assertEquals(100, histogram.getCount());
+        Assertions.assertEquals(0.512, histogram.getPercentileMillis(50));
+        Assertions.assertEquals(0.512, histogram.getPercentileMillis(99));
+        Assertions.assertEquals(131.072, histogram.getPercentileMillis(100));
+        Assertions.assertEquals(100, histogram.getMaxMillis());
+    }
+}
@@ -0,0 +1,30 @@
+package kinoko.util;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public final class MemoryEstimatorTest {
+    @Test
+    public void testEstimate() {
+        Assertions.assertEquals(0, MemoryEstimator.estimate(null));
+        Assertions.assertEquals(16 + 1000 * 8, MemoryEstimator.estimate(new long[1000]));
+        // Latin1 string with a 16 byte array header
+        Assertions.assertEquals(24 + 16 + 8, MemoryEstimator.estimate("12345678"));
+
+        final Rect rect = Rect.of(0, 0, 100, 100);
+        final long rectSize = MemoryEstimator.estimate(rect);
+        Assertions.assertTrue(rectSize >= 12 + 4 * 4);
+
+        // Shared objects are only counted once
+        final List<Rect> distinct = new ArrayList<>();
+        final List<Rect> shared = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            distinct.add(Rect.of(0, 0, i, i));
+            shared.add(rect);
+        }
+        Assertions.assertEquals(MemoryEstimator.estimate(distinct) - 99 * rectSize, MemoryEstimator.estimate(shared));
+    }
+}
@@ -0,0 +1,29 @@
+package kinoko.util;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+public final class TokenBucketTest {
+    @Test
+    public void testTokenBucket() {
+        final AtomicLong now = new AtomicLong();
+        final TokenBucket bucket = new TokenBucket(3, 300, TimeUnit.MILLISECONDS, now::get);
+        Assertions.assertTrue(bucket.isFull());
+        for (int i = 0; i < 3; i++) {
+            Assertions.assertTrue(bucket.tryAcquire());
+        }
+        Assertions.assertFalse(bucket.tryAcquire());
+        Assertions.assertFalse(bucket.isFull());
+        // One token is refilled every 100 ms
+        now.addAndGet(TimeUnit.MILLISECONDS.toNanos(99));
+        Assertions.assertFalse(bucket.tryAcquire());
+        now.addAndGet(TimeUnit.MILLISECONDS.toNanos(1));
+        Assertions.assertTrue(bucket.tryAcquire());
+        Assertions.assertFalse(bucket.tryAcquire());
+        now.addAndGet(TimeUnit.MILLISECONDS.toNanos(300));
+        Assertions.assertTrue(bucket.isFull());
+    }
+}
@@ -0,0 +1,83 @@
+package kinoko.util.crypto;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import javax.crypto.Cipher;
+import javax.crypto.spec.SecretKeySpec;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares {@link MapleCrypto#crypt(byte[], byte[])} against the previous implementation, which used a shared cipher
+ * and encrypted one block at a time with {@link Cipher#doFinal}. The IV is rotated after every operation as done by
+ * the packet encoder, sizes correspond to a move packet and a field enter packet.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MapleCryptoBenchmark {
+    @Param({ "20", "4096" })
+    public int size;
+
+    private byte[] data;
+    private byte[] iv;
+    private Cipher legacyCipher;
+
+    @Setup
+    public void setup() throws Exception {
+        data = new byte[size];
+        new Random(0).nextBytes(data);
+        iv = new byte[]{ 0x52, 0x30, 0x78, 0x61 };
+        legacyCipher = Cipher.getInstance("AES/ECB/NoPadding");
+        legacyCipher.init(Cipher.ENCRYPT_MODE, new SecretKeySpec(MapleCrypto.AES_USER_KEY, "AES"));
+    }
+
+    @Benchmark
+    public byte[] crypt() {
+        MapleCrypto.crypt(data, iv);
+        iv = IGCipher.innoHash(iv);
+        return data;
+    }
+
+    @Benchmark
+    public byte[] legacyCrypt() throws Exception {
+        final byte[] cipher = new byte[MapleCrypto.BLOCK_SIZE];
+        int a = data.length;
+        int b = 0x5B0;
+        int c = 0;
+        while (a > 0) {
+            final byte[] block = new byte[MapleCrypto.BLOCK_SIZE];
+            for (int i = 0; i < MapleCrypto.BLOCK_SIZE; i += iv.length) {
+                System.arraycopy(iv, 0, block, i, iv.length);
+            }
+            if (a < b) {
+                b = a;
+            }
+            for (int i = c; i < (c + b); i++) {
+                if ((i - c) % MapleCrypto.BLOCK_SIZE == 0) {
+                    legacyCipher.doFinal(block, 0, MapleCrypto.BLOCK_SIZE, cipher);
+                    System.arraycopy(cipher, 0, block, 0, MapleCrypto.BLOCK_SIZE);
+                }
+                data[i] ^= block[(i - c) % MapleCrypto.BLOCK_SIZE];
+            }
+            c += b;
+            a -= b;
+            b = 0x5B4;
+        }
+        iv = IGCipher.innoHash(iv);
+        return data;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(MapleCryptoBenchmark.class.getSimpleName())
+                .build()
+        ).run();
+    }
+}
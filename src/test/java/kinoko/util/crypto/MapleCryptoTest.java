@@ -0,0 +1,49 @@
+package kinoko.util.crypto;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import javax.crypto.Cipher;
+import javax.crypto.spec.IvParameterSpec;
+import javax.crypto.spec.SecretKeySpec;
+import java.util.Random;
+
+public final class MapleCryptoTest {
+    @Test
+    public void testCrypt() throws Exception {
+        final Random random = new Random(0);
+        byte[] iv = new byte[]{ 0x52, 0x30, 0x78, 0x61 };
+        for (int length : new int[]{ 1, 2, 20, 0x5B0, 0x5B1, 4096, 0x5B0 + 0x5B4 * 3 }) {
+            for (int i = 0; i < MapleCrypto.KEYSTREAM_CACHE_SIZE * 2; i++) {
+                final byte[] data = new byte[length];
+                random.nextBytes(data);
+                final byte[] expected = referenceCrypt(data, iv);
+                final byte[] actual = data.clone();
+                MapleCrypto.crypt(actual, iv);
+                Assertions.assertArrayEquals(expected, actual);
+                MapleCrypto.crypt(actual, iv);
+                Assertions.assertArrayEquals(data, actual);
+                iv = IGCipher.innoHash(iv);
+            }
+        }
+    }
+
+    private static byte[] referenceCrypt(byte[] data, byte[] iv) throws Exception {
+        final byte[] expandedIv = new byte[MapleCrypto.BLOCK_SIZE];
+        for (int i = 0; i < expandedIv.length; i += iv.length) {
+            System.arraycopy(iv, 0, expandedIv, i, iv.length);
+        }
+        final Cipher cipher = Cipher.getInstance("AES/OFB/NoPadding");
+        final byte[] result = data.clone();
+        int start = 0;
+        int chunkSize = MapleCrypto.FIRST_CHUNK_SIZE;
+        while (start < result.length) {
+            final int length = Math.min(chunkSize, result.length - start);
+            cipher.init(Cipher.ENCRYPT_MODE, new SecretKeySpec(MapleCrypto.AES_USER_KEY, "AES"), new IvParameterSpec(expandedIv));
+            cipher.doFinal(result, start, length, result, start);
+            start += length;
+            chunkSize = MapleCrypto.CHUNK_SIZE;
+        }
+        return result;
+    }
+}
@@ -0,0 +1,132 @@
+package kinoko.world.field;
+
+import kinoko.packet.field.MobPacket;
+import kinoko.provider.map.FieldType;
+import kinoko.provider.map.Foothold;
+import kinoko.provider.map.MapInfo;
+import kinoko.provider.mob.MobTemplate;
+import kinoko.util.BitFlag;
+import kinoko.world.field.mob.BurnedInfo;
+import kinoko.world.field.mob.Mob;
+import kinoko.world.field.mob.MobStatOption;
+import kinoko.world.field.mob.MobTemporaryStat;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.time.Instant;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Simulates the mob maintenance of a channel with 1000 populated fields of 50 mobs each, where 5% of the mobs are
+ * damaged and poisoned while the rest are idle at full hp. Each operation is one field tick for every field, comparing
+ * the previous scan over every mob against {@link MobPool#updateMobs}, which only processes the mobs with a due deadline.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MobUpdateBenchmark {
+    private static final int FIELD_COUNT = 1000;
+    private static final int MOB_COUNT = 50;
+    private static final int ACTIVE_RATE = 20; // 1 in 20 mobs
+
+    private final List<Field> fields = new ArrayList<>();
+
+    @Setup
+    public void setup() {
+        final MobTemplate template = new MobTemplate(100100, 1, 3, 1000000, 1000, 10, 0, 0, 0, 20, 0, 1, 0, 0, 0,
+                0, false, false, false, false, false, false, Map.of(), Map.of(), Map.of(), Set.of(), List.of(), 0);
+        final Foothold foothold = new Foothold(0, 0, 1, -1000, 0, 1000, 0, 0, 0, 0, 0, 0, 0);
+        for (int i = 0; i < FIELD_COUNT; i++) {
+            final MapInfo mapInfo = new MapInfo(100000000 + i, false, false, false, false, false, 0, 999999999, 999999999,
+                    Set.of(), FieldType.DEFAULT, 1.0f, "", "", List.of(), List.of(foothold), List.of(), List.of(), List.of(), List.of());
+            final Field field = new Field(null, mapInfo);
+            field.close();
+            for (int j = 0; j < MOB_COUNT; j++) {
+                final Mob mob = new Mob(template, null, j * 20 - 500, 0, 1);
+                field.getMobPool().addMob(mob);
+                if (j % ACTIVE_RATE == 0) {
+                    try (var lockedMob = mob.acquire()) {
+                        mob.setHp(mob.getMaxHp() / 2);
+                        mob.setTemporaryStat(MobTemporaryStat.Poison, new MobStatOption(1, 2111003, 600000), 0);
+                        mob.setBurnedInfo(new BurnedInfo(1, 2111003, 1, 1000, 600), 0);
+                    }
+                }
+            }
+            fields.add(field);
+        }
+        // Register the deadlines of the added mobs
+        final Instant now = Instant.now().plusMillis(1);
+        for (Field field : fields) {
+            field.getMobPool().updateMobs(now);
+        }
+    }
+
+    @Benchmark
+    public List<Field> scanMobs() {
+        final Instant now = Instant.now();
+        for (Field field : fields) {
+            scanMobs(field, now);
+        }
+        return fields;
+    }
+
+    @Benchmark
+    public List<Field> updateMobs() {
+        final Instant now = Instant.now();
+        for (Field field : fields) {
+            field.getMobPool().updateMobs(now);
+        }
+        return fields;
+    }
+
+    private static void scanMobs(Field field, Instant now) {
+        // MobPool.updateMobs before the mobs were processed by their deadlines
+        for (Mob mob : field.getMobPool().getObjects()) {
+            try (var lockedMob = mob.acquire()) {
+                final Set<BurnedInfo> resetBurnedInfos = new HashSet<>();
+                final var iter = mob.getMobStat().getBurnedInfos().values().iterator();
+                while (iter.hasNext()) {
+                    final BurnedInfo burnedInfo = iter.next();
+                    if (now.isBefore(burnedInfo.getNextUpdate())) {
+                        continue;
+                    }
+                    mob.burn(burnedInfo.getCharacterId(), burnedInfo.getDamage());
+                    if (burnedInfo.getDotCount() > 1) {
+                        burnedInfo.setDotCount(burnedInfo.getDotCount() - 1);
+                        burnedInfo.setLastUpdate(now);
+                    } else {
+                        iter.remove();
+                        resetBurnedInfos.add(burnedInfo);
+                    }
+                }
+                final Set<MobTemporaryStat> resetStats = mob.getMobStat().expireTemporaryStat(now);
+                if (!resetBurnedInfos.isEmpty() && mob.getMobStat().getBurnedInfos().isEmpty()) {
+                    mob.getMobStat().getTemporaryStats().remove(MobTemporaryStat.Burned);
+                    resetStats.add(MobTemporaryStat.Burned);
+                }
+                final BitFlag<MobTemporaryStat> flag = BitFlag.from(resetStats, MobTemporaryStat.FLAG_SIZE);
+                if (!flag.isEmpty()) {
+                    field.broadcastPacket(MobPacket.mobStatReset(mob, flag, resetBurnedInfos));
+                }
+                mob.recovery(now);
+                mob.remove(now);
+                mob.dropItem(now);
+            }
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(MobUpdateBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build()
+        ).run();
+    }
+}
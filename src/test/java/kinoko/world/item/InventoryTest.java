@@ -0,0 +1,32 @@
+package kinoko.world.item;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public final class InventoryTest {
+    @Test
+    public void testDirty() {
+        final Inventory inventory = new Inventory(4);
+        final Item item = new Item(ItemType.EQUIP);
+        item.setEquipData(new EquipData());
+        inventory.putItem(1, item);
+        Assertions.assertTrue(inventory.isDirty());
+        inventory.clearDirty();
+        Assertions.assertFalse(inventory.isDirty());
+
+        // Items updated in place
+        item.setQuantity((short) 2);
+        Assertions.assertTrue(inventory.isDirty());
+        inventory.clearDirty();
+        item.getEquipData().setIncStr((short) 5);
+        Assertions.assertTrue(inventory.isDirty());
+        inventory.clearDirty();
+
+        // Items removed
+        inventory.removeItem(1);
+        Assertions.assertTrue(inventory.isDirty());
+        inventory.clearDirty();
+        Assertions.assertFalse(inventory.isDirty());
+        Assertions.assertThrows(UnsupportedOperationException.class, () -> inventory.getItems().put(1, item));
+    }
+}
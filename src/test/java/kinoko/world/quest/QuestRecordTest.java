@@ -0,0 +1,24 @@
+package kinoko.world.quest;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public final class QuestRecordTest {
+    @Test
+    public void testMobCounts() {
+        final QuestRecord qr = new QuestRecord(1000);
+        Assertions.assertArrayEquals(new int[2], qr.getMobCounts(2));
+
+        qr.setValue("005a12");
+        final int[] counts = qr.getMobCounts(3);
+        Assertions.assertArrayEquals(new int[]{ 5, 0, 0 }, counts);
+        counts[0]++;
+        counts[2] = 1000;
+        qr.setMobCounts(counts);
+        Assertions.assertEquals("006000999", qr.getValue());
+        Assertions.assertSame(counts, qr.getMobCounts(3));
+
+        qr.setValue("001");
+        Assertions.assertArrayEquals(new int[]{ 1 }, qr.getMobCounts(1));
+    }
+}
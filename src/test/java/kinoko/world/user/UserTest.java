@@ -0,0 +1,186 @@
+package kinoko.world.user;
+
+import kinoko.provider.ItemProvider;
+import kinoko.provider.SkillProvider;
+import kinoko.provider.item.ItemInfo;
+import kinoko.provider.skill.SkillInfo;
+import kinoko.provider.skill.SkillStat;
+import kinoko.server.node.Client;
+import kinoko.util.IntMap;
+import kinoko.util.Rect;
+import kinoko.world.item.*;
+import kinoko.world.job.explorer.Thief;
+import kinoko.world.skill.SkillManager;
+import kinoko.world.skill.SkillRecord;
+import kinoko.world.user.stat.CharacterStat;
+import kinoko.world.user.stat.CharacterTemporaryStat;
+import kinoko.world.user.stat.ExtendSp;
+import kinoko.world.user.stat.TemporaryStatOption;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Field;
+import java.time.Instant;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+public final class UserTest {
+    private static final int WEAPON_ID = 1332000;
+    private static final int SKILL_MAX_LEVEL = 3;
+
+    @BeforeAll
+    public static void setupProviders() throws ReflectiveOperationException {
+        // Equip without requirements, and a passive skill affected by combat orders
+        setProviderField(ItemProvider.class, "itemInfos", IntMap.builder()
+                .put(WEAPON_ID, new ItemInfo(WEAPON_ID, Map.of(), Map.of()))
+                .build());
+        final List<Rect> rects = Collections.nCopies(SKILL_MAX_LEVEL + 3, null);
+        final Map<SkillStat, int[]> stats = Map.of(
+                SkillStat.x, new int[]{ 0, 1, 2, 3, 4, 5 },
+                SkillStat.y, new int[]{ 0, 10, 20, 30, 40, 50 }
+        );
+        setProviderField(SkillProvider.class, "skillInfos", IntMap.builder()
+                .put(Thief.NIMBLE_BODY, new SkillInfo(Thief.NIMBLE_BODY, SKILL_MAX_LEVEL, false, true, false, List.of(), List.of(), null, stats, rects, null, Map.of()))
+                .build());
+    }
+
+    @AfterAll
+    public static void resetProviders() throws ReflectiveOperationException {
+        setProviderField(ItemProvider.class, "itemInfos", IntMap.empty());
+        setProviderField(SkillProvider.class, "skillInfos", IntMap.empty());
+    }
+
+    @Test
+    public void testValidateStatAfterEquip() {
+        final User user = createUser();
+        user.validateStat();
+        final int str = user.getBasicStat().getStr();
+
+        final Item weapon = new Item(ItemType.EQUIP);
+        weapon.setItemId(WEAPON_ID);
+        weapon.setQuantity((short) 1);
+        weapon.setEquipData(new EquipData());
+        weapon.getEquipData().setIncStr((short) 10);
+        final Inventory equipped = user.getInventoryManager().getEquipped();
+        equipped.putItem(BodyPart.WEAPON.getValue(), weapon);
+        user.validateStat();
+        Assertions.assertEquals(str + 10, user.getBasicStat().getStr());
+
+        // Equip exp does not invalidate the real equips
+        final int modCount = equipped.getModCount();
+        user.getInventoryManager().applyInventoryOperations(List.of(InventoryOperation.exp(InventoryType.EQUIP, -BodyPart.WEAPON.getValue(), 100)));
+        Assertions.assertEquals(100, weapon.getEquipData().getExp());
+        Assertions.assertEquals(modCount, equipped.getModCount());
+
+        equipped.removeItem(BodyPart.WEAPON.getValue());
+        user.validateStat();
+        Assertions.assertEquals(str, user.getBasicStat().getStr());
+    }
+
+    @Test
+    public void testValidateStatAfterSkillChange() {
+        final User user = createUser();
+        user.validateStat();
+        final int eva = user.getSecondaryStat().getEva();
+
+        final SkillRecord skillRecord = new SkillRecord(Thief.NIMBLE_BODY);
+        skillRecord.setSkillLevel(1);
+        skillRecord.setMasterLevel(SKILL_MAX_LEVEL);
+        user.getSkillManager().addSkill(skillRecord);
+        user.validateStat();
+        Assertions.assertEquals(eva + 10, user.getSecondaryStat().getEva());
+
+        // Skill records updated in place
+        skillRecord.setSkillLevel(2);
+        user.updatePassiveSkillData();
+        user.validateStat();
+        Assertions.assertEquals(eva + 20, user.getSecondaryStat().getEva());
+    }
+
+    @Test
+    public void testValidateStatAfterCombatOrders() {
+        final User user = createUser();
+        final SkillRecord skillRecord = new SkillRecord(Thief.NIMBLE_BODY);
+        skillRecord.setSkillLevel(1);
+        skillRecord.setMasterLevel(SKILL_MAX_LEVEL);
+        user.getSkillManager().addSkill(skillRecord);
+        user.validateStat();
+        final int eva = user.getSecondaryStat().getEva();
+
+        final TemporaryStatOption option = new TemporaryStatOption(2, 0, 0);
+        user.getSecondaryStat().getTemporaryStats().put(CharacterTemporaryStat.CombatOrders, option);
+        user.validateStat();
+        Assertions.assertEquals(eva + 20, user.getSecondaryStat().getEva());
+
+        user.getSecondaryStat().getTemporaryStats().remove(CharacterTemporaryStat.CombatOrders);
+        user.validateStat();
+        Assertions.assertEquals(eva, user.getSecondaryStat().getEva());
+    }
+
+    @Test
+    public void testNextCheckItemExpire() {
+        final User user = createUser();
+        final InventoryManager im = user.getInventoryManager();
+        user.setNextCheckItemExpire(im.getNextItemExpire());
+        Assertions.assertEquals(Instant.MAX, user.getNextCheckItemExpire());
+
+        // Items put in the inventories register their expiry date
+        final Instant dateExpire = Instant.now().plusSeconds(600);
+        final Item item = new Item(ItemType.BUNDLE);
+        item.setItemId(2000000);
+        item.setQuantity((short) 1);
+        item.setDateExpire(dateExpire);
+        im.getConsumeInventory().putItem(1, item);
+        Assertions.assertEquals(dateExpire, user.getNextCheckItemExpire());
+
+        // Later expiry dates do not delay the check
+        final Item laterItem = new Item(ItemType.BUNDLE);
+        laterItem.setItemId(4000000);
+        laterItem.setQuantity((short) 1);
+        laterItem.setDateExpire(dateExpire.plusSeconds(600));
+        im.getEtcInventory().putItem(1, laterItem);
+        Assertions.assertEquals(dateExpire, user.getNextCheckItemExpire());
+
+        im.getConsumeInventory().removeItem(1);
+        Assertions.assertEquals(laterItem.getDateExpire(), im.getNextItemExpire());
+    }
+
+    private static User createUser() {
+        final CharacterStat cs = new CharacterStat();
+        cs.setId(1);
+        cs.setName("Test");
+        cs.setLevel((short) 30);
+        cs.setJob((short) 400);
+        cs.setBaseStr((short) 4);
+        cs.setBaseDex((short) 25);
+        cs.setBaseInt((short) 4);
+        cs.setBaseLuk((short) 100);
+        cs.setHp(500);
+        cs.setMaxHp(500);
+        cs.setMp(500);
+        cs.setMaxMp(500);
+        cs.setSp(ExtendSp.from(Map.of()));
+        final InventoryManager im = new InventoryManager();
+        im.setEquipped(new Inventory(Short.MAX_VALUE));
+        im.setEquipInventory(new Inventory(24));
+        im.setConsumeInventory(new Inventory(24));
+        im.setInstallInventory(new Inventory(24));
+        im.setEtcInventory(new Inventory(24));
+        im.setCashInventory(new Inventory(24));
+        im.setExtSlotExpire(Instant.now());
+        final CharacterData characterData = new CharacterData(1);
+        characterData.setCharacterStat(cs);
+        characterData.setInventoryManager(im);
+        characterData.setSkillManager(new SkillManager());
+        return new User(new Client(null, null), characterData);
+    }
+
+    private static void setProviderField(Class<?> providerClass, String fieldName, Object value) throws ReflectiveOperationException {
+        final Field field = providerClass.getDeclaredField(fieldName);
+        field.setAccessible(true);
+        field.set(null, value);
+    }
+}